@@ -0,0 +1,140 @@
+package org.minesweeper.carga;
+
+import org.minesweeper.ranking.Dificuldade;
+import org.minesweeper.server.GerenciadorSessoes;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Teste de carga do modo servidor: N jogadores simulados jogando ao mesmo
+ * tempo contra uma instância local do GerenciadorSessoes. Cada jogador cria
+ * a sessão, joga até o fim e a encerra, seguindo a Politica escolhida.
+ *
+ * Cada jogador roda numa thread própria. Numa JVM com threads virtuais
+ * (Java 21 ou mais) elas são usadas, e dá para simular dezenas de milhares
+ * de jogadores; o projeto compila para Java 17, então o executor é obtido
+ * por reflexão e, sem ele, cada jogador ganha uma thread de plataforma.
+ *
+ * Executado pela linha de comando, os parâmetros vêm de propriedades:
+ *
+ *   -Dcarga.jogadores=N        (padrão 100)
+ *   -Dcarga.jogos=N            jogos por jogador (padrão 10)
+ *   -Dcarga.dificuldade=LxCxB  (padrão 16x30x99)
+ *   -Dcarga.politica=resolvedor|aleatoria
+ *   -Dcarga.saida=arquivo.json
+ */
+public class GeradorCarga {
+    private final GerenciadorSessoes servidor;
+    private final int jogadores;
+    private final int jogosPorJogador;
+    private final Dificuldade dificuldade;
+    private final Politica politica;
+    private long semente = System.nanoTime();
+
+    public GeradorCarga(GerenciadorSessoes servidor, int jogadores, int jogosPorJogador,
+                        Dificuldade dificuldade, Politica politica) {
+        if (jogadores < 1 || jogosPorJogador < 1)
+            throw new IllegalArgumentException("Jogadores e jogos devem ser positivos");
+
+        this.servidor = servidor;
+        this.jogadores = jogadores;
+        this.jogosPorJogador = jogosPorJogador;
+        this.dificuldade = dificuldade;
+        this.politica = politica;
+    }
+
+    /**
+     * Semente das escolhas dos jogadores; o jogador i usa semente + i. Os
+     * tabuleiros são sorteados pelo servidor.
+     */
+    public void setSemente(long semente) {
+        this.semente = semente;
+    }
+
+    /**
+     * Solta todos os jogadores ao mesmo tempo e espera todos terminarem.
+     */
+    public ResultadoCarga executa() throws InterruptedException {
+        ExecutorService executor = criaExecutor();
+        ResultadoCarga resultado = new ResultadoCarga(jogadores, jogosPorJogador, dificuldade, politica,
+                isVirtual(executor) ? "virtuais" : "plataforma");
+
+        List<Future<?>> tarefas = new ArrayList<>(jogadores);
+        long inicio = System.nanoTime();
+        try {
+            for (int i = 0; i < jogadores; ++i)
+                tarefas.add(executor.submit(new JogadorSimulado(servidor, dificuldade, politica,
+                        jogosPorJogador, resultado, semente + i)));
+
+            for (Future<?> tarefa : tarefas) {
+                try {
+                    tarefa.get();
+                } catch (ExecutionException e) {
+                    // Erros das ações já são contados; só falhas do próprio jogador chegam aqui
+                    resultado.registraFalhaJogador();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        resultado.setDuracaoNanos(System.nanoTime() - inicio);
+
+        return resultado;
+    }
+
+    private static ExecutorService criaExecutor() {
+        try {
+            Method virtuais = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtuais.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "jogador-simulado");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static boolean isVirtual(ExecutorService executor) {
+        return executor.getClass().getName().contains("ThreadPerTask");
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int jogadores = Integer.getInteger("carga.jogadores", 100);
+        int jogos = Integer.getInteger("carga.jogos", 10);
+        Dificuldade dificuldade = leDificuldade(System.getProperty("carga.dificuldade", "16x30x99"));
+        Politica politica = Politica.valueOf(System.getProperty("carga.politica", "resolvedor").toUpperCase());
+
+        // Orçamento folgado: a carga mede as ações, não o despejo de sessões
+        GerenciadorSessoes servidor = new GerenciadorSessoes(Duration.ofMinutes(10), Long.MAX_VALUE, null);
+        ResultadoCarga resultado = new GeradorCarga(servidor, jogadores, jogos, dificuldade, politica).executa();
+        System.out.print(resultado);
+
+        String saida = System.getProperty("carga.saida");
+        if (saida != null) {
+            try (Writer escritor = Files.newBufferedWriter(Path.of(saida))) {
+                resultado.escreveJson(escritor);
+            }
+        }
+    }
+
+    private static Dificuldade leDificuldade(String texto) {
+        String[] partes = texto.toLowerCase().split("x");
+        if (partes.length != 3)
+            throw new IllegalArgumentException("Use -Dcarga.dificuldade=LINHASxCOLUNASxBOMBAS");
+
+        return new Dificuldade(Integer.parseInt(partes[0].trim()), Integer.parseInt(partes[1].trim()),
+                Integer.parseInt(partes[2].trim()));
+    }
+}
@@ -0,0 +1,193 @@
+package org.minesweeper.carga;
+
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.exceptions.SessaoInexistenteException;
+import org.minesweeper.model.DeltaTabuleiro;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.ranking.Dificuldade;
+import org.minesweeper.server.GerenciadorSessoes;
+import org.minesweeper.solver.Jogada;
+import org.minesweeper.solver.Resolvedor;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Um jogador do teste de carga: cria a sessão, joga até ganhar ou
+ * explodir e encerra a sessão, quantas vezes for pedido.
+ *
+ * Como um cliente remoto, o jogador só conhece a própria projeção do
+ * tabuleiro, atualizada pelos deltas que cada ação devolve.
+ */
+class JogadorSimulado implements Runnable {
+    // Com a política aleatória, uma em cada tantas jogadas é uma marcação
+    private static final int UMA_MARCACAO_EM = 5;
+
+    private final GerenciadorSessoes servidor;
+    private final Dificuldade dificuldade;
+    private final Politica politica;
+    private final int jogos;
+    private final ResultadoCarga resultado;
+    private final Random rand;
+    private final Resolvedor resolvedor = new Resolvedor();
+
+    private TabuleiroFront tabuleiro;
+    private int abertos;
+    private boolean explodiu;
+
+    JogadorSimulado(GerenciadorSessoes servidor, Dificuldade dificuldade, Politica politica, int jogos,
+                    ResultadoCarga resultado, long semente) {
+        this.servidor = servidor;
+        this.dificuldade = dificuldade;
+        this.politica = politica;
+        this.jogos = jogos;
+        this.resultado = resultado;
+        this.rand = new Random(semente);
+    }
+
+    @Override
+    public void run() {
+        for (int k = 0; k < jogos; ++k)
+            joga();
+    }
+
+    private void joga() {
+        long inicio = System.nanoTime();
+        String id;
+        DeltaTabuleiro inicial;
+        try {
+            id = servidor.criaSessao(dificuldade.getLinha_size(), dificuldade.getColuna_size(), dificuldade.getBombas());
+            inicial = servidor.executa(id, controller -> controller.alteracoesDesde(0));
+        } catch (RuntimeException | SessaoInexistenteException e) {
+            resultado.registraErro(ResultadoCarga.Acao.NOVO_JOGO);
+            return;
+        }
+        resultado.registra(ResultadoCarga.Acao.NOVO_JOGO, inicio);
+
+        tabuleiro = new TabuleiroFront(dificuldade.getLinha_size(), dificuldade.getColuna_size(), dificuldade.getBombas());
+        tabuleiro.aplica(inicial);
+        abertos = 0;
+        explodiu = false;
+
+        // Cada jogada útil abre ou marca algo, então o limite só corta um jogo travado por erros
+        int limite = 4 * dificuldade.getLinha_size() * dificuldade.getColuna_size();
+        boolean emAndamento = true;
+        for (int jogadas = 0; emAndamento && jogadas < limite; ++jogadas) {
+            try {
+                emAndamento = proximaRodada(id);
+            } catch (SessaoInexistenteException e) {
+                emAndamento = false;
+            }
+        }
+
+        resultado.registraFim(explodiu ? ResultadoCarga.Fim.DERROTA
+                : ganhou() ? ResultadoCarga.Fim.VITORIA : ResultadoCarga.Fim.INTERROMPIDO);
+
+        inicio = System.nanoTime();
+        try {
+            servidor.encerraSessao(id);
+            resultado.registra(ResultadoCarga.Acao.ENCERRAR, inicio);
+        } catch (RuntimeException e) {
+            resultado.registraErro(ResultadoCarga.Acao.ENCERRAR);
+        }
+    }
+
+    /**
+     * @return false quando o jogo acabou.
+     */
+    private boolean proximaRodada(String id) throws SessaoInexistenteException {
+        if (politica == Politica.RESOLVEDOR) {
+            ArrayList<Jogada> jogadas = resolvedor.proximasJogadas(tabuleiro);
+            if (jogadas.isEmpty()) return false;
+
+            for (Jogada jogada : jogadas)
+                if (!executa(id, jogada.getTipo(), jogada.getLocalizacao())) return false;
+            return true;
+        }
+
+        Localizacao sorteada = sorteiaFechado();
+        if (sorteada == null) return false;
+
+        Jogada.Tipo tipo = rand.nextInt(UMA_MARCACAO_EM) == 0 ? Jogada.Tipo.MARCAR : Jogada.Tipo.ABRIR;
+        if (tipo == Jogada.Tipo.ABRIR && tabuleiro.isMarcado(sorteada.getLinha(), sorteada.getColuna()))
+            tipo = Jogada.Tipo.MARCAR;
+        return executa(id, tipo, sorteada);
+    }
+
+    /**
+     * Manda a jogada ao servidor e aplica na projeção o delta devolvido na
+     * mesma ação, como faria uma resposta pela rede.
+     *
+     * @return false quando o jogo acabou.
+     */
+    private boolean executa(String id, Jogada.Tipo tipo, Localizacao localizacao) throws SessaoInexistenteException {
+        ResultadoCarga.Acao acao = tipo == Jogada.Tipo.ABRIR ? ResultadoCarga.Acao.ABRIR : ResultadoCarga.Acao.MARCAR;
+        long versao = tabuleiro.getVersao();
+
+        long inicio = System.nanoTime();
+        DeltaTabuleiro delta;
+        try {
+            delta = servidor.executa(id, controller -> aplicaNoServidor(controller, tipo, localizacao, versao));
+        } catch (RuntimeException e) {
+            resultado.registraErro(acao);
+            return true;
+        } catch (SessaoInexistenteException e) {
+            resultado.registraErro(acao);
+            throw e;
+        }
+        resultado.registra(acao, inicio);
+
+        int antes = delta.isCompleto() ? 0 : abertos - abertosNoDelta(delta);
+        if (!tabuleiro.aplica(delta)) resultado.registraErro(acao);
+        abertos = antes + abertosNoDelta(delta);
+
+        if (tipo == Jogada.Tipo.ABRIR && tabuleiro.isBomba(localizacao.getLinha(), localizacao.getColuna())) {
+            explodiu = true;
+            return false;
+        }
+        return !ganhou();
+    }
+
+    private static DeltaTabuleiro aplicaNoServidor(ControllerTabuleiro controller, Jogada.Tipo tipo,
+                                                   Localizacao localizacao, long versao) {
+        if (tipo == Jogada.Tipo.ABRIR)
+            controller.clicarBotaoEsquerdo(localizacao);
+        else
+            controller.clicarBotaoDireito(localizacao);
+
+        return controller.alteracoesDesde(versao);
+    }
+
+    // Contado antes e depois de aplicar, para somar só o que o delta abriu
+    private int abertosNoDelta(DeltaTabuleiro delta) {
+        int colunas = tabuleiro.getColuna_size();
+        int cont = 0;
+        for (int k = 0; k < delta.getQuantidade(); ++k) {
+            int indice = delta.getIndice(k);
+            int linha = indice / colunas;
+            if (tabuleiro.isAberto(linha, indice - linha * colunas)) cont++;
+        }
+        return cont;
+    }
+
+    private boolean ganhou() {
+        return !explodiu && abertos == dificuldade.getLinha_size() * dificuldade.getColuna_size() - dificuldade.getBombas();
+    }
+
+    private Localizacao sorteiaFechado() {
+        int linhas = tabuleiro.getLinha_size();
+        int colunas = tabuleiro.getColuna_size();
+        int total = linhas * colunas;
+
+        // Começa num ponto sorteado e percorre até achar um quadrado fechado
+        int inicio = rand.nextInt(total);
+        for (int k = 0; k < total; ++k) {
+            int indice = (inicio + k) % total;
+            int linha = indice / colunas;
+            int coluna = indice - linha * colunas;
+            if (!tabuleiro.isAberto(linha, coluna)) return new Localizacao(linha, coluna);
+        }
+        return null;
+    }
+}
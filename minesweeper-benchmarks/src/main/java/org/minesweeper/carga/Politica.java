@@ -0,0 +1,18 @@
+package org.minesweeper.carga;
+
+/**
+ * Como o jogador simulado escolhe a próxima jogada.
+ */
+public enum Politica {
+    /**
+     * Segue o Resolvedor: faz todas as jogadas seguras que ele deduz e só
+     * chuta quando não há nenhuma. Jogos mais longos, como os de um jogador
+     * de verdade.
+     */
+    RESOLVEDOR,
+    /**
+     * Escolhe um quadrado fechado ao acaso e, de vez em quando, alterna a
+     * marcação em vez de abrir. Jogos curtos, com muitas explosões.
+     */
+    ALEATORIA
+}
@@ -0,0 +1,197 @@
+package org.minesweeper.carga;
+
+import org.minesweeper.metrics.Histograma;
+import org.minesweeper.ranking.Dificuldade;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Resultado de uma execução do GeradorCarga: latência por tipo de ação,
+ * erros, jogadores que falharam, vazão e o desfecho dos jogos. Os jogadores registram em paralelo;
+ * os histogramas e contadores são atômicos, sem trava.
+ *
+ * Gravado em JSON para comparar execuções. Latências em nanossegundos.
+ */
+public class ResultadoCarga {
+    public enum Acao {
+        NOVO_JOGO, ABRIR, MARCAR, ENCERRAR
+    }
+
+    public enum Fim {
+        VITORIA, DERROTA, INTERROMPIDO
+    }
+
+    private final int jogadores;
+    private final int jogosPorJogador;
+    private final Dificuldade dificuldade;
+    private final Politica politica;
+    private final String threads;
+
+    private final Map<Acao, Histograma> latencias = new EnumMap<>(Acao.class);
+    private final Map<Acao, AtomicLong> erros = new EnumMap<>(Acao.class);
+    private final Map<Fim, AtomicLong> fins = new EnumMap<>(Fim.class);
+    private final AtomicLong jogadoresComFalha = new AtomicLong();
+    private long duracaoNanos;
+
+    ResultadoCarga(int jogadores, int jogosPorJogador, Dificuldade dificuldade, Politica politica, String threads) {
+        this.jogadores = jogadores;
+        this.jogosPorJogador = jogosPorJogador;
+        this.dificuldade = dificuldade;
+        this.politica = politica;
+        this.threads = threads;
+
+        for (Acao acao : Acao.values()) {
+            latencias.put(acao, new Histograma("carga." + acao.name().toLowerCase(Locale.ROOT)));
+            erros.put(acao, new AtomicLong());
+        }
+        for (Fim fim : Fim.values())
+            fins.put(fim, new AtomicLong());
+    }
+
+    void registra(Acao acao, long inicioNanos) {
+        latencias.get(acao).registraDesde(inicioNanos);
+    }
+
+    void registraErro(Acao acao) {
+        erros.get(acao).incrementAndGet();
+    }
+
+    void registraFim(Fim fim) {
+        fins.get(fim).incrementAndGet();
+    }
+
+    void registraFalhaJogador() {
+        jogadoresComFalha.incrementAndGet();
+    }
+
+    void setDuracaoNanos(long duracaoNanos) {
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    public Histograma getLatencia(Acao acao) {
+        return latencias.get(acao);
+    }
+
+    public long getErros(Acao acao) {
+        return erros.get(acao).get();
+    }
+
+    /**
+     * @return Erros sobre tentativas (sucessos mais erros) da ação, de 0 a 1.
+     */
+    public double getTaxaErros(Acao acao) {
+        long tentativas = latencias.get(acao).getQuantidade() + getErros(acao);
+        return tentativas == 0 ? 0 : getErros(acao) / (double) tentativas;
+    }
+
+    /**
+     * @return Jogadores que pararam por uma exceção própria, fora dos erros
+     * das ações. Os jogos que eles não chegaram a jogar não aparecem nos
+     * desfechos.
+     */
+    public long getJogadoresComFalha() {
+        return jogadoresComFalha.get();
+    }
+
+    /**
+     * @return Jogadores com falha sobre o total de jogadores, de 0 a 1.
+     */
+    public double getTaxaFalhasJogadores() {
+        return getJogadoresComFalha() / (double) jogadores;
+    }
+
+    public long getJogos(Fim fim) {
+        return fins.get(fim).get();
+    }
+
+    /**
+     * @return Ações concluídas por segundo, somando todos os tipos.
+     */
+    public double getVazao() {
+        long total = 0;
+        for (Histograma latencia : latencias.values())
+            total += latencia.getQuantidade();
+        return duracaoNanos == 0 ? 0 : total * 1e9 / duracaoNanos;
+    }
+
+    public void escreveJson(Writer saida) throws IOException {
+        saida.write(paraJson());
+    }
+
+    public String paraJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"jogadores\": ").append(jogadores).append(",\n");
+        json.append("  \"jogosPorJogador\": ").append(jogosPorJogador).append(",\n");
+        json.append("  \"dificuldade\": {\"linhas\": ").append(dificuldade.getLinha_size())
+                .append(", \"colunas\": ").append(dificuldade.getColuna_size())
+                .append(", \"bombas\": ").append(dificuldade.getBombas()).append("},\n");
+        json.append("  \"politica\": \"").append(politica.name()).append("\",\n");
+        json.append("  \"threads\": \"").append(threads).append("\",\n");
+        json.append("  \"duracaoNs\": ").append(duracaoNanos).append(",\n");
+        json.append("  \"vazaoAcoesPorSegundo\": ").append(numero(getVazao())).append(",\n");
+        json.append("  \"jogadoresComFalha\": ").append(getJogadoresComFalha()).append(",\n");
+        json.append("  \"taxaFalhasJogadores\": ").append(numero(getTaxaFalhasJogadores())).append(",\n");
+
+        json.append("  \"jogos\": {");
+        separados(json, Fim.values(), fim -> "\"" + fim.name() + "\": " + getJogos(fim));
+        json.append("},\n");
+
+        json.append("  \"acoes\": {\n");
+        Acao[] acoes = Acao.values();
+        for (int i = 0; i < acoes.length; ++i) {
+            Histograma latencia = latencias.get(acoes[i]);
+            json.append("    \"").append(acoes[i].name()).append("\": {")
+                    .append("\"quantidade\": ").append(latencia.getQuantidade())
+                    .append(", \"erros\": ").append(getErros(acoes[i]))
+                    .append(", \"taxaErros\": ").append(numero(getTaxaErros(acoes[i])))
+                    .append(", \"p50Ns\": ").append(latencia.getPercentil(50))
+                    .append(", \"p99Ns\": ").append(latencia.getPercentil(99))
+                    .append(", \"p999Ns\": ").append(latencia.getPercentil(99.9))
+                    .append(", \"maxNs\": ").append(latencia.getMaximo())
+                    .append("}").append(i + 1 < acoes.length ? ",\n" : "\n");
+        }
+        json.append("  }\n");
+        json.append("}\n");
+
+        return json.toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder resumo = new StringBuilder(String.format(Locale.ROOT,
+                "%d jogadores (%s, %d com falha), %.1f s, %.0f ações/s, jogos: %d vitórias, %d derrotas, %d interrompidos%n",
+                jogadores, threads, getJogadoresComFalha(), duracaoNanos / 1e9, getVazao(),
+                getJogos(Fim.VITORIA), getJogos(Fim.DERROTA), getJogos(Fim.INTERROMPIDO)));
+
+        for (Acao acao : Acao.values()) {
+            Histograma latencia = latencias.get(acao);
+            resumo.append(String.format(Locale.ROOT, "%-10s n=%d erros=%d p50=%d p99=%d p999=%d max=%d (ns)%n",
+                    acao, latencia.getQuantidade(), getErros(acao), latencia.getPercentil(50),
+                    latencia.getPercentil(99), latencia.getPercentil(99.9), latencia.getMaximo()));
+        }
+        return resumo.toString();
+    }
+
+    private static <T> void separados(StringBuilder json, T[] itens, Function<T, String> formata) {
+        for (int i = 0; i < itens.length; ++i) {
+            if (i > 0) json.append(", ");
+            json.append(formata.apply(itens[i]));
+        }
+    }
+
+    // JSON não aceita vírgula decimal, então o formato não depende do Locale padrão
+    private static String numero(double valor) {
+        return String.format(Locale.ROOT, "%.6f", valor);
+    }
+}
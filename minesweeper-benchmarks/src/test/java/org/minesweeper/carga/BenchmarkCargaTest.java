@@ -0,0 +1,55 @@
+package org.minesweeper.carga;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.ranking.Dificuldade;
+import org.minesweeper.server.GerenciadorSessoes;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Carga no modo servidor com cada vez mais jogadores simultâneos, jogando
+ * no nível especialista com o Resolvedor. O resultado de cada rodada vai
+ * para target/carga-N.json, para comparar com execuções anteriores.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkCargaTest {
+    private static final int[] JOGADORES = {1, 16, 256, 1024};
+    private static final int JOGOS_POR_JOGADOR = 20;
+
+    @Test
+    @DisplayName("Vazão e latência por ação com N jogadores simultâneos")
+    void carga() throws Exception {
+        // Aquecimento do JIT antes das medições
+        new GeradorCarga(servidor(), 8, 50, Dificuldade.ESPECIALISTA, Politica.RESOLVEDOR).executa();
+
+        System.out.printf("%d processadores%n", Runtime.getRuntime().availableProcessors());
+        for (int jogadores : JOGADORES) {
+            GeradorCarga gerador = new GeradorCarga(servidor(), jogadores, JOGOS_POR_JOGADOR,
+                    Dificuldade.ESPECIALISTA, Politica.RESOLVEDOR);
+            gerador.setSemente(jogadores);
+            ResultadoCarga resultado = gerador.executa();
+
+            System.out.print(resultado);
+            try (Writer saida = Files.newBufferedWriter(Path.of("target", "carga-" + jogadores + ".json"))) {
+                resultado.escreveJson(saida);
+            }
+
+            for (ResultadoCarga.Acao acao : ResultadoCarga.Acao.values())
+                assertEquals(0, resultado.getErros(acao), acao.name());
+            assertEquals(0, resultado.getJogadoresComFalha());
+        }
+    }
+
+    private static GerenciadorSessoes servidor() {
+        return new GerenciadorSessoes(Duration.ofMinutes(10), Long.MAX_VALUE, null);
+    }
+}
@@ -0,0 +1,97 @@
+package org.minesweeper.carga;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.ranking.Dificuldade;
+import org.minesweeper.server.GerenciadorSessoes;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeradorCargaTest {
+
+    private static GerenciadorSessoes servidor() {
+        return new GerenciadorSessoes(Duration.ofMinutes(1), Long.MAX_VALUE, null);
+    }
+
+    @Test
+    @DisplayName("Cada jogador deve jogar todos os jogos e encerrar todas as sessões")
+    void executa_resolvedor_jogaTodosOsJogos() throws InterruptedException {
+        GerenciadorSessoes servidor = servidor();
+        GeradorCarga gerador = new GeradorCarga(servidor, 8, 3, Dificuldade.INICIANTE, Politica.RESOLVEDOR);
+        gerador.setSemente(1L);
+
+        ResultadoCarga resultado = gerador.executa();
+
+        long jogos = resultado.getJogos(ResultadoCarga.Fim.VITORIA) + resultado.getJogos(ResultadoCarga.Fim.DERROTA)
+                + resultado.getJogos(ResultadoCarga.Fim.INTERROMPIDO);
+        assertEquals(24, jogos);
+        assertEquals(0, resultado.getJogos(ResultadoCarga.Fim.INTERROMPIDO));
+        assertEquals(24, resultado.getLatencia(ResultadoCarga.Acao.NOVO_JOGO).getQuantidade());
+        assertEquals(24, resultado.getLatencia(ResultadoCarga.Acao.ENCERRAR).getQuantidade());
+        assertTrue(resultado.getLatencia(ResultadoCarga.Acao.ABRIR).getQuantidade() >= 24);
+        for (ResultadoCarga.Acao acao : ResultadoCarga.Acao.values())
+            assertEquals(0, resultado.getErros(acao), acao.name());
+        assertEquals(0, resultado.getJogadoresComFalha());
+        assertEquals(0, servidor.getQuantidadeSessoes());
+        assertTrue(resultado.getVazao() > 0);
+    }
+
+    @Test
+    @DisplayName("A política aleatória deve abrir e marcar, e os jogos devem terminar")
+    void executa_aleatoria_abreEMarca() throws InterruptedException {
+        GeradorCarga gerador = new GeradorCarga(servidor(), 4, 5, Dificuldade.INTERMEDIARIO, Politica.ALEATORIA);
+        gerador.setSemente(7L);
+
+        ResultadoCarga resultado = gerador.executa();
+
+        assertEquals(20, resultado.getJogos(ResultadoCarga.Fim.VITORIA) + resultado.getJogos(ResultadoCarga.Fim.DERROTA));
+        assertTrue(resultado.getLatencia(ResultadoCarga.Acao.MARCAR).getQuantidade() > 0);
+    }
+
+    @Test
+    @DisplayName("O JSON deve trazer percentis e erros de cada tipo de ação")
+    void paraJson_trazAcoes() throws InterruptedException {
+        ResultadoCarga resultado = new GeradorCarga(servidor(), 2, 1, Dificuldade.INICIANTE, Politica.RESOLVEDOR).executa();
+
+        String json = resultado.paraJson();
+
+        for (ResultadoCarga.Acao acao : ResultadoCarga.Acao.values())
+            assertTrue(json.contains("\"" + acao.name() + "\": {\"quantidade\": "), acao.name());
+        assertTrue(json.contains("\"p999Ns\": "));
+        assertTrue(json.contains("\"taxaErros\": 0.000000"));
+        assertTrue(json.contains("\"vazaoAcoesPorSegundo\": "));
+        assertTrue(json.contains("\"taxaFalhasJogadores\": 0.000000"));
+        assertFalse(json.contains(",\n  }"));
+    }
+
+    @Test
+    @DisplayName("Um jogador que lança exceção deve ser contado na taxa de falhas")
+    void executa_jogadorFalha_contaNaTaxa() throws InterruptedException {
+        // Sem o delta inicial, o jogador falha ao montar a própria projeção
+        GerenciadorSessoes quebrado = new GerenciadorSessoes(Duration.ofMinutes(1), Long.MAX_VALUE, null) {
+            @Override
+            public <R> R executa(String id, Function<ControllerTabuleiro, R> acao) {
+                return null;
+            }
+        };
+
+        ResultadoCarga resultado = new GeradorCarga(quebrado, 3, 2, Dificuldade.INICIANTE, Politica.RESOLVEDOR).executa();
+
+        assertEquals(3, resultado.getJogadoresComFalha());
+        assertEquals(1.0, resultado.getTaxaFalhasJogadores());
+        assertTrue(resultado.paraJson().contains("\"jogadoresComFalha\": 3"));
+    }
+
+    @Test
+    @DisplayName("Jogadores ou jogos não positivos devem lançar exceção")
+    void construtor_invalido_lancaExcecao() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GeradorCarga(servidor(), 0, 1, Dificuldade.INICIANTE, Politica.RESOLVEDOR));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GeradorCarga(servidor(), 1, 0, Dificuldade.INICIANTE, Politica.RESOLVEDOR));
+    }
+}
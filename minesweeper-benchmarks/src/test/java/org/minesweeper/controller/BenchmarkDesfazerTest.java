@@ -0,0 +1,71 @@
+package org.minesweeper.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Desfazer e refazer uma cascata de 100 mil quadrados. O histórico guarda
+ * só os quadrados abertos, então desfazer deve custar o mesmo que abrir, ou
+ * menos, e a memória guardada deve ser a própria cascata.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkDesfazerTest {
+    private static final int LINHAS = 400;
+    private static final int COLUNAS = 250;
+    private static final int REPETICOES = 5;
+
+    @Test
+    @DisplayName("Desfazer uma cascata de 100 mil quadrados deve custar proporcional à cascata")
+    void desfazerCascataGrande() throws Exception {
+        long[] melhores = new long[3];
+        mede(melhores);
+
+        System.out.printf("abrir %d ms   desfazer %d ms   refazer %d ms%n",
+                melhores[0] / 1_000_000, melhores[1] / 1_000_000, melhores[2] / 1_000_000);
+        assertTrue(melhores[1] < 100_000_000L, "Desfazer a cascata passou de 100 ms.");
+    }
+
+    private static void mede(long[] melhores) {
+        ControllerTabuleiro controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+        controller.iniciarNovoJogo(LINHAS, COLUNAS, 0, 1L);
+        Localizacao centro = new Localizacao(LINHAS / 2, COLUNAS / 2);
+        long melhorAbrir = Long.MAX_VALUE;
+        long melhorDesfazer = Long.MAX_VALUE;
+        long melhorRefazer = Long.MAX_VALUE;
+
+        for (int i = 0; i < REPETICOES; ++i) {
+            long antes = System.nanoTime();
+            ArrayList<QuadradoFront> abertos = controller.clicarBotaoEsquerdo(centro);
+            melhorAbrir = Math.min(melhorAbrir, System.nanoTime() - antes);
+            assertEquals(LINHAS * COLUNAS, abertos.size());
+            assertEquals(LINHAS * COLUNAS, controller.getHistorico().getQuadradosGuardados());
+
+            antes = System.nanoTime();
+            ArrayList<QuadradoFront> fechados = controller.desfazer();
+            melhorDesfazer = Math.min(melhorDesfazer, System.nanoTime() - antes);
+            assertEquals(LINHAS * COLUNAS, fechados.size());
+            assertFalse(controller.ganhou());
+
+            antes = System.nanoTime();
+            controller.refazer();
+            melhorRefazer = Math.min(melhorRefazer, System.nanoTime() - antes);
+            assertTrue(controller.ganhou());
+
+            controller.desfazer();
+        }
+
+        melhores[0] = melhorAbrir;
+        melhores[1] = melhorDesfazer;
+        melhores[2] = melhorRefazer;
+    }
+}
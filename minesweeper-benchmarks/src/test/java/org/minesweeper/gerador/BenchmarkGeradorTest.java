@@ -0,0 +1,40 @@
+package org.minesweeper.gerador;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vazão e taxa de aceitação de três faixas de tabuleiros especialista
+ * (16x30, 99 bombas) durante alguns segundos.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkGeradorTest {
+    private static final long DURACAO_MS = 10_000;
+
+    @Test
+    @DisplayName("Vazão e taxa de aceitação por faixa")
+    void vazaoPorFaixa() throws InterruptedException {
+        FaixaDificuldade facil = new FaixaDificuldade("especialista-3bv-baixo", 16, 30, 99, 0.0, 0.28);
+        FaixaDificuldade dificil = new FaixaDificuldade("especialista-3bv-alto", 16, 30, 99, 0.40, 1.0);
+        FaixaDificuldade semChutes = new FaixaDificuldade("especialista-um-chute", 16, 30, 99, 0.0, 1.0, 1, 1);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        GeradorDificuldade gerador = new GeradorDificuldade(threads, 7L);
+        // Filas grandes para as threads nunca esperarem durante a medida
+        gerador.adicionaFaixa(facil, 1_000_000);
+        gerador.adicionaFaixa(dificil, 1_000_000);
+        gerador.adicionaFaixa(semChutes, 1_000_000);
+
+        gerador.iniciar();
+        Thread.sleep(DURACAO_MS);
+        gerador.parar();
+
+        System.out.printf("%d threads, %d s%n%s", threads, DURACAO_MS / 1000, gerador.getResumo());
+        assertTrue(gerador.getEstatisticas(facil).getCandidatos() > 0);
+    }
+}
@@ -0,0 +1,53 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.controller.ControllerTabuleiro;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Custo de uma foto depois de uma jogada pequena num tabuleiro de um milhão
+ * de quadrados, comparado com capturar o estado inteiro.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkFotoTest {
+    private static final int LADO = 1000;
+    private static final int JOGADAS = 2000;
+
+    @Test
+    @DisplayName("Uma foto depois de uma marcação deve custar uma fração da captura completa")
+    void fotoDepoisDeJogadaPequena() {
+        Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+        ControllerTabuleiro controller = new ControllerTabuleiro(tabuleiro);
+        controller.iniciarNovoJogo(LADO, LADO, LADO * LADO / 5, 1L);
+
+        long melhorFoto = Long.MAX_VALUE;
+        long copiadosAntes = tabuleiro.getPedacosCopiados();
+        for (int i = 0; i < JOGADAS; ++i) {
+            Localizacao localizacao = new Localizacao((i * 7919) % LADO, (i * 104729) % LADO);
+            controller.clicarBotaoDireito(localizacao);
+
+            // A marcação já publicou uma foto; esta mede só o custo da foto
+            long antes = System.nanoTime();
+            tabuleiro.tirarFoto();
+            melhorFoto = Math.min(melhorFoto, System.nanoTime() - antes);
+        }
+        double pedacosPorJogada = (double) (tabuleiro.getPedacosCopiados() - copiadosAntes) / JOGADAS;
+
+        long melhorCaptura = Long.MAX_VALUE;
+        for (int i = 0; i < 5; ++i) {
+            long antes = System.nanoTime();
+            controller.capturarEstado();
+            melhorCaptura = Math.min(melhorCaptura, System.nanoTime() - antes);
+        }
+
+        System.out.printf("foto %.1f us   captura completa %d us   pedaços copiados por jogada %.2f%n",
+                melhorFoto / 1000.0, melhorCaptura / 1000, pedacosPorJogada);
+        assertTrue(pedacosPorJogada <= 1.0, "Uma marcação copiou mais de um pedaço.");
+        assertTrue(melhorFoto * 20 < melhorCaptura, "A foto deveria custar menos de 5% da captura completa.");
+    }
+}
@@ -0,0 +1,68 @@
+package org.minesweeper.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abertura de um ranking com um milhão de partidas, com e sem o índice
+ * gravado, e o custo das consultas.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkRankingTest {
+    private static final int PARTIDAS = 1_000_000;
+    private static final int CONSULTAS = 100_000;
+
+    @TempDir
+    Path pasta;
+
+    @Test
+    @DisplayName("Abertura com índice gravado x varredura do log, e consultas")
+    void milhaoDePartidas() throws IOException {
+        Dificuldade[] dificuldades = {Dificuldade.INICIANTE, Dificuldade.INTERMEDIARIO, Dificuldade.ESPECIALISTA};
+        Random rand = new Random(5);
+
+        long antes = System.nanoTime();
+        try (Ranking ranking = new Ranking(pasta, 4096)) {
+            for (int i = 0; i < PARTIDAS; ++i) {
+                ranking.registra(new RegistroPartida(dificuldades[i % 3], rand.nextInt(4) != 0,
+                        rand.nextInt(600_000), rand.nextInt(500), 0, rand.nextLong(), i));
+            }
+        }
+        System.out.printf("registro de %d partidas: %d ms%n", PARTIDAS, (System.nanoTime() - antes) / 1_000_000);
+
+        antes = System.nanoTime();
+        try (Ranking ranking = new Ranking(pasta)) {
+            System.out.printf("abertura com índice: %d ms (%d registros lidos do log)%n",
+                    (System.nanoTime() - antes) / 1_000_000, ranking.getLidosDoLogNaAbertura());
+            assertEquals(0, ranking.getLidosDoLogNaAbertura());
+
+            antes = System.nanoTime();
+            long soma = 0;
+            for (int i = 0; i < CONSULTAS; ++i)
+                soma += ranking.posicao(dificuldades[i % 3], rand.nextInt(600_000), rand.nextInt(500));
+            System.out.printf("posicao: %.0f ns por consulta (%d)%n", (double) (System.nanoTime() - antes) / CONSULTAS, soma);
+
+            antes = System.nanoTime();
+            assertEquals(10, ranking.melhores(Dificuldade.ESPECIALISTA, 10).size());
+            System.out.printf("top 10: %d µs%n", (System.nanoTime() - antes) / 1000);
+        }
+
+        Files.delete(pasta.resolve(Ranking.ARQUIVO_INDICE));
+        antes = System.nanoTime();
+        try (Ranking ranking = new Ranking(pasta)) {
+            System.out.printf("abertura varrendo o log: %d ms%n", (System.nanoTime() - antes) / 1_000_000);
+            assertEquals(PARTIDAS, ranking.getLidosDoLogNaAbertura());
+        }
+    }
+}
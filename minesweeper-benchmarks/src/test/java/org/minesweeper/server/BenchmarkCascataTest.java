@@ -0,0 +1,81 @@
+package org.minesweeper.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a cascata sequencial com a paralela num tabuleiro 3000x3000 de
+ * densidade baixa, onde um clique abre a maior parte do tabuleiro. Com mais
+ * de uma thread no pool comum, a paralela não pode ser mais lenta; com uma
+ * só, o tabuleiro deve ficar na sequencial por padrão.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkCascataTest {
+    private static final int LADO = 3000;
+    private static final int BOMBAS = LADO * LADO / 2000;
+    private static final int REPETICOES = 5;
+
+    @Test
+    @DisplayName("Numa cascata gigante o ForkJoinPool deve ser pelo menos tão rápido quanto a sequencial")
+    void cascataGigante() {
+        System.out.printf("%d processadores, paralelismo do pool comum %d%n",
+                Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool().getParallelism());
+
+        // Aquecimento do JIT
+        mede(Integer.MAX_VALUE);
+        mede(TabuleiroCompartilhado.LIMITE_PARALELO_PADRAO);
+
+        long melhorSequencial = Long.MAX_VALUE;
+        long melhorParalelo = Long.MAX_VALUE;
+        for (int i = 0; i < REPETICOES; ++i) {
+            long sequencial = mede(Integer.MAX_VALUE);
+            long paralelo = mede(TabuleiroCompartilhado.LIMITE_PARALELO_PADRAO);
+            melhorSequencial = Math.min(melhorSequencial, sequencial);
+            melhorParalelo = Math.min(melhorParalelo, paralelo);
+
+            System.out.printf("sequencial %6d ms   paralelo %6d ms   ganho %.2fx%n",
+                    sequencial / 1_000_000, paralelo / 1_000_000, (double) sequencial / paralelo);
+        }
+
+        if (ForkJoinPool.getCommonPoolParallelism() < 2) {
+            // Sem threads para dividir a cascata, o padrão não deve usar o pool
+            assertEquals(Integer.MAX_VALUE, new TabuleiroCompartilhado(8, 8, 1, 1L).getLimiteParalelo());
+            return;
+        }
+        assertTrue(melhorParalelo <= melhorSequencial, String.format(
+                "A cascata paralela (%d ms) ficou mais lenta que a sequencial (%d ms).",
+                melhorParalelo / 1_000_000, melhorSequencial / 1_000_000));
+    }
+
+    private long mede(int limiteParalelo) {
+        TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(LADO, LADO, BOMBAS, 3L);
+        tabuleiro.setLimiteParalelo(limiteParalelo);
+        Localizacao inicio = zeroProximoDoCentro(tabuleiro);
+
+        long antes = System.nanoTime();
+        int abertos = tabuleiro.abrir(inicio).size();
+        long duracao = System.nanoTime() - antes;
+
+        assertTrue(abertos > LADO * LADO / 2, "A cascata deveria abrir a maior parte do tabuleiro.");
+        return duracao;
+    }
+
+    private Localizacao zeroProximoDoCentro(TabuleiroCompartilhado tabuleiro) {
+        for (int i = LADO / 2; i < LADO - 1; ++i) {
+            boolean zero = true;
+            for (int di = -1; di <= 1 && zero; ++di)
+                for (int dj = -1; dj <= 1 && zero; ++dj)
+                    zero = !tabuleiro.isBomba(i + di, LADO / 2 + dj);
+            if (zero) return new Localizacao(i, LADO / 2);
+        }
+        throw new AssertionError("Sem quadrado zero perto do centro");
+    }
+}
@@ -0,0 +1,86 @@
+package org.minesweeper.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a vazão de cliques aleatórios num tabuleiro compartilhado de
+ * 5000x5000, comparando as travas por região com uma única trava global
+ * (região do tamanho do tabuleiro).
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkContencaoTest {
+    private static final int LADO = 5000;
+    private static final int BOMBAS = LADO * LADO / 8;
+    private static final int CLIQUES_POR_THREAD = 200_000;
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 64};
+
+    @Test
+    @DisplayName("Vazão de cliques por quantidade de threads: travas por região x trava global")
+    void contencao() throws Exception {
+        // Aquecimento do JIT antes das medições
+        mede(new TabuleiroCompartilhado(LADO, LADO, BOMBAS, 2L), 4);
+        mede(new TabuleiroCompartilhado(LADO, LADO, BOMBAS, 2L, LADO), 4);
+
+        System.out.printf("%d processadores%n", Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-8s %18s %18s%n", "threads", "regiões (op/s)", "global (op/s)");
+
+        for (int threads : THREADS) {
+            double regioes = mede(new TabuleiroCompartilhado(LADO, LADO, BOMBAS, 1L), threads);
+            double global = mede(new TabuleiroCompartilhado(LADO, LADO, BOMBAS, 1L, LADO), threads);
+
+            System.out.printf("%-8d %18.0f %18.0f%n", threads, regioes, global);
+        }
+    }
+
+    /**
+     * Cada thread clica em quadrados aleatórios: marca os que têm bomba e
+     * abre os demais, para que o jogo não acabe no meio da medição.
+     *
+     * @return Cliques por segundo somando todas as threads.
+     */
+    private double mede(TabuleiroCompartilhado tabuleiro, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        for (int t = 0; t < threads; ++t)
+            tarefas.add(executor.submit(() -> {
+                ThreadLocalRandom rand = ThreadLocalRandom.current();
+                largada.await();
+                for (int k = 0; k < CLIQUES_POR_THREAD; ++k) {
+                    int linha = rand.nextInt(LADO), coluna = rand.nextInt(LADO);
+                    Localizacao localizacao = new Localizacao(linha, coluna);
+
+                    if (tabuleiro.isBomba(linha, coluna))
+                        tabuleiro.marcar(localizacao);
+                    else
+                        tabuleiro.abrir(localizacao);
+                }
+                return null;
+            }));
+
+        long inicio = System.nanoTime();
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) tarefa.get();
+        long duracao = System.nanoTime() - inicio;
+        executor.shutdown();
+
+        assertFalse(tabuleiro.explodiu());
+        return (double) threads * CLIQUES_POR_THREAD * 1e9 / duracao;
+    }
+}
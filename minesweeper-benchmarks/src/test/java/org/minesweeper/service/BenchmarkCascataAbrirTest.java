@@ -0,0 +1,81 @@
+package org.minesweeper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Tabuleiro;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Como o BenchmarkCascataTest, mas no caminho do jogo normal: um clique do
+ * AbrirQuadrado num Tabuleiro 3000x3000 de densidade baixa, com a cascata
+ * toda sequencial e com o limite paralelo padrão. Com mais de uma thread no
+ * pool comum, a paralela não pode ser mais lenta; com uma só, o padrão deve
+ * manter a cascata sequencial.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkCascataAbrirTest {
+    private static final int LADO = 3000;
+    private static final int BOMBAS = LADO * LADO / 2000;
+    private static final int REPETICOES = 5;
+
+    @Test
+    @DisplayName("Numa cascata gigante do AbrirQuadrado o ForkJoinPool deve ser pelo menos tão rápido quanto a sequencial")
+    void cascataGigante() throws ForaDoTabuleiroException {
+        System.out.printf("%d processadores, paralelismo do pool comum %d%n",
+                Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool().getParallelism());
+
+        // Aquecimento do JIT
+        mede(Integer.MAX_VALUE);
+        mede(AbrirQuadrado.LIMITE_PARALELO_PADRAO);
+
+        long melhorSequencial = Long.MAX_VALUE;
+        long melhorParalelo = Long.MAX_VALUE;
+        for (int i = 0; i < REPETICOES; ++i) {
+            long sequencial = mede(Integer.MAX_VALUE);
+            long paralelo = mede(AbrirQuadrado.LIMITE_PARALELO_PADRAO);
+            melhorSequencial = Math.min(melhorSequencial, sequencial);
+            melhorParalelo = Math.min(melhorParalelo, paralelo);
+
+            System.out.printf("sequencial %6d ms   paralelo %6d ms   ganho %.2fx%n",
+                    sequencial / 1_000_000, paralelo / 1_000_000, (double) sequencial / paralelo);
+        }
+
+        if (ForkJoinPool.getCommonPoolParallelism() < 2) {
+            // Sem threads para dividir a cascata, o padrão não deve usar o pool
+            assertEquals(Integer.MAX_VALUE, AbrirQuadrado.limiteParaleloPadrao());
+            return;
+        }
+        assertTrue(melhorParalelo <= melhorSequencial, String.format(
+                "A cascata paralela (%d ms) ficou mais lenta que a sequencial (%d ms).",
+                melhorParalelo / 1_000_000, melhorSequencial / 1_000_000));
+    }
+
+    private long mede(int limiteParalelo) throws ForaDoTabuleiroException {
+        Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+        tabuleiro.accept(new MontarTabuleiro(LADO, LADO, BOMBAS, 3L));
+        Localizacao inicio = zeroProximoDoCentro(tabuleiro);
+
+        long antes = System.nanoTime();
+        int abertos = new AbrirQuadrado(inicio, limiteParalelo).visitTabuleiro(tabuleiro).size();
+        long duracao = System.nanoTime() - antes;
+
+        assertTrue(abertos > LADO * LADO / 2, "A cascata deveria abrir a maior parte do tabuleiro.");
+        return duracao;
+    }
+
+    private Localizacao zeroProximoDoCentro(Tabuleiro tabuleiro) throws ForaDoTabuleiroException {
+        for (int i = LADO / 2; i < LADO - 1; ++i) {
+            Localizacao candidata = new Localizacao(i, LADO / 2);
+            if (!tabuleiro.isBomba(candidata) && tabuleiro.quantVizinhosPerigosos(candidata) == 0) return candidata;
+        }
+        throw new AssertionError("Sem quadrado zero perto do centro");
+    }
+}
@@ -0,0 +1,61 @@
+package org.minesweeper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.MetricasTabuleiro;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Custo do cálculo das métricas (3BV, aberturas, números isolados) em
+ * relação à geração inteira de um tabuleiro 4000x4000.
+ *
+ * A geração inclui as métricas. Com o tabuleiro guardado só no vetor
+ * compactado, ela ficou pequena o bastante para as métricas serem uma
+ * parte visível dela; o limite é que não passem da metade.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkMetricasTest {
+    private static final int LADO = 4000;
+    private static final int BOMBAS = LADO * LADO * 16 / 100;
+    private static final int REPETICOES = 5;
+
+    @Test
+    @DisplayName("Métricas devem custar menos da metade da geração de um tabuleiro 4000x4000")
+    void metricasEmTabuleiroGigante() {
+        long melhorGeracao = Long.MAX_VALUE;
+        long melhorMetricas = Long.MAX_VALUE;
+
+        for (int i = 0; i < REPETICOES; ++i) {
+            Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+            long antes = System.nanoTime();
+            TabuleiroFront front = tabuleiro.accept(new MontarTabuleiro(LADO, LADO, BOMBAS, i));
+            melhorGeracao = Math.min(melhorGeracao, System.nanoTime() - antes);
+
+            EstadoTabuleiro estado = tabuleiro.accept(new CapturarEstado());
+            boolean[] bombas = new boolean[LADO * LADO];
+            for (int l = 0; l < LADO; ++l)
+                for (int c = 0; c < LADO; ++c)
+                    bombas[l * LADO + c] = estado.isBomba(l, c);
+            tabuleiro = null;
+            front = null;
+
+            antes = System.nanoTime();
+            MetricasTabuleiro metricas = MetricasTabuleiro.calcula(bombas, LADO, LADO);
+            melhorMetricas = Math.min(melhorMetricas, System.nanoTime() - antes);
+
+            System.out.printf("3BV %d, aberturas %d, números isolados %d%n",
+                    metricas.getBv3(), metricas.getAberturas(), metricas.getNumerosIsolados());
+        }
+
+        System.out.printf("geração (com métricas) %d ms   só métricas %d ms   %.1f%%%n",
+                melhorGeracao / 1_000_000, melhorMetricas / 1_000_000, 100.0 * melhorMetricas / melhorGeracao);
+        assertTrue(melhorMetricas < melhorGeracao / 2, "As métricas passaram da metade da geração.");
+    }
+}
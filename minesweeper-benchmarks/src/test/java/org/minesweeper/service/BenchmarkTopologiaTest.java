@@ -0,0 +1,93 @@
+package org.minesweeper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.Topologia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Custo da contagem de vizinhos em cada topologia, num tabuleiro 2000x2000.
+ * A grade quadrada é comparada com o laço 3x3 que a contagem usava antes
+ * das topologias, para garantir que a tabela de deslocamentos não deixou o
+ * caso comum mais lento.
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkTopologiaTest {
+    private static final int LADO = 2000;
+    private static final int BOMBAS = LADO * LADO * 16 / 100;
+    private static final int REPETICOES = 5;
+
+    @Test
+    @DisplayName("A contagem na grade quadrada não deve ficar mais lenta que o laço 3x3")
+    void contagemPorTopologia() {
+        long melhorQuadrada = Long.MAX_VALUE;
+        long melhorReferencia = Long.MAX_VALUE;
+
+        for (Topologia topologia : new Topologia[]{Topologia.QUADRADA, Topologia.TOROIDAL, Topologia.HEXAGONAL, Topologia.TRIANGULAR}) {
+            Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+            long antes = System.nanoTime();
+            tabuleiro.accept(new MontarTabuleiro(LADO, LADO, BOMBAS, 1L, topologia));
+            long geracao = System.nanoTime() - antes;
+
+            long melhor = Long.MAX_VALUE;
+            long total = 0;
+            for (int i = 0; i < REPETICOES; ++i) {
+                antes = System.nanoTime();
+                total = contaTodos(tabuleiro);
+                melhor = Math.min(melhor, System.nanoTime() - antes);
+            }
+            System.out.printf("%-10s geração %5d ms   contagem %4d ms   soma %d%n",
+                    topologia, geracao / 1_000_000, melhor / 1_000_000, total);
+
+            if (topologia == Topologia.QUADRADA) {
+                melhorQuadrada = melhor;
+                long referencia = 0;
+                for (int i = 0; i < REPETICOES; ++i) {
+                    antes = System.nanoTime();
+                    referencia = contaTodosReferencia(tabuleiro);
+                    melhorReferencia = Math.min(melhorReferencia, System.nanoTime() - antes);
+                }
+                assertEquals(referencia, total);
+                System.out.printf("%-10s laço 3x3  contagem %4d ms%n", "referência", melhorReferencia / 1_000_000);
+            }
+        }
+
+        // Folga só para o ruído de medição: a tabela não pode custar mais que o laço
+        assertTrue(melhorQuadrada * 10 <= melhorReferencia * 11,
+                "A contagem na grade quadrada passou de 1,1x o laço 3x3.");
+    }
+
+    private static long contaTodos(Tabuleiro tabuleiro) {
+        long total = 0;
+        for (int l = 0; l < LADO; ++l)
+            for (int c = 0; c < LADO; ++c)
+                total += tabuleiro.quantVizinhosPerigosos(new Localizacao(l, c));
+        return total;
+    }
+
+    // A contagem como era antes das topologias
+    private static long contaTodosReferencia(Tabuleiro tabuleiro) {
+        long total = 0;
+        for (int l = 0; l < LADO; ++l)
+            for (int c = 0; c < LADO; ++c)
+                for (int i = -1; i <= 1; ++i)
+                    for (int j = -1; j <= 1; ++j) {
+                        if (i == 0 && j == 0) continue;
+                        int vl = l + i, vc = c + j;
+                        if (vl < 0 || vl >= LADO || vc < 0 || vc >= LADO) continue;
+                        try {
+                            if (tabuleiro.isBomba(new Localizacao(vl, vc))) total++;
+                        } catch (ForaDoTabuleiroException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+        return total;
+    }
+}
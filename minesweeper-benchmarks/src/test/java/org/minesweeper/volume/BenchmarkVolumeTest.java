@@ -0,0 +1,54 @@
+package org.minesweeper.volume;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Geração e cascata num tabuleiro volumétrico 200x200x200 (8 milhões de
+ * quadrados, 26 vizinhos cada).
+ *
+ * Fora da execução normal dos testes; rodar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class BenchmarkVolumeTest {
+    private static final int LADO = 200;
+    private static final int REPETICOES = 3;
+
+    @Test
+    @DisplayName("Um volume 200x200x200 deve ser gerado e aberto em cascata em menos de um segundo cada")
+    void volumeGrande() {
+        long melhorGeracao = Long.MAX_VALUE;
+        long melhorCascata = Long.MAX_VALUE;
+
+        for (int i = 0; i < REPETICOES; ++i) {
+            // Poucas bombas, para que um clique abra quase todo o volume
+            long antes = System.nanoTime();
+            TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(LADO, LADO, LADO, LADO * LADO / 4, i);
+            melhorGeracao = Math.min(melhorGeracao, System.nanoTime() - antes);
+
+            int[] zero = procuraZero(tabuleiro);
+            antes = System.nanoTime();
+            int abertos = tabuleiro.abrir(zero[0], zero[1], zero[2]);
+            melhorCascata = Math.min(melhorCascata, System.nanoTime() - antes);
+
+            System.out.printf("bombas %d, abertos num clique %d%n", tabuleiro.getBombas(), abertos);
+        }
+
+        System.out.printf("geração %d ms   cascata %d ms%n", melhorGeracao / 1_000_000, melhorCascata / 1_000_000);
+        assertTrue(melhorGeracao < 1_000_000_000L, "A geração passou de 1 s.");
+        assertTrue(melhorCascata < 1_000_000_000L, "A cascata passou de 1 s.");
+    }
+
+    private static int[] procuraZero(TabuleiroVolumetrico tabuleiro) {
+        for (int c = 0; c < LADO; ++c)
+            for (int l = 0; l < LADO; ++l)
+                for (int j = 0; j < LADO; ++j)
+                    if (!tabuleiro.isBomba(c, l, j) && tabuleiro.getNumero(c, l, j) == 0)
+                        return new int[]{c, l, j};
+
+        throw new IllegalStateException("Nenhum zero no volume");
+    }
+}
@@ -0,0 +1,106 @@
+package org.minesweeper.autosave;
+
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.replay.GravacaoJogo;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * O que o salvamento automático guarda de um jogo não terminado: o
+ * tabuleiro, a gravação que o gerou (semente e jogadas) e o tempo de jogo
+ * até ali. Com a gravação, um jogo retomado continua valendo para o ranking
+ * e o replay.
+ *
+ * Formato: um número mágico e a versão, o tempo em ms, a gravação em texto
+ * (tamanho e bytes; tamanho -1 sem gravação) e por fim o EstadoTabuleiro.
+ * Um arquivo antigo, só com o EstadoTabuleiro, ainda é lido, sem gravação e
+ * com tempo zero.
+ */
+public class PontoRecuperacao {
+    // "MSPR". O EstadoTabuleiro comprimido começa com outro byte, então os formatos não se confundem
+    private static final int MAGICO = 0x4D535052;
+    private static final int VERSAO = 1;
+
+    private final EstadoTabuleiro estado;
+    private final GravacaoJogo gravacao;
+    private final long tempoMs;
+
+    public PontoRecuperacao(EstadoTabuleiro estado, GravacaoJogo gravacao, long tempoMs) {
+        this.estado = estado;
+        this.gravacao = gravacao;
+        this.tempoMs = tempoMs;
+    }
+
+    public EstadoTabuleiro getEstado() {
+        return estado;
+    }
+
+    /**
+     * @return A gravação do jogo até o ponto, ou null se o jogo não tinha
+     * gravação ou o ponto veio de um arquivo antigo.
+     */
+    public GravacaoJogo getGravacao() {
+        return gravacao;
+    }
+
+    /**
+     * @return Quanto tempo o jogo já tinha corrido quando o ponto foi gravado.
+     */
+    public long getTempoMs() {
+        return tempoMs;
+    }
+
+    public void escreve(OutputStream saida) throws IOException {
+        DataOutputStream dados = new DataOutputStream(saida);
+        dados.writeInt(MAGICO);
+        dados.writeInt(VERSAO);
+        dados.writeLong(tempoMs);
+        if (gravacao == null) {
+            dados.writeInt(-1);
+        } else {
+            ByteArrayOutputStream texto = new ByteArrayOutputStream();
+            gravacao.escreve(new OutputStreamWriter(texto, StandardCharsets.UTF_8));
+            dados.writeInt(texto.size());
+            texto.writeTo(dados);
+        }
+        dados.flush();
+        estado.escreve(saida);
+    }
+
+    public static PontoRecuperacao le(InputStream entrada) throws IOException {
+        if (!entrada.markSupported())
+            entrada = new BufferedInputStream(entrada);
+
+        entrada.mark(Integer.BYTES);
+        DataInputStream dados = new DataInputStream(entrada);
+        if (dados.readInt() != MAGICO) {
+            entrada.reset();
+            return new PontoRecuperacao(EstadoTabuleiro.le(entrada), null, 0);
+        }
+
+        int versao = dados.readInt();
+        if (versao != VERSAO)
+            throw new IOException("Versão de ponto de recuperação desconhecida: " + versao);
+
+        long tempoMs = dados.readLong();
+        int tamanho = dados.readInt();
+        GravacaoJogo gravacao = null;
+        if (tamanho >= 0) {
+            byte[] texto = new byte[tamanho];
+            dados.readFully(texto);
+            gravacao = GravacaoJogo.le(new InputStreamReader(new ByteArrayInputStream(texto), StandardCharsets.UTF_8));
+        }
+
+        return new PontoRecuperacao(EstadoTabuleiro.le(entrada), gravacao, tempoMs);
+    }
+}
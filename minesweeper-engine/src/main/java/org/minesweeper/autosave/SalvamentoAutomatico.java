@@ -0,0 +1,241 @@
+package org.minesweeper.autosave;
+
+import org.minesweeper.controller.ControllerTabuleiroListener;
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.FotoTabuleiro;
+import org.minesweeper.replay.GravacaoJogo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ponto de recuperação do jogo em andamento, gravado em segundo plano.
+ *
+ * Inscrito no ControllerTabuleiro, recebe a foto imutável publicada a cada
+ * ação e só guarda a referência: a ação nunca espera pelo disco. Depois de
+ * um certo número de jogadas, ou a cada intervalo, uma thread própria
+ * converte a última foto num EstadoTabuleiro e grava um PontoRecuperacao,
+ * junto com uma cópia da gravação do jogo e o tempo de jogo.
+ *
+ * A gravação escreve num arquivo temporário, força os dados para o disco e
+ * só então renomeia por cima do ponto anterior, de forma atômica. Se o
+ * processo morrer no meio, o arquivo lido na próxima abertura é o ponto
+ * anterior inteiro, nunca um arquivo pela metade.
+ */
+public class SalvamentoAutomatico implements ControllerTabuleiroListener, Closeable {
+    public static final int JOGADAS_PADRAO = 10;
+    public static final long INTERVALO_PADRAO_MS = 30_000;
+
+    static final String ARQUIVO = "autosave.estado";
+    static final String ARQUIVO_TEMPORARIO = ARQUIVO + ".tmp";
+
+    private static final Contador GRAVACOES = RegistroMetricas.getInstance().contador("autosave.gravacoes");
+    private static final Contador FALHAS = RegistroMetricas.getInstance().contador("autosave.falhas");
+
+    private final Path pasta;
+    private final int jogadas;
+    private final ScheduledExecutorService gravador;
+
+    // Escrita pela thread do jogo, lida pela thread de gravação
+    private volatile Pendente ultima;
+    private volatile long inicioJogo = System.nanoTime();
+    private final AtomicInteger jogadasPendentes = new AtomicInteger();
+    private final AtomicBoolean agendado = new AtomicBoolean();
+
+    // Só acessada pela thread de gravação
+    private long versaoGravada = -1;
+
+    public SalvamentoAutomatico(Path pasta) throws IOException {
+        this(pasta, JOGADAS_PADRAO, INTERVALO_PADRAO_MS);
+    }
+
+    /**
+     * @param jogadas      Quantas ações disparam uma gravação.
+     * @param intervaloMs  De quanto em quanto tempo uma ação ainda não
+     *                     gravada é gravada, mesmo sem completar as jogadas.
+     */
+    public SalvamentoAutomatico(Path pasta, int jogadas, long intervaloMs) throws IOException {
+        if (jogadas < 1 || intervaloMs < 1)
+            throw new IllegalArgumentException("Jogadas e intervalo do salvamento devem ser positivos");
+
+        this.pasta = pasta;
+        this.jogadas = jogadas;
+        Files.createDirectories(pasta);
+
+        gravador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "salvamento-automatico");
+            thread.setDaemon(true);
+            return thread;
+        });
+        gravador.scheduleWithFixedDelay(this::grava, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onFotoPublicada(FotoTabuleiro foto) {
+        onFotoPublicada(foto, null);
+    }
+
+    @Override
+    public void onFotoPublicada(FotoTabuleiro foto, GravacaoJogo gravacao) {
+        // Uma cópia das referências às jogadas; a gravação em si segue mudando na thread do jogo
+        ultima = new Pendente(foto, gravacao != null ? gravacao.copia() : null);
+        if (jogadasPendentes.incrementAndGet() >= jogadas) agenda();
+    }
+
+    /**
+     * Marca o início do jogo em andamento, em System.nanoTime(), para o tempo
+     * de jogo gravado no ponto. Um jogo retomado passa o instante que já
+     * desconta o tempo do ponto.
+     */
+    public void iniciaRelogio(long inicioJogo) {
+        this.inicioJogo = inicioJogo;
+    }
+
+    /**
+     * Apaga o ponto de recuperação, por exemplo quando o jogo termina ou o
+     * jogador não quis retomá-lo. Fotos já recebidas não são mais gravadas;
+     * a próxima ação volta a ser acompanhada.
+     */
+    public void descarta() {
+        ultima = null;
+        jogadasPendentes.set(0);
+        try {
+            // Na mesma thread da gravação, para não ser desfeito por uma que já estava em andamento
+            gravador.execute(this::apaga);
+        } catch (RejectedExecutionException e) {
+            apaga();
+        }
+    }
+
+    /**
+     * Grava a última foto, se ainda não foi gravada, e espera terminar.
+     */
+    public void salvaAgora() {
+        try {
+            gravador.submit(this::grava).get();
+        } catch (RejectedExecutionException | ExecutionException e) {
+            FALHAS.incrementa();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Grava o que estiver pendente e para a thread de gravação.
+     */
+    @Override
+    public void close() {
+        if (gravador.isShutdown()) return;
+
+        salvaAgora();
+        gravador.shutdown();
+    }
+
+    /**
+     * @return O tabuleiro do jogo não terminado gravado na pasta, ou null se
+     * não há nenhum.
+     */
+    public static EstadoTabuleiro carrega(Path pasta) throws IOException {
+        PontoRecuperacao ponto = carregaPonto(pasta);
+        return ponto != null ? ponto.getEstado() : null;
+    }
+
+    /**
+     * @return O jogo não terminado gravado na pasta, com a gravação e o
+     * tempo de jogo, ou null se não há nenhum.
+     */
+    public static PontoRecuperacao carregaPonto(Path pasta) throws IOException {
+        try (InputStream entrada = new BufferedInputStream(Files.newInputStream(pasta.resolve(ARQUIVO)))) {
+            return PontoRecuperacao.le(entrada);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void agenda() {
+        if (!agendado.compareAndSet(false, true)) return;
+
+        try {
+            gravador.execute(this::grava);
+        } catch (RejectedExecutionException e) {
+            agendado.set(false);
+        }
+    }
+
+    private void grava() {
+        agendado.set(false);
+        Pendente pendente = ultima;
+        if (pendente == null || pendente.foto.getVersao() == versaoGravada) return;
+
+        FotoTabuleiro foto = pendente.foto;
+        jogadasPendentes.set(0);
+        versaoGravada = foto.getVersao();
+        try {
+            if (foto.ganhou() || foto.explodiu()) {
+                // Um jogo terminado não é retomado, mesmo antes de o coordenador chamar descarta
+                Files.deleteIfExists(pasta.resolve(ARQUIVO));
+            } else if (foto.getQuadradosAbertos() > 0) {
+                // Um jogo sem nenhum quadrado aberto não vale ser retomado
+                long tempoMs = (System.nanoTime() - inicioJogo) / 1_000_000;
+                escreve(new PontoRecuperacao(foto.paraEstado(), pendente.gravacao, tempoMs));
+            }
+        } catch (IOException e) {
+            // O ponto anterior continua inteiro; a mesma foto é tentada de novo na próxima gravação
+            versaoGravada = -1;
+            FALHAS.incrementa();
+        }
+    }
+
+    private void escreve(PontoRecuperacao ponto) throws IOException {
+        Path temporario = pasta.resolve(ARQUIVO_TEMPORARIO);
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream saida = new BufferedOutputStream(Channels.newOutputStream(canal));
+            ponto.escreve(saida);
+            saida.flush();
+            canal.force(true);
+        }
+
+        Files.move(temporario, pasta.resolve(ARQUIVO),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        GRAVACOES.incrementa();
+    }
+
+    private void apaga() {
+        try {
+            Files.deleteIfExists(pasta.resolve(ARQUIVO));
+        } catch (IOException e) {
+            FALHAS.incrementa();
+        }
+    }
+
+    private static final class Pendente {
+        final FotoTabuleiro foto;
+        final GravacaoJogo gravacao;
+
+        Pendente(FotoTabuleiro foto, GravacaoJogo gravacao) {
+            this.foto = foto;
+            this.gravacao = gravacao;
+        }
+    }
+}
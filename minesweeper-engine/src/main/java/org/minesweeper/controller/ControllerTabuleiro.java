@@ -0,0 +1,295 @@
+package org.minesweeper.controller;
+
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.Histograma;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.*;
+import org.minesweeper.replay.GravacaoJogo;
+import org.minesweeper.service.AbrirQuadrado;
+import org.minesweeper.service.AcaoTabuleiro;
+import org.minesweeper.service.CapturarEstado;
+import org.minesweeper.service.FecharQuadrados;
+import org.minesweeper.service.LerAlteracoes;
+import org.minesweeper.service.MarcarQuadrado;
+import org.minesweeper.service.MontarTabuleiro;
+import org.minesweeper.service.ReabrirQuadrados;
+import org.minesweeper.service.RestaurarEstado;
+import org.minesweeper.service.TirarFoto;
+import org.minesweeper.solver.Jogada;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ControllerTabuleiro {
+    private static final Contador ACOES = RegistroMetricas.getInstance().contador("controller.acoes");
+    private static final Histograma LATENCIA_NOVO_JOGO = RegistroMetricas.getInstance().histograma("controller.novoJogo.ns");
+    private static final Histograma LATENCIA_ABRIR = RegistroMetricas.getInstance().histograma("controller.abrir.ns");
+    private static final Histograma LATENCIA_MARCAR = RegistroMetricas.getInstance().histograma("controller.marcar.ns");
+
+    private TabuleiroInterface tabuleiro;
+    private GravacaoJogo gravacao;
+    private MetricasTabuleiro metricas;
+    private Topologia topologia = Topologia.QUADRADA;
+    private final HistoricoJogadas historico = new HistoricoJogadas();
+    // Lida por outras threads; trocada inteira a cada ação
+    private volatile FotoTabuleiro foto;
+    private final List<ControllerTabuleiroListener> listeners = new CopyOnWriteArrayList<>();
+    private static ControllerTabuleiro instance;
+
+    private ControllerTabuleiro(){
+        this(Tabuleiro.getInstance());
+    }
+
+    /**
+     * Controller sobre um tabuleiro próprio, fora do singleton.
+     */
+    public ControllerTabuleiro(TabuleiroInterface tabuleiro){
+        this.tabuleiro = tabuleiro;
+    }
+
+    public TabuleiroFront iniciarNovoJogo(int linha_size, int coluna_size, int bomba){
+        return iniciarNovoJogo(linha_size, coluna_size, bomba, new Random().nextLong());
+    }
+
+    /**
+     * Inicia um jogo reproduzível: a mesma semente gera o mesmo tabuleiro.
+     */
+    public TabuleiroFront iniciarNovoJogo(int linha_size, int coluna_size, int bomba, long semente){
+        long inicio = System.nanoTime();
+        AcaoTabuleiro acao = new MontarTabuleiro(linha_size, coluna_size, bomba, semente, topologia);
+        TabuleiroFront resultado = tabuleiro.accept(acao);
+        gravacao = new GravacaoJogo(linha_size, coluna_size, bomba, semente, topologia);
+        metricas = resultado != null ? resultado.getMetricas() : null;
+        historico.limpa();
+        publicaFoto();
+        LATENCIA_NOVO_JOGO.registraDesde(inicio);
+        ACOES.incrementa();
+        return resultado;
+    }
+
+    public ArrayList<QuadradoFront> clicarBotaoEsquerdo(Localizacao localizacao){
+        long inicio = System.nanoTime();
+        AcaoTabuleiro acao = new AbrirQuadrado(localizacao);
+        ArrayList<QuadradoFront> resultado = tabuleiro.accept(acao);
+        if (resultado != null) {
+            historico.registra(new HistoricoJogadas.Alteracao(Jogada.Tipo.ABRIR, localizacao, posicoes(resultado)));
+            if (gravacao != null)
+                gravacao.adiciona(Jogada.Tipo.ABRIR, localizacao);
+            publicaFoto();
+        }
+        LATENCIA_ABRIR.registraDesde(inicio);
+        ACOES.incrementa();
+        return resultado;
+    }
+
+    public QuadradoFront clicarBotaoDireito(Localizacao localizacao){
+        long inicio = System.nanoTime();
+        AcaoTabuleiro acao = new MarcarQuadrado(localizacao);
+        QuadradoFront resultado = tabuleiro.accept(acao);
+        if (resultado != null) {
+            historico.registra(new HistoricoJogadas.Alteracao(Jogada.Tipo.MARCAR, localizacao, null));
+            if (gravacao != null)
+                gravacao.adiciona(Jogada.Tipo.MARCAR, localizacao);
+            publicaFoto();
+        }
+        LATENCIA_MARCAR.registraDesde(inicio);
+        ACOES.incrementa();
+        return resultado;
+    }
+
+    /**
+     * Desfaz a última jogada, fechando os quadrados que uma abertura abriu
+     * ou alternando de novo a marcação. O custo é proporcional ao que a
+     * jogada mudou. A jogada também sai da gravação.
+     *
+     * @return Os quadrados alterados, no estado novo, ou null se não há o
+     * que desfazer.
+     */
+    public ArrayList<QuadradoFront> desfazer(){
+        HistoricoJogadas.Alteracao alteracao = historico.desfaz();
+        if (alteracao == null) return null;
+
+        ArrayList<QuadradoFront> resultado;
+        if (alteracao.tipo == Jogada.Tipo.ABRIR) {
+            resultado = tabuleiro.accept(new FecharQuadrados(alteracao.abertos));
+        } else {
+            resultado = new ArrayList<>();
+            resultado.add(tabuleiro.accept(new MarcarQuadrado(alteracao.localizacao)));
+        }
+
+        if (gravacao != null)
+            gravacao.removeUltima();
+        publicaFoto();
+        ACOES.incrementa();
+        return resultado;
+    }
+
+    /**
+     * Refaz a última jogada desfeita. Uma abertura reabre os quadrados
+     * guardados no histórico, sem refazer a cascata, então o custo também é
+     * proporcional ao que a jogada mudou.
+     *
+     * @return Os quadrados alterados, no estado novo, ou null se não há o
+     * que refazer.
+     */
+    public ArrayList<QuadradoFront> refazer(){
+        HistoricoJogadas.Alteracao alteracao = historico.refaz();
+        if (alteracao == null) return null;
+
+        ArrayList<QuadradoFront> resultado;
+        if (alteracao.tipo == Jogada.Tipo.ABRIR) {
+            resultado = tabuleiro.accept(new ReabrirQuadrados(alteracao.abertos));
+        } else {
+            resultado = new ArrayList<>();
+            resultado.add(tabuleiro.accept(new MarcarQuadrado(alteracao.localizacao)));
+        }
+
+        if (gravacao != null)
+            gravacao.adiciona(alteracao.tipo, alteracao.localizacao);
+        publicaFoto();
+        ACOES.incrementa();
+        return resultado;
+    }
+
+    /**
+     * @return A foto do tabuleiro depois da última ação, ou null antes do
+     * primeiro jogo. Pode ser chamada de qualquer thread: a foto é imutável
+     * e continua consistente enquanto o jogo segue.
+     */
+    public FotoTabuleiro getFoto(){
+        return foto;
+    }
+
+    /**
+     * Alterações visíveis desde a versão de um TabuleiroFront, para que
+     * qualquer cliente (a tela, a rede, um espectador) se atualize sem
+     * copiar o tabuleiro: basta aplicar o delta na projeção.
+     *
+     * @return O delta, completo se a versão já saiu do registro.
+     */
+    public DeltaTabuleiro alteracoesDesde(long versao){
+        return tabuleiro.accept(new LerAlteracoes(versao));
+    }
+
+    private void publicaFoto(){
+        foto = tabuleiro.accept(new TirarFoto());
+        if (foto == null) return;
+
+        for (ControllerTabuleiroListener l : listeners)
+            l.onFotoPublicada(foto, gravacao);
+    }
+
+    public void subscribe(ControllerTabuleiroListener listener){
+        if (!listeners.contains(listener))
+            listeners.add(listener);
+    }
+
+    public void unsubscribe(ControllerTabuleiroListener listener){
+        listeners.remove(listener);
+    }
+
+    public HistoricoJogadas getHistorico(){
+        return historico;
+    }
+
+    private static int[] posicoes(ArrayList<QuadradoFront> quadrados){
+        int[] posicoes = new int[quadrados.size() * 2];
+        for (int i = 0; i < quadrados.size(); ++i) {
+            Localizacao localizacao = quadrados.get(i).getLocalizacao();
+            posicoes[2 * i] = localizacao.getLinha();
+            posicoes[2 * i + 1] = localizacao.getColuna();
+        }
+        return posicoes;
+    }
+
+    public boolean ganhou(){
+        return tabuleiro.ganhou();
+    }
+
+    /**
+     * @return A gravação do jogo atual, com a semente e as jogadas feitas até
+     * agora, ou null se nenhum jogo foi iniciado por este controller.
+     */
+    public GravacaoJogo getGravacao(){
+        return gravacao;
+    }
+
+    /**
+     * @return As métricas de dificuldade do jogo atual, ou null se nenhum
+     * jogo foi iniciado.
+     */
+    public MetricasTabuleiro getMetricas(){
+        return metricas;
+    }
+
+    public Topologia getTopologia(){
+        return topologia;
+    }
+
+    /**
+     * Topologia dos próximos jogos iniciados por este controller. O jogo
+     * atual não muda.
+     */
+    public void setTopologia(Topologia topologia){
+        this.topologia = topologia;
+    }
+
+    public EstadoTabuleiro capturarEstado(){
+        return tabuleiro.accept(new CapturarEstado());
+    }
+
+    public TabuleiroFront restaurarEstado(EstadoTabuleiro estado){
+        // Sem gravação o tabuleiro restaurado não vem de semente + jogadas
+        return restaurarEstado(estado, null);
+    }
+
+    /**
+     * Restaura um jogo gravado junto com a gravação que o gerou, como faz o
+     * salvamento automático. O jogo segue gravando a partir dela, então
+     * continua valendo para o ranking e o replay. Uma gravação de outro
+     * tabuleiro é ignorada.
+     */
+    public TabuleiroFront restaurarEstado(EstadoTabuleiro estado, GravacaoJogo gravacao){
+        boolean corresponde = gravacao != null
+                && gravacao.getLinha_size() == estado.getLinha_size()
+                && gravacao.getColuna_size() == estado.getColuna_size()
+                && gravacao.getTopologia() == estado.getTopologia();
+        this.gravacao = corresponde ? gravacao : null;
+        historico.limpa();
+        TabuleiroFront resultado = tabuleiro.accept(new RestaurarEstado(estado));
+        metricas = resultado != null ? resultado.getMetricas() : null;
+        publicaFoto();
+        return resultado;
+    }
+
+    /**
+     * Solta o tabuleiro e a foto, mantendo o histórico, a gravação, as
+     * métricas e os inscritos. Nenhuma ação pode ser feita até
+     * recarregarTabuleiro; o servidor usa o par para despejar uma sessão no
+     * disco sem que o cliente perceba.
+     */
+    public void descarregarTabuleiro(){
+        tabuleiro = null;
+        foto = null;
+    }
+
+    /**
+     * Volta a jogar sobre um tabuleiro com o estado salvo antes de
+     * descarregarTabuleiro. Ao contrário de restaurarEstado, o jogo continua
+     * o mesmo: dá para desfazer as jogadas anteriores e a gravação segue.
+     */
+    public void recarregarTabuleiro(TabuleiroInterface tabuleiro, EstadoTabuleiro estado){
+        this.tabuleiro = tabuleiro;
+        tabuleiro.accept(new RestaurarEstado(estado));
+        publicaFoto();
+    }
+
+    public static synchronized ControllerTabuleiro getInstance() {
+        if (instance == null)
+            instance = new ControllerTabuleiro();
+
+        return instance;
+    }
+}
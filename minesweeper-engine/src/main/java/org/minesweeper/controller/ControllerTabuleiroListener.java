@@ -0,0 +1,23 @@
+package org.minesweeper.controller;
+
+import org.minesweeper.model.FotoTabuleiro;
+import org.minesweeper.replay.GravacaoJogo;
+
+public interface ControllerTabuleiroListener {
+    /**
+     * Chamado depois de cada ação que mudou o tabuleiro, na thread que fez a
+     * ação. A foto é imutável e pode ser passada a outras threads; quem
+     * precisar de trabalho pesado deve fazê-lo fora desta chamada.
+     */
+    void onFotoPublicada(FotoTabuleiro foto);
+
+    /**
+     * Como onFotoPublicada(FotoTabuleiro), com a gravação do jogo até essa
+     * foto, ou null se o jogo não tem gravação. A gravação continua sendo
+     * alterada pelo controller: quem for usá-la em outra thread deve copiá-la
+     * aqui.
+     */
+    default void onFotoPublicada(FotoTabuleiro foto, GravacaoJogo gravacao) {
+        onFotoPublicada(foto);
+    }
+}
@@ -0,0 +1,124 @@
+package org.minesweeper.controller;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.solver.Jogada;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pilhas de desfazer e refazer do ControllerTabuleiro. Cada entrada guarda
+ * só o que a jogada mudou: numa abertura, linha e coluna de cada quadrado
+ * aberto (a cascata inteira), num único int[]; numa marcação, nada além da
+ * localização, porque marcar de novo desfaz.
+ *
+ * A memória é limitada pela soma dos quadrados guardados nas duas pilhas.
+ * Passando do limite, as jogadas mais antigas deixam de poder ser
+ * desfeitas; a última jogada é sempre mantida, mesmo que sozinha passe do
+ * limite.
+ */
+public class HistoricoJogadas {
+    public static final int LIMITE_PADRAO = 1_000_000;
+
+    static final class Alteracao {
+        final Jogada.Tipo tipo;
+        final Localizacao localizacao;
+        // Pares linha, coluna dos quadrados abertos; null numa marcação
+        final int[] abertos;
+
+        Alteracao(Jogada.Tipo tipo, Localizacao localizacao, int[] abertos) {
+            this.tipo = tipo;
+            this.localizacao = localizacao;
+            this.abertos = abertos;
+        }
+
+        int getTamanho() {
+            return abertos != null ? abertos.length / 2 : 1;
+        }
+    }
+
+    private final ArrayDeque<Alteracao> desfazer = new ArrayDeque<>();
+    private final ArrayDeque<Alteracao> refazer = new ArrayDeque<>();
+    private int limite = LIMITE_PADRAO;
+    private long quadradosGuardados;
+
+    /**
+     * Guarda uma jogada nova. O que estava para refazer é descartado.
+     */
+    void registra(Alteracao alteracao) {
+        for (Alteracao descartada : refazer)
+            quadradosGuardados -= descartada.getTamanho();
+        refazer.clear();
+
+        desfazer.addLast(alteracao);
+        quadradosGuardados += alteracao.getTamanho();
+        respeitaLimite();
+    }
+
+    /**
+     * @return A jogada a desfazer, que passa para a pilha de refazer, ou
+     * null se não há nenhuma.
+     */
+    Alteracao desfaz() {
+        Alteracao alteracao = desfazer.pollLast();
+        if (alteracao != null) refazer.addLast(alteracao);
+
+        return alteracao;
+    }
+
+    /**
+     * @return A jogada a refazer, que volta para a pilha de desfazer, ou
+     * null se não há nenhuma.
+     */
+    Alteracao refaz() {
+        Alteracao alteracao = refazer.pollLast();
+        if (alteracao != null) desfazer.addLast(alteracao);
+
+        return alteracao;
+    }
+
+    void limpa() {
+        desfazer.clear();
+        refazer.clear();
+        quadradosGuardados = 0;
+    }
+
+    public boolean podeDesfazer() {
+        return !desfazer.isEmpty();
+    }
+
+    public boolean podeRefazer() {
+        return !refazer.isEmpty();
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    /**
+     * @param limite Quantos quadrados, somando as duas pilhas, o histórico
+     *               pode guardar.
+     */
+    public void setLimite(int limite) {
+        if (limite < 1) throw new IllegalArgumentException("O limite do histórico deve ser positivo");
+
+        this.limite = limite;
+        respeitaLimite();
+    }
+
+    public long getQuadradosGuardados() {
+        return quadradosGuardados;
+    }
+
+    public int getQuantidadeDesfazer() {
+        return desfazer.size();
+    }
+
+    // O que está para refazer é mais recente que o que está para desfazer,
+    // então é descartado antes, a partir da ponta mais distante
+    private void respeitaLimite() {
+        while (quadradosGuardados > limite && !refazer.isEmpty())
+            quadradosGuardados -= refazer.pollFirst().getTamanho();
+        while (quadradosGuardados > limite && desfazer.size() > 1)
+            quadradosGuardados -= desfazer.pollFirst().getTamanho();
+    }
+}
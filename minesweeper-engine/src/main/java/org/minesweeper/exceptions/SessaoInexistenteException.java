@@ -0,0 +1,7 @@
+package org.minesweeper.exceptions;
+
+public class SessaoInexistenteException extends Exception{
+    public SessaoInexistenteException(String id){
+        super("Sessão inexistente: " + id);
+    }
+}
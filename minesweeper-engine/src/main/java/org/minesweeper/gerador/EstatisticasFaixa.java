@@ -0,0 +1,71 @@
+package org.minesweeper.gerador;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contagens de uma faixa desde o início da geração: candidatos gerados,
+ * quantos passaram pelo filtro de 3BV e quantos foram aceitos no fim.
+ */
+public class EstatisticasFaixa {
+    private final AtomicLong candidatos = new AtomicLong();
+    private final AtomicLong aprovadosMetricas = new AtomicLong();
+    private final AtomicLong aceitos = new AtomicLong();
+    private final AtomicLong nanosGeracao = new AtomicLong();
+    private final long inicio = System.nanoTime();
+
+    void registraCandidato(long nanos) {
+        candidatos.incrementAndGet();
+        nanosGeracao.addAndGet(nanos);
+    }
+
+    void registraAprovadoMetricas() {
+        aprovadosMetricas.incrementAndGet();
+    }
+
+    void registraAceito() {
+        aceitos.incrementAndGet();
+    }
+
+    public long getCandidatos() {
+        return candidatos.get();
+    }
+
+    public long getAprovadosMetricas() {
+        return aprovadosMetricas.get();
+    }
+
+    public long getAceitos() {
+        return aceitos.get();
+    }
+
+    /**
+     * @return Fração dos candidatos que foi aceita, entre 0 e 1.
+     */
+    public double getTaxaAceitacao() {
+        long total = candidatos.get();
+        return total == 0 ? 0 : aceitos.get() / (double) total;
+    }
+
+    /**
+     * @return Tabuleiros aceitos por segundo de relógio desde o início.
+     */
+    public double getVazao() {
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        return segundos <= 0 ? 0 : aceitos.get() / segundos;
+    }
+
+    /**
+     * @return Tempo médio de CPU por candidato, somando geração e avaliação.
+     */
+    public double getMsPorCandidato() {
+        long total = candidatos.get();
+        return total == 0 ? 0 : nanosGeracao.get() / 1e6 / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("candidatos=%d aprovados3BV=%d aceitos=%d taxa=%.1f%% vazao=%.1f/s %.2fms/candidato",
+                getCandidatos(), getAprovadosMetricas(), getAceitos(), 100 * getTaxaAceitacao(), getVazao(),
+                getMsPorCandidato());
+    }
+}
@@ -0,0 +1,94 @@
+package org.minesweeper.gerador;
+
+import org.minesweeper.model.MetricasTabuleiro;
+
+/**
+ * Faixa de dificuldade pedida ao gerador: dimensões e bombas fixas, mais
+ * limites de 3BV por quadrado e, opcionalmente, de chutes que o resolvedor
+ * precisa dar para terminar o tabuleiro.
+ *
+ * Os limites de 3BV são baratos de checar e filtram a maior parte dos
+ * candidatos; o resolvedor só roda nos que passam por eles.
+ */
+public class FaixaDificuldade {
+    public static final int SEM_LIMITE = Integer.MAX_VALUE;
+
+    private final String nome;
+    private final int linha_size;
+    private final int coluna_size;
+    private final int bombas;
+    private final double bv3PorQuadradoMinimo;
+    private final double bv3PorQuadradoMaximo;
+    private final int chutesMinimo;
+    private final int chutesMaximo;
+
+    /**
+     * Faixa só por 3BV por quadrado, sem rodar o resolvedor.
+     */
+    public FaixaDificuldade(String nome, int linha_size, int coluna_size, int bombas,
+                            double bv3PorQuadradoMinimo, double bv3PorQuadradoMaximo) {
+        this(nome, linha_size, coluna_size, bombas, bv3PorQuadradoMinimo, bv3PorQuadradoMaximo, 0, SEM_LIMITE);
+    }
+
+    /**
+     * @param chutesMinimo Mínimo de chutes do resolvedor, contando o
+     *                     primeiro clique, que é sempre um chute.
+     * @param chutesMaximo Máximo de chutes, ou SEM_LIMITE.
+     */
+    public FaixaDificuldade(String nome, int linha_size, int coluna_size, int bombas,
+                            double bv3PorQuadradoMinimo, double bv3PorQuadradoMaximo,
+                            int chutesMinimo, int chutesMaximo) {
+        if (bv3PorQuadradoMinimo > bv3PorQuadradoMaximo || chutesMinimo > chutesMaximo)
+            throw new IllegalArgumentException("Faixa vazia: " + nome);
+
+        this.nome = nome;
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.bombas = bombas;
+        this.bv3PorQuadradoMinimo = bv3PorQuadradoMinimo;
+        this.bv3PorQuadradoMaximo = bv3PorQuadradoMaximo;
+        this.chutesMinimo = chutesMinimo;
+        this.chutesMaximo = chutesMaximo;
+    }
+
+    public boolean aceitaMetricas(MetricasTabuleiro metricas) {
+        double bv3PorQuadrado = metricas.getBv3() / (double) (linha_size * coluna_size);
+        return bv3PorQuadrado >= bv3PorQuadradoMinimo && bv3PorQuadrado <= bv3PorQuadradoMaximo;
+    }
+
+    public boolean aceitaChutes(int chutes) {
+        return chutes >= chutesMinimo && chutes <= chutesMaximo;
+    }
+
+    /**
+     * @return true se os chutes precisam ser medidos com o resolvedor.
+     */
+    public boolean usaResolvedor() {
+        return chutesMinimo > 0 || chutesMaximo != SEM_LIMITE;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    public int getChutesMaximo() {
+        return chutesMaximo;
+    }
+
+    @Override
+    public String toString() {
+        return nome;
+    }
+}
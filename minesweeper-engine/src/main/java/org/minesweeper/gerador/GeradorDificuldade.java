@@ -0,0 +1,196 @@
+package org.minesweeper.gerador;
+
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.service.MontarTabuleiro;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gera tabuleiros por faixa de dificuldade em vez de só por dimensões.
+ *
+ * Cada thread do gerador escolhe uma faixa cuja fila ainda tem espaço,
+ * sorteia uma semente e monta o tabuleiro com MontarTabuleiro, que já
+ * devolve o 3BV. Se o 3BV por quadrado estiver fora da faixa o candidato é
+ * descartado ali; senão, e se a faixa pedir, o MedidorChutes joga o
+ * tabuleiro com o resolvedor. Os aprovados entram na fila da faixa, de
+ * onde são consumidos com proximo.
+ *
+ * Com todas as filas cheias as threads esperam até alguém consumir.
+ */
+public class GeradorDificuldade {
+    public static final int FILA_PADRAO = 32;
+
+    private final int threads;
+    private final Map<FaixaDificuldade, BlockingQueue<TabuleiroGerado>> filas = new LinkedHashMap<>();
+    private final Map<FaixaDificuldade, EstatisticasFaixa> estatisticas = new LinkedHashMap<>();
+    private final Map<FaixaDificuldade, Contador[]> contadores = new LinkedHashMap<>();
+    private final SplittableRandom sementes;
+
+    private ExecutorService executor;
+    private int proximaFaixa;
+
+    public GeradorDificuldade(int threads) {
+        this(threads, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * @param semente Origem das sementes dos candidatos, para testes
+     *                reproduzíveis.
+     */
+    public GeradorDificuldade(int threads, long semente) {
+        this.threads = threads;
+        this.sementes = new SplittableRandom(semente);
+    }
+
+    public void adicionaFaixa(FaixaDificuldade faixa) {
+        adicionaFaixa(faixa, FILA_PADRAO);
+    }
+
+    public synchronized void adicionaFaixa(FaixaDificuldade faixa, int tamanhoFila) {
+        if (executor != null) throw new IllegalStateException("Faixas devem ser adicionadas antes de iniciar");
+
+        filas.put(faixa, new ArrayBlockingQueue<>(tamanhoFila));
+        estatisticas.put(faixa, new EstatisticasFaixa());
+
+        RegistroMetricas registro = RegistroMetricas.getInstance();
+        contadores.put(faixa, new Contador[]{
+                registro.contador("gerador." + faixa.getNome() + ".candidatos"),
+                registro.contador("gerador." + faixa.getNome() + ".aceitos")});
+    }
+
+    public synchronized void iniciar() {
+        if (executor != null) return;
+
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "gerador-dificuldade");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        for (int i = 0; i < threads; ++i)
+            executor.execute(this::trabalha);
+    }
+
+    public synchronized void parar() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Tira o próximo tabuleiro da faixa, esperando até o tempo dado.
+     *
+     * @return O tabuleiro, ou null se nenhum ficou pronto a tempo.
+     */
+    public TabuleiroGerado proximo(FaixaDificuldade faixa, long tempo, TimeUnit unidade) throws InterruptedException {
+        BlockingQueue<TabuleiroGerado> fila = filas.get(faixa);
+        if (fila == null) throw new IllegalArgumentException("Faixa desconhecida: " + faixa);
+
+        TabuleiroGerado gerado = fila.poll(tempo, unidade);
+        if (gerado != null) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+        return gerado;
+    }
+
+    public EstatisticasFaixa getEstatisticas(FaixaDificuldade faixa) {
+        return estatisticas.get(faixa);
+    }
+
+    /**
+     * @return Uma linha por faixa com vazão e taxa de aceitação.
+     */
+    public String getResumo() {
+        StringBuilder resumo = new StringBuilder();
+        for (Map.Entry<FaixaDificuldade, EstatisticasFaixa> entrada : estatisticas.entrySet())
+            resumo.append(entrada.getKey().getNome()).append(": ").append(entrada.getValue()).append('\n');
+
+        return resumo.toString();
+    }
+
+    /**
+     * Avalia um candidato da faixa. Package-private para os testes.
+     *
+     * @return O tabuleiro aprovado, ou null.
+     */
+    TabuleiroGerado avalia(FaixaDificuldade faixa, long semente) {
+        EstatisticasFaixa estatisticasFaixa = estatisticas.get(faixa);
+        Contador[] contadoresFaixa = contadores.get(faixa);
+        long inicio = System.nanoTime();
+
+        try {
+            Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+            TabuleiroFront front = tabuleiro.accept(new MontarTabuleiro(
+                    faixa.getLinha_size(), faixa.getColuna_size(), faixa.getBombas(), semente));
+            if (front == null || !faixa.aceitaMetricas(front.getMetricas())) return null;
+            estatisticasFaixa.registraAprovadoMetricas();
+
+            int chutes = -1;
+            if (faixa.usaResolvedor()) {
+                chutes = new MedidorChutes().mede(tabuleiro, front, faixa.getChutesMaximo());
+                if (!faixa.aceitaChutes(chutes)) return null;
+            }
+
+            estatisticasFaixa.registraAceito();
+            contadoresFaixa[1].incrementa();
+            return new TabuleiroGerado(faixa, semente, front.getMetricas(), chutes);
+        } finally {
+            estatisticasFaixa.registraCandidato(System.nanoTime() - inicio);
+            contadoresFaixa[0].incrementa();
+        }
+    }
+
+    private void trabalha() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                FaixaDificuldade faixa;
+                long semente;
+                synchronized (this) {
+                    faixa = escolheFaixa();
+                    if (faixa == null) {
+                        wait(100);
+                        continue;
+                    }
+                    semente = sementes.nextLong();
+                }
+
+                TabuleiroGerado gerado = avalia(faixa, semente);
+                // Se outra thread encheu a fila durante a avaliação, o tabuleiro é descartado
+                if (gerado != null) filas.get(faixa).offer(gerado);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Revezamento entre as faixas que ainda têm espaço na fila.
+     */
+    private FaixaDificuldade escolheFaixa() {
+        List<FaixaDificuldade> faixas = new ArrayList<>(filas.keySet());
+        for (int i = 0; i < faixas.size(); ++i) {
+            FaixaDificuldade faixa = faixas.get((proximaFaixa + i) % faixas.size());
+            if (filas.get(faixa).remainingCapacity() > 0) {
+                proximaFaixa = (proximaFaixa + i + 1) % faixas.size();
+                return faixa;
+            }
+        }
+        return null;
+    }
+}
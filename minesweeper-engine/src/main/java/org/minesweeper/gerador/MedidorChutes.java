@@ -0,0 +1,64 @@
+package org.minesweeper.gerador;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.service.AbrirQuadrado;
+import org.minesweeper.service.MarcarQuadrado;
+import org.minesweeper.solver.Jogada;
+import org.minesweeper.solver.Resolvedor;
+
+import java.util.ArrayList;
+
+/**
+ * Mede quantos chutes o Resolvedor precisa para terminar um tabuleiro.
+ *
+ * A medida é do tabuleiro, não da sorte: quando um chute cairia numa bomba,
+ * o medidor consulta o tabuleiro e marca a bomba em vez de abri-la, e o
+ * resolvedor continua. O primeiro clique conta como chute.
+ */
+public class MedidorChutes {
+    private final Resolvedor resolvedor = new Resolvedor();
+
+    /**
+     * @param tabuleiro Tabuleiro recém-montado, que será jogado até o fim.
+     * @param front     O TabuleiroFront devolvido pela montagem.
+     * @param limite    Para de medir assim que os chutes passarem disso.
+     * @return Os chutes dados, ou um valor maior que o limite.
+     */
+    public int mede(Tabuleiro tabuleiro, TabuleiroFront front, int limite) {
+        int chutes = 0;
+
+        try {
+            while (!tabuleiro.ganhou()) {
+                ArrayList<Jogada> jogadas = resolvedor.proximasJogadas(front);
+                if (jogadas.isEmpty()) break;
+
+                for (Jogada jogada : jogadas) {
+                    Localizacao localizacao = jogada.getLocalizacao();
+                    boolean marcar = jogada.getTipo() == Jogada.Tipo.MARCAR;
+
+                    if (jogada.isChute()) {
+                        if (++chutes > limite) return chutes;
+                        marcar = tabuleiro.isBomba(localizacao);
+                    }
+
+                    if (marcar) {
+                        QuadradoFront marcado = tabuleiro.accept(new MarcarQuadrado(localizacao));
+                        if (marcado != null) front.atualizaQuadrado(marcado);
+                    } else {
+                        ArrayList<QuadradoFront> abertos = tabuleiro.accept(new AbrirQuadrado(localizacao));
+                        if (abertos != null) abertos.forEach(front::atualizaQuadrado);
+                    }
+                }
+            }
+        } catch (ForaDoTabuleiroException e) {
+            // As jogadas do resolvedor estão sempre dentro do tabuleiro
+            throw new IllegalStateException(e);
+        }
+
+        return chutes;
+    }
+}
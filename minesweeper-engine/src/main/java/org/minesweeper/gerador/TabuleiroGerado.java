@@ -0,0 +1,42 @@
+package org.minesweeper.gerador;
+
+import org.minesweeper.model.MetricasTabuleiro;
+
+/**
+ * Tabuleiro aprovado pelo gerador. Guarda só a semente: com as dimensões
+ * da faixa, ControllerTabuleiro.iniciarNovoJogo(l, c, b, semente) recria
+ * exatamente o mesmo tabuleiro.
+ */
+public class TabuleiroGerado {
+    private final FaixaDificuldade faixa;
+    private final long semente;
+    private final MetricasTabuleiro metricas;
+    private final int chutes;
+
+    /**
+     * @param chutes Chutes medidos pelo resolvedor, ou -1 se a faixa não
+     *               usa o resolvedor.
+     */
+    public TabuleiroGerado(FaixaDificuldade faixa, long semente, MetricasTabuleiro metricas, int chutes) {
+        this.faixa = faixa;
+        this.semente = semente;
+        this.metricas = metricas;
+        this.chutes = chutes;
+    }
+
+    public FaixaDificuldade getFaixa() {
+        return faixa;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public MetricasTabuleiro getMetricas() {
+        return metricas;
+    }
+
+    public int getChutes() {
+        return chutes;
+    }
+}
@@ -0,0 +1,32 @@
+package org.minesweeper.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Contador {
+    private final String nome;
+    private final LongAdder valor = new LongAdder();
+
+    public Contador(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void incrementa() {
+        valor.increment();
+    }
+
+    public void soma(long quantidade) {
+        valor.add(quantidade);
+    }
+
+    public long getValor() {
+        return valor.sum();
+    }
+
+    public void zera() {
+        valor.reset();
+    }
+}
@@ -0,0 +1,29 @@
+package org.minesweeper.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitido para cada abertura feita pelo jogador. A duração do evento cobre
+ * toda a cascata.
+ */
+@Name("org.minesweeper.AbrirQuadrado")
+@Label("Abrir Quadrado")
+@Category("Minesweeper")
+@Description("Abertura de um quadrado, incluindo a cascata de vizinhos")
+public class EventoAbrirQuadrado extends Event {
+    @Label("Linha")
+    public int linha;
+
+    @Label("Coluna")
+    public int coluna;
+
+    @Label("Quadrados Abertos")
+    public int tamanhoCascata;
+
+    @Label("Bomba")
+    public boolean bomba;
+}
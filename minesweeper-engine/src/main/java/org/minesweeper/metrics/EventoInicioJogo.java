@@ -0,0 +1,29 @@
+package org.minesweeper.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitido ao final de MontarTabuleiro. A duração do evento é o tempo de
+ * geração do tabuleiro.
+ */
+@Name("org.minesweeper.InicioJogo")
+@Label("Início de Jogo")
+@Category("Minesweeper")
+@Description("Geração de um novo tabuleiro")
+public class EventoInicioJogo extends Event {
+    @Label("Linhas")
+    public int linhas;
+
+    @Label("Colunas")
+    public int colunas;
+
+    @Label("Bombas")
+    public int bombas;
+
+    @Label("Semente")
+    public long semente;
+}
@@ -0,0 +1,22 @@
+package org.minesweeper.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.minesweeper.MarcarQuadrado")
+@Label("Marcar Quadrado")
+@Category("Minesweeper")
+@Description("Colocação ou remoção de uma bandeira")
+public class EventoMarcarQuadrado extends Event {
+    @Label("Linha")
+    public int linha;
+
+    @Label("Coluna")
+    public int coluna;
+
+    @Label("Marcado")
+    public boolean marcado;
+}
@@ -0,0 +1,20 @@
+package org.minesweeper.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitido a cada pintura do tabuleiro na EDT, que corresponde a um lote de
+ * áreas sujas juntadas pelo RepaintManager.
+ */
+@Name("org.minesweeper.PinturaTabuleiro")
+@Label("Pintura do Tabuleiro")
+@Category({"Minesweeper", "Swing"})
+@Description("Pintura de um lote de quadrados na EDT")
+public class EventoPinturaTabuleiro extends Event {
+    @Label("Quadrados Pintados")
+    public int quadradosPintados;
+}
@@ -0,0 +1,123 @@
+package org.minesweeper.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma log-linear no estilo HDR: cada potência de dois é dividida em
+ * 2^BITS_SUBFAIXA faixas iguais, o que dá erro relativo máximo de ~6% em
+ * qualquer ordem de grandeza. O registro é feito só com operações atômicas
+ * sobre arrays pré-alocados, sem locks e sem alocação, para que possa ficar
+ * ligado em produção.
+ */
+public class Histograma {
+    private static final int BITS_SUBFAIXA = 4;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    // Valores de 0 a SUBFAIXAS-1 ficam em faixas exatas; cada expoente acima
+    // disso ganha SUBFAIXAS faixas.
+    private static final int QUANTIDADE_FAIXAS = SUBFAIXAS + (64 - BITS_SUBFAIXA) * SUBFAIXAS;
+
+    private final String nome;
+    private final AtomicLongArray faixas = new AtomicLongArray(QUANTIDADE_FAIXAS);
+    private final AtomicLong quantidade = new AtomicLong();
+    private final AtomicLong soma = new AtomicLong();
+    private final AtomicLong maximo = new AtomicLong();
+
+    public Histograma(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Registra um valor. Valores negativos são tratados como zero.
+     */
+    public void registra(long valor) {
+        if (valor < 0) valor = 0;
+
+        faixas.incrementAndGet(indice(valor));
+        quantidade.incrementAndGet();
+        soma.addAndGet(valor);
+
+        long atual = maximo.get();
+        while (valor > atual && !maximo.compareAndSet(atual, valor))
+            atual = maximo.get();
+    }
+
+    /**
+     * Atalho para medir durações: registra System.nanoTime() - inicioNanos.
+     */
+    public void registraDesde(long inicioNanos) {
+        registra(System.nanoTime() - inicioNanos);
+    }
+
+    public long getQuantidade() {
+        return quantidade.get();
+    }
+
+    public long getSoma() {
+        return soma.get();
+    }
+
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    public double getMedia() {
+        long n = quantidade.get();
+        return n == 0 ? 0 : soma.get() / (double) n;
+    }
+
+    /**
+     * @param percentil Valor entre 0 e 100.
+     * @return O limite superior da faixa que contém o percentil, ou 0 se
+     * nada foi registrado.
+     */
+    public long getPercentil(double percentil) {
+        long total = 0;
+        for (int i = 0; i < QUANTIDADE_FAIXAS; ++i)
+            total += faixas.get(i);
+        if (total == 0) return 0;
+
+        long alvo = Math.max(1, (long) Math.ceil(total * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < QUANTIDADE_FAIXAS; ++i) {
+            acumulado += faixas.get(i);
+            if (acumulado >= alvo)
+                return Math.min(limiteSuperior(i), maximo.get());
+        }
+
+        return maximo.get();
+    }
+
+    public void zera() {
+        for (int i = 0; i < QUANTIDADE_FAIXAS; ++i)
+            faixas.set(i, 0);
+        quantidade.set(0);
+        soma.set(0);
+        maximo.set(0);
+    }
+
+    static int indice(long valor) {
+        if (valor < SUBFAIXAS) return (int) valor;
+
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int deslocamento = expoente - BITS_SUBFAIXA;
+        int subfaixa = (int) ((valor >>> deslocamento) & (SUBFAIXAS - 1));
+        return SUBFAIXAS + deslocamento * SUBFAIXAS + subfaixa;
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < SUBFAIXAS) return indice;
+
+        int deslocamento = (indice - SUBFAIXAS) / SUBFAIXAS;
+        int subfaixa = (indice - SUBFAIXAS) % SUBFAIXAS;
+        long inicio = ((long) (SUBFAIXAS + subfaixa)) << deslocamento;
+        long limite = inicio + (1L << deslocamento) - 1;
+
+        // As últimas faixas passam de Long.MAX_VALUE
+        return limite < inicio || inicio < 0 ? Long.MAX_VALUE : limite;
+    }
+}
@@ -0,0 +1,13 @@
+package org.minesweeper.metrics;
+
+import java.util.Map;
+
+public interface MetricasMXBean {
+    Map<String, Long> getContadores();
+    Map<String, Long> getQuantidades();
+    Map<String, Long> getP50();
+    Map<String, Long> getP99();
+    Map<String, Long> getMaximos();
+    String getResumo();
+    void zera();
+}
@@ -0,0 +1,138 @@
+package org.minesweeper.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registro central das métricas do motor. Os pontos instrumentados guardam a
+ * referência do Contador/Histograma em um campo estático, então o caminho
+ * quente não consulta o mapa; ele só é usado na criação e na exportação.
+ */
+public class RegistroMetricas implements MetricasMXBean {
+    public static final String NOME_JMX = "org.minesweeper:type=Metricas";
+
+    private static RegistroMetricas instance;
+
+    private final Map<String, Contador> contadores = new ConcurrentHashMap<>();
+    private final Map<String, Histograma> histogramas = new ConcurrentHashMap<>();
+    private ScheduledExecutorService despejo;
+
+    RegistroMetricas() {
+    }
+
+    public static synchronized RegistroMetricas getInstance() {
+        if (instance == null)
+            instance = new RegistroMetricas();
+
+        return instance;
+    }
+
+    public Contador contador(String nome) {
+        return contadores.computeIfAbsent(nome, Contador::new);
+    }
+
+    public Histograma histograma(String nome) {
+        return histogramas.computeIfAbsent(nome, Histograma::new);
+    }
+
+    /**
+     * Publica o registro no MBeanServer da plataforma. Chamadas repetidas
+     * são ignoradas.
+     */
+    public void registraJmx() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            servidor.registerMBean(this, new ObjectName(NOME_JMX));
+        } catch (InstanceAlreadyExistsException e) {
+            // já registrado
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível registrar as métricas no JMX", e);
+        }
+    }
+
+    /**
+     * Escreve o resumo em texto a cada período, numa thread daemon.
+     */
+    public synchronized void iniciaDespejoPeriodico(long periodoSegundos, PrintStream saida) {
+        if (despejo != null) return;
+
+        despejo = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metricas-despejo");
+            thread.setDaemon(true);
+            return thread;
+        });
+        despejo.scheduleAtFixedRate(() -> saida.println(getResumo()), periodoSegundos, periodoSegundos, TimeUnit.SECONDS);
+    }
+
+    public synchronized void paraDespejoPeriodico() {
+        if (despejo != null) {
+            despejo.shutdownNow();
+            despejo = null;
+        }
+    }
+
+    @Override
+    public Map<String, Long> getContadores() {
+        Map<String, Long> valores = new TreeMap<>();
+        contadores.forEach((nome, contador) -> valores.put(nome, contador.getValor()));
+        return valores;
+    }
+
+    @Override
+    public Map<String, Long> getQuantidades() {
+        return porHistograma(Histograma::getQuantidade);
+    }
+
+    @Override
+    public Map<String, Long> getP50() {
+        return porHistograma(h -> h.getPercentil(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99() {
+        return porHistograma(h -> h.getPercentil(99));
+    }
+
+    @Override
+    public Map<String, Long> getMaximos() {
+        return porHistograma(Histograma::getMaximo);
+    }
+
+    @Override
+    public String getResumo() {
+        StringBuilder resumo = new StringBuilder("=== métricas ===\n");
+
+        getContadores().forEach((nome, valor) ->
+                resumo.append(String.format("%-32s %d%n", nome, valor)));
+
+        new TreeMap<>(histogramas).forEach((nome, h) ->
+                resumo.append(String.format("%-32s n=%d media=%.0f p50=%d p90=%d p99=%d p999=%d max=%d%n",
+                        nome, h.getQuantidade(), h.getMedia(), h.getPercentil(50), h.getPercentil(90),
+                        h.getPercentil(99), h.getPercentil(99.9), h.getMaximo())));
+
+        return resumo.toString();
+    }
+
+    @Override
+    public void zera() {
+        contadores.values().forEach(Contador::zera);
+        histogramas.values().forEach(Histograma::zera);
+    }
+
+    private Map<String, Long> porHistograma(ToLongFunction<Histograma> valor) {
+        Map<String, Long> valores = new TreeMap<>();
+        histogramas.forEach((nome, h) -> valores.put(nome, valor.applyAsLong(h)));
+        return valores;
+    }
+}
@@ -0,0 +1,68 @@
+package org.minesweeper.model;
+
+/**
+ * Alterações visíveis do Tabuleiro entre duas versões, para atualizar um
+ * TabuleiroFront. Cada entrada é o índice de um quadrado (linha * colunas +
+ * coluna) e o seu estado final, no formato do TabuleiroFront; um quadrado
+ * pode aparecer mais de uma vez, e vale a última.
+ *
+ * Um delta completo traz todos os quadrados abertos ou marcados e serve
+ * para qualquer projeção do mesmo tabuleiro, em qualquer versão: é o que
+ * o Tabuleiro devolve quando já descartou as alterações pedidas.
+ */
+public final class DeltaTabuleiro {
+    private final long versaoInicial;
+    private final long versaoFinal;
+    private final boolean completo;
+    private final int linha_size;
+    private final int coluna_size;
+    private final int[] indices;
+    private final byte[] estados;
+
+    DeltaTabuleiro(long versaoInicial, long versaoFinal, boolean completo, int linha_size, int coluna_size,
+                   int[] indices, byte[] estados) {
+        this.versaoInicial = versaoInicial;
+        this.versaoFinal = versaoFinal;
+        this.completo = completo;
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.indices = indices;
+        this.estados = estados;
+    }
+
+    public long getVersaoInicial() {
+        return versaoInicial;
+    }
+
+    public long getVersaoFinal() {
+        return versaoFinal;
+    }
+
+    public boolean isCompleto() {
+        return completo;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getQuantidade() {
+        return indices.length;
+    }
+
+    public int getIndice(int k) {
+        return indices[k];
+    }
+
+    byte getEstado(int k) {
+        return estados[k];
+    }
+
+    public Localizacao getLocalizacao(int k) {
+        return new Localizacao(indices[k] / coluna_size, indices[k] % coluna_size);
+    }
+}
@@ -0,0 +1,124 @@
+package org.minesweeper.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Fotografia compacta de um Tabuleiro: um byte por quadrado com os bits de
+ * bomba, aberto e marcado, em ordem de linha. Ocupa uma fração da memória
+ * do tabuleiro de objetos e pode ser gravada em disco.
+ */
+public class EstadoTabuleiro {
+    public static final byte BOMBA = 1;
+    public static final byte ABERTO = 1 << 1;
+    public static final byte MARCADO = 1 << 2;
+
+    // A versão 2 acrescentou a topologia; a 1 é lida como quadrada
+    private static final int VERSAO = 2;
+
+    private final int linha_size;
+    private final int coluna_size;
+    private final byte[] quadrados;
+    private final Topologia topologia;
+
+    public EstadoTabuleiro(int linha_size, int coluna_size, byte[] quadrados) {
+        this(linha_size, coluna_size, quadrados, Topologia.QUADRADA);
+    }
+
+    public EstadoTabuleiro(int linha_size, int coluna_size, byte[] quadrados, Topologia topologia) {
+        if (quadrados.length != linha_size * coluna_size)
+            throw new IllegalArgumentException("Quantidade de quadrados não corresponde às dimensões");
+
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.quadrados = quadrados;
+        this.topologia = topologia;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public Topologia getTopologia() {
+        return topologia;
+    }
+
+    public byte getQuadrado(int linha, int coluna) {
+        return quadrados[linha * coluna_size + coluna];
+    }
+
+    public boolean isBomba(int linha, int coluna) {
+        return (getQuadrado(linha, coluna) & BOMBA) != 0;
+    }
+
+    public boolean isAberto(int linha, int coluna) {
+        return (getQuadrado(linha, coluna) & ABERTO) != 0;
+    }
+
+    public boolean isMarcado(int linha, int coluna) {
+        return (getQuadrado(linha, coluna) & MARCADO) != 0;
+    }
+
+    /**
+     * Grava o estado comprimido. A maior parte do tabuleiro costuma ser de
+     * quadrados fechados e sem bomba, então a compressão é alta.
+     */
+    public void escreve(OutputStream saida) throws IOException {
+        DeflaterOutputStream comprimido = new DeflaterOutputStream(saida);
+        DataOutputStream dados = new DataOutputStream(comprimido);
+        dados.writeInt(VERSAO);
+        dados.writeInt(linha_size);
+        dados.writeInt(coluna_size);
+        dados.writeByte(topologia.getCodigo());
+        dados.write(quadrados);
+        dados.flush();
+        comprimido.finish();
+    }
+
+    public static EstadoTabuleiro le(InputStream entrada) throws IOException {
+        DataInputStream dados = new DataInputStream(new InflaterInputStream(entrada));
+        int versao = dados.readInt();
+        if (versao != 1 && versao != VERSAO)
+            throw new IOException("Versão de estado desconhecida: " + versao);
+
+        int linhas = dados.readInt();
+        int colunas = dados.readInt();
+        Topologia topologia = Topologia.QUADRADA;
+        if (versao >= 2) {
+            try {
+                topologia = Topologia.porCodigo(dados.readUnsignedByte());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        byte[] quadrados = new byte[linhas * colunas];
+        dados.readFully(quadrados);
+
+        return new EstadoTabuleiro(linhas, colunas, quadrados, topologia);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        EstadoTabuleiro that = (EstadoTabuleiro) o;
+        return linha_size == that.linha_size && coluna_size == that.coluna_size
+                && topologia == that.topologia && Arrays.equals(quadrados, that.quadrados);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * linha_size + coluna_size) + topologia.getCodigo()) + Arrays.hashCode(quadrados);
+    }
+}
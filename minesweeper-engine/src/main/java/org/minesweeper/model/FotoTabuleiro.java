@@ -0,0 +1,129 @@
+package org.minesweeper.model;
+
+/**
+ * Versão imutável de um Tabuleiro num instante, para quem precisa ler um
+ * estado consistente enquanto o jogador continua jogando: resolvedores,
+ * espectadores, o salvamento automático e a pintura.
+ *
+ * Cada quadrado é um byte com os bits do EstadoTabuleiro. Os bytes ficam
+ * em pedaços compartilhados com o tabuleiro e com as outras fotos; só os
+ * pedaços alterados depois da foto anterior são copiados, então tirar uma
+ * foto depois de uma jogada pequena é barato. Como nada aqui muda depois de
+ * criado, a leitura pode ser feita de qualquer thread, sem trava.
+ */
+public final class FotoTabuleiro {
+    private static final byte BOMBA_ABERTA = EstadoTabuleiro.BOMBA | EstadoTabuleiro.ABERTO;
+
+    private final int linha_size;
+    private final int coluna_size;
+    private final int bombas;
+    private final int quadradosAbertos;
+    private final Topologia topologia;
+    private final long versao;
+    private final byte[][] pedacos;
+
+    FotoTabuleiro(int linha_size, int coluna_size, int bombas, int quadradosAbertos,
+                  Topologia topologia, long versao, byte[][] pedacos) {
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.bombas = bombas;
+        this.quadradosAbertos = quadradosAbertos;
+        this.topologia = topologia;
+        this.versao = versao;
+        this.pedacos = pedacos;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    public int getQuadradosAbertos() {
+        return quadradosAbertos;
+    }
+
+    public Topologia getTopologia() {
+        return topologia;
+    }
+
+    /**
+     * @return A versão do Tabuleiro na foto (Tabuleiro.getVersao()): um
+     * espectador pode montar a tela a partir da foto e seguir com
+     * alteracoesDesde(versão).
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    public byte getQuadrado(int linha, int coluna) {
+        return VetorPersistente.le(pedacos, linha * coluna_size + coluna);
+    }
+
+    public boolean isBomba(int linha, int coluna) {
+        return (getQuadrado(linha, coluna) & EstadoTabuleiro.BOMBA) != 0;
+    }
+
+    public boolean isAberto(int linha, int coluna) {
+        return (getQuadrado(linha, coluna) & EstadoTabuleiro.ABERTO) != 0;
+    }
+
+    public boolean isMarcado(int linha, int coluna) {
+        return (getQuadrado(linha, coluna) & EstadoTabuleiro.MARCADO) != 0;
+    }
+
+    /**
+     * @return Quantos vizinhos do quadrado, na topologia do tabuleiro, têm
+     * bomba.
+     */
+    public int getNumero(int linha, int coluna) {
+        int[] vizinhos = new int[Topologia.MAXIMO_VIZINHOS];
+        int quantidade = topologia.vizinhos(linha, coluna, linha_size, coluna_size, vizinhos);
+
+        int cont = 0;
+        for (int k = 0; k < quantidade; ++k)
+            if ((VetorPersistente.le(pedacos, vizinhos[k]) & EstadoTabuleiro.BOMBA) != 0)
+                cont++;
+
+        return cont;
+    }
+
+    public boolean ganhou() {
+        return linha_size * coluna_size - bombas == quadradosAbertos;
+    }
+
+    /**
+     * @return true se alguma bomba foi aberta, ou seja, o jogo da foto foi
+     * perdido. Percorre a foto inteira.
+     */
+    public boolean explodiu() {
+        if (quadradosAbertos == 0) return false;
+
+        for (byte[] pedaco : pedacos)
+            for (byte quadrado : pedaco)
+                if ((quadrado & BOMBA_ABERTA) == BOMBA_ABERTA) return true;
+
+        return false;
+    }
+
+    /**
+     * @return Um EstadoTabuleiro com os mesmos quadrados, que pode ser
+     * gravado em disco.
+     */
+    public EstadoTabuleiro paraEstado() {
+        byte[] quadrados = new byte[linha_size * coluna_size];
+        int inicio = 0;
+        for (byte[] pedaco : pedacos) {
+            System.arraycopy(pedaco, 0, quadrados, inicio, pedaco.length);
+            inicio += pedaco.length;
+        }
+
+        return new EstadoTabuleiro(linha_size, coluna_size, quadrados, topologia);
+    }
+}
@@ -0,0 +1,204 @@
+package org.minesweeper.model;
+
+/**
+ * Medidas de dificuldade de um tabuleiro gerado.
+ *
+ * Uma abertura é uma região conexa (incluindo diagonais) de quadrados sem
+ * bomba e sem vizinhos perigosos; um clique nela abre a região inteira e a
+ * sua borda. Um número isolado é um quadrado numerado fora da borda de
+ * qualquer abertura, que precisa de um clique próprio. O 3BV, o mínimo de
+ * cliques para resolver o tabuleiro, é a soma dos dois.
+ */
+public class MetricasTabuleiro {
+    private final int aberturas;
+    private final int numerosIsolados;
+
+    public MetricasTabuleiro(int aberturas, int numerosIsolados) {
+        this.aberturas = aberturas;
+        this.numerosIsolados = numerosIsolados;
+    }
+
+    public int getBv3() {
+        return aberturas + numerosIsolados;
+    }
+
+    public int getAberturas() {
+        return aberturas;
+    }
+
+    public int getNumerosIsolados() {
+        return numerosIsolados;
+    }
+
+    /**
+     * Calcula as métricas em tempo linear. As aberturas são rotuladas numa
+     * varredura por linhas com union-find: cada quadrado zero se une aos
+     * vizinhos zero já visitados (oeste, noroeste, norte e nordeste).
+     *
+     * @param bombas Um valor por quadrado, em ordem de linha.
+     */
+    public static MetricasTabuleiro calcula(boolean[] bombas, int linha_size, int coluna_size) {
+        int total = linha_size * coluna_size;
+        if (bombas.length != total)
+            throw new IllegalArgumentException("Quantidade de quadrados não corresponde às dimensões");
+
+        // As vizinhanças 3x3 são somadas em duas passadas separáveis, uma
+        // na horizontal e outra na vertical, em vez de 9 leituras por quadrado
+        boolean[] zero = vizinhanca(bombas, linha_size, coluna_size);
+
+        // zero[i]: sem bomba e sem vizinhos perigosos
+        for (int i = 0; i < total; ++i)
+            zero[i] = !zero[i];
+
+        int[] pai = new int[total];
+        int aberturas = 0;
+        for (int i = 0; i < linha_size; ++i) {
+            int inicioLinha = i * coluna_size;
+            for (int j = 0; j < coluna_size; ++j) {
+                int indice = inicioLinha + j;
+                if (!zero[indice]) continue;
+
+                int acima = indice - coluna_size;
+                boolean oeste = j > 0 && zero[indice - 1];
+                boolean norte = i > 0 && zero[acima];
+                boolean nordeste = i > 0 && j < coluna_size - 1 && zero[acima + 1];
+
+                // Vizinhos zero já vizinhos entre si estão na mesma região:
+                // o oeste já se uniu ao noroeste e ao norte, e o norte ao
+                // noroeste e ao nordeste
+                if (oeste) {
+                    pai[indice] = raiz(pai, indice - 1);
+                    if (nordeste && !norte) aberturas -= une(pai, indice, acima + 1);
+                } else if (norte) {
+                    pai[indice] = raiz(pai, acima);
+                } else {
+                    pai[indice] = indice;
+                    aberturas++;
+                    if (i > 0 && j > 0 && zero[acima - 1]) aberturas -= une(pai, indice, acima - 1);
+                    if (nordeste) aberturas -= une(pai, indice, acima + 1);
+                }
+            }
+        }
+
+        // Um número está na borda de uma abertura se há um zero na sua
+        // vizinhança 3x3
+        boolean[] naBorda = vizinhanca(zero, linha_size, coluna_size);
+        int numerosIsolados = 0;
+        for (int i = 0; i < total; ++i)
+            if (!bombas[i] && !zero[i] && !naBorda[i]) numerosIsolados++;
+
+        return new MetricasTabuleiro(aberturas, numerosIsolados);
+    }
+
+    /**
+     * Como calcula(boolean[], int, int), para qualquer topologia. A
+     * quadrada usa a versão especializada; as demais percorrem os vizinhos
+     * da topologia e unem cada zero aos vizinhos zero de índice menor.
+     */
+    public static MetricasTabuleiro calcula(boolean[] bombas, int linha_size, int coluna_size, Topologia topologia) {
+        if (topologia == Topologia.QUADRADA) return calcula(bombas, linha_size, coluna_size);
+
+        int total = linha_size * coluna_size;
+        if (bombas.length != total)
+            throw new IllegalArgumentException("Quantidade de quadrados não corresponde às dimensões");
+
+        int[] vizinhos = new int[topologia.getMaximoVizinhos()];
+        boolean[] zero = new boolean[total];
+        for (int i = 0, indice = 0; i < linha_size; ++i)
+            for (int j = 0; j < coluna_size; ++j, ++indice) {
+                if (bombas[indice]) continue;
+
+                boolean perigoso = false;
+                int quantidade = topologia.vizinhos(i, j, linha_size, coluna_size, vizinhos);
+                for (int k = 0; k < quantidade; ++k)
+                    perigoso |= bombas[vizinhos[k]];
+                zero[indice] = !perigoso;
+            }
+
+        int[] pai = new int[total];
+        boolean[] naBorda = new boolean[total];
+        int aberturas = 0;
+        for (int i = 0, indice = 0; i < linha_size; ++i)
+            for (int j = 0; j < coluna_size; ++j, ++indice) {
+                if (!zero[indice]) continue;
+
+                pai[indice] = indice;
+                aberturas++;
+
+                int quantidade = topologia.vizinhos(i, j, linha_size, coluna_size, vizinhos);
+                for (int k = 0; k < quantidade; ++k) {
+                    int vizinho = vizinhos[k];
+                    naBorda[vizinho] = true;
+                    // A vizinhança é simétrica: cada par é unido uma vez, pelo de índice maior
+                    if (vizinho < indice && zero[vizinho]) aberturas -= une(pai, indice, vizinho);
+                }
+            }
+
+        int numerosIsolados = 0;
+        for (int i = 0; i < total; ++i)
+            if (!bombas[i] && !zero[i] && !naBorda[i]) numerosIsolados++;
+
+        return new MetricasTabuleiro(aberturas, numerosIsolados);
+    }
+
+    /**
+     * @return Para cada quadrado, se algum quadrado da sua vizinhança 3x3
+     * (ele incluso) está marcado.
+     */
+    private static boolean[] vizinhanca(boolean[] marcados, int linha_size, int coluna_size) {
+        // As bordas são tratadas fora dos laços internos, que ficam sem
+        // desvios (| em vez de ||) e com leituras sequenciais
+        boolean[] horizontal = new boolean[marcados.length];
+        for (int i = 0; i < linha_size; ++i) {
+            int inicio = i * coluna_size;
+            int fim = inicio + coluna_size - 1;
+            if (inicio == fim) {
+                horizontal[inicio] = marcados[inicio];
+                continue;
+            }
+
+            horizontal[inicio] = marcados[inicio] | marcados[inicio + 1];
+            for (int k = inicio + 1; k < fim; ++k)
+                horizontal[k] = marcados[k - 1] | marcados[k] | marcados[k + 1];
+            horizontal[fim] = marcados[fim - 1] | marcados[fim];
+        }
+
+        boolean[] resultado = new boolean[marcados.length];
+        for (int i = 0; i < linha_size; ++i) {
+            int inicio = i * coluna_size;
+            int fim = inicio + coluna_size;
+            if (i == 0 || i == linha_size - 1) {
+                for (int k = inicio; k < fim; ++k)
+                    resultado[k] = horizontal[k] | (i > 0 && horizontal[k - coluna_size])
+                            | (i < linha_size - 1 && horizontal[k + coluna_size]);
+                continue;
+            }
+
+            for (int k = inicio; k < fim; ++k)
+                resultado[k] = horizontal[k - coluna_size] | horizontal[k] | horizontal[k + coluna_size];
+        }
+        return resultado;
+    }
+
+    /**
+     * @return 1 se a e b estavam em regiões diferentes, 0 se já eram a mesma.
+     */
+    private static int une(int[] pai, int a, int b) {
+        int raizA = raiz(pai, a);
+        int raizB = raiz(pai, b);
+        if (raizA == raizB) return 0;
+
+        // A raiz mais antiga fica; os índices só crescem na varredura
+        if (raizA < raizB) pai[raizB] = raizA;
+        else pai[raizA] = raizB;
+        return 1;
+    }
+
+    private static int raiz(int[] pai, int indice) {
+        while (pai[indice] != indice) {
+            pai[indice] = pai[pai[indice]];
+            indice = pai[indice];
+        }
+        return indice;
+    }
+}
@@ -0,0 +1,45 @@
+package org.minesweeper.model;
+
+/**
+ * Fila circular com os índices dos quadrados que mudaram de estado visível,
+ * em ordem. A versão é a quantidade de alterações registradas desde a
+ * criação do Tabuleiro; só as últimas cabem na fila, e pedir alterações
+ * mais antigas que isso devolve null.
+ */
+final class RegistroAlteracoes {
+    private final int[] indices;
+    private final long inicio;
+    private long versao;
+
+    /**
+     * @param versao Versão inicial; nenhuma alteração anterior a ela pode
+     *               ser pedida a este registro.
+     */
+    RegistroAlteracoes(int capacidade, long versao) {
+        this.indices = new int[capacidade];
+        this.inicio = versao;
+        this.versao = versao;
+    }
+
+    void registra(int indice) {
+        indices[(int) (versao % indices.length)] = indice;
+        versao++;
+    }
+
+    long getVersao() {
+        return versao;
+    }
+
+    /**
+     * @return Os índices alterados da versão informada até a atual, ou null
+     * se eles não estão mais (ou nunca estiveram) no registro.
+     */
+    int[] desde(long desde) {
+        if (desde < inicio || desde > versao || versao - desde > indices.length) return null;
+
+        int[] alterados = new int[(int) (versao - desde)];
+        for (int k = 0; k < alterados.length; ++k)
+            alterados[k] = indices[(int) ((desde + k) % indices.length)];
+        return alterados;
+    }
+}
@@ -0,0 +1,290 @@
+package org.minesweeper.model;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.service.AcaoTabuleiro;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * O tabuleiro do jogo. Cada quadrado é um byte com os bits de bomba, aberto
+ * e marcado do EstadoTabuleiro, guardado num VetorPersistente: é o único
+ * lugar onde o estado fica, e as fotos congelam esse mesmo vetor sem
+ * copiá-lo. Os Quadrado só existem na entrada, em adicionaQuadrado.
+ */
+public class Tabuleiro implements TabuleiroInterface {
+    private static final int TAMANHO_MINIMO_REGISTRO = 1024;
+    private static final byte VISIVEL = EstadoTabuleiro.ABERTO | EstadoTabuleiro.MARCADO;
+
+    private int linha_size;
+    private int coluna_size;
+    private int bombas;
+    private int quadradosAbertos;
+    private Topologia topologia = Topologia.QUADRADA;
+    private VetorPersistente quadrados = new VetorPersistente(0);
+    private RegistroAlteracoes alteracoes = new RegistroAlteracoes(TAMANHO_MINIMO_REGISTRO, 0);
+    private static Tabuleiro instance;
+
+    private Tabuleiro(){
+        this.linha_size = 0;
+        this.coluna_size = 0;
+    }
+
+    @Override
+    public <R> R accept(AcaoTabuleiro acaoTabuleiro) {
+        return acaoTabuleiro.visitTabuleiro(this);
+    }
+
+    public boolean ganhou(){
+        return linha_size * coluna_size - bombas == quadradosAbertos;
+    }
+
+    public void inicializaTabuleiroVazio(int linha, int coluna){
+        inicializaTabuleiroVazio(linha, coluna, Topologia.QUADRADA);
+    }
+
+    public void inicializaTabuleiroVazio(int linha, int coluna, Topologia topologia){
+        topologia.validaDimensoes(linha, coluna);
+        this.topologia = topologia;
+        this.linha_size = linha;
+        this.coluna_size = coluna;
+        this.quadradosAbertos = 0;
+        this.bombas = 0;
+
+        // Zero é o quadrado fechado, sem bomba e sem marcação
+        this.quadrados = new VetorPersistente(linha * coluna);
+        reiniciaAlteracoes();
+    }
+
+    public void adicionaQuadrado(Quadrado quadrado) throws ForaDoTabuleiroException {
+        int linha = quadrado.getLocalizacao().getLinha();
+        int coluna = quadrado.getLocalizacao().getColuna();
+
+        if (!quadradoExiste(linha, coluna)) throw new ForaDoTabuleiroException();
+
+        int indice = linha * coluna_size + coluna;
+        byte anterior = quadrados.le(indice);
+        if ((anterior & EstadoTabuleiro.BOMBA) != 0) --bombas;
+        if ((anterior & EstadoTabuleiro.ABERTO) != 0) --quadradosAbertos;
+
+        byte codigo = 0;
+        if (quadrado.isBomba()) codigo |= EstadoTabuleiro.BOMBA;
+        if (quadrado.isAberto()) codigo |= EstadoTabuleiro.ABERTO;
+        if (quadrado.isMarcado()) codigo |= EstadoTabuleiro.MARCADO;
+        escreve(indice, codigo);
+
+        if (quadrado.isBomba()) ++bombas;
+        if (quadrado.isAberto()) ++quadradosAbertos;
+    }
+
+    /**
+     * Função responsável por contar quantos vizinhos de um quadrado
+     * contém bombas.
+     *
+     * @param localizacao O quadrado que terá seus vizinhos consultados.
+     * @return Um valor entre 0 e o máximo de vizinhos da topologia (8 no
+     * tabuleiro quadrado) que diz a quantidade de vizinhos ao redor do
+     * quadrado inicial que contém bombas.
+     */
+    public int quantVizinhosPerigosos(Localizacao localizacao){
+        return contaVizinhosPerigosos(localizacao.getLinha(), localizacao.getColuna());
+    }
+
+    // Lê a tabela de deslocamentos sem array de rascunho, para que consultas
+    // só de leitura possam rodar em várias threads ao mesmo tempo
+    private int contaVizinhosPerigosos(int linha, int coluna){
+        int[] dLinha = topologia.deslocamentosLinha(linha, coluna);
+        int[] dColuna = topologia.deslocamentosColuna(linha, coluna);
+        boolean toroidal = topologia.isToroidal();
+
+        int cont = 0;
+
+        for (int k = 0; k < dLinha.length; ++k) {
+            int l = linha + dLinha[k];
+            int c = coluna + dColuna[k];
+            if (toroidal) {
+                l = Math.floorMod(l, linha_size);
+                c = Math.floorMod(c, coluna_size);
+            } else if (l < 0 || l >= linha_size || c < 0 || c >= coluna_size) {
+                continue;
+            }
+            if ((quadrados.le(l * coluna_size + c) & EstadoTabuleiro.BOMBA) != 0)
+                cont++;
+        }
+
+        return cont;
+    }
+
+    private boolean quadradoExiste(int linha, int coluna){
+        if (coluna < 0 || coluna >= coluna_size) return false;
+        if (linha < 0 || linha >= linha_size) return false;
+
+        return true;
+    }
+
+    private int indice(Localizacao localizacao) throws ForaDoTabuleiroException{
+        int linha = localizacao.getLinha();
+        int coluna = localizacao.getColuna();
+
+        if (!quadradoExiste(linha, coluna)) throw new ForaDoTabuleiroException();
+
+        return linha * coluna_size + coluna;
+    }
+
+    private boolean tem(Localizacao localizacao, int bit) throws ForaDoTabuleiroException{
+        return (quadrados.le(indice(localizacao)) & bit) != 0;
+    }
+
+    public boolean isBomba(Localizacao localizacao) throws ForaDoTabuleiroException{
+        return tem(localizacao, EstadoTabuleiro.BOMBA);
+    }
+
+    public void setAberto(Localizacao localizacao) throws ForaDoTabuleiroException{
+        int indice = indice(localizacao);
+        byte codigo = quadrados.le(indice);
+
+        if ((codigo & EstadoTabuleiro.ABERTO) == 0) {
+            escreve(indice, (byte) (codigo | EstadoTabuleiro.ABERTO));
+            ++quadradosAbertos;
+        }
+    }
+
+    /**
+     * Fecha de novo um quadrado aberto; usado para desfazer jogadas.
+     */
+    public void setFechado(Localizacao localizacao) throws ForaDoTabuleiroException{
+        int indice = indice(localizacao);
+        byte codigo = quadrados.le(indice);
+
+        if ((codigo & EstadoTabuleiro.ABERTO) != 0) {
+            escreve(indice, (byte) (codigo & ~EstadoTabuleiro.ABERTO));
+            --quadradosAbertos;
+        }
+    }
+
+    public boolean isAberto(Localizacao localizacao) throws ForaDoTabuleiroException{
+        return tem(localizacao, EstadoTabuleiro.ABERTO);
+    }
+
+    public void setMarcado(Localizacao localizacao) throws ForaDoTabuleiroException{
+        int indice = indice(localizacao);
+        escreve(indice, (byte) (quadrados.le(indice) | EstadoTabuleiro.MARCADO));
+    }
+
+    public void setDesmarcado(Localizacao localizacao) throws ForaDoTabuleiroException{
+        int indice = indice(localizacao);
+        escreve(indice, (byte) (quadrados.le(indice) & ~EstadoTabuleiro.MARCADO));
+    }
+
+    public boolean isMarcado(Localizacao localizacao) throws ForaDoTabuleiroException{
+        return tem(localizacao, EstadoTabuleiro.MARCADO);
+    }
+
+    /**
+     * Tira uma foto imutável do estado atual. Só os pedaços do tabuleiro
+     * alterados desde a foto anterior são copiados, e apenas quando forem
+     * escritos de novo; a foto em si custa uma cópia do vetor de pedaços.
+     */
+    public FotoTabuleiro tirarFoto(){
+        return new FotoTabuleiro(linha_size, coluna_size, bombas, quadradosAbertos, topologia,
+                alteracoes.getVersao(), quadrados.congela());
+    }
+
+    /**
+     * Versão do estado visível: cresce a cada quadrado aberto, fechado,
+     * marcado ou desmarcado, e também a cada tabuleiro novo.
+     */
+    public long getVersao(){
+        return alteracoes.getVersao();
+    }
+
+    /**
+     * Alterações visíveis desde a versão informada, para atualizar um
+     * TabuleiroFront. O registro guarda até um tabuleiro inteiro de
+     * alterações (no mínimo 1024); para versões mais antigas, ou de outro
+     * tabuleiro, devolve um delta completo, que custa o mesmo que percorrer
+     * o tabuleiro.
+     */
+    public DeltaTabuleiro alteracoesDesde(long versao){
+        int[] indices = alteracoes.desde(versao);
+        boolean completo = indices == null;
+        if (completo) indices = quadradosVisiveis();
+
+        byte[] estados = new byte[indices.length];
+        for (int k = 0; k < indices.length; ++k)
+            estados[k] = codificaVisivel(indices[k]);
+
+        return new DeltaTabuleiro(completo ? 0 : versao, alteracoes.getVersao(), completo,
+                linha_size, coluna_size, indices, estados);
+    }
+
+    private int[] quadradosVisiveis(){
+        int quantidade = 0;
+        int[] indices = new int[16];
+        for (int i = 0; i < quadrados.getTamanho(); ++i) {
+            if ((quadrados.le(i) & VISIVEL) == 0) continue;
+
+            if (quantidade == indices.length) indices = Arrays.copyOf(indices, quantidade * 2);
+            indices[quantidade++] = i;
+        }
+        return Arrays.copyOf(indices, quantidade);
+    }
+
+    // O que o jogador vê: a bomba só aparece aberta e o número só é contado se aberto
+    private byte codificaVisivel(int indice){
+        byte codigo = quadrados.le(indice);
+        boolean aberto = (codigo & EstadoTabuleiro.ABERTO) != 0;
+        boolean bomba = aberto && (codigo & EstadoTabuleiro.BOMBA) != 0;
+        int numero = aberto && !bomba ? contaVizinhosPerigosos(indice / coluna_size, indice % coluna_size) : -1;
+
+        return TabuleiroFront.codifica(aberto, numero, (codigo & EstadoTabuleiro.MARCADO) != 0, bomba);
+    }
+
+    // Um tabuleiro novo troca todos os quadrados: nada do registro anterior vale
+    private void reiniciaAlteracoes(){
+        int capacidade = Math.max(TAMANHO_MINIMO_REGISTRO, linha_size * coluna_size);
+        alteracoes = new RegistroAlteracoes(capacidade, alteracoes.getVersao() + 1);
+    }
+
+    long getPedacosCopiados(){
+        return quadrados.getPedacosCopiados();
+    }
+
+    // Toda escrita passa por aqui, para que o registro veja cada mudança visível
+    private void escreve(int indice, byte codigo){
+        if (((quadrados.le(indice) ^ codigo) & VISIVEL) != 0) alteracoes.registra(indice);
+
+        quadrados.escreve(indice, codigo);
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    public Topologia getTopologia() {
+        return topologia;
+    }
+
+    /**
+     * Cria um tabuleiro independente do singleton, para quando vários jogos
+     * convivem na mesma JVM (ex.: uma sessão por jogador no servidor).
+     */
+    public static Tabuleiro novoTabuleiro(){
+        return new Tabuleiro();
+    }
+
+    public static Tabuleiro getInstance(){
+        if (instance == null)
+            instance = new Tabuleiro();
+
+        return instance;
+    }
+}
@@ -0,0 +1,217 @@
+package org.minesweeper.model;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+
+import java.util.Arrays;
+
+/**
+ * O que o jogador pode ver do tabuleiro: uma projeção do Tabuleiro, que é
+ * a única fonte da verdade. Cada quadrado é um byte com os bits de aberto,
+ * marcado e bomba e o número de vizinhos perigosos mais um (0 = sem
+ * número), em ordem de linha; os QuadradoFront são criados só quando
+ * alguém os pede.
+ *
+ * A projeção tem uma versão, a do Tabuleiro quando foi atualizada pela
+ * última vez. Um cliente (a tela, a rede, um espectador) se sincroniza
+ * pedindo ao Tabuleiro as alterações desde essa versão e aplicando o
+ * DeltaTabuleiro recebido, sem copiar o tabuleiro inteiro.
+ */
+public class TabuleiroFront {
+    static final int NUMERO = 0x0F;
+    static final int ABERTO = 0x10;
+    static final int MARCADO = 0x20;
+    static final int BOMBA = 0x40;
+
+    private final byte[] quadrados;
+    private int linha_size;
+    private int coluna_size;
+    private int bombas;
+    private long versao;
+    private MetricasTabuleiro metricas;
+    private Topologia topologia = Topologia.QUADRADA;
+
+    public TabuleiroFront(int linha_size, int coluna_size){
+        this(linha_size, coluna_size, 0);
+    }
+
+    public TabuleiroFront(int linha_size, int coluna_size, int bombas){
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.bombas = bombas;
+        // Zero é o quadrado fechado, sem marcação e sem número
+        this.quadrados = new byte[linha_size * coluna_size];
+    }
+
+    /**
+     * Cópia independente da projeção, para ser lida em outra thread enquanto
+     * esta continua sendo atualizada.
+     */
+    public TabuleiroFront copia(){
+        TabuleiroFront copia = new TabuleiroFront(linha_size, coluna_size, bombas);
+        System.arraycopy(quadrados, 0, copia.quadrados, 0, quadrados.length);
+        copia.versao = versao;
+        copia.metricas = metricas;
+        copia.topologia = topologia;
+        return copia;
+    }
+
+    static byte codifica(boolean aberto, int numero, boolean marcado, boolean bomba){
+        int codigo = Math.max(0, Math.min(NUMERO, numero + 1));
+        if (aberto) codigo |= ABERTO;
+        if (marcado) codigo |= MARCADO;
+        if (bomba) codigo |= BOMBA;
+        return (byte) codigo;
+    }
+
+    private QuadradoFront criaQuadrado(Localizacao localizacao){
+        int codigo = quadrados[localizacao.getLinha() * coluna_size + localizacao.getColuna()];
+
+        return new QuadradoFront((codigo & ABERTO) != 0, (codigo & NUMERO) - 1, (codigo & MARCADO) != 0,
+                localizacao, (codigo & BOMBA) != 0);
+    }
+
+    public void atualizaQuadrado(QuadradoFront quadrado){
+        int linha = quadrado.getLocalizacao().getLinha();
+        int coluna = quadrado.getLocalizacao().getColuna();
+
+        quadrados[linha * coluna_size + coluna] = codifica(quadrado.isAberto(), quadrado.getNumero(),
+                quadrado.isMarcado(), quadrado.isBomba());
+    }
+
+    /**
+     * Aplica as alterações recebidas do Tabuleiro. Um delta completo
+     * substitui a projeção inteira; um incremental só vale se começa na
+     * versão desta projeção ou antes dela, porque cada alteração traz o
+     * estado final do quadrado e aplicá-la de novo não muda nada.
+     *
+     * @return false se o delta começa depois da versão desta projeção (ou
+     * termina antes dela) e nada foi aplicado; o cliente deve pedir de novo
+     * a partir de getVersao().
+     */
+    public boolean aplica(DeltaTabuleiro delta){
+        if (delta.isCompleto()) {
+            if (delta.getLinha_size() != linha_size || delta.getColuna_size() != coluna_size)
+                throw new IllegalArgumentException("O delta é de um tabuleiro de outras dimensões");
+
+            Arrays.fill(quadrados, (byte) 0);
+        } else if (delta.getVersaoInicial() > versao || delta.getVersaoFinal() < versao) {
+            return false;
+        }
+
+        for (int k = 0; k < delta.getQuantidade(); ++k)
+            quadrados[delta.getIndice(k)] = delta.getEstado(k);
+
+        versao = delta.getVersaoFinal();
+        return true;
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Versão do Tabuleiro com que esta projeção foi montada.
+     */
+    public void setVersao(long versao) {
+        this.versao = versao;
+    }
+
+    public boolean isAberto(Localizacao localizacao) throws ForaDoTabuleiroException {
+        return (codigoEm(localizacao) & ABERTO) != 0;
+    }
+
+    public boolean isMarcado(Localizacao localizacao) throws ForaDoTabuleiroException {
+        return (codigoEm(localizacao) & MARCADO) != 0;
+    }
+
+    public boolean isBomba(Localizacao localizacao) throws ForaDoTabuleiroException {
+        return (codigoEm(localizacao) & BOMBA) != 0;
+    }
+
+    public int getVizinhosPerigosos(Localizacao localizacao) throws ForaDoTabuleiroException {
+        return (codigoEm(localizacao) & NUMERO) - 1;
+    }
+
+    private int codigoEm(Localizacao localizacao) throws ForaDoTabuleiroException {
+        int linha = localizacao.getLinha();
+        int coluna = localizacao.getColuna();
+
+        if (!quadradoExiste(linha, coluna)) throw new ForaDoTabuleiroException();
+
+        return quadrados[linha * coluna_size + coluna];
+    }
+
+    /**
+     * Cria o QuadradoFront da posição. Quem varre o tabuleiro inteiro (o
+     * resolvedor, a pintura) deve preferir isAberto(int, int) e os demais
+     * acessos por linha e coluna, que não alocam nada.
+     *
+     * @return O quadrado na posição, ou null se estiver fora do tabuleiro.
+     */
+    public QuadradoFront getQuadrado(int linha, int coluna){
+        if (!quadradoExiste(linha, coluna)) return null;
+
+        return criaQuadrado(new Localizacao(linha, coluna));
+    }
+
+    // Acessos sem alocação e sem verificar limites, para laços sobre o tabuleiro
+
+    public boolean isAberto(int linha, int coluna){
+        return (quadrados[linha * coluna_size + coluna] & ABERTO) != 0;
+    }
+
+    public boolean isMarcado(int linha, int coluna){
+        return (quadrados[linha * coluna_size + coluna] & MARCADO) != 0;
+    }
+
+    public boolean isBomba(int linha, int coluna){
+        return (quadrados[linha * coluna_size + coluna] & BOMBA) != 0;
+    }
+
+    /**
+     * @return O número de vizinhos perigosos, ou -1 se o quadrado não
+     * mostra número.
+     */
+    public int getNumero(int linha, int coluna){
+        return (quadrados[linha * coluna_size + coluna] & NUMERO) - 1;
+    }
+
+    private boolean quadradoExiste(int linha, int coluna){
+        if (coluna < 0 || coluna >= coluna_size) return false;
+        if (linha < 0 || linha >= linha_size) return false;
+
+        return true;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    /**
+     * @return 3BV, aberturas e números isolados do tabuleiro, ou null se
+     * quem montou o tabuleiro não os calculou.
+     */
+    public MetricasTabuleiro getMetricas() {
+        return metricas;
+    }
+
+    public void setMetricas(MetricasTabuleiro metricas) {
+        this.metricas = metricas;
+    }
+
+    public Topologia getTopologia() {
+        return topologia;
+    }
+
+    public void setTopologia(Topologia topologia) {
+        this.topologia = topologia;
+    }
+}
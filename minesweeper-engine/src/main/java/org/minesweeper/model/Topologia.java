@@ -0,0 +1,187 @@
+package org.minesweeper.model;
+
+/**
+ * Define quem é vizinho de quem num tabuleiro de linhas x colunas. Todas as
+ * topologias usam a mesma grade retangular de índices (linha, coluna); o
+ * que muda é a tabela de deslocamentos:
+ *
+ * - quadrada: os 8 vizinhos do quadrado, parando nas bordas;
+ * - toroidal: os mesmos 8, mas as bordas dão a volta no tabuleiro;
+ * - hexagonal: 6 vizinhos, com as linhas ímpares deslocadas meia célula
+ *   para a direita;
+ * - triangular: 12 vizinhos (lados e vértices), com o triângulo (i, j)
+ *   apontando para cima quando i + j é par.
+ *
+ * As tabelas são calculadas uma vez por topologia. Quando a forma da célula
+ * depende da posição (hexágono em linha par ou ímpar, triângulo para cima
+ * ou para baixo), há uma tabela por classe e a classe sai de uma conta, sem
+ * desvio. Quem percorre os vizinhos recebe os índices num array e faz um
+ * laço simples sobre ele, sem chamadas por vizinho.
+ */
+public final class Topologia {
+    public static final int MAXIMO_VIZINHOS = 12;
+
+    public static final Topologia QUADRADA = new Topologia("quadrada", 0, false, 0, 0,
+            new int[][]{{-1, -1, -1, 0, 0, 1, 1, 1}},
+            new int[][]{{-1, 0, 1, -1, 1, -1, 0, 1}});
+
+    public static final Topologia TOROIDAL = new Topologia("toroidal", 1, true, 0, 0,
+            QUADRADA.deslocamentosLinha, QUADRADA.deslocamentosColuna);
+
+    public static final Topologia HEXAGONAL = new Topologia("hexagonal", 2, false, 1, 0,
+            new int[][]{
+                    {-1, -1, 0, 0, 1, 1},
+                    {-1, -1, 0, 0, 1, 1}},
+            new int[][]{
+                    {-1, 0, -1, 1, -1, 0},
+                    {0, 1, -1, 1, 0, 1}});
+
+    public static final Topologia TRIANGULAR = new Topologia("triangular", 3, false, 1, 1,
+            new int[][]{
+                    {-1, -1, -1, 0, 0, 0, 0, 1, 1, 1, 1, 1},
+                    {-1, -1, -1, -1, -1, 0, 0, 0, 0, 1, 1, 1}},
+            new int[][]{
+                    {-1, 0, 1, -2, -1, 1, 2, -2, -1, 0, 1, 2},
+                    {-2, -1, 0, 1, 2, -2, -1, 1, 2, -1, 0, 1}});
+
+    private static final Topologia[] TODAS = {QUADRADA, TOROIDAL, HEXAGONAL, TRIANGULAR};
+
+    private final String nome;
+    private final int codigo;
+    private final boolean toroidal;
+    // classe = (linha * pesoLinha + coluna * pesoColuna) & 1
+    private final int pesoLinha;
+    private final int pesoColuna;
+    private final int[][] deslocamentosLinha;
+    private final int[][] deslocamentosColuna;
+    private final int margemLinha;
+    private final int margemColuna;
+    private final int maximoVizinhos;
+
+    private Topologia(String nome, int codigo, boolean toroidal, int pesoLinha, int pesoColuna,
+                      int[][] deslocamentosLinha, int[][] deslocamentosColuna) {
+        this.nome = nome;
+        this.codigo = codigo;
+        this.toroidal = toroidal;
+        this.pesoLinha = pesoLinha;
+        this.pesoColuna = pesoColuna;
+        this.deslocamentosLinha = deslocamentosLinha;
+        this.deslocamentosColuna = deslocamentosColuna;
+
+        int margemLinha = 0;
+        int margemColuna = 0;
+        int maximo = 0;
+        for (int classe = 0; classe < deslocamentosLinha.length; ++classe) {
+            for (int k = 0; k < deslocamentosLinha[classe].length; ++k) {
+                margemLinha = Math.max(margemLinha, Math.abs(deslocamentosLinha[classe][k]));
+                margemColuna = Math.max(margemColuna, Math.abs(deslocamentosColuna[classe][k]));
+            }
+            maximo = Math.max(maximo, deslocamentosLinha[classe].length);
+        }
+        this.margemLinha = margemLinha;
+        this.margemColuna = margemColuna;
+        this.maximoVizinhos = maximo;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * @return Número estável usado nos formatos gravados em disco.
+     */
+    public int getCodigo() {
+        return codigo;
+    }
+
+    public boolean isToroidal() {
+        return toroidal;
+    }
+
+    public int getMaximoVizinhos() {
+        return maximoVizinhos;
+    }
+
+    /**
+     * Deslocamentos de linha dos vizinhos do quadrado, na mesma ordem de
+     * deslocamentosColuna. O array é compartilhado e não deve ser alterado.
+     * Numa topologia toroidal o resultado precisa ser normalizado pelo
+     * tamanho do tabuleiro.
+     */
+    public int[] deslocamentosLinha(int linha, int coluna) {
+        return deslocamentosLinha[classe(linha, coluna)];
+    }
+
+    public int[] deslocamentosColuna(int linha, int coluna) {
+        return deslocamentosColuna[classe(linha, coluna)];
+    }
+
+    /**
+     * Escreve em destino os índices, em ordem de linha, dos vizinhos do
+     * quadrado. Longe das bordas os índices saem direto da tabela, sem
+     * testar cada vizinho; só os quadrados da borda são recortados ou, na
+     * topologia toroidal, dão a volta.
+     *
+     * @param destino Precisa ter pelo menos getMaximoVizinhos() posições.
+     * @return Quantos vizinhos foram escritos.
+     */
+    public int vizinhos(int linha, int coluna, int linha_size, int coluna_size, int[] destino) {
+        int classe = classe(linha, coluna);
+        int[] dLinha = deslocamentosLinha[classe];
+        int[] dColuna = deslocamentosColuna[classe];
+
+        if (linha >= margemLinha && linha < linha_size - margemLinha
+                && coluna >= margemColuna && coluna < coluna_size - margemColuna) {
+            int indice = linha * coluna_size + coluna;
+            for (int k = 0; k < dLinha.length; ++k)
+                destino[k] = indice + dLinha[k] * coluna_size + dColuna[k];
+            return dLinha.length;
+        }
+
+        int quantidade = 0;
+        for (int k = 0; k < dLinha.length; ++k) {
+            int l = linha + dLinha[k];
+            int c = coluna + dColuna[k];
+            if (toroidal) {
+                l = Math.floorMod(l, linha_size);
+                c = Math.floorMod(c, coluna_size);
+            } else if (l < 0 || l >= linha_size || c < 0 || c >= coluna_size) {
+                continue;
+            }
+            destino[quantidade++] = l * coluna_size + c;
+        }
+        return quantidade;
+    }
+
+    /**
+     * Na topologia toroidal, um tabuleiro com menos de 3 linhas ou colunas
+     * teria o mesmo quadrado como vizinho por dois lados.
+     */
+    public void validaDimensoes(int linha_size, int coluna_size) {
+        if (toroidal && (linha_size < 3 || coluna_size < 3))
+            throw new IllegalArgumentException("A topologia toroidal precisa de pelo menos 3 linhas e 3 colunas");
+    }
+
+    private int classe(int linha, int coluna) {
+        return (linha * pesoLinha + coluna * pesoColuna) & 1;
+    }
+
+    public static Topologia porCodigo(int codigo) {
+        if (codigo < 0 || codigo >= TODAS.length)
+            throw new IllegalArgumentException("Topologia desconhecida: " + codigo);
+
+        return TODAS[codigo];
+    }
+
+    public static Topologia porNome(String nome) {
+        for (Topologia topologia : TODAS)
+            if (topologia.nome.equalsIgnoreCase(nome)) return topologia;
+
+        throw new IllegalArgumentException("Topologia desconhecida: " + nome);
+    }
+
+    @Override
+    public String toString() {
+        return nome;
+    }
+}
@@ -0,0 +1,77 @@
+package org.minesweeper.model;
+
+/**
+ * Vetor de bytes dividido em pedaços de tamanho fixo que pode ser congelado
+ * em versões imutáveis. Congelar copia só o vetor de referências aos
+ * pedaços: eles passam a ser compartilhados com a versão congelada, e a
+ * primeira escrita em cada um depois disso copia aquele pedaço antes de
+ * alterá-lo. Uma jogada pequena entre duas versões copia poucos pedaços.
+ *
+ * Não é thread-safe para escrita; as versões congeladas podem ser lidas de
+ * qualquer thread, porque nenhum pedaço congelado é escrito de novo.
+ */
+final class VetorPersistente {
+    static final int BITS_PEDACO = 10;
+    static final int TAMANHO_PEDACO = 1 << BITS_PEDACO;
+    private static final int MASCARA = TAMANHO_PEDACO - 1;
+
+    private final int tamanho;
+    private final byte[][] pedacos;
+    // O pedaço é só deste vetor se foi copiado na geração atual
+    private final int[] geracaoPedaco;
+    private int geracao;
+    private long pedacosCopiados;
+
+    VetorPersistente(int tamanho) {
+        this.tamanho = tamanho;
+        int quantidade = (tamanho + MASCARA) >>> BITS_PEDACO;
+        this.pedacos = new byte[quantidade][];
+        this.geracaoPedaco = new int[quantidade];
+
+        for (int p = 0; p < quantidade; ++p)
+            pedacos[p] = new byte[Math.min(TAMANHO_PEDACO, tamanho - (p << BITS_PEDACO))];
+    }
+
+    int getTamanho() {
+        return tamanho;
+    }
+
+    byte le(int indice) {
+        return pedacos[indice >>> BITS_PEDACO][indice & MASCARA];
+    }
+
+    void escreve(int indice, byte valor) {
+        int p = indice >>> BITS_PEDACO;
+        byte[] pedaco = pedacos[p];
+        if (pedaco[indice & MASCARA] == valor) return;
+
+        if (geracaoPedaco[p] != geracao) {
+            pedaco = pedaco.clone();
+            pedacos[p] = pedaco;
+            geracaoPedaco[p] = geracao;
+            pedacosCopiados++;
+        }
+        pedaco[indice & MASCARA] = valor;
+    }
+
+    /**
+     * @return Os pedaços atuais, que a partir daqui não são mais escritos
+     * por este vetor.
+     */
+    byte[][] congela() {
+        geracao++;
+        return pedacos.clone();
+    }
+
+    /**
+     * @return Quantos pedaços foram copiados por escritas depois de um
+     * congelamento, desde a criação do vetor.
+     */
+    long getPedacosCopiados() {
+        return pedacosCopiados;
+    }
+
+    static byte le(byte[][] pedacos, int indice) {
+        return pedacos[indice >>> BITS_PEDACO][indice & MASCARA];
+    }
+}
@@ -0,0 +1,52 @@
+package org.minesweeper.ranking;
+
+/**
+ * Configuração de tabuleiro usada para separar os rankings: só partidas com
+ * as mesmas dimensões e quantidade de bombas são comparadas entre si.
+ */
+public class Dificuldade {
+    public static final Dificuldade INICIANTE = new Dificuldade(9, 9, 10);
+    public static final Dificuldade INTERMEDIARIO = new Dificuldade(16, 16, 40);
+    public static final Dificuldade ESPECIALISTA = new Dificuldade(16, 30, 99);
+
+    private final int linha_size;
+    private final int coluna_size;
+    private final int bombas;
+
+    public Dificuldade(int linha_size, int coluna_size, int bombas) {
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.bombas = bombas;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Dificuldade that = (Dificuldade) o;
+        return linha_size == that.linha_size && coluna_size == that.coluna_size && bombas == that.bombas;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * linha_size + coluna_size) + bombas;
+    }
+
+    @Override
+    public String toString() {
+        return linha_size + "x" + coluna_size + "/" + bombas;
+    }
+}
@@ -0,0 +1,156 @@
+package org.minesweeper.ranking;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Índice ordenado das vitórias de uma dificuldade. Cada entrada é um par
+ * (chave, número do registro no log), em que a chave junta o tempo e os
+ * cliques, e o número do registro desempata.
+ *
+ * As entradas ficam em dois vetores ordenados: a base, grande, e o delta,
+ * limitado, que recebe as inserções. Consultas fazem uma busca binária em
+ * cada um, O(log n); inserir no delta custa no máximo LIMITE_DELTA cópias.
+ * A compactação junta o delta na base numa passada só.
+ */
+class IndiceRanking {
+    static final int LIMITE_DELTA = 8192;
+
+    private static final int BITS_CLIQUES = 24;
+    private static final long MAXIMO_CLIQUES = (1L << BITS_CLIQUES) - 1;
+
+    private long[] baseChaves = new long[0];
+    private long[] baseNumeros = new long[0];
+    private long[] deltaChaves = new long[64];
+    private long[] deltaNumeros = new long[64];
+    private int tamanhoDelta;
+
+    /**
+     * Menor tempo primeiro; no mesmo tempo, menos cliques primeiro.
+     */
+    static long chave(long tempoMs, int cliques) {
+        return (tempoMs << BITS_CLIQUES) | Math.min(Math.max(cliques, 0), MAXIMO_CLIQUES);
+    }
+
+    void adiciona(long chave, long numero) {
+        int posicao = -(busca(deltaChaves, deltaNumeros, tamanhoDelta, chave, numero) + 1);
+        if (tamanhoDelta == deltaChaves.length) {
+            deltaChaves = Arrays.copyOf(deltaChaves, tamanhoDelta * 2);
+            deltaNumeros = Arrays.copyOf(deltaNumeros, tamanhoDelta * 2);
+        }
+
+        System.arraycopy(deltaChaves, posicao, deltaChaves, posicao + 1, tamanhoDelta - posicao);
+        System.arraycopy(deltaNumeros, posicao, deltaNumeros, posicao + 1, tamanhoDelta - posicao);
+        deltaChaves[posicao] = chave;
+        deltaNumeros[posicao] = numero;
+        tamanhoDelta++;
+
+        if (tamanhoDelta >= LIMITE_DELTA) compacta();
+    }
+
+    /**
+     * @return Quantas entradas têm chave menor que a dada, ou seja, quantas
+     * partidas ficam à frente.
+     */
+    int quantidadeAntes(long chave) {
+        return -(busca(baseChaves, baseNumeros, baseChaves.length, chave, Long.MIN_VALUE) + 1)
+                + -(busca(deltaChaves, deltaNumeros, tamanhoDelta, chave, Long.MIN_VALUE) + 1);
+    }
+
+    int getTamanho() {
+        return baseChaves.length + tamanhoDelta;
+    }
+
+    int getTamanhoDelta() {
+        return tamanhoDelta;
+    }
+
+    /**
+     * @return Os números de registro das n primeiras entradas, em ordem.
+     */
+    long[] primeiros(int n) {
+        n = Math.min(n, getTamanho());
+        long[] numeros = new long[n];
+        int b = 0, d = 0;
+        for (int i = 0; i < n; ++i) {
+            if (d >= tamanhoDelta || (b < baseChaves.length
+                    && compara(baseChaves[b], baseNumeros[b], deltaChaves[d], deltaNumeros[d]) < 0)) {
+                numeros[i] = baseNumeros[b++];
+            } else {
+                numeros[i] = deltaNumeros[d++];
+            }
+        }
+        return numeros;
+    }
+
+    void compacta() {
+        if (tamanhoDelta == 0) return;
+
+        int tamanho = getTamanho();
+        long[] chaves = new long[tamanho];
+        long[] numeros = new long[tamanho];
+        int b = 0, d = 0;
+        for (int i = 0; i < tamanho; ++i) {
+            if (d >= tamanhoDelta || (b < baseChaves.length
+                    && compara(baseChaves[b], baseNumeros[b], deltaChaves[d], deltaNumeros[d]) < 0)) {
+                chaves[i] = baseChaves[b];
+                numeros[i] = baseNumeros[b++];
+            } else {
+                chaves[i] = deltaChaves[d];
+                numeros[i] = deltaNumeros[d++];
+            }
+        }
+
+        baseChaves = chaves;
+        baseNumeros = numeros;
+        tamanhoDelta = 0;
+    }
+
+    /**
+     * Grava a base; quem chama compacta antes.
+     */
+    void escreve(DataOutputStream saida) throws IOException {
+        saida.writeInt(baseChaves.length);
+        for (int i = 0; i < baseChaves.length; ++i) {
+            saida.writeLong(baseChaves[i]);
+            saida.writeLong(baseNumeros[i]);
+        }
+    }
+
+    static IndiceRanking le(DataInputStream entrada) throws IOException {
+        int tamanho = entrada.readInt();
+        if (tamanho < 0) throw new IOException("Índice corrompido");
+
+        IndiceRanking indice = new IndiceRanking();
+        indice.baseChaves = new long[tamanho];
+        indice.baseNumeros = new long[tamanho];
+        for (int i = 0; i < tamanho; ++i) {
+            indice.baseChaves[i] = entrada.readLong();
+            indice.baseNumeros[i] = entrada.readLong();
+        }
+        return indice;
+    }
+
+    private static int compara(long chaveA, long numeroA, long chaveB, long numeroB) {
+        int c = Long.compare(chaveA, chaveB);
+        return c != 0 ? c : Long.compare(numeroA, numeroB);
+    }
+
+    /**
+     * Busca binária como Arrays.binarySearch: o índice se achar, senão
+     * -(ponto de inserção) - 1.
+     */
+    private static int busca(long[] chaves, long[] numeros, int tamanho, long chave, long numero) {
+        int inicio = 0, fim = tamanho - 1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            int c = compara(chaves[meio], numeros[meio], chave, numero);
+            if (c < 0) inicio = meio + 1;
+            else if (c > 0) fim = meio - 1;
+            else return meio;
+        }
+        return -(inicio + 1);
+    }
+}
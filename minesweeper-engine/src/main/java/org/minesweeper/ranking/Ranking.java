@@ -0,0 +1,358 @@
+package org.minesweeper.ranking;
+
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking local das partidas terminadas.
+ *
+ * Todas as partidas vão para um log só de acréscimo (ranking.log), com
+ * registros de tamanho fixo. As vitórias também entram num índice ordenado
+ * por dificuldade (IndiceRanking), que responde top-N e posição em
+ * O(log n). Os registros novos ficam em memória e são gravados em lotes.
+ *
+ * A compactação junta os deltas dos índices e grava o índice inteiro em
+ * ranking.indice, junto com quantos registros do log ele cobre. Ao abrir,
+ * o índice gravado é carregado e só o final do log, escrito depois da
+ * última compactação, é percorrido.
+ */
+public class Ranking implements Closeable {
+    public static final int LOTE_PADRAO = 256;
+
+    static final String ARQUIVO_LOG = "ranking.log";
+    static final String ARQUIVO_INDICE = "ranking.indice";
+
+    private static final int MAGICO_LOG = 0x4D53524C;
+    private static final int MAGICO_INDICE = 0x4D535249;
+    private static final int VERSAO = 1;
+    private static final int CABECALHO_LOG = 8;
+
+    private static final Contador REGISTRADAS = RegistroMetricas.getInstance().contador("ranking.partidas");
+    private static final Contador LOTES = RegistroMetricas.getInstance().contador("ranking.lotes");
+    private static final Contador COMPACTACOES = RegistroMetricas.getInstance().contador("ranking.compactacoes");
+    private static final Contador FALHAS_MANUTENCAO = RegistroMetricas.getInstance().contador("ranking.falhasManutencao");
+    private static final Contador INDICES_ILEGIVEIS = RegistroMetricas.getInstance().contador("ranking.indicesIlegiveis");
+
+    private final Path pasta;
+    private final int lote;
+    private final FileChannel log;
+    private final Map<Dificuldade, IndiceRanking> indices = new HashMap<>();
+
+    // Registros ainda não gravados; os números deles começam em gravados
+    private final ArrayList<RegistroPartida> pendentes = new ArrayList<>();
+    private long gravados;
+    private long cobertosPeloIndice;
+    private long lidosDoLogNaAbertura;
+
+    private ScheduledExecutorService manutencao;
+
+    public Ranking(Path pasta) throws IOException {
+        this(pasta, LOTE_PADRAO);
+    }
+
+    /**
+     * @param lote Quantos registros pendentes disparam uma gravação.
+     */
+    public Ranking(Path pasta, int lote) throws IOException {
+        this.pasta = pasta;
+        this.lote = lote;
+        Files.createDirectories(pasta);
+
+        log = FileChannel.open(pasta.resolve(ARQUIVO_LOG),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            abreLog();
+            carregaIndice();
+            leFinalDoLog();
+        } catch (IOException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Registra uma partida. Ela já aparece nas consultas, mas só vai para o
+     * disco no próximo lote.
+     *
+     * @return O número do registro no log.
+     */
+    public synchronized long registra(RegistroPartida partida) throws IOException {
+        long numero = gravados + pendentes.size();
+        pendentes.add(partida);
+        indexa(partida, numero);
+        REGISTRADAS.incrementa();
+
+        if (pendentes.size() >= lote) descarrega();
+
+        return numero;
+    }
+
+    /**
+     * Grava os registros pendentes no final do log.
+     */
+    public synchronized void descarrega() throws IOException {
+        if (pendentes.isEmpty()) return;
+
+        ByteBuffer buffer = ByteBuffer.allocate(pendentes.size() * RegistroPartida.TAMANHO);
+        for (RegistroPartida partida : pendentes)
+            partida.escreve(buffer);
+        buffer.flip();
+
+        long posicao = posicaoDoRegistro(gravados);
+        while (buffer.hasRemaining())
+            posicao += log.write(buffer, posicao);
+        log.force(false);
+
+        gravados += pendentes.size();
+        pendentes.clear();
+        LOTES.incrementa();
+    }
+
+    /**
+     * Grava os pendentes, junta os deltas dos índices e persiste o índice,
+     * para que a próxima abertura não precise percorrer o log.
+     */
+    public synchronized void compacta() throws IOException {
+        descarrega();
+        for (IndiceRanking indice : indices.values())
+            indice.compacta();
+
+        Path temporario = pasta.resolve(ARQUIVO_INDICE + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(canal)));
+            saida.writeInt(MAGICO_INDICE);
+            saida.writeInt(VERSAO);
+            saida.writeLong(gravados);
+            saida.writeInt(indices.size());
+            for (Map.Entry<Dificuldade, IndiceRanking> entrada : indices.entrySet()) {
+                saida.writeInt(entrada.getKey().getLinha_size());
+                saida.writeInt(entrada.getKey().getColuna_size());
+                saida.writeInt(entrada.getKey().getBombas());
+                entrada.getValue().escreve(saida);
+            }
+            saida.flush();
+            // Sem isso, uma queda logo depois do move pode deixar um índice vazio no lugar do anterior
+            canal.force(true);
+        }
+        Files.move(temporario, pasta.resolve(ARQUIVO_INDICE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        cobertosPeloIndice = gravados;
+        COMPACTACOES.incrementa();
+    }
+
+    /**
+     * @return As n melhores vitórias da dificuldade, da mais rápida para a
+     * mais lenta.
+     */
+    public synchronized List<RegistroPartida> melhores(Dificuldade dificuldade, int n) throws IOException {
+        ArrayList<RegistroPartida> melhores = new ArrayList<>();
+        IndiceRanking indice = indices.get(dificuldade);
+        if (indice == null) return melhores;
+
+        for (long numero : indice.primeiros(n))
+            melhores.add(le(numero));
+
+        return melhores;
+    }
+
+    /**
+     * @return A posição, começando em 1, que uma vitória com esse tempo e
+     * cliques teria no ranking da dificuldade. Empates dividem a posição.
+     */
+    public synchronized int posicao(Dificuldade dificuldade, long tempoMs, int cliques) {
+        IndiceRanking indice = indices.get(dificuldade);
+        if (indice == null) return 1;
+
+        return indice.quantidadeAntes(IndiceRanking.chave(tempoMs, cliques)) + 1;
+    }
+
+    public synchronized int getQuantidadeVitorias(Dificuldade dificuldade) {
+        IndiceRanking indice = indices.get(dificuldade);
+        return indice == null ? 0 : indice.getTamanho();
+    }
+
+    public synchronized long getQuantidadePartidas() {
+        return gravados + pendentes.size();
+    }
+
+    public synchronized RegistroPartida le(long numero) throws IOException {
+        if (numero < 0 || numero >= getQuantidadePartidas())
+            throw new IllegalArgumentException("Registro inexistente: " + numero);
+        if (numero >= gravados) return pendentes.get((int) (numero - gravados));
+
+        ByteBuffer buffer = ByteBuffer.allocate(RegistroPartida.TAMANHO);
+        long posicao = posicaoDoRegistro(numero);
+        while (buffer.hasRemaining()) {
+            int lidos = log.read(buffer, posicao + buffer.position());
+            if (lidos < 0) throw new IOException("Log do ranking truncado");
+        }
+        buffer.flip();
+        return RegistroPartida.le(buffer);
+    }
+
+    /**
+     * Roda descarrega a cada período e compacta quando algum delta passou
+     * da metade do limite, numa thread daemon.
+     */
+    public synchronized void iniciaManutencaoPeriodica(long periodoMs) {
+        if (manutencao != null) return;
+
+        manutencao = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ranking-manutencao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        manutencao.scheduleAtFixedRate(this::manutencao, periodoMs, periodoMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void paraManutencaoPeriodica() {
+        if (manutencao != null) {
+            manutencao.shutdownNow();
+            manutencao = null;
+        }
+    }
+
+    /**
+     * Para a manutenção, compacta e fecha o log.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        paraManutencaoPeriodica();
+        if (!log.isOpen()) return;
+
+        try {
+            compacta();
+        } finally {
+            log.close();
+        }
+    }
+
+    /**
+     * Quantos registros a última abertura precisou ler do log; package-private
+     * para os testes.
+     */
+    synchronized long getLidosDoLogNaAbertura() {
+        return lidosDoLogNaAbertura;
+    }
+
+    private synchronized void manutencao() {
+        try {
+            descarrega();
+            for (IndiceRanking indice : indices.values()) {
+                if (indice.getTamanhoDelta() > IndiceRanking.LIMITE_DELTA / 2) {
+                    compacta();
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // Os registros continuam no buffer e a próxima manutenção tenta de novo
+            FALHAS_MANUTENCAO.incrementa();
+        }
+    }
+
+    private void indexa(RegistroPartida partida, long numero) {
+        if (!partida.isGanhou()) return;
+
+        indices.computeIfAbsent(partida.getDificuldade(), d -> new IndiceRanking())
+                .adiciona(IndiceRanking.chave(partida.getTempoMs(), partida.getCliques()), numero);
+    }
+
+    private static long posicaoDoRegistro(long numero) {
+        return CABECALHO_LOG + numero * RegistroPartida.TAMANHO;
+    }
+
+    private void abreLog() throws IOException {
+        if (log.size() == 0) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(CABECALHO_LOG).putInt(MAGICO_LOG).putInt(VERSAO);
+            cabecalho.flip();
+            log.write(cabecalho, 0);
+            log.force(false);
+        } else {
+            ByteBuffer cabecalho = ByteBuffer.allocate(CABECALHO_LOG);
+            log.read(cabecalho, 0);
+            cabecalho.flip();
+            if (cabecalho.remaining() < CABECALHO_LOG || cabecalho.getInt() != MAGICO_LOG || cabecalho.getInt() != VERSAO)
+                throw new IOException("Arquivo de ranking desconhecido: " + pasta.resolve(ARQUIVO_LOG));
+        }
+
+        // Um lote interrompido no meio deixa um registro incompleto no fim
+        gravados = (log.size() - CABECALHO_LOG) / RegistroPartida.TAMANHO;
+        long tamanhoValido = posicaoDoRegistro(gravados);
+        if (log.size() > tamanhoValido) log.truncate(tamanhoValido);
+    }
+
+    /**
+     * Carrega o índice gravado. Se ele não existir, estiver corrompido ou
+     * cobrir mais registros do que o log tem, o log é percorrido inteiro.
+     */
+    private void carregaIndice() {
+        Path arquivo = pasta.resolve(ARQUIVO_INDICE);
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+            if (entrada.readInt() != MAGICO_INDICE || entrada.readInt() != VERSAO) return;
+
+            long cobertos = entrada.readLong();
+            if (cobertos > gravados) return;
+
+            int quantidade = entrada.readInt();
+            HashMap<Dificuldade, IndiceRanking> lidos = new HashMap<>();
+            for (int i = 0; i < quantidade; ++i) {
+                Dificuldade dificuldade = new Dificuldade(entrada.readInt(), entrada.readInt(), entrada.readInt());
+                lidos.put(dificuldade, IndiceRanking.le(entrada));
+            }
+
+            indices.putAll(lidos);
+            cobertosPeloIndice = cobertos;
+        } catch (NoSuchFileException e) {
+            // Primeira abertura, ou o índice ainda não foi compactado
+        } catch (IOException e) {
+            // O índice é descartado e o log é percorrido inteiro
+            INDICES_ILEGIVEIS.incrementa();
+        }
+    }
+
+    private void leFinalDoLog() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RegistroPartida.TAMANHO * 4096);
+        long numero = cobertosPeloIndice;
+
+        while (numero < gravados) {
+            buffer.clear();
+            int quantidade = (int) Math.min(4096, gravados - numero);
+            buffer.limit(quantidade * RegistroPartida.TAMANHO);
+            long posicao = posicaoDoRegistro(numero);
+            while (buffer.hasRemaining()) {
+                int lidos = log.read(buffer, posicao + buffer.position());
+                if (lidos < 0) throw new IOException("Log do ranking truncado");
+            }
+            buffer.flip();
+
+            for (int i = 0; i < quantidade; ++i)
+                indexa(RegistroPartida.le(buffer), numero++);
+        }
+
+        lidosDoLogNaAbertura = gravados - cobertosPeloIndice;
+    }
+}
@@ -0,0 +1,82 @@
+package org.minesweeper.ranking;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Resultado de uma partida terminada. No log do ranking cada registro ocupa
+ * TAMANHO bytes, então o registro n fica numa posição calculável e pode ser
+ * lido sem percorrer o arquivo.
+ */
+public class RegistroPartida {
+    static final int TAMANHO = 4 + 4 + 4 + 1 + 8 + 4 + 4 + 8 + 8;
+
+    private final Dificuldade dificuldade;
+    private final boolean ganhou;
+    private final long tempoMs;
+    private final int cliques;
+    private final int bv3;
+    private final long semente;
+    private final long dataHora;
+
+    /**
+     * @param bv3      3BV do tabuleiro: o mínimo de cliques para resolvê-lo.
+     * @param dataHora Fim da partida, em milissegundos desde a época.
+     */
+    public RegistroPartida(Dificuldade dificuldade, boolean ganhou, long tempoMs, int cliques, int bv3,
+                           long semente, long dataHora) {
+        this.dificuldade = dificuldade;
+        this.ganhou = ganhou;
+        this.tempoMs = tempoMs;
+        this.cliques = cliques;
+        this.bv3 = bv3;
+        this.semente = semente;
+        this.dataHora = dataHora;
+    }
+
+    public Dificuldade getDificuldade() {
+        return dificuldade;
+    }
+
+    public boolean isGanhou() {
+        return ganhou;
+    }
+
+    public long getTempoMs() {
+        return tempoMs;
+    }
+
+    public int getCliques() {
+        return cliques;
+    }
+
+    public int getBv3() {
+        return bv3;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public long getDataHora() {
+        return dataHora;
+    }
+
+    void escreve(ByteBuffer saida) {
+        saida.putInt(dificuldade.getLinha_size());
+        saida.putInt(dificuldade.getColuna_size());
+        saida.putInt(dificuldade.getBombas());
+        saida.put((byte) (ganhou ? 1 : 0));
+        saida.putLong(tempoMs);
+        saida.putInt(cliques);
+        saida.putInt(bv3);
+        saida.putLong(semente);
+        saida.putLong(dataHora);
+    }
+
+    static RegistroPartida le(ByteBuffer entrada) {
+        Dificuldade dificuldade = new Dificuldade(entrada.getInt(), entrada.getInt(), entrada.getInt());
+        boolean ganhou = entrada.get() != 0;
+        return new RegistroPartida(dificuldade, ganhou, entrada.getLong(), entrada.getInt(), entrada.getInt(),
+                entrada.getLong(), entrada.getLong());
+    }
+}
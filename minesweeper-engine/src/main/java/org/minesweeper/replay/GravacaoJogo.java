@@ -0,0 +1,140 @@
+package org.minesweeper.replay;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Topologia;
+import org.minesweeper.solver.Jogada;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Um jogo gravado: as dimensões e a semente que geraram o tabuleiro, mais as
+ * jogadas que tiveram efeito, em ordem. É o suficiente para reproduzir a
+ * partida inteira.
+ *
+ * Formato em texto: a primeira linha tem "linhas colunas bombas semente",
+ * seguido do nome da topologia quando ela não é a quadrada, e cada linha
+ * seguinte uma jogada, "A linha coluna" para abrir ou "M linha coluna" para
+ * marcar/desmarcar.
+ */
+public class GravacaoJogo {
+    private final int linha_size;
+    private final int coluna_size;
+    private final int bombas;
+    private final long semente;
+    private final Topologia topologia;
+    private final ArrayList<Jogada> jogadas = new ArrayList<>();
+
+    public GravacaoJogo(int linha_size, int coluna_size, int bombas, long semente) {
+        this(linha_size, coluna_size, bombas, semente, Topologia.QUADRADA);
+    }
+
+    public GravacaoJogo(int linha_size, int coluna_size, int bombas, long semente, Topologia topologia) {
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.bombas = bombas;
+        this.semente = semente;
+        this.topologia = topologia;
+    }
+
+    public void adiciona(Jogada.Tipo tipo, Localizacao localizacao) {
+        jogadas.add(new Jogada(tipo, localizacao, false));
+    }
+
+    /**
+     * Tira a última jogada, quando ela é desfeita.
+     */
+    public void removeUltima() {
+        if (!jogadas.isEmpty())
+            jogadas.remove(jogadas.size() - 1);
+    }
+
+    /**
+     * @return Uma gravação independente com as mesmas jogadas, para ser
+     * levada a outra thread enquanto esta continua recebendo jogadas.
+     */
+    public GravacaoJogo copia() {
+        GravacaoJogo copia = new GravacaoJogo(linha_size, coluna_size, bombas, semente, topologia);
+        copia.jogadas.addAll(jogadas);
+        return copia;
+    }
+
+    public Jogada getJogada(int indice) {
+        return jogadas.get(indice);
+    }
+
+    public List<Jogada> getJogadas() {
+        return Collections.unmodifiableList(jogadas);
+    }
+
+    public int getQuantidadeJogadas() {
+        return jogadas.size();
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public Topologia getTopologia() {
+        return topologia;
+    }
+
+    public void escreve(Writer saida) throws IOException {
+        saida.write(linha_size + " " + coluna_size + " " + bombas + " " + semente);
+        if (topologia != Topologia.QUADRADA) saida.write(" " + topologia.getNome());
+        saida.write("\n");
+        for (Jogada jogada : jogadas) {
+            char tipo = jogada.getTipo() == Jogada.Tipo.ABRIR ? 'A' : 'M';
+            saida.write(tipo + " " + jogada.getLocalizacao().getLinha() + " " + jogada.getLocalizacao().getColuna() + "\n");
+        }
+        saida.flush();
+    }
+
+    public static GravacaoJogo le(Reader entrada) throws IOException {
+        BufferedReader linhas = new BufferedReader(entrada);
+        String cabecalho = linhas.readLine();
+        if (cabecalho == null) throw new IOException("Gravação vazia");
+
+        GravacaoJogo gravacao;
+        try {
+            String[] campos = cabecalho.trim().split("\\s+");
+            Topologia topologia = campos.length > 4 ? Topologia.porNome(campos[4]) : Topologia.QUADRADA;
+            gravacao = new GravacaoJogo(Integer.parseInt(campos[0]), Integer.parseInt(campos[1]),
+                    Integer.parseInt(campos[2]), Long.parseLong(campos[3]), topologia);
+
+            String linha;
+            while ((linha = linhas.readLine()) != null) {
+                if (linha.isBlank()) continue;
+
+                campos = linha.trim().split("\\s+");
+                Jogada.Tipo tipo = switch (campos[0]) {
+                    case "A" -> Jogada.Tipo.ABRIR;
+                    case "M" -> Jogada.Tipo.MARCAR;
+                    default -> throw new IOException("Jogada desconhecida: " + linha);
+                };
+                gravacao.adiciona(tipo, new Localizacao(Integer.parseInt(campos[1]), Integer.parseInt(campos[2])));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Gravação mal formada", e);
+        }
+
+        return gravacao;
+    }
+}
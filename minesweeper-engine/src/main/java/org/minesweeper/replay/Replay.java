@@ -0,0 +1,147 @@
+package org.minesweeper.replay;
+
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.service.AbrirQuadrado;
+import org.minesweeper.service.CapturarEstado;
+import org.minesweeper.service.MarcarQuadrado;
+import org.minesweeper.service.MontarTabuleiro;
+import org.minesweeper.service.RestaurarEstado;
+import org.minesweeper.solver.Jogada;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reprodutor de um GravacaoJogo, sem dependência de interface gráfica.
+ *
+ * A cada K jogadas o estado do tabuleiro é guardado como um keyframe
+ * (EstadoTabuleiro, um byte por quadrado). Ir para uma jogada qualquer
+ * restaura o keyframe mais próximo antes dela e reaplica no máximo K - 1
+ * jogadas, em vez de refazer a partida desde o início.
+ *
+ * Os keyframes são criados conforme a reprodução passa por eles, seja
+ * avançando jogada a jogada ou numa busca para frente.
+ */
+public class Replay {
+    public static final int INTERVALO_KEYFRAMES_PADRAO = 100;
+
+    private final GravacaoJogo gravacao;
+    private final int intervaloKeyframes;
+    private final Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+    // keyframes.get(k) é o estado depois de k * intervaloKeyframes jogadas
+    private final ArrayList<EstadoTabuleiro> keyframes = new ArrayList<>();
+
+    private TabuleiroFront tabuleiroFront;
+    private int posicao;
+    private int reaplicadasUltimaBusca;
+
+    public Replay(GravacaoJogo gravacao) {
+        this(gravacao, INTERVALO_KEYFRAMES_PADRAO);
+    }
+
+    public Replay(GravacaoJogo gravacao, int intervaloKeyframes) {
+        if (intervaloKeyframes < 1) throw new IllegalArgumentException("Intervalo de keyframes deve ser positivo");
+
+        this.gravacao = gravacao;
+        this.intervaloKeyframes = intervaloKeyframes;
+
+        tabuleiroFront = tabuleiro.accept(new MontarTabuleiro(gravacao.getLinha_size(), gravacao.getColuna_size(),
+                gravacao.getBombas(), gravacao.getSemente(), gravacao.getTopologia()));
+        keyframes.add(tabuleiro.accept(new CapturarEstado()));
+    }
+
+    /**
+     * Aplica a próxima jogada.
+     *
+     * @return Os quadrados alterados, para repintura, ou uma lista vazia se
+     * a reprodução já chegou ao fim.
+     */
+    public List<QuadradoFront> avanca() {
+        if (isFim()) return new ArrayList<>();
+
+        List<QuadradoFront> alterados = aplica(gravacao.getJogada(posicao));
+        posicao++;
+        guardaKeyframe();
+
+        return alterados;
+    }
+
+    /**
+     * Coloca o tabuleiro no estado depois das primeiras {@code destino}
+     * jogadas.
+     */
+    public void vaiPara(int destino) {
+        destino = Math.max(0, Math.min(gravacao.getQuantidadeJogadas(), destino));
+        reaplicadasUltimaBusca = 0;
+        if (destino == posicao) return;
+
+        int keyframe = Math.min(destino / intervaloKeyframes, keyframes.size() - 1);
+        int inicioKeyframe = keyframe * intervaloKeyframes;
+
+        // Se a posição atual já está entre o keyframe e o destino, basta seguir
+        if (destino < posicao || posicao < inicioKeyframe) {
+            tabuleiroFront = tabuleiro.accept(new RestaurarEstado(keyframes.get(keyframe)));
+            posicao = inicioKeyframe;
+        }
+
+        while (posicao < destino) {
+            aplica(gravacao.getJogada(posicao));
+            posicao++;
+            reaplicadasUltimaBusca++;
+            guardaKeyframe();
+        }
+    }
+
+    public boolean isFim() {
+        return posicao >= gravacao.getQuantidadeJogadas();
+    }
+
+    public int getPosicao() {
+        return posicao;
+    }
+
+    public int getQuantidadeJogadas() {
+        return gravacao.getQuantidadeJogadas();
+    }
+
+    public TabuleiroFront getTabuleiro() {
+        return tabuleiroFront;
+    }
+
+    public GravacaoJogo getGravacao() {
+        return gravacao;
+    }
+
+    int getReaplicadasUltimaBusca() {
+        return reaplicadasUltimaBusca;
+    }
+
+    int getQuantidadeKeyframes() {
+        return keyframes.size();
+    }
+
+    private List<QuadradoFront> aplica(Jogada jogada) {
+        ArrayList<QuadradoFront> alterados = new ArrayList<>();
+
+        if (jogada.getTipo() == Jogada.Tipo.ABRIR) {
+            ArrayList<QuadradoFront> abertos = tabuleiro.accept(new AbrirQuadrado(jogada.getLocalizacao()));
+            if (abertos != null) alterados.addAll(abertos);
+        } else {
+            QuadradoFront marcado = tabuleiro.accept(new MarcarQuadrado(jogada.getLocalizacao()));
+            if (marcado != null) alterados.add(marcado);
+        }
+
+        for (QuadradoFront quadrado : alterados)
+            tabuleiroFront.atualizaQuadrado(quadrado);
+
+        return alterados;
+    }
+
+    private void guardaKeyframe() {
+        if (posicao % intervaloKeyframes == 0 && posicao / intervaloKeyframes == keyframes.size())
+            keyframes.add(tabuleiro.accept(new CapturarEstado()));
+    }
+}
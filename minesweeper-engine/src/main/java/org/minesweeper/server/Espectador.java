@@ -0,0 +1,9 @@
+package org.minesweeper.server;
+
+public interface Espectador {
+    /**
+     * Recebe os quadros em ordem de sequência, numa thread de entrega. Um
+     * quadro completo substitui todo o estado recebido até ali.
+     */
+    void onQuadro(Quadro quadro);
+}
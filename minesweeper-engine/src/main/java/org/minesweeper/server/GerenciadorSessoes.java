@@ -0,0 +1,389 @@
+package org.minesweeper.server;
+
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.exceptions.SessaoInexistenteException;
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.Tabuleiro;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Registro das sessões de jogo do servidor. Sessões ociosas por mais que o
+ * TTL são despejadas, e quando a memória estimada de todas as sessões passa
+ * do orçamento as residentes menos usadas recentemente (LRU) são despejadas
+ * até voltar ao limite.
+ *
+ * O despejo grava o tabuleiro como EstadoTabuleiro e o solta; o controller,
+ * com o histórico e a gravação, continua em memória, e a próxima ação
+ * recarrega o tabuleiro sem que o cliente perceba. A escolha de quem
+ * despejar é feita com o monitor do gerenciador, mas a gravação e a leitura
+ * dos arquivos só com o monitor da sessão: um disco lento atrasa a sessão
+ * despejada, não as outras.
+ *
+ * Sem pasta de despejo, sessões expiradas pelo TTL são encerradas, e uma
+ * sessão nova que passaria do orçamento é recusada; nenhum jogo em andamento
+ * é descartado para abrir espaço.
+ */
+public class GerenciadorSessoes {
+    /**
+     * Estimativa por quadrado do tabuleiro residente: o byte do estado, a
+     * cópia dele guardada pela foto e o int do registro de alterações,
+     * arredondados para cima.
+     */
+    public static final long BYTES_POR_QUADRADO = 8;
+    /**
+     * Estimativa por jogada: a Jogada da gravação e a entrada do histórico,
+     * com a Localizacao que as duas compartilham.
+     */
+    public static final long BYTES_POR_JOGADA = 96;
+    /**
+     * Estimativa por quadrado aberto guardado no histórico (linha e coluna).
+     */
+    public static final long BYTES_POR_QUADRADO_HISTORICO = 8;
+    static final long BYTES_POR_SESSAO = 512;
+
+    private static final Contador CRIADAS = RegistroMetricas.getInstance().contador("sessoes.criadas");
+    private static final Contador RECUSADAS = RegistroMetricas.getInstance().contador("sessoes.recusadas");
+    private static final Contador EXPIRADAS = RegistroMetricas.getInstance().contador("sessoes.expiradas");
+    private static final Contador DESPEJADAS = RegistroMetricas.getInstance().contador("sessoes.despejadas");
+    private static final Contador RECARREGADAS = RegistroMetricas.getInstance().contador("sessoes.recarregadas");
+    private static final Contador FALHAS_DESPEJO = RegistroMetricas.getInstance().contador("sessoes.falhasDespejo");
+    private static final Contador FALHAS_RECARGA = RegistroMetricas.getInstance().contador("sessoes.falhasRecarga");
+    private static final Contador ARQUIVOS_ORFAOS = RegistroMetricas.getInstance().contador("sessoes.arquivosOrfaos");
+
+    private final long ttlNanos;
+    private final long orcamentoBytes;
+    private final Path pastaDespejo;
+    private final LongSupplier relogio;
+
+    // Em ordem de acesso: o primeiro é o menos usado recentemente
+    private final LinkedHashMap<String, Sessao> sessoes = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesEmUso;
+    private ScheduledExecutorService limpeza;
+
+    /**
+     * @param ttl            Tempo máximo sem acesso antes do despejo.
+     * @param orcamentoBytes Memória estimada máxima das sessões.
+     * @param pastaDespejo   Onde gravar as sessões despejadas, ou null para
+     *                       encerrar as expiradas e recusar as que não cabem.
+     */
+    public GerenciadorSessoes(Duration ttl, long orcamentoBytes, Path pastaDespejo) {
+        this(ttl, orcamentoBytes, pastaDespejo, System::nanoTime);
+    }
+
+    GerenciadorSessoes(Duration ttl, long orcamentoBytes, Path pastaDespejo, LongSupplier relogio) {
+        this.ttlNanos = ttl.toNanos();
+        this.orcamentoBytes = orcamentoBytes;
+        this.pastaDespejo = pastaDespejo;
+        this.relogio = relogio;
+    }
+
+    /**
+     * @return A memória estimada de uma sessão residente sem jogadas.
+     */
+    static long estimaBytes(int linhas, int colunas) {
+        return BYTES_POR_SESSAO + estimaBytesTabuleiro(linhas, colunas);
+    }
+
+    static long estimaBytesTabuleiro(int linhas, int colunas) {
+        return (long) linhas * colunas * BYTES_POR_QUADRADO;
+    }
+
+    /**
+     * @return A memória estimada do que fica de uma sessão despejada: o
+     * controller, a gravação e o histórico.
+     */
+    static long estimaBytesDespejada(int jogadas, long quadradosHistorico) {
+        return BYTES_POR_SESSAO + jogadas * BYTES_POR_JOGADA + quadradosHistorico * BYTES_POR_QUADRADO_HISTORICO;
+    }
+
+    /**
+     * Cria uma sessão com um jogo novo.
+     *
+     * @return O identificador da sessão.
+     * @throws IllegalStateException Se não há pasta de despejo e a sessão
+     *                               passaria do orçamento.
+     */
+    public String criaSessao(int linha_size, int coluna_size, int bombas) {
+        ControllerTabuleiro controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+        controller.iniciarNovoJogo(linha_size, coluna_size, bombas);
+
+        String id = UUID.randomUUID().toString();
+        List<Sessao> despejar;
+        synchronized (this) {
+            Sessao sessao = new Sessao(id, controller, relogio.getAsLong());
+            if (pastaDespejo == null && bytesEmUso + sessao.getBytesEstimados() > orcamentoBytes) {
+                RECUSADAS.incrementa();
+                throw new IllegalStateException("Orçamento de memória das sessões esgotado");
+            }
+
+            sessoes.put(id, sessao);
+            bytesEmUso += sessao.getBytesEstimados();
+            CRIADAS.incrementa();
+            despejar = escolheParaOrcamento();
+        }
+        despeja(despejar);
+
+        return id;
+    }
+
+    /**
+     * Executa uma ação sobre o controller da sessão, recarregando-a do disco
+     * se tiver sido despejada. Ações na mesma sessão são serializadas; ações
+     * em sessões diferentes rodam em paralelo, inclusive com despejos e
+     * recargas de outras sessões.
+     *
+     * @throws UncheckedIOException Se o arquivo da sessão despejada não pôde
+     *                              ser lido. A sessão continua despejada e a
+     *                              próxima ação tenta de novo.
+     */
+    public <R> R executa(String id, Function<ControllerTabuleiro, R> acao) throws SessaoInexistenteException {
+        Sessao sessao;
+        synchronized (this) {
+            sessao = sessoes.get(id);
+            if (sessao == null) throw new SessaoInexistenteException(id);
+
+            sessao.toca(relogio.getAsLong());
+            sessao.reserva();
+        }
+
+        long[] estimativas = null;
+        try {
+            synchronized (sessao) {
+                preparaParaAcao(sessao);
+                R resultado = acao.apply(sessao.getController());
+                estimativas = sessao.estima();
+                return resultado;
+            }
+        } finally {
+            List<Sessao> despejar;
+            synchronized (this) {
+                sessao.libera();
+                if (estimativas != null && sessoes.containsKey(id)) bytesEmUso += sessao.contabiliza(estimativas);
+                despejar = escolheParaOrcamento();
+            }
+            despeja(despejar);
+        }
+    }
+
+    public void encerraSessao(String id) {
+        Sessao sessao;
+        synchronized (this) {
+            sessao = sessoes.remove(id);
+            if (sessao == null) return;
+
+            bytesEmUso -= sessao.getBytesEstimados();
+        }
+
+        // Espera um despejo ou recarga em andamento antes de apagar o arquivo
+        synchronized (sessao) {
+            apagaArquivo(sessao);
+        }
+    }
+
+    /**
+     * Despeja as sessões residentes sem acesso há mais que o TTL.
+     *
+     * @return Quantas sessões foram despejadas.
+     */
+    public int expiraOciosas() {
+        ArrayList<Sessao> ociosas = new ArrayList<>();
+        synchronized (this) {
+            long limite = relogio.getAsLong() - ttlNanos;
+
+            // A ordem de acesso também é ordem de último acesso, então a
+            // varredura para na primeira sessão recente
+            for (Sessao sessao : sessoes.values()) {
+                if (sessao.getUltimoAcesso() > limite) break;
+                if (sessao.getEstado() == Sessao.Estado.RESIDENTE && !sessao.isEmUso()) ociosas.add(sessao);
+            }
+
+            for (Sessao sessao : ociosas) {
+                EXPIRADAS.incrementa();
+                if (pastaDespejo == null) {
+                    sessoes.remove(sessao.getId());
+                    bytesEmUso -= sessao.getBytesEstimados();
+                } else {
+                    marcaParaDespejo(sessao);
+                }
+            }
+        }
+
+        if (pastaDespejo != null) despeja(ociosas);
+        return ociosas.size();
+    }
+
+    /**
+     * Roda expiraOciosas a cada período, numa thread daemon.
+     */
+    public synchronized void iniciaLimpezaPeriodica(long periodoSegundos) {
+        if (limpeza != null) return;
+
+        limpeza = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sessoes-limpeza");
+            thread.setDaemon(true);
+            return thread;
+        });
+        limpeza.scheduleAtFixedRate(this::expiraOciosas, periodoSegundos, periodoSegundos, TimeUnit.SECONDS);
+    }
+
+    public synchronized void paraLimpezaPeriodica() {
+        if (limpeza != null) {
+            limpeza.shutdownNow();
+            limpeza = null;
+        }
+    }
+
+    public synchronized int getQuantidadeSessoes() {
+        return sessoes.size();
+    }
+
+    public synchronized int getQuantidadeResidentes() {
+        int residentes = 0;
+        for (Sessao sessao : sessoes.values())
+            if (sessao.isResidente()) residentes++;
+
+        return residentes;
+    }
+
+    public synchronized long getBytesEmUso() {
+        return bytesEmUso;
+    }
+
+    public synchronized boolean existeSessao(String id) {
+        // get mudaria a ordem de acesso
+        return sessoes.containsKey(id);
+    }
+
+    synchronized boolean isResidente(String id) {
+        for (Sessao sessao : sessoes.values())
+            if (sessao.getId().equals(id)) return sessao.isResidente();
+
+        return false;
+    }
+
+    // Com o monitor do gerenciador. A memória da sessão já deixa de contar
+    // aqui, para a escolha parar no orçamento; se o despejo falhar, volta.
+    private void marcaParaDespejo(Sessao sessao) {
+        sessao.setEstado(Sessao.Estado.DESPEJANDO);
+        bytesEmUso += sessao.contabilizaDespejo();
+    }
+
+    // Com o monitor do gerenciador
+    private List<Sessao> escolheParaOrcamento() {
+        ArrayList<Sessao> escolhidas = new ArrayList<>();
+        if (pastaDespejo == null) return escolhidas;
+
+        for (Sessao sessao : sessoes.values()) {
+            if (bytesEmUso <= orcamentoBytes) break;
+
+            if (sessao.getEstado() == Sessao.Estado.RESIDENTE && !sessao.isEmUso()) {
+                marcaParaDespejo(sessao);
+                escolhidas.add(sessao);
+            }
+        }
+
+        return escolhidas;
+    }
+
+    // Sem o monitor do gerenciador: só a sessão fica travada durante a gravação
+    private void despeja(List<Sessao> escolhidas) {
+        for (Sessao sessao : escolhidas) {
+            synchronized (sessao) {
+                // Uma ação chegou antes e cancelou o despejo
+                if (sessao.getEstado() != Sessao.Estado.DESPEJANDO) continue;
+
+                Path arquivo = pastaDespejo.resolve(sessao.getId() + ".estado");
+                try {
+                    EstadoTabuleiro estado = sessao.getController().capturarEstado();
+                    try (OutputStream saida = Files.newOutputStream(arquivo)) {
+                        estado.escreve(saida);
+                    }
+                } catch (IOException e) {
+                    // A sessão continua residente; o orçamento tenta outra na próxima vez
+                    FALHAS_DESPEJO.incrementa();
+                    cancelaDespejo(sessao);
+                    continue;
+                }
+
+                sessao.getController().descarregarTabuleiro();
+                sessao.setArquivo(arquivo);
+                boolean encerrada;
+                synchronized (this) {
+                    sessao.setEstado(Sessao.Estado.DESPEJADA);
+                    encerrada = !sessoes.containsKey(sessao.getId());
+                    if (!encerrada) DESPEJADAS.incrementa();
+                }
+                if (encerrada) apagaArquivo(sessao);
+            }
+        }
+    }
+
+    // Com o monitor da sessão
+    private void preparaParaAcao(Sessao sessao) {
+        switch (sessao.getEstado()) {
+            case DESPEJANDO -> cancelaDespejo(sessao);
+            case DESPEJADA -> recarrega(sessao);
+            default -> { }
+        }
+    }
+
+    // Com o monitor da sessão
+    private void cancelaDespejo(Sessao sessao) {
+        long[] estimativas = sessao.estima();
+        synchronized (this) {
+            sessao.setEstado(Sessao.Estado.RESIDENTE);
+            if (sessoes.containsKey(sessao.getId())) bytesEmUso += sessao.contabiliza(estimativas);
+        }
+    }
+
+    // Com o monitor da sessão
+    private void recarrega(Sessao sessao) {
+        EstadoTabuleiro estado;
+        try (InputStream entrada = Files.newInputStream(sessao.getArquivo())) {
+            estado = EstadoTabuleiro.le(entrada);
+        } catch (IOException e) {
+            FALHAS_RECARGA.incrementa();
+            throw new UncheckedIOException("Não foi possível recarregar a sessão " + sessao.getId(), e);
+        }
+
+        sessao.getController().recarregarTabuleiro(Tabuleiro.novoTabuleiro(), estado);
+        apagaArquivo(sessao);
+
+        long[] estimativas = sessao.estima();
+        synchronized (this) {
+            sessao.setEstado(Sessao.Estado.RESIDENTE);
+            if (sessoes.containsKey(sessao.getId())) bytesEmUso += sessao.contabiliza(estimativas);
+            RECARREGADAS.incrementa();
+        }
+    }
+
+    // Com o monitor da sessão
+    private void apagaArquivo(Sessao sessao) {
+        if (sessao.getArquivo() == null) return;
+
+        try {
+            Files.deleteIfExists(sessao.getArquivo());
+        } catch (IOException e) {
+            ARQUIVOS_ORFAOS.incrementa();
+        }
+        sessao.setArquivo(null);
+    }
+}
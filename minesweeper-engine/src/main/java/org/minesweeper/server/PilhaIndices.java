@@ -0,0 +1,35 @@
+package org.minesweeper.server;
+
+import java.util.Arrays;
+
+/**
+ * Pilha de índices de quadrados sem boxing, para as cascatas que podem
+ * alcançar milhões de quadrados.
+ */
+class PilhaIndices {
+    private int[] indices = new int[16];
+    private int tamanho;
+
+    void empilha(int indice) {
+        if (tamanho == indices.length)
+            indices = Arrays.copyOf(indices, tamanho * 2);
+
+        indices[tamanho++] = indice;
+    }
+
+    int desempilha() {
+        return indices[--tamanho];
+    }
+
+    int get(int posicao) {
+        return indices[posicao];
+    }
+
+    int getTamanho() {
+        return tamanho;
+    }
+
+    boolean isVazia() {
+        return tamanho == 0;
+    }
+}
@@ -0,0 +1,78 @@
+package org.minesweeper.server;
+
+import org.minesweeper.model.QuadradoFront;
+
+/**
+ * Um quadro da transmissão de um jogo: ou só os quadrados que mudaram desde
+ * o quadro anterior (delta), ou o tabuleiro visível inteiro (completo).
+ *
+ * Cada quadrado visível é um byte: 0 a 8 para aberto com esse número, ou um
+ * dos valores FECHADO, MARCADO e BOMBA.
+ */
+public class Quadro {
+    public static final byte FECHADO = 9;
+    public static final byte MARCADO = 10;
+    public static final byte BOMBA = 11;
+
+    // Tamanho de um quadrado ao ser enviado: o delta leva o índice e o
+    // estado, o completo só o estado, na ordem do tabuleiro
+    static final int BYTES_POR_QUADRADO_DELTA = Integer.BYTES + 1;
+    static final int BYTES_POR_QUADRADO_COMPLETO = 1;
+
+    private final long sequencia;
+    private final int linha_size;
+    private final int coluna_size;
+    // null num quadro completo, em que estados cobre o tabuleiro inteiro
+    private final int[] indices;
+    private final byte[] estados;
+
+    Quadro(long sequencia, int linha_size, int coluna_size, int[] indices, byte[] estados) {
+        this.sequencia = sequencia;
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.indices = indices;
+        this.estados = estados;
+    }
+
+    public static byte codifica(QuadradoFront quadrado) {
+        if (!quadrado.isAberto()) return quadrado.isMarcado() ? MARCADO : FECHADO;
+        if (quadrado.isBomba()) return BOMBA;
+
+        return (byte) Math.max(0, quadrado.getNumero());
+    }
+
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public boolean isCompleto() {
+        return indices == null;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    /**
+     * @return Quantos quadrados o quadro carrega.
+     */
+    public int getTamanho() {
+        return estados.length;
+    }
+
+    /**
+     * Índice (linha * colunas + coluna) do i-ésimo quadrado do delta, ou o
+     * próprio i num quadro completo.
+     */
+    public int getIndice(int i) {
+        return indices == null ? i : indices[i];
+    }
+
+    public byte getEstado(int i) {
+        return estados[i];
+    }
+}
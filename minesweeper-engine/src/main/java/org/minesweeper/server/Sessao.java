@@ -0,0 +1,148 @@
+package org.minesweeper.server;
+
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.model.FotoTabuleiro;
+import org.minesweeper.replay.GravacaoJogo;
+
+import java.nio.file.Path;
+
+/**
+ * Um jogo em andamento no servidor. O controller, com o histórico e a
+ * gravação, vive enquanto a sessão existir; o tabuleiro só enquanto ela está
+ * residente. Despejada, ela guarda o arquivo com o estado do tabuleiro.
+ *
+ * O estado e as estimativas de memória são lidos e trocados com o monitor
+ * do GerenciadorSessoes; o controller e o arquivo, com o monitor da
+ * própria sessão.
+ */
+public class Sessao {
+    enum Estado {
+        RESIDENTE,
+        // Escolhida para despejo, com o arquivo ainda sendo gravado
+        DESPEJANDO,
+        DESPEJADA
+    }
+
+    private final String id;
+    private final ControllerTabuleiro controller;
+    private volatile Estado estado = Estado.RESIDENTE;
+    private Path arquivo;
+    private long ultimoAcesso;
+    private long bytesEstimados;
+    private long bytesSeDespejada;
+    // Ações em andamento; uma sessão em uso nunca é escolhida para despejo
+    private int emUso;
+
+    Sessao(String id, ControllerTabuleiro controller, long agora) {
+        this.id = id;
+        this.controller = controller;
+        this.ultimoAcesso = agora;
+        contabiliza(estima());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getUltimoAcesso() {
+        return ultimoAcesso;
+    }
+
+    /**
+     * @return true enquanto o tabuleiro está em memória, inclusive durante
+     * a gravação de um despejo.
+     */
+    public boolean isResidente() {
+        return estado != Estado.DESPEJADA;
+    }
+
+    Estado getEstado() {
+        return estado;
+    }
+
+    void setEstado(Estado estado) {
+        this.estado = estado;
+    }
+
+    ControllerTabuleiro getController() {
+        return controller;
+    }
+
+    Path getArquivo() {
+        return arquivo;
+    }
+
+    void setArquivo(Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    long getBytesEstimados() {
+        return bytesEstimados;
+    }
+
+    long getBytesSeDespejada() {
+        return bytesSeDespejada;
+    }
+
+    boolean isEmUso() {
+        return emUso > 0;
+    }
+
+    void toca(long agora) {
+        ultimoAcesso = agora;
+    }
+
+    void reserva() {
+        emUso++;
+    }
+
+    void libera() {
+        emUso--;
+    }
+
+    /**
+     * Recalcula as estimativas a partir do controller; as dimensões mudam se
+     * uma ação começou um jogo novo, e o histórico cresce a cada jogada.
+     * Chamado com o monitor da sessão.
+     *
+     * @return As estimativas, residente e despejada, para aplicar com
+     * contabiliza.
+     */
+    long[] estima() {
+        GravacaoJogo gravacao = controller.getGravacao();
+        int jogadas = gravacao != null ? gravacao.getQuantidadeJogadas() : 0;
+        long despejada = GerenciadorSessoes.estimaBytesDespejada(jogadas, controller.getHistorico().getQuadradosGuardados());
+
+        // Sem foto, o tabuleiro já foi solto
+        FotoTabuleiro foto = controller.getFoto();
+        long residente = despejada;
+        if (foto != null)
+            residente += GerenciadorSessoes.estimaBytesTabuleiro(foto.getLinha_size(), foto.getColuna_size());
+
+        return new long[]{residente, despejada};
+    }
+
+    /**
+     * Guarda as estimativas calculadas por estima. Chamado com o monitor do
+     * gerenciador.
+     *
+     * @return A diferença na memória contada para a sessão.
+     */
+    long contabiliza(long[] estimativas) {
+        long antes = bytesEstimados;
+        bytesSeDespejada = estimativas[1];
+        bytesEstimados = estado == Estado.DESPEJADA ? estimativas[1] : estimativas[0];
+        return bytesEstimados - antes;
+    }
+
+    /**
+     * Passa a contar só o que fica em memória depois do despejo.
+     *
+     * @return A diferença na memória contada para a sessão.
+     */
+    long contabilizaDespejo() {
+        long antes = bytesEstimados;
+        bytesEstimados = bytesSeDespejada;
+        return bytesEstimados - antes;
+    }
+}
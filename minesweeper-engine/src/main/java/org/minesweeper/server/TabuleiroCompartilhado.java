@@ -0,0 +1,406 @@
+package org.minesweeper.server;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tabuleiro do modo cooperativo, onde muitos jogadores agem ao mesmo tempo.
+ *
+ * O tabuleiro é dividido em regiões quadradas, cada uma com a sua trava, de
+ * forma que aberturas em áreas distantes rodam em paralelo. Uma cascata que
+ * atravessa regiões segura no máximo uma trava por vez: os vizinhos que caem
+ * em outra região ficam pendentes e são processados depois que a trava atual
+ * é solta, então não há ordem de aquisição que possa gerar deadlock.
+ *
+ * Para caber tabuleiros como 5000x5000, cada quadrado é um byte com o número
+ * de vizinhos perigosos e os bits de bomba, aberto e marcado. Bomba e número
+ * são fixos depois da construção e podem ser lidos sem trava.
+ */
+public class TabuleiroCompartilhado {
+    public static final int TAMANHO_REGIAO_PADRAO = 64;
+    /**
+     * Abaixo disso o custo de distribuir as tarefas passa do ganho.
+     */
+    public static final int LIMITE_PARALELO_PADRAO = 16_384;
+
+    private static final int NUMERO = 0x0F;
+    private static final int BOMBA = 0x10;
+    private static final int ABERTO = 0x20;
+    private static final int MARCADO = 0x40;
+
+    private final int linha_size;
+    private final int coluna_size;
+    private final int bombas;
+    private final int tamanhoRegiao;
+    private final int regioesPorLinha;
+    private final byte[] quadrados;
+    private final Object[] travas;
+
+    private volatile int limiteParalelo = limiteParaleloPadrao();
+    private final LongAdder abertos = new LongAdder();
+    private volatile boolean explodiu;
+    private final List<TabuleiroCompartilhadoListener> listeners = new CopyOnWriteArrayList<>();
+
+    public TabuleiroCompartilhado(int linha_size, int coluna_size, int bombas, long semente) {
+        this(linha_size, coluna_size, bombas, semente, TAMANHO_REGIAO_PADRAO);
+    }
+
+    /**
+     * @param tamanhoRegiao Lado, em quadrados, de cada região com trava
+     *                      própria. Um valor maior que o tabuleiro equivale
+     *                      a uma única trava global.
+     */
+    public TabuleiroCompartilhado(int linha_size, int coluna_size, int bombas, long semente, int tamanhoRegiao) {
+        long total = (long) linha_size * coluna_size;
+        if (total > Integer.MAX_VALUE) throw new IllegalArgumentException("Tabuleiro grande demais");
+        if (bombas < 0 || bombas > total) throw new IllegalArgumentException("Quantidade de bombas inválida");
+
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.bombas = bombas;
+        this.tamanhoRegiao = tamanhoRegiao;
+        this.regioesPorLinha = (coluna_size + tamanhoRegiao - 1) / tamanhoRegiao;
+        this.quadrados = new byte[(int) total];
+
+        int regioes = regioesPorLinha * ((linha_size + tamanhoRegiao - 1) / tamanhoRegiao);
+        this.travas = new Object[Math.max(1, regioes)];
+        for (int i = 0; i < travas.length; ++i)
+            travas[i] = new Object();
+
+        sorteiaBombas(new Random(semente));
+        contaVizinhos();
+    }
+
+    /**
+     * Sorteia posições até completar as bombas. Com mais da metade do
+     * tabuleiro em bombas, sorteia os quadrados livres, para que o número de
+     * tentativas repetidas continue baixo.
+     */
+    private void sorteiaBombas(Random rand) {
+        boolean sorteiaBombas = bombas <= quadrados.length / 2;
+        int alvo = sorteiaBombas ? bombas : quadrados.length - bombas;
+        if (!sorteiaBombas) Arrays.fill(quadrados, (byte) BOMBA);
+
+        int sorteados = 0;
+        while (sorteados < alvo) {
+            int indice = rand.nextInt(quadrados.length);
+            boolean bomba = (quadrados[indice] & BOMBA) != 0;
+
+            if (bomba != sorteiaBombas) {
+                quadrados[indice] ^= BOMBA;
+                sorteados++;
+            }
+        }
+    }
+
+    private void contaVizinhos() {
+        for (int linha = 0; linha < linha_size; ++linha)
+            for (int coluna = 0; coluna < coluna_size; ++coluna) {
+                int cont = 0;
+                for (int i = -1; i <= 1; ++i)
+                    for (int j = -1; j <= 1; ++j)
+                        if ((i != 0 || j != 0) && quadradoExiste(linha + i, coluna + j)
+                                && (quadrados[indice(linha + i, coluna + j)] & BOMBA) != 0)
+                            cont++;
+
+                quadrados[indice(linha, coluna)] |= (byte) cont;
+            }
+    }
+
+    /**
+     * Abre o quadrado e, se for zero, a cascata de vizinhos, avisando os
+     * listeners com todos os quadrados abertos.
+     *
+     * @return Os quadrados abertos por esta chamada; vazio se o quadrado já
+     * estava aberto, marcado, fora do tabuleiro ou se o jogo acabou.
+     */
+    public ArrayList<QuadradoFront> abrir(Localizacao localizacao) {
+        if (explodiu || !quadradoExiste(localizacao.getLinha(), localizacao.getColuna())) return new ArrayList<>();
+
+        // Dentro da trava só os índices são guardados; os QuadradoFront são
+        // criados depois. Um quadrado aberto não muda mais, então lê-lo fora
+        // da trava é seguro.
+        PilhaIndices abertosAgora = new PilhaIndices();
+
+        // Ordenado para que as regiões pendentes sejam visitadas numa ordem
+        // estável, da menor para a maior
+        TreeMap<Integer, PilhaIndices> pendentes = new TreeMap<>();
+        int inicio = indice(localizacao.getLinha(), localizacao.getColuna());
+        pendentes.computeIfAbsent(regiaoDe(inicio), r -> new PilhaIndices()).empilha(inicio);
+
+        ConcurrentLinkedQueue<ArrayList<QuadradoFront>> paralelos = null;
+        while (!pendentes.isEmpty()) {
+            // Cascata grande: o que falta é dividido entre as threads
+            if (abertosAgora.getTamanho() >= limiteParalelo) {
+                paralelos = abreEmParalelo(pendentes);
+                break;
+            }
+
+            Map.Entry<Integer, PilhaIndices> proxima = pendentes.pollFirstEntry();
+            preencheRegiao(proxima.getKey(), proxima.getValue(), abertosAgora, pendentes);
+        }
+
+        // Na ordem de abertura, com o quadrado clicado primeiro
+        ArrayList<QuadradoFront> alterados = fronts(abertosAgora);
+        if (paralelos != null)
+            for (ArrayList<QuadradoFront> parte : paralelos)
+                alterados.addAll(parte);
+        abertos.add(alterados.size());
+
+        // Pode avisar fora da trava: um quadrado aberto não muda mais, e a
+        // marcação que o precedeu já foi avisada antes de soltar a trava
+        notifica(alterados);
+        return alterados;
+    }
+
+    /**
+     * Abre, segurando só a trava da região, os quadrados da pilha e os
+     * zeros alcançados a partir deles dentro da mesma região. Vizinhos em
+     * outras regiões vão para as pendentes.
+     */
+    private void preencheRegiao(int regiao, PilhaIndices pilha, PilhaIndices abertosAgora, Map<Integer, PilhaIndices> pendentes) {
+        synchronized (travas[regiao]) {
+            while (!pilha.isVazia()) {
+                int atual = pilha.desempilha();
+                int quadrado = quadrados[atual];
+                if ((quadrado & (ABERTO | MARCADO)) != 0) continue;
+
+                quadrados[atual] = (byte) (quadrado | ABERTO);
+                abertosAgora.empilha(atual);
+
+                if ((quadrado & BOMBA) != 0) {
+                    explodiu = true;
+                    continue;
+                }
+
+                if ((quadrado & NUMERO) == 0)
+                    empilhaVizinhos(atual, regiao, pilha, pendentes);
+            }
+        }
+    }
+
+    /**
+     * Continua a cascata no ForkJoinPool comum, com uma tarefa por região
+     * pendente. Cada tarefa segura apenas a trava da sua região e dispara
+     * novas tarefas para as regiões vizinhas que alcançar, então a regra de
+     * uma trava por vez continua valendo. As tarefas não esperam umas pelas
+     * outras (CountedCompleter), o que evita pilhas profundas em cascatas
+     * sinuosas.
+     *
+     * @return Os deltas de cada tarefa, já convertidos em paralelo.
+     */
+    private ConcurrentLinkedQueue<ArrayList<QuadradoFront>> abreEmParalelo(Map<Integer, PilhaIndices> pendentes) {
+        ConcurrentLinkedQueue<ArrayList<QuadradoFront>> resultados = new ConcurrentLinkedQueue<>();
+
+        ForkJoinPool.commonPool().invoke(new CountedCompleter<Void>() {
+            @Override
+            public void compute() {
+                dispara(this, pendentes, resultados);
+                tryComplete();
+            }
+        });
+
+        return resultados;
+    }
+
+    private void dispara(CountedCompleter<?> pai, Map<Integer, PilhaIndices> pendentes,
+                         ConcurrentLinkedQueue<ArrayList<QuadradoFront>> resultados) {
+        pai.addToPendingCount(pendentes.size());
+        pendentes.forEach((regiao, pilha) -> new TarefaRegiao(pai, regiao, pilha, resultados).fork());
+    }
+
+    private class TarefaRegiao extends CountedCompleter<Void> {
+        private final int regiao;
+        private final PilhaIndices pilha;
+        private final ConcurrentLinkedQueue<ArrayList<QuadradoFront>> resultados;
+
+        TarefaRegiao(CountedCompleter<?> pai, int regiao, PilhaIndices pilha,
+                     ConcurrentLinkedQueue<ArrayList<QuadradoFront>> resultados) {
+            super(pai);
+            this.regiao = regiao;
+            this.pilha = pilha;
+            this.resultados = resultados;
+        }
+
+        @Override
+        public void compute() {
+            PilhaIndices abertosAqui = new PilhaIndices();
+            HashMap<Integer, PilhaIndices> vizinhas = new HashMap<>();
+            preencheRegiao(regiao, pilha, abertosAqui, vizinhas);
+
+            // As vizinhas são disparadas antes de montar o delta desta região
+            dispara(this, vizinhas, resultados);
+            if (!abertosAqui.isVazia()) resultados.add(fronts(abertosAqui));
+            tryComplete();
+        }
+    }
+
+    private ArrayList<QuadradoFront> fronts(PilhaIndices indices) {
+        ArrayList<QuadradoFront> fronts = new ArrayList<>(indices.getTamanho());
+        for (int i = 0; i < indices.getTamanho(); ++i)
+            fronts.add(frontDe(indices.get(i)));
+
+        return fronts;
+    }
+
+    private void empilhaVizinhos(int indice, int regiaoAtual, PilhaIndices pilha, Map<Integer, PilhaIndices> pendentes) {
+        int linha = indice / coluna_size;
+        int coluna = indice % coluna_size;
+
+        for (int i = -1; i <= 1; ++i)
+            for (int j = -1; j <= 1; ++j) {
+                if ((i == 0 && j == 0) || !quadradoExiste(linha + i, coluna + j)) continue;
+
+                int vizinho = indice(linha + i, coluna + j);
+                int regiao = regiaoDe(vizinho);
+                if (regiao == regiaoAtual)
+                    pilha.empilha(vizinho);
+                else
+                    pendentes.computeIfAbsent(regiao, r -> new PilhaIndices()).empilha(vizinho);
+            }
+    }
+
+    /**
+     * Alterna a marcação do quadrado.
+     *
+     * @return O quadrado alterado, ou null se ele já estava aberto, fora do
+     * tabuleiro ou se o jogo acabou.
+     */
+    public QuadradoFront marcar(Localizacao localizacao) {
+        if (explodiu || !quadradoExiste(localizacao.getLinha(), localizacao.getColuna())) return null;
+
+        int indice = indice(localizacao.getLinha(), localizacao.getColuna());
+
+        // A marcação vai e volta, então o aviso sai ainda dentro da trava:
+        // fora dela, duas marcações seguidas poderiam chegar aos listeners
+        // na ordem inversa e deixar a transmissão com o estado antigo
+        synchronized (travas[regiaoDe(indice)]) {
+            int quadrado = quadrados[indice];
+            if ((quadrado & ABERTO) != 0) return null;
+
+            quadrados[indice] = (byte) (quadrado ^ MARCADO);
+            QuadradoFront alterado = frontDe(indice);
+            notifica(List.of(alterado));
+            return alterado;
+        }
+    }
+
+    /**
+     * Estado do quadrado como o cliente deve vê-lo, para sincronizar quem
+     * entra no meio do jogo. A leitura é feita sem trava.
+     */
+    public QuadradoFront getQuadrado(int linha, int coluna) {
+        if (!quadradoExiste(linha, coluna)) return null;
+
+        return frontDe(indice(linha, coluna));
+    }
+
+    public boolean ganhou() {
+        return !explodiu && abertos.sum() == (long) quadrados.length - bombas;
+    }
+
+    public boolean explodiu() {
+        return explodiu;
+    }
+
+    public long getQuadradosAbertos() {
+        return abertos.sum();
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    public int getTamanhoRegiao() {
+        return tamanhoRegiao;
+    }
+
+    /**
+     * @param limiteParalelo Quadrados abertos em sequência antes de a
+     *                       cascata passar para o ForkJoinPool.
+     *                       Integer.MAX_VALUE mantém tudo sequencial.
+     */
+    public void setLimiteParalelo(int limiteParalelo) {
+        this.limiteParalelo = limiteParalelo;
+    }
+
+    public int getLimiteParalelo() {
+        return limiteParalelo;
+    }
+
+    // Com uma única thread no pool comum não há o que dividir: a cascata
+    // paralela só somaria o custo das tarefas
+    private static int limiteParaleloPadrao() {
+        return ForkJoinPool.getCommonPoolParallelism() > 1 ? LIMITE_PARALELO_PADRAO : Integer.MAX_VALUE;
+    }
+
+    boolean isBomba(int linha, int coluna) {
+        return (quadrados[indice(linha, coluna)] & BOMBA) != 0;
+    }
+
+    public void subscribe(TabuleiroCompartilhadoListener listener) {
+        if (!listeners.contains(listener))
+            listeners.add(listener);
+    }
+
+    public void unsubscribe(TabuleiroCompartilhadoListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifica(List<QuadradoFront> alterados) {
+        if (alterados.isEmpty()) return;
+
+        for (TabuleiroCompartilhadoListener l : listeners)
+            l.onQuadradosAlterados(alterados);
+    }
+
+    private QuadradoFront frontDe(int indice) {
+        int quadrado = quadrados[indice];
+        Localizacao localizacao = new Localizacao(indice / coluna_size, indice % coluna_size);
+        boolean aberto = (quadrado & ABERTO) != 0;
+        boolean bomba = (quadrado & BOMBA) != 0;
+
+        if (!aberto)
+            return new QuadradoFront(false, -1, (quadrado & MARCADO) != 0, localizacao, false);
+
+        return new QuadradoFront(true, bomba ? -1 : quadrado & NUMERO, false, localizacao, bomba);
+    }
+
+    private int indice(int linha, int coluna) {
+        return linha * coluna_size + coluna;
+    }
+
+    private int regiaoDe(int indice) {
+        int linha = indice / coluna_size;
+        int coluna = indice % coluna_size;
+        return (linha / tamanhoRegiao) * regioesPorLinha + coluna / tamanhoRegiao;
+    }
+
+    private boolean quadradoExiste(int linha, int coluna) {
+        if (coluna < 0 || coluna >= coluna_size) return false;
+        if (linha < 0 || linha >= linha_size) return false;
+
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package org.minesweeper.server;
+
+import org.minesweeper.model.QuadradoFront;
+
+import java.util.List;
+
+public interface TabuleiroCompartilhadoListener {
+    /**
+     * Chamado depois de cada ação com os quadrados que mudaram, na thread
+     * do jogador que fez a ação. Uma marcação é avisada com a trava da sua
+     * região ainda presa, para que os avisos saiam na ordem das ações; por
+     * isso o listener não deve agir sobre o tabuleiro nem demorar.
+     */
+    void onQuadradosAlterados(List<QuadradoFront> alterados);
+}
@@ -0,0 +1,291 @@
+package org.minesweeper.server;
+
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.QuadradoFront;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transmite um jogo para vários espectadores.
+ *
+ * Quem joga só chama publica, que anota os quadrados alterados num buffer e
+ * retorna. A cada tick, tudo o que foi anotado vira um único quadro delta,
+ * com cada quadrado uma vez só e no seu estado mais recente, e é colocado
+ * na fila de cada espectador. A entrega roda num pool próprio, então nem o
+ * jogador nem o tick esperam por espectadores lentos.
+ *
+ * A fila de cada espectador é limitada. Se ela encher, os quadros
+ * acumulados são descartados e o espectador recebe um quadro completo com o
+ * estado atual, seguido só dos deltas mais novos que ele.
+ */
+public class TransmissaoJogo implements TabuleiroCompartilhadoListener {
+    public static final long TICK_PADRAO_MS = 50;
+    public static final int FILA_PADRAO = 64;
+
+    private static final Contador QUADROS = RegistroMetricas.getInstance().contador("transmissao.quadros");
+    private static final Contador COMPLETOS = RegistroMetricas.getInstance().contador("transmissao.completos");
+    private static final Contador ATRASADOS = RegistroMetricas.getInstance().contador("transmissao.espectadoresAtrasados");
+    private static final Contador FALHAS = RegistroMetricas.getInstance().contador("transmissao.espectadoresComFalha");
+
+    private final int linha_size;
+    private final int coluna_size;
+    private final int tamanhoFila;
+    private final Executor entrega;
+    private final Map<Espectador, Assinatura> assinaturas = new ConcurrentHashMap<>();
+
+    // Buffer do tick atual, protegido por this
+    private int[] pendentesIndices = new int[64];
+    private byte[] pendentesEstados = new byte[64];
+    private int pendentes;
+
+    // Estado visível até o último quadro, protegido por estadoLock
+    private final Object estadoLock = new Object();
+    private final byte[] estado;
+    private long sequencia;
+
+    // Usado só pela thread do tick
+    private final BitSet vistos;
+
+    private ScheduledExecutorService tick;
+    private ExecutorService entregaPropria;
+
+    public TransmissaoJogo(int linha_size, int coluna_size) {
+        this(linha_size, coluna_size, FILA_PADRAO, null);
+    }
+
+    /**
+     * @param entrega Onde os quadros são entregues aos espectadores; null
+     *                cria um pool próprio de threads daemon.
+     */
+    TransmissaoJogo(int linha_size, int coluna_size, int tamanhoFila, Executor entrega) {
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.tamanhoFila = tamanhoFila;
+        this.estado = new byte[linha_size * coluna_size];
+        this.vistos = new BitSet(estado.length);
+        Arrays.fill(estado, Quadro.FECHADO);
+
+        if (entrega == null) {
+            entregaPropria = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "transmissao-entrega");
+                thread.setDaemon(true);
+                return thread;
+            });
+            entrega = entregaPropria;
+        }
+        this.entrega = entrega;
+    }
+
+    public synchronized void iniciar(long tickMs) {
+        if (tick != null) return;
+
+        tick = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "transmissao-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tick.scheduleAtFixedRate(this::emiteQuadro, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Encerra a transmissão; o pool de entrega próprio não é reaproveitado.
+     */
+    public synchronized void parar() {
+        if (tick != null) {
+            tick.shutdownNow();
+            tick = null;
+        }
+        if (entregaPropria != null) {
+            entregaPropria.shutdownNow();
+        }
+    }
+
+    /**
+     * Um espectador novo recebe primeiro um quadro completo.
+     */
+    public void subscribe(Espectador espectador) {
+        Assinatura assinatura = new Assinatura(espectador, tamanhoFila);
+        if (assinaturas.putIfAbsent(espectador, assinatura) == null)
+            agenda(assinatura);
+    }
+
+    public void unsubscribe(Espectador espectador) {
+        Assinatura assinatura = assinaturas.remove(espectador);
+        if (assinatura != null) assinatura.fila.clear();
+    }
+
+    public int getQuantidadeEspectadores() {
+        return assinaturas.size();
+    }
+
+    @Override
+    public void onQuadradosAlterados(List<QuadradoFront> alterados) {
+        publica(alterados);
+    }
+
+    /**
+     * Anota os quadrados alterados para o próximo quadro. É a única parte
+     * da transmissão que roda na thread de quem joga.
+     */
+    public synchronized void publica(Collection<QuadradoFront> alterados) {
+        if (pendentes + alterados.size() > pendentesIndices.length) {
+            int capacidade = Math.max(pendentesIndices.length * 2, pendentes + alterados.size());
+            pendentesIndices = Arrays.copyOf(pendentesIndices, capacidade);
+            pendentesEstados = Arrays.copyOf(pendentesEstados, capacidade);
+        }
+
+        for (QuadradoFront quadrado : alterados) {
+            pendentesIndices[pendentes] = quadrado.getLocalizacao().getLinha() * coluna_size + quadrado.getLocalizacao().getColuna();
+            pendentesEstados[pendentes] = Quadro.codifica(quadrado);
+            pendentes++;
+        }
+    }
+
+    /**
+     * Fecha o tick: junta o buffer num quadro e o coloca na fila de cada
+     * espectador. Chamado pelo agendador; package-private para os testes.
+     */
+    void emiteQuadro() {
+        int[] indices;
+        byte[] estados;
+        int quantidade;
+        synchronized (this) {
+            if (pendentes == 0) return;
+
+            indices = pendentesIndices;
+            estados = pendentesEstados;
+            quantidade = pendentes;
+            pendentesIndices = new int[Math.max(64, quantidade / 2)];
+            pendentesEstados = new byte[pendentesIndices.length];
+            pendentes = 0;
+        }
+
+        Quadro quadro = coalesce(indices, estados, quantidade);
+        if (quadro == null) return;
+
+        QUADROS.incrementa();
+        for (Assinatura assinatura : assinaturas.values()) {
+            if (!assinatura.fila.offer(quadro)) {
+                // Espectador lento: em vez de acumular, ele recebe o estado atual
+                assinatura.fila.clear();
+                assinatura.precisaCompleto = true;
+                ATRASADOS.incrementa();
+            }
+            agenda(assinatura);
+        }
+    }
+
+    /**
+     * Percorre o buffer de trás para frente, ficando só com a última
+     * mudança de cada quadrado, e descarta as que voltaram ao estado do
+     * quadro anterior (ex.: marcar e desmarcar no mesmo tick).
+     */
+    private Quadro coalesce(int[] indices, byte[] estados, int quantidade) {
+        int[] finais = new int[quantidade];
+        byte[] estadosFinais = new byte[quantidade];
+        int distintos = 0;
+
+        synchronized (estadoLock) {
+            for (int i = quantidade - 1; i >= 0; --i) {
+                int indice = indices[i];
+                if (vistos.get(indice)) continue;
+
+                vistos.set(indice);
+                if (estado[indice] == estados[i]) continue;
+
+                finais[distintos] = indice;
+                estadosFinais[distintos] = estados[i];
+                distintos++;
+            }
+
+            for (int i = 0; i < quantidade; ++i)
+                vistos.clear(indices[i]);
+
+            if (distintos == 0) return null;
+
+            for (int i = 0; i < distintos; ++i)
+                estado[finais[i]] = estadosFinais[i];
+            sequencia++;
+
+            // Com mudanças demais o quadro completo fica menor que o delta
+            if ((long) distintos * Quadro.BYTES_POR_QUADRADO_DELTA > (long) estado.length * Quadro.BYTES_POR_QUADRADO_COMPLETO) {
+                COMPLETOS.incrementa();
+                return new Quadro(sequencia, linha_size, coluna_size, null, estado.clone());
+            }
+        }
+
+        return new Quadro(sequencia, linha_size, coluna_size,
+                Arrays.copyOf(finais, distintos), Arrays.copyOf(estadosFinais, distintos));
+    }
+
+    private Quadro quadroCompleto() {
+        synchronized (estadoLock) {
+            COMPLETOS.incrementa();
+            return new Quadro(sequencia, linha_size, coluna_size, null, estado.clone());
+        }
+    }
+
+    private void agenda(Assinatura assinatura) {
+        if (assinatura.agendada.compareAndSet(false, true))
+            entrega.execute(() -> drena(assinatura));
+    }
+
+    private void drena(Assinatura assinatura) {
+        try {
+            while (assinaturas.get(assinatura.espectador) == assinatura) {
+                if (assinatura.precisaCompleto) {
+                    assinatura.precisaCompleto = false;
+                    Quadro completo = quadroCompleto();
+                    assinatura.ultimaSequencia = completo.getSequencia();
+                    assinatura.espectador.onQuadro(completo);
+                }
+
+                Quadro quadro = assinatura.fila.poll();
+                if (quadro == null) break;
+
+                // Já coberto pelo último quadro completo
+                if (quadro.getSequencia() <= assinatura.ultimaSequencia) continue;
+
+                assinatura.ultimaSequencia = quadro.getSequencia();
+                assinatura.espectador.onQuadro(quadro);
+            }
+        } catch (RuntimeException e) {
+            // Um espectador que falha é removido; a falha só aparece na métrica
+            FALHAS.incrementa();
+            unsubscribe(assinatura.espectador);
+        } finally {
+            assinatura.agendada.set(false);
+        }
+
+        // Algo pode ter chegado entre o último poll e a liberação
+        if (!assinatura.fila.isEmpty() || assinatura.precisaCompleto)
+            if (assinaturas.get(assinatura.espectador) == assinatura) agenda(assinatura);
+    }
+
+    private static class Assinatura {
+        private final Espectador espectador;
+        private final ArrayBlockingQueue<Quadro> fila;
+        private final AtomicBoolean agendada = new AtomicBoolean();
+        private volatile boolean precisaCompleto = true;
+        // Usado só pela entrega, que nunca roda duas vezes ao mesmo tempo
+        private long ultimaSequencia = -1;
+
+        private Assinatura(Espectador espectador, int tamanhoFila) {
+            this.espectador = espectador;
+            this.fila = new ArrayBlockingQueue<>(tamanhoFila);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package org.minesweeper.service;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.metrics.EventoAbrirQuadrado;
+import org.minesweeper.metrics.Histograma;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.Topologia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class AbrirQuadrado extends AcaoTabuleiro{
+    /**
+     * Quadrados abertos em sequência antes de a cascata passar para o
+     * ForkJoinPool. Abaixo disso o custo de distribuir as tarefas passa do
+     * ganho.
+     */
+    public static final int LIMITE_PARALELO_PADRAO = 16_384;
+    // Pares linha, coluna na pilha de uma tarefa antes de ela dividir o que falta
+    private static final int LOTE_PARALELO = 4096;
+
+    private static final Histograma TAMANHO_CASCATA = RegistroMetricas.getInstance().histograma("abrir.cascata.quadrados");
+    private static final Histograma DURACAO_CASCATA = RegistroMetricas.getInstance().histograma("abrir.cascata.ns");
+
+    private static final int NAO_ABERTO = -2;
+    private static final int BOMBA = -1;
+
+    private final int limiteParalelo;
+
+    public AbrirQuadrado(Localizacao localizacao) {
+        this(localizacao, limiteParaleloPadrao());
+    }
+
+    /**
+     * @param limiteParalelo Quadrados abertos em sequência antes de a
+     *                       cascata passar para o ForkJoinPool.
+     *                       Integer.MAX_VALUE mantém tudo sequencial.
+     */
+    public AbrirQuadrado(Localizacao localizacao, int limiteParalelo) {
+        this.localizacao = localizacao;
+        this.limiteParalelo = limiteParalelo;
+    }
+
+    // Com uma única thread no pool comum não há o que dividir
+    static int limiteParaleloPadrao() {
+        return ForkJoinPool.getCommonPoolParallelism() > 1 ? LIMITE_PARALELO_PADRAO : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public ArrayList<QuadradoFront> visitTabuleiro(Tabuleiro tabuleiro){
+        long inicio = System.nanoTime();
+        EventoAbrirQuadrado evento = new EventoAbrirQuadrado();
+        evento.begin();
+
+        ArrayList<QuadradoFront> quadrados = abre(tabuleiro);
+
+        // Só a abertura iniciada pelo jogador é medida, não cada passo da recursão
+        if (quadrados != null) {
+            DURACAO_CASCATA.registraDesde(inicio);
+            TAMANHO_CASCATA.registra(quadrados.size());
+
+            if (evento.shouldCommit()) {
+                evento.linha = localizacao.getLinha();
+                evento.coluna = localizacao.getColuna();
+                evento.tamanhoCascata = quadrados.size();
+                evento.bomba = quadrados.get(0).isBomba();
+                evento.commit();
+            }
+        }
+
+        return quadrados;
+    }
+
+    private ArrayList<QuadradoFront> abre(Tabuleiro tabuleiro){
+        ArrayList<QuadradoFront> quadrados = new ArrayList<>();
+
+        return abre(tabuleiro, quadrados) ? quadrados : null;
+    }
+
+    /**
+     * Abre o quadrado e acrescenta em quadrados o que foi aberto, com a
+     * cascata inteira se ele for zero.
+     *
+     * @return false se o quadrado não pôde ser aberto.
+     */
+    private boolean abre(Tabuleiro tabuleiro, ArrayList<QuadradoFront> quadrados){
+        try {
+            int num = abreQuadrado(tabuleiro, localizacao, quadrados);
+            if (num == NAO_ABERTO) return false;
+
+            if (num == 0) abreCascata(tabuleiro, quadrados);
+            return true;
+        } catch (ForaDoTabuleiroException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Os vizinhos perigosos do quadrado aberto, BOMBA ou NAO_ABERTO
+     * se ele já estava aberto ou marcado.
+     */
+    private static int abreQuadrado(Tabuleiro tabuleiro, Localizacao localizacao, ArrayList<QuadradoFront> quadrados)
+            throws ForaDoTabuleiroException {
+        if (tabuleiro.isAberto(localizacao)) return NAO_ABERTO;
+        if (tabuleiro.isMarcado(localizacao)) return NAO_ABERTO;
+
+        if (tabuleiro.isBomba(localizacao)) {
+            tabuleiro.setAberto(localizacao);
+            quadrados.add(new QuadradoFront(true, -1, false, localizacao, true));
+            return BOMBA;
+        }
+
+        tabuleiro.setAberto(localizacao);
+        int num = tabuleiro.quantVizinhosPerigosos(localizacao);
+
+        quadrados.add(new QuadradoFront(true, num, false, localizacao, false));
+        return num;
+    }
+
+    /**
+     * Abre os vizinhos dos zeros a partir do quadrado inicial. Os zeros
+     * ainda não expandidos ficam numa pilha de pares linha, coluna, sem
+     * recursão: uma cascata por um tabuleiro inteiro estourava a pilha de
+     * chamadas e criava uma AbrirQuadrado por vizinho visitado.
+     */
+    private void abreCascata(Tabuleiro tabuleiro, ArrayList<QuadradoFront> quadrados){
+        Topologia topologia = tabuleiro.getTopologia();
+        int linhas = tabuleiro.getLinha_size();
+        int colunas = tabuleiro.getColuna_size();
+        int[] pilha = new int[32];
+        int topo = 0;
+        pilha[topo++] = localizacao.getLinha();
+        pilha[topo++] = localizacao.getColuna();
+
+        while (topo > 0) {
+            // Cascata grande: o que falta é dividido entre as threads
+            if (quadrados.size() >= limiteParalelo) {
+                abreCascataParalela(tabuleiro, Arrays.copyOf(pilha, topo), quadrados);
+                return;
+            }
+
+            int coluna = pilha[--topo];
+            int linha = pilha[--topo];
+            int[] dLinha = topologia.deslocamentosLinha(linha, coluna);
+            int[] dColuna = topologia.deslocamentosColuna(linha, coluna);
+
+            for (int k = 0; k < dLinha.length; ++k) {
+                int l = linha + dLinha[k];
+                int c = coluna + dColuna[k];
+                if (topologia.isToroidal()) {
+                    l = Math.floorMod(l, linhas);
+                    c = Math.floorMod(c, colunas);
+                } else if (l < 0 || l >= linhas || c < 0 || c >= colunas) {
+                    // Vizinho fora do tabuleiro: conferido aqui para não lançar uma exceção por vizinho da borda
+                    continue;
+                }
+
+                int num;
+                try {
+                    num = abreQuadrado(tabuleiro, new Localizacao(l, c), quadrados);
+                } catch (ForaDoTabuleiroException e) {
+                    // Não acontece: a linha e a coluna já foram conferidas
+                    continue;
+                }
+
+                if (num == 0) {
+                    if (topo == pilha.length) pilha = Arrays.copyOf(pilha, topo * 2);
+                    pilha[topo++] = l;
+                    pilha[topo++] = c;
+                }
+            }
+        }
+    }
+
+    /**
+     * Continua a cascata no ForkJoinPool comum a partir dos zeros ainda não
+     * expandidos. As tarefas só leem o tabuleiro, que não é thread-safe
+     * para escrita: cada quadrado é reservado num mapa de bits atômico,
+     * para que só uma tarefa o abra, e as tarefas devolvem os QuadradoFront
+     * já montados. Depois que todas terminam, os quadrados são abertos no
+     * tabuleiro aqui, em sequência.
+     *
+     * Os vizinhos de um zero nunca são bombas, então nada explode aqui.
+     */
+    private void abreCascataParalela(Tabuleiro tabuleiro, int[] fronteira, ArrayList<QuadradoFront> quadrados){
+        int total = tabuleiro.getLinha_size() * tabuleiro.getColuna_size();
+        AtomicIntegerArray reservados = new AtomicIntegerArray((total + 31) >>> 5);
+        ConcurrentLinkedQueue<ArrayList<QuadradoFront>> resultados = new ConcurrentLinkedQueue<>();
+
+        ForkJoinPool.commonPool().invoke(new TarefaCascata(null, tabuleiro, fronteira, reservados, resultados));
+
+        for (ArrayList<QuadradoFront> parte : resultados)
+            for (QuadradoFront quadrado : parte) {
+                try {
+                    tabuleiro.setAberto(quadrado.getLocalizacao());
+                } catch (ForaDoTabuleiroException e) {
+                    // Não acontece: a tarefa já conferiu a linha e a coluna
+                    continue;
+                }
+                quadrados.add(quadrado);
+            }
+    }
+
+    /**
+     * Expande uma pilha de zeros. Quando a pilha passa de LOTE_PARALELO
+     * pares, metade dela vira uma nova tarefa; as tarefas não esperam umas
+     * pelas outras (CountedCompleter), como na cascata do
+     * TabuleiroCompartilhado.
+     */
+    private static class TarefaCascata extends CountedCompleter<Void> {
+        private final Tabuleiro tabuleiro;
+        private final AtomicIntegerArray reservados;
+        private final ConcurrentLinkedQueue<ArrayList<QuadradoFront>> resultados;
+        private int[] pilha;
+        private int topo;
+
+        TarefaCascata(CountedCompleter<?> pai, Tabuleiro tabuleiro, int[] pilha, AtomicIntegerArray reservados,
+                      ConcurrentLinkedQueue<ArrayList<QuadradoFront>> resultados) {
+            super(pai);
+            this.tabuleiro = tabuleiro;
+            this.pilha = pilha;
+            this.topo = pilha.length;
+            this.reservados = reservados;
+            this.resultados = resultados;
+        }
+
+        @Override
+        public void compute() {
+            Topologia topologia = tabuleiro.getTopologia();
+            int linhas = tabuleiro.getLinha_size();
+            int colunas = tabuleiro.getColuna_size();
+            ArrayList<QuadradoFront> abertos = new ArrayList<>();
+
+            while (topo > 0) {
+                if (topo > 4 * LOTE_PARALELO) {
+                    // Metade dos pares vai para outra tarefa
+                    int metade = (topo >>> 2) << 1;
+                    addToPendingCount(1);
+                    new TarefaCascata(this, tabuleiro, Arrays.copyOfRange(pilha, metade, topo), reservados, resultados).fork();
+                    topo = metade;
+                }
+
+                int coluna = pilha[--topo];
+                int linha = pilha[--topo];
+                int[] dLinha = topologia.deslocamentosLinha(linha, coluna);
+                int[] dColuna = topologia.deslocamentosColuna(linha, coluna);
+
+                for (int k = 0; k < dLinha.length; ++k) {
+                    int l = linha + dLinha[k];
+                    int c = coluna + dColuna[k];
+                    if (topologia.isToroidal()) {
+                        l = Math.floorMod(l, linhas);
+                        c = Math.floorMod(c, colunas);
+                    } else if (l < 0 || l >= linhas || c < 0 || c >= colunas) {
+                        continue;
+                    }
+                    if (!reserva(l * colunas + c)) continue;
+
+                    Localizacao vizinho = new Localizacao(l, c);
+                    try {
+                        if (tabuleiro.isAberto(vizinho) || tabuleiro.isMarcado(vizinho)) continue;
+                    } catch (ForaDoTabuleiroException e) {
+                        continue;
+                    }
+
+                    int num = tabuleiro.quantVizinhosPerigosos(vizinho);
+                    abertos.add(new QuadradoFront(true, num, false, vizinho, false));
+
+                    if (num == 0) {
+                        if (topo == pilha.length) pilha = Arrays.copyOf(pilha, Math.max(32, topo * 2));
+                        pilha[topo++] = l;
+                        pilha[topo++] = c;
+                    }
+                }
+            }
+
+            if (!abertos.isEmpty()) resultados.add(abertos);
+            tryComplete();
+        }
+
+        // true só para a primeira tarefa que chega ao quadrado
+        private boolean reserva(int indice) {
+            int palavra = indice >>> 5;
+            int bit = 1 << (indice & 31);
+            while (true) {
+                int atual = reservados.get(palavra);
+                if ((atual & bit) != 0) return false;
+                if (reservados.compareAndSet(palavra, atual, atual | bit)) return true;
+            }
+        }
+    }
+}
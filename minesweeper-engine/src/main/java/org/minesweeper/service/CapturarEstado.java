@@ -0,0 +1,37 @@
+package org.minesweeper.service;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Tabuleiro;
+
+/**
+ * Gera o EstadoTabuleiro compacto do tabuleiro atual.
+ */
+public class CapturarEstado extends AcaoTabuleiro{
+
+    @Override
+    public EstadoTabuleiro visitTabuleiro(Tabuleiro tabuleiro) {
+        int linhas = tabuleiro.getLinha_size();
+        int colunas = tabuleiro.getColuna_size();
+        byte[] quadrados = new byte[linhas * colunas];
+
+        try {
+            for (int i = 0; i < linhas; ++i)
+                for (int j = 0; j < colunas; ++j) {
+                    Localizacao atual = new Localizacao(i, j);
+                    byte quadrado = 0;
+
+                    if (tabuleiro.isBomba(atual)) quadrado |= EstadoTabuleiro.BOMBA;
+                    if (tabuleiro.isAberto(atual)) quadrado |= EstadoTabuleiro.ABERTO;
+                    if (tabuleiro.isMarcado(atual)) quadrado |= EstadoTabuleiro.MARCADO;
+
+                    quadrados[i * colunas + j] = quadrado;
+                }
+        } catch (ForaDoTabuleiroException e) {
+            return null;
+        }
+
+        return new EstadoTabuleiro(linhas, colunas, quadrados, tabuleiro.getTopologia());
+    }
+}
@@ -0,0 +1,42 @@
+package org.minesweeper.service;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+
+import java.util.ArrayList;
+
+/**
+ * Desfaz uma abertura: fecha de novo os quadrados que ela abriu, dados em
+ * pares linha, coluna num único int[]. O custo é proporcional à quantidade
+ * de quadrados, não ao tamanho do tabuleiro.
+ */
+public class FecharQuadrados extends AcaoTabuleiro {
+    private final int[] posicoes;
+
+    public FecharQuadrados(int[] posicoes) {
+        this.posicoes = posicoes;
+    }
+
+    /**
+     * @return Os quadrados fechados, já no estado fechado, na ordem das
+     * posições.
+     */
+    @Override
+    public ArrayList<QuadradoFront> visitTabuleiro(Tabuleiro tabuleiro) {
+        ArrayList<QuadradoFront> fechados = new ArrayList<>(posicoes.length / 2);
+
+        try {
+            for (int i = 0; i < posicoes.length; i += 2) {
+                Localizacao localizacao = new Localizacao(posicoes[i], posicoes[i + 1]);
+                tabuleiro.setFechado(localizacao);
+                fechados.add(new QuadradoFront(localizacao));
+            }
+        } catch (ForaDoTabuleiroException e) {
+            return null;
+        }
+
+        return fechados;
+    }
+}
@@ -0,0 +1,21 @@
+package org.minesweeper.service;
+
+import org.minesweeper.model.DeltaTabuleiro;
+import org.minesweeper.model.Tabuleiro;
+
+/**
+ * Lê as alterações visíveis do tabuleiro desde uma versão, para atualizar
+ * um TabuleiroFront.
+ */
+public class LerAlteracoes extends AcaoTabuleiro{
+    private final long versao;
+
+    public LerAlteracoes(long versao) {
+        this.versao = versao;
+    }
+
+    @Override
+    public DeltaTabuleiro visitTabuleiro(Tabuleiro tabuleiro) {
+        return tabuleiro.alteracoesDesde(versao);
+    }
+}
@@ -1,6 +1,7 @@
 package org.minesweeper.service;
 
 import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.metrics.EventoMarcarQuadrado;
 import org.minesweeper.model.Localizacao;
 import org.minesweeper.model.QuadradoFront;
 import org.minesweeper.model.Tabuleiro;
@@ -13,6 +14,22 @@ public class MarcarQuadrado extends AcaoTabuleiro{
 
     @Override
     public QuadradoFront visitTabuleiro(Tabuleiro tabuleiro) {
+        EventoMarcarQuadrado evento = new EventoMarcarQuadrado();
+        evento.begin();
+
+        QuadradoFront quadrado = alterna(tabuleiro);
+
+        if (quadrado != null && evento.shouldCommit()) {
+            evento.linha = localizacao.getLinha();
+            evento.coluna = localizacao.getColuna();
+            evento.marcado = quadrado.isMarcado();
+            evento.commit();
+        }
+
+        return quadrado;
+    }
+
+    private QuadradoFront alterna(Tabuleiro tabuleiro) {
         try {
             if (tabuleiro.isAberto(localizacao))
                 return null;
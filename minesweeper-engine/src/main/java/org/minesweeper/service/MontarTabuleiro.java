@@ -0,0 +1,115 @@
+package org.minesweeper.service;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.metrics.EventoInicioJogo;
+import org.minesweeper.metrics.Histograma;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.MetricasTabuleiro;
+import org.minesweeper.model.Quadrado;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.model.Topologia;
+
+import java.util.Random;
+
+public class MontarTabuleiro extends AcaoTabuleiro{
+    private static final Histograma DURACAO_GERACAO = RegistroMetricas.getInstance().histograma("montar.geracao.ns");
+
+    private int linha_size;
+    private int coluna_size;
+    private int numQuadrados;
+    private int bombas;
+    private long semente;
+    private Topologia topologia;
+    private Random rand;
+
+    public MontarTabuleiro(int linha_size, int coluna_size, int bombas) {
+        this(linha_size, coluna_size, bombas, new Random().nextLong());
+    }
+
+    /**
+     * @param semente Semente do sorteio das bombas. A mesma semente com as
+     *                mesmas dimensões gera sempre o mesmo tabuleiro.
+     */
+    public MontarTabuleiro(int linha_size, int coluna_size, int bombas, long semente) {
+        this(linha_size, coluna_size, bombas, semente, Topologia.QUADRADA);
+    }
+
+    /**
+     * @param topologia Vizinhança usada nos números e nas aberturas. O
+     *                  sorteio das bombas não depende dela.
+     */
+    public MontarTabuleiro(int linha_size, int coluna_size, int bombas, long semente, Topologia topologia) {
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.bombas = bombas;
+        this.semente = semente;
+        this.topologia = topologia;
+        this.rand = new Random(semente);
+
+        this.numQuadrados = linha_size * coluna_size;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    @Override
+    public TabuleiroFront visitTabuleiro(Tabuleiro tabuleiro) {
+        long inicio = System.nanoTime();
+        EventoInicioJogo evento = new EventoInicioJogo();
+        evento.begin();
+
+        if (topologia == Topologia.QUADRADA)
+            tabuleiro.inicializaTabuleiroVazio(linha_size, coluna_size);
+        else
+            tabuleiro.inicializaTabuleiroVazio(linha_size, coluna_size, topologia);
+        boolean[] mapaBombas = new boolean[numQuadrados];
+
+        // O sorteio equivale a tirar, sem reposição, um item qualquer de uma
+        // lista com todos os quadrados sem bomba seguidos de todos os com
+        // bomba. Como a remoção mantém a ordem, a lista restante é sempre
+        // "seguros restantes" sem bomba e depois as bombas restantes, então
+        // basta comparar o índice sorteado com essa contagem em vez de
+        // manter a lista (remover do meio de uma ArrayList era O(n²)).
+        int segurosRestantes = numQuadrados - bombas;
+        // Conta quantos quadrados foram adicionados
+        int cont = 0;
+        try {
+            // Adiciona os quadrados de forma aletória no tabuleiro
+            for (int i = 0; i < linha_size; ++i)
+                for (int j = 0; j < coluna_size; ++j) {
+                    // Reduz o limite de geração para ficar de acordo com o
+                    // tamanho da lista após a remoção do elemento sorteado
+                    int num = rand.nextInt(numQuadrados - cont);
+                    boolean bomba = num >= segurosRestantes;
+                    if (!bomba) segurosRestantes--;
+
+                    Quadrado atual = new Quadrado(bomba, false, false);
+                    atual.setLocalizacao(new Localizacao(i, j));
+                    tabuleiro.adicionaQuadrado(atual);
+                    mapaBombas[cont++] = bomba;
+                }
+        } catch (ForaDoTabuleiroException e){
+            return null;
+        }
+
+        MetricasTabuleiro metricas = MetricasTabuleiro.calcula(mapaBombas, linha_size, coluna_size, topologia);
+
+        DURACAO_GERACAO.registraDesde(inicio);
+        if (evento.shouldCommit()) {
+            evento.linhas = linha_size;
+            evento.colunas = coluna_size;
+            evento.bombas = bombas;
+            evento.semente = semente;
+            evento.commit();
+        }
+
+        TabuleiroFront front = new TabuleiroFront(linha_size, coluna_size, bombas);
+        front.setMetricas(metricas);
+        front.setTopologia(topologia);
+        front.setVersao(tabuleiro.getVersao());
+        return front;
+    }
+}
@@ -0,0 +1,47 @@
+package org.minesweeper.service;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+
+import java.util.ArrayList;
+
+/**
+ * Refaz uma abertura desfeita: abre de novo os quadrados, dados em pares
+ * linha, coluna como no FecharQuadrados, sem refazer a cascata. O custo é
+ * proporcional à quantidade de quadrados.
+ */
+public class ReabrirQuadrados extends AcaoTabuleiro {
+    private final int[] posicoes;
+
+    public ReabrirQuadrados(int[] posicoes) {
+        this.posicoes = posicoes;
+    }
+
+    /**
+     * @return Os quadrados abertos, como o AbrirQuadrado os devolveria, na
+     * ordem das posições.
+     */
+    @Override
+    public ArrayList<QuadradoFront> visitTabuleiro(Tabuleiro tabuleiro) {
+        ArrayList<QuadradoFront> abertos = new ArrayList<>(posicoes.length / 2);
+
+        try {
+            for (int i = 0; i < posicoes.length; i += 2) {
+                Localizacao localizacao = new Localizacao(posicoes[i], posicoes[i + 1]);
+                if (tabuleiro.isAberto(localizacao)) continue;
+
+                tabuleiro.setAberto(localizacao);
+                if (tabuleiro.isBomba(localizacao))
+                    abertos.add(new QuadradoFront(true, -1, false, localizacao, true));
+                else
+                    abertos.add(new QuadradoFront(true, tabuleiro.quantVizinhosPerigosos(localizacao), false, localizacao, false));
+            }
+        } catch (ForaDoTabuleiroException e) {
+            return null;
+        }
+
+        return abertos;
+    }
+}
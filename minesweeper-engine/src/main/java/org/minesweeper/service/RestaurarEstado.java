@@ -0,0 +1,53 @@
+package org.minesweeper.service;
+
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.MetricasTabuleiro;
+import org.minesweeper.model.Quadrado;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+
+/**
+ * Reconstrói o tabuleiro a partir de um EstadoTabuleiro e devolve o
+ * TabuleiroFront correspondente, com os quadrados abertos e marcados.
+ */
+public class RestaurarEstado extends AcaoTabuleiro{
+    private final EstadoTabuleiro estado;
+
+    public RestaurarEstado(EstadoTabuleiro estado) {
+        this.estado = estado;
+    }
+
+    @Override
+    public TabuleiroFront visitTabuleiro(Tabuleiro tabuleiro) {
+        int linhas = estado.getLinha_size();
+        int colunas = estado.getColuna_size();
+        tabuleiro.inicializaTabuleiroVazio(linhas, colunas, estado.getTopologia());
+
+        try {
+            for (int i = 0; i < linhas; ++i)
+                for (int j = 0; j < colunas; ++j) {
+                    Quadrado quadrado = new Quadrado(estado.isBomba(i, j), estado.isMarcado(i, j), estado.isAberto(i, j));
+                    quadrado.setLocalizacao(new Localizacao(i, j));
+                    tabuleiro.adicionaQuadrado(quadrado);
+                }
+        } catch (ForaDoTabuleiroException e) {
+            return null;
+        }
+
+        TabuleiroFront front = new TabuleiroFront(linhas, colunas, tabuleiro.getBombas());
+        boolean[] mapaBombas = new boolean[linhas * colunas];
+        for (int i = 0; i < linhas; ++i)
+            for (int j = 0; j < colunas; ++j)
+                mapaBombas[i * colunas + j] = estado.isBomba(i, j);
+        front.setMetricas(MetricasTabuleiro.calcula(mapaBombas, linhas, colunas, estado.getTopologia()));
+        front.setTopologia(estado.getTopologia());
+
+        // O delta completo traz os abertos, com os números já contados sobre
+        // o tabuleiro montado, e as marcações
+        front.aplica(tabuleiro.alteracoesDesde(0));
+
+        return front;
+    }
+}
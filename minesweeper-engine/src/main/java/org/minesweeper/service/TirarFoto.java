@@ -0,0 +1,15 @@
+package org.minesweeper.service;
+
+import org.minesweeper.model.FotoTabuleiro;
+import org.minesweeper.model.Tabuleiro;
+
+/**
+ * Tira a FotoTabuleiro imutável do estado atual.
+ */
+public class TirarFoto extends AcaoTabuleiro{
+
+    @Override
+    public FotoTabuleiro visitTabuleiro(Tabuleiro tabuleiro) {
+        return tabuleiro.tirarFoto();
+    }
+}
@@ -0,0 +1,49 @@
+package org.minesweeper.solver;
+
+import org.minesweeper.model.Localizacao;
+
+import java.util.Objects;
+
+public class Jogada {
+    public enum Tipo { ABRIR, MARCAR }
+
+    private final Tipo tipo;
+    private final Localizacao localizacao;
+    private final boolean chute;
+
+    public Jogada(Tipo tipo, Localizacao localizacao, boolean chute) {
+        this.tipo = tipo;
+        this.localizacao = localizacao;
+        this.chute = chute;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public Localizacao getLocalizacao() {
+        return localizacao;
+    }
+
+    /**
+     * @return true quando a jogada não foi deduzida com certeza, e sim
+     * escolhida como o quadrado de menor risco.
+     */
+    public boolean isChute() {
+        return chute;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Jogada that = (Jogada) o;
+        return tipo == that.tipo && chute == that.chute && localizacao.equals(that.localizacao);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tipo, localizacao, chute);
+    }
+}
@@ -0,0 +1,170 @@
+package org.minesweeper.solver;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.model.Topologia;
+
+import java.util.ArrayList;
+
+/**
+ * Resolvedor simples que trabalha apenas com o que o jogador vê
+ * (TabuleiroFront). Aplica as duas regras clássicas de um único número
+ * e, quando nenhuma jogada segura existe, escolhe o quadrado de menor risco.
+ *
+ * Os vizinhos seguem a topologia do tabuleiro. Os arrays de vizinhos são
+ * reaproveitados entre as chamadas, então uma instância não deve ser usada
+ * por duas threads ao mesmo tempo.
+ */
+public class Resolvedor {
+    private final int[] vizinhos = new int[Topologia.MAXIMO_VIZINHOS];
+    private final int[] vizinhosFronteira = new int[Topologia.MAXIMO_VIZINHOS];
+
+    /**
+     * Calcula todas as jogadas que podem ser deduzidas com certeza a partir
+     * do estado atual. Caso não exista nenhuma, devolve um único chute.
+     *
+     * @param tabuleiro O tabuleiro visível.
+     * @return Lista de jogadas, vazia apenas se não houver quadrados fechados.
+     */
+    public ArrayList<Jogada> proximasJogadas(TabuleiroFront tabuleiro) {
+        int linhas = tabuleiro.getLinha_size();
+        int colunas = tabuleiro.getColuna_size();
+
+        ArrayList<Jogada> jogadas = new ArrayList<>();
+        // 0 = nenhuma jogada, 1 = abrir, 2 = marcar
+        byte[] decidido = new byte[linhas * colunas];
+
+        for (int i = 0; i < linhas; ++i)
+            for (int j = 0; j < colunas; ++j) {
+                if (!tabuleiro.isAberto(i, j) || tabuleiro.isBomba(i, j)) continue;
+                int numero = tabuleiro.getNumero(i, j);
+                if (numero <= 0) continue;
+
+                int fechados = contaVizinhos(tabuleiro, i, j, false);
+                if (fechados == 0) continue;
+
+                int marcados = contaVizinhos(tabuleiro, i, j, true);
+                int restantes = numero - marcados;
+
+                if (restantes == 0)
+                    decideVizinhos(tabuleiro, i, j, decidido, (byte) 1, Jogada.Tipo.ABRIR, jogadas);
+                else if (restantes == fechados)
+                    decideVizinhos(tabuleiro, i, j, decidido, (byte) 2, Jogada.Tipo.MARCAR, jogadas);
+            }
+
+        if (jogadas.isEmpty()) {
+            Localizacao chute = menorRisco(tabuleiro);
+            if (chute != null)
+                jogadas.add(new Jogada(Jogada.Tipo.ABRIR, chute, true));
+        }
+
+        return jogadas;
+    }
+
+    /**
+     * Escolhe o quadrado fechado e não marcado com a menor probabilidade
+     * estimada de conter uma bomba. Quadrados na fronteira usam a pior
+     * estimativa entre os números vizinhos; os demais usam a densidade
+     * global de bombas restantes.
+     */
+    Localizacao menorRisco(TabuleiroFront tabuleiro) {
+        int linhas = tabuleiro.getLinha_size();
+        int colunas = tabuleiro.getColuna_size();
+
+        int fechados = 0;
+        int marcados = 0;
+        for (int i = 0; i < linhas; ++i)
+            for (int j = 0; j < colunas; ++j) {
+                if (tabuleiro.isMarcado(i, j)) marcados++;
+                else if (!tabuleiro.isAberto(i, j)) fechados++;
+            }
+
+        if (fechados == 0) return null;
+
+        double riscoGlobal = Math.max(0, tabuleiro.getBombas() - marcados) / (double) fechados;
+        double melhorRisco = Double.MAX_VALUE;
+        Localizacao melhor = null;
+
+        for (int i = 0; i < linhas; ++i)
+            for (int j = 0; j < colunas; ++j) {
+                if (tabuleiro.isAberto(i, j) || tabuleiro.isMarcado(i, j)) continue;
+
+                double risco = riscoFronteira(tabuleiro, i, j);
+                if (risco < 0) risco = riscoGlobal;
+
+                if (risco < melhorRisco) {
+                    melhorRisco = risco;
+                    melhor = new Localizacao(i, j);
+                }
+            }
+
+        return melhor;
+    }
+
+    /**
+     * @return A maior probabilidade de bomba imposta pelos números vizinhos,
+     * ou -1 se o quadrado não é vizinho de nenhum número.
+     */
+    private double riscoFronteira(TabuleiroFront tabuleiro, int linha, int coluna) {
+        double risco = -1;
+        int colunas = tabuleiro.getColuna_size();
+        int quantidade = vizinhosDe(tabuleiro, linha, coluna, vizinhosFronteira);
+
+        for (int k = 0; k < quantidade; ++k) {
+            int l = vizinhosFronteira[k] / colunas;
+            int c = vizinhosFronteira[k] - l * colunas;
+
+            if (!tabuleiro.isAberto(l, c) || tabuleiro.isBomba(l, c)) continue;
+            int numero = tabuleiro.getNumero(l, c);
+            if (numero <= 0) continue;
+
+            int fechados = contaVizinhos(tabuleiro, l, c, false);
+            int marcados = contaVizinhos(tabuleiro, l, c, true);
+            double estimativa = (numero - marcados) / (double) fechados;
+
+            risco = Math.max(risco, estimativa);
+        }
+
+        return risco;
+    }
+
+    private int contaVizinhos(TabuleiroFront tabuleiro, int linha, int coluna, boolean marcados) {
+        int cont = 0;
+        int colunas = tabuleiro.getColuna_size();
+        int quantidade = vizinhosDe(tabuleiro, linha, coluna, vizinhos);
+
+        for (int k = 0; k < quantidade; ++k) {
+            int l = vizinhos[k] / colunas;
+            int c = vizinhos[k] - l * colunas;
+            if (tabuleiro.isAberto(l, c)) continue;
+
+            if (tabuleiro.isMarcado(l, c) == marcados)
+                cont++;
+        }
+
+        return cont;
+    }
+
+    private void decideVizinhos(TabuleiroFront tabuleiro, int linha, int coluna, byte[] decidido,
+                                byte decisao, Jogada.Tipo tipo, ArrayList<Jogada> jogadas) {
+        int colunas = tabuleiro.getColuna_size();
+        int quantidade = vizinhosDe(tabuleiro, linha, coluna, vizinhos);
+
+        for (int k = 0; k < quantidade; ++k) {
+            int indice = vizinhos[k];
+            int l = indice / colunas;
+            int c = indice - l * colunas;
+
+            if (tabuleiro.isAberto(l, c) || tabuleiro.isMarcado(l, c)) continue;
+
+            if (decidido[indice] != 0) continue;
+
+            decidido[indice] = decisao;
+            jogadas.add(new Jogada(tipo, new Localizacao(l, c), false));
+        }
+    }
+
+    private static int vizinhosDe(TabuleiroFront tabuleiro, int linha, int coluna, int[] destino) {
+        return tabuleiro.getTopologia().vizinhos(linha, coluna, tabuleiro.getLinha_size(), tabuleiro.getColuna_size(), destino);
+    }
+}
@@ -0,0 +1,255 @@
+package org.minesweeper.volume;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tabuleiro em três dimensões (camadas x linhas x colunas), em que cada
+ * quadrado tem até 26 vizinhos: os 8 da própria camada e os 9 de cada
+ * camada adjacente.
+ *
+ * Como no TabuleiroCompartilhado, cada quadrado é um byte com o número de
+ * vizinhos perigosos e os bits de bomba, aberto e marcado, num único vetor
+ * em ordem de camada, linha e coluna. Um tabuleiro 200x200x200 ocupa 8 MB.
+ *
+ * O vetor tem uma moldura de um quadrado em volta do volume, já marcada
+ * como aberta. Com ela os 26 vizinhos de qualquer quadrado são o índice
+ * mais uma tabela fixa de deslocamentos, sem testar se o vizinho existe: a
+ * cascata nunca passa da moldura porque ela não pode ser aberta.
+ */
+public class TabuleiroVolumetrico {
+    public static final int MAXIMO_VIZINHOS = 26;
+
+    // Estados visíveis de getVisivel: 0 a 26 para aberto com esse número
+    public static final byte VISIVEL_FECHADO = 27;
+    public static final byte VISIVEL_MARCADO = 28;
+    public static final byte VISIVEL_BOMBA = 29;
+
+    private static final int NUMERO = 0x1F;
+    private static final int BOMBA = 0x20;
+    private static final int ABERTO = 0x40;
+    private static final int MARCADO = 0x80;
+
+    private final int linha_size;
+    private final int coluna_size;
+    private final int camada_size;
+    private final int bombas;
+    // Dimensões com a moldura
+    private final int colunasComMoldura;
+    private final int quadradosPorCamada;
+    private final byte[] quadrados;
+    private final int[] deslocamentos = new int[MAXIMO_VIZINHOS];
+
+    private int[] pilha = new int[64];
+    private long abertos;
+    private boolean explodiu;
+
+    public TabuleiroVolumetrico(int linha_size, int coluna_size, int camada_size, int bombas, long semente) {
+        if (linha_size <= 0 || coluna_size <= 0 || camada_size <= 0)
+            throw new IllegalArgumentException("Dimensões inválidas");
+
+        long total = (long) linha_size * coluna_size * camada_size;
+        long totalComMoldura = (long) (linha_size + 2) * (coluna_size + 2) * (camada_size + 2);
+        if (totalComMoldura > Integer.MAX_VALUE) throw new IllegalArgumentException("Tabuleiro grande demais");
+        if (bombas < 0 || bombas > total) throw new IllegalArgumentException("Quantidade de bombas inválida");
+
+        this.linha_size = linha_size;
+        this.coluna_size = coluna_size;
+        this.camada_size = camada_size;
+        this.bombas = bombas;
+        this.colunasComMoldura = coluna_size + 2;
+        this.quadradosPorCamada = (linha_size + 2) * colunasComMoldura;
+        this.quadrados = new byte[(int) totalComMoldura];
+
+        int k = 0;
+        for (int dc = -1; dc <= 1; ++dc)
+            for (int dl = -1; dl <= 1; ++dl)
+                for (int dj = -1; dj <= 1; ++dj)
+                    if (dc != 0 || dl != 0 || dj != 0)
+                        deslocamentos[k++] = dc * quadradosPorCamada + dl * colunasComMoldura + dj;
+
+        Arrays.fill(quadrados, (byte) ABERTO);
+        for (int camada = 0; camada < camada_size; ++camada)
+            for (int linha = 0; linha < linha_size; ++linha) {
+                int inicio = indice(camada, linha, 0);
+                Arrays.fill(quadrados, inicio, inicio + coluna_size, (byte) 0);
+            }
+
+        sorteiaBombas(new Random(semente), (int) total);
+        contaVizinhos();
+    }
+
+    /**
+     * Sorteia posições do volume até completar as bombas. Com mais da
+     * metade em bombas, sorteia os quadrados livres.
+     */
+    private void sorteiaBombas(Random rand, int total) {
+        boolean sorteiaBombas = bombas <= total / 2;
+        int alvo = sorteiaBombas ? bombas : total - bombas;
+        if (!sorteiaBombas)
+            for (int i = 0; i < quadrados.length; ++i)
+                if ((quadrados[i] & ABERTO) == 0) quadrados[i] = (byte) BOMBA;
+
+        int porCamada = linha_size * coluna_size;
+        int sorteados = 0;
+        while (sorteados < alvo) {
+            int sorteio = rand.nextInt(total);
+            int camada = sorteio / porCamada;
+            int resto = sorteio - camada * porCamada;
+            int linha = resto / coluna_size;
+            int indice = indice(camada, linha, resto - linha * coluna_size);
+            boolean bomba = (quadrados[indice] & BOMBA) != 0;
+
+            if (bomba != sorteiaBombas) {
+                quadrados[indice] ^= BOMBA;
+                sorteados++;
+            }
+        }
+    }
+
+    /**
+     * Cada bomba soma um nos seus 26 vizinhos. A moldura também recebe os
+     * números, mas como já está aberta eles nunca são lidos.
+     */
+    private void contaVizinhos() {
+        for (int camada = 0; camada < camada_size; ++camada)
+            for (int linha = 0; linha < linha_size; ++linha) {
+                int indice = indice(camada, linha, 0);
+                for (int fim = indice + coluna_size; indice < fim; ++indice) {
+                    if ((quadrados[indice] & BOMBA) == 0) continue;
+
+                    for (int deslocamento : deslocamentos)
+                        quadrados[indice + deslocamento]++;
+                }
+            }
+    }
+
+    /**
+     * Abre o quadrado e, se for zero, a cascata de vizinhos. A cascata usa
+     * uma pilha de índices, sem recursão, e marca cada quadrado como aberto
+     * ao empilhá-lo, então a pilha nunca passa do número de zeros.
+     *
+     * @return Quantos quadrados foram abertos; 0 se o quadrado já estava
+     * aberto, marcado, fora do tabuleiro ou se o jogo acabou.
+     */
+    public int abrir(int camada, int linha, int coluna) {
+        if (explodiu || !quadradoExiste(camada, linha, coluna)) return 0;
+
+        int inicio = indice(camada, linha, coluna);
+        int quadrado = quadrados[inicio];
+        if ((quadrado & (ABERTO | MARCADO)) != 0) return 0;
+
+        quadrados[inicio] = (byte) (quadrado | ABERTO);
+        if ((quadrado & BOMBA) != 0) {
+            explodiu = true;
+            abertos++;
+            return 1;
+        }
+
+        int abertosAgora = 1;
+        if ((quadrado & NUMERO) == 0) {
+            int topo = 0;
+            pilha[topo++] = inicio;
+
+            while (topo > 0) {
+                int atual = pilha[--topo];
+
+                for (int deslocamento : deslocamentos) {
+                    int vizinho = atual + deslocamento;
+                    int estado = quadrados[vizinho];
+                    // Vizinho de um zero nunca é bomba; a moldura já está aberta
+                    if ((estado & (ABERTO | MARCADO)) != 0) continue;
+
+                    quadrados[vizinho] = (byte) (estado | ABERTO);
+                    abertosAgora++;
+
+                    if ((estado & NUMERO) == 0) {
+                        if (topo == pilha.length) pilha = Arrays.copyOf(pilha, topo * 2);
+                        pilha[topo++] = vizinho;
+                    }
+                }
+            }
+        }
+
+        abertos += abertosAgora;
+        return abertosAgora;
+    }
+
+    /**
+     * Alterna a marcação do quadrado.
+     *
+     * @return false se o quadrado já estava aberto, fora do tabuleiro ou se
+     * o jogo acabou.
+     */
+    public boolean marcar(int camada, int linha, int coluna) {
+        if (explodiu || !quadradoExiste(camada, linha, coluna)) return false;
+
+        int indice = indice(camada, linha, coluna);
+        if ((quadrados[indice] & ABERTO) != 0) return false;
+
+        quadrados[indice] ^= (byte) MARCADO;
+        return true;
+    }
+
+    /**
+     * @return O estado do quadrado como o jogador deve vê-lo: o número se
+     * estiver aberto, ou um dos valores VISIVEL_FECHADO, VISIVEL_MARCADO e
+     * VISIVEL_BOMBA.
+     */
+    public byte getVisivel(int camada, int linha, int coluna) {
+        int quadrado = quadrados[indice(camada, linha, coluna)];
+        if ((quadrado & ABERTO) == 0)
+            return (quadrado & MARCADO) != 0 ? VISIVEL_MARCADO : VISIVEL_FECHADO;
+        if ((quadrado & BOMBA) != 0) return VISIVEL_BOMBA;
+
+        return (byte) (quadrado & NUMERO);
+    }
+
+    public boolean ganhou() {
+        return !explodiu && abertos == (long) linha_size * coluna_size * camada_size - bombas;
+    }
+
+    public boolean explodiu() {
+        return explodiu;
+    }
+
+    public long getQuadradosAbertos() {
+        return abertos;
+    }
+
+    public int getLinha_size() {
+        return linha_size;
+    }
+
+    public int getColuna_size() {
+        return coluna_size;
+    }
+
+    public int getCamada_size() {
+        return camada_size;
+    }
+
+    public int getBombas() {
+        return bombas;
+    }
+
+    boolean isBomba(int camada, int linha, int coluna) {
+        return (quadrados[indice(camada, linha, coluna)] & BOMBA) != 0;
+    }
+
+    int getNumero(int camada, int linha, int coluna) {
+        return quadrados[indice(camada, linha, coluna)] & NUMERO;
+    }
+
+    public boolean quadradoExiste(int camada, int linha, int coluna) {
+        if (coluna < 0 || coluna >= coluna_size) return false;
+        if (linha < 0 || linha >= linha_size) return false;
+        if (camada < 0 || camada >= camada_size) return false;
+
+        return true;
+    }
+
+    private int indice(int camada, int linha, int coluna) {
+        return (camada + 1) * quadradosPorCamada + (linha + 1) * colunasComMoldura + coluna + 1;
+    }
+}
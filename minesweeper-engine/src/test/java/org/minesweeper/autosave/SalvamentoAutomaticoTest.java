@@ -0,0 +1,340 @@
+package org.minesweeper.autosave;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Quadrado;
+import org.minesweeper.model.Tabuleiro;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalvamentoAutomaticoTest {
+
+    @TempDir
+    Path pasta;
+
+    private Tabuleiro tabuleiro;
+    private ControllerTabuleiro controller;
+    private SalvamentoAutomatico salvamento;
+
+    @BeforeEach
+    void setUp() {
+        tabuleiro = Tabuleiro.novoTabuleiro();
+        controller = new ControllerTabuleiro(tabuleiro);
+        controller.iniciarNovoJogo(30, 30, 150, 9L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (salvamento != null) salvamento.close();
+    }
+
+    private SalvamentoAutomatico inscreve(int jogadas, long intervaloMs) throws IOException {
+        salvamento = new SalvamentoAutomatico(pasta, jogadas, intervaloMs);
+        controller.subscribe(salvamento);
+        return salvamento;
+    }
+
+    // Abre quadrados seguros e fechados, um por jogada
+    private void joga(int jogadas) throws ForaDoTabuleiroException {
+        int feitas = 0;
+        for (int i = 0; i < 30 && feitas < jogadas; ++i)
+            for (int j = 0; j < 30 && feitas < jogadas; ++j) {
+                Localizacao localizacao = new Localizacao(i, j);
+                if (tabuleiro.isBomba(localizacao) || tabuleiro.isAberto(localizacao)) continue;
+
+                controller.clicarBotaoEsquerdo(localizacao);
+                feitas++;
+            }
+    }
+
+    private Path arquivo() {
+        return pasta.resolve(SalvamentoAutomatico.ARQUIVO);
+    }
+
+    @Nested
+    @DisplayName("Testes de gravação")
+    class GravacaoTests {
+        @Test
+        @DisplayName("Deve gravar depois de completar as jogadas, com o estado atual do tabuleiro")
+        void jogadas_disparamGravacao() throws Exception {
+            inscreve(3, 3_600_000);
+
+            joga(2);
+            salvamento.salvaAgora();
+            // salvaAgora grava de qualquer jogo: confirma que a gravação acompanha o tabuleiro
+            assertEquals(controller.capturarEstado(), SalvamentoAutomatico.carrega(pasta));
+
+            joga(3);
+            long limite = System.currentTimeMillis() + 5_000;
+            while (!controller.capturarEstado().equals(SalvamentoAutomatico.carrega(pasta))
+                    && System.currentTimeMillis() < limite)
+                Thread.sleep(10);
+
+            assertEquals(controller.capturarEstado(), SalvamentoAutomatico.carrega(pasta));
+        }
+
+        @Test
+        @DisplayName("Antes de completar as jogadas nada deve ser gravado")
+        void poucasJogadas_naoGrava() throws Exception {
+            inscreve(50, 3_600_000);
+
+            joga(5);
+            Thread.sleep(100);
+
+            assertFalse(Files.exists(arquivo()));
+        }
+
+        @Test
+        @DisplayName("O intervalo deve gravar uma jogada pendente mesmo sem completar as jogadas")
+        void intervalo_gravaPendente() throws Exception {
+            inscreve(1_000, 20);
+
+            joga(1);
+            long limite = System.currentTimeMillis() + 5_000;
+            while (!Files.exists(arquivo()) && System.currentTimeMillis() < limite)
+                Thread.sleep(10);
+
+            assertEquals(controller.capturarEstado(), SalvamentoAutomatico.carrega(pasta));
+        }
+
+        @Test
+        @DisplayName("Um jogo sem quadrados abertos não deve ser gravado")
+        void jogoNovo_naoGrava() throws Exception {
+            inscreve(1, 3_600_000);
+
+            controller.clicarBotaoDireito(new Localizacao(0, 0));
+            salvamento.salvaAgora();
+
+            assertFalse(Files.exists(arquivo()));
+        }
+
+        @Test
+        @DisplayName("close deve gravar o que estiver pendente")
+        void close_gravaPendente() throws Exception {
+            inscreve(1_000, 3_600_000);
+
+            joga(4);
+            salvamento.close();
+
+            assertEquals(controller.capturarEstado(), SalvamentoAutomatico.carrega(pasta));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de consistência")
+    class ConsistenciaTests {
+        @Test
+        @DisplayName("Um temporário deixado pela metade não deve afetar o ponto gravado")
+        void temporarioPelaMetade_ignorado() throws Exception {
+            inscreve(1_000, 3_600_000);
+            joga(3);
+            salvamento.salvaAgora();
+            EstadoTabuleiro gravado = SalvamentoAutomatico.carrega(pasta);
+
+            // Simula um processo que morreu no meio da gravação seguinte
+            Files.write(pasta.resolve(SalvamentoAutomatico.ARQUIVO_TEMPORARIO), new byte[]{1, 2, 3});
+
+            assertEquals(gravado, SalvamentoAutomatico.carrega(pasta));
+        }
+
+        @Test
+        @DisplayName("A nova gravação deve substituir a anterior sem deixar o temporário")
+        void novaGravacao_substituiAnterior() throws Exception {
+            inscreve(1_000, 3_600_000);
+            joga(2);
+            salvamento.salvaAgora();
+            joga(2);
+            salvamento.salvaAgora();
+
+            assertEquals(controller.capturarEstado(), SalvamentoAutomatico.carrega(pasta));
+            assertFalse(Files.exists(pasta.resolve(SalvamentoAutomatico.ARQUIVO_TEMPORARIO)));
+        }
+
+        @Test
+        @DisplayName("Uma gravação que falha deve ser contada e tentada de novo")
+        void falhaNaGravacao_contaETentaDeNovo() throws Exception {
+            Contador falhas = RegistroMetricas.getInstance().contador("autosave.falhas");
+            long antes = falhas.getValor();
+            inscreve(1_000, 3_600_000);
+            joga(3);
+
+            // Um diretório no lugar do temporário impede a escrita
+            Path temporario = Files.createDirectory(pasta.resolve(SalvamentoAutomatico.ARQUIVO_TEMPORARIO));
+            salvamento.salvaAgora();
+            assertEquals(antes + 1, falhas.getValor());
+            assertNull(SalvamentoAutomatico.carrega(pasta));
+
+            Files.delete(temporario);
+            salvamento.salvaAgora();
+            assertEquals(controller.capturarEstado(), SalvamentoAutomatico.carrega(pasta));
+        }
+
+        @Test
+        @DisplayName("Sem ponto gravado, carrega deve retornar null")
+        void carrega_semArquivo_null() throws IOException {
+            assertNull(SalvamentoAutomatico.carrega(pasta));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de descarte")
+    class DescarteTests {
+        @Test
+        @DisplayName("descarta deve apagar o ponto e ignorar fotos já recebidas")
+        void descarta_apagaPonto() throws Exception {
+            inscreve(1_000, 3_600_000);
+            joga(3);
+            salvamento.salvaAgora();
+            assertTrue(Files.exists(arquivo()));
+
+            salvamento.descarta();
+            salvamento.salvaAgora();
+
+            assertFalse(Files.exists(arquivo()));
+        }
+
+        @Test
+        @DisplayName("Um jogo ganho deve apagar o ponto de recuperação")
+        void jogoGanho_apagaPonto() throws Exception {
+            // 3x3 com uma bomba no canto: abrir o canto oposto ganha o jogo
+            tabuleiro.inicializaTabuleiroVazio(3, 3);
+            for (int i = 0; i < 3; i++)
+                for (int j = 0; j < 3; j++) {
+                    Quadrado quadrado = new Quadrado(i == 0 && j == 0, false, false);
+                    quadrado.setLocalizacao(new Localizacao(i, j));
+                    tabuleiro.adicionaQuadrado(quadrado);
+                }
+            inscreve(1, 3_600_000);
+            Files.write(arquivo(), new byte[]{0});
+
+            controller.clicarBotaoEsquerdo(new Localizacao(2, 2));
+            salvamento.salvaAgora();
+
+            assertTrue(controller.ganhou());
+            assertFalse(Files.exists(arquivo()));
+        }
+
+        @Test
+        @DisplayName("Um jogo perdido deve apagar o ponto de recuperação, sem gravar a foto da explosão")
+        void jogoPerdido_apagaPonto() throws Exception {
+            inscreve(1, 3_600_000);
+            joga(3);
+            salvamento.salvaAgora();
+            assertTrue(Files.exists(arquivo()));
+
+            Localizacao bomba = null;
+            for (int i = 0; i < 30 && bomba == null; ++i)
+                for (int j = 0; j < 30 && bomba == null; ++j)
+                    if (tabuleiro.isBomba(new Localizacao(i, j))) bomba = new Localizacao(i, j);
+            controller.clicarBotaoEsquerdo(bomba);
+            salvamento.salvaAgora();
+
+            assertFalse(Files.exists(arquivo()));
+        }
+    }
+
+    @Test
+    @DisplayName("O estado gravado deve restaurar o mesmo tabuleiro num controller novo")
+    void estadoGravado_restauraJogo() throws Exception {
+        inscreve(1_000, 3_600_000);
+        joga(5);
+        controller.clicarBotaoDireito(new Localizacao(29, 29));
+        salvamento.close();
+        EstadoTabuleiro esperado = controller.capturarEstado();
+
+        ControllerTabuleiro retomado = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+        retomado.restaurarEstado(SalvamentoAutomatico.carrega(pasta));
+
+        assertEquals(esperado, retomado.capturarEstado());
+    }
+
+    @Nested
+    @DisplayName("Testes do ponto de recuperação")
+    class PontoTests {
+        @Test
+        @DisplayName("O ponto deve levar a gravação do jogo e o tempo de jogo")
+        void ponto_levaGravacaoETempo() throws Exception {
+            inscreve(1_000, 3_600_000);
+            salvamento.iniciaRelogio(System.nanoTime() - 5_000_000_000L);
+            joga(4);
+            controller.clicarBotaoDireito(new Localizacao(29, 29));
+            salvamento.salvaAgora();
+
+            PontoRecuperacao ponto = SalvamentoAutomatico.carregaPonto(pasta);
+
+            assertEquals(controller.capturarEstado(), ponto.getEstado());
+            assertEquals(9L, ponto.getGravacao().getSemente());
+            assertEquals(150, ponto.getGravacao().getBombas());
+            assertEquals(controller.getGravacao().getQuantidadeJogadas(), ponto.getGravacao().getQuantidadeJogadas());
+            assertTrue(ponto.getTempoMs() >= 5_000);
+        }
+
+        @Test
+        @DisplayName("Jogadas feitas depois da foto não devem entrar na gravação do ponto")
+        void ponto_gravacaoDaFoto() throws Exception {
+            inscreve(1_000, 3_600_000);
+            joga(3);
+            int jogadasNaFoto = controller.getGravacao().getQuantidadeJogadas();
+            // Sem inscrito, a jogada seguinte não publica foto para o salvamento
+            controller.unsubscribe(salvamento);
+            joga(1);
+            salvamento.salvaAgora();
+
+            assertEquals(jogadasNaFoto, SalvamentoAutomatico.carregaPonto(pasta).getGravacao().getQuantidadeJogadas());
+        }
+
+        @Test
+        @DisplayName("Um arquivo antigo, só com o estado, deve ser lido sem gravação")
+        void arquivoAntigo_lidoSemGravacao() throws Exception {
+            EstadoTabuleiro estado = controller.capturarEstado();
+            try (OutputStream saida = Files.newOutputStream(arquivo())) {
+                estado.escreve(saida);
+            }
+
+            PontoRecuperacao ponto = SalvamentoAutomatico.carregaPonto(pasta);
+
+            assertEquals(estado, ponto.getEstado());
+            assertNull(ponto.getGravacao());
+            assertEquals(0, ponto.getTempoMs());
+        }
+
+        @Test
+        @DisplayName("O jogo retomado deve continuar a gravação do ponto")
+        void retomado_continuaGravacao() throws Exception {
+            inscreve(1_000, 3_600_000);
+            joga(5);
+            salvamento.close();
+            PontoRecuperacao ponto = SalvamentoAutomatico.carregaPonto(pasta);
+
+            Tabuleiro outro = Tabuleiro.novoTabuleiro();
+            ControllerTabuleiro retomado = new ControllerTabuleiro(outro);
+            retomado.restaurarEstado(ponto.getEstado(), ponto.getGravacao());
+            retomado.clicarBotaoDireito(new Localizacao(29, 29));
+
+            assertEquals(9L, retomado.getGravacao().getSemente());
+            assertEquals(controller.getGravacao().getQuantidadeJogadas() + 1, retomado.getGravacao().getQuantidadeJogadas());
+        }
+    }
+
+    @Test
+    @DisplayName("Jogadas e intervalo não positivos devem lançar exceção")
+    void construtor_invalido_lancaExcecao() {
+        assertThrows(IllegalArgumentException.class, () -> new SalvamentoAutomatico(pasta, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SalvamentoAutomatico(pasta, 1, 0));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.FotoTabuleiro;
 import org.minesweeper.model.Localizacao;
 import org.minesweeper.model.Quadrado;
 import org.minesweeper.model.QuadradoFront;
@@ -245,4 +246,114 @@ class ControllerTabuleiroIntegrationTest {
             assertFalse(resultado, "O controller deveria retornar false quando a condição de vitória não foi atingida.");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Testes de Integração para desfazer e refazer")
+    class DesfazerRefazerIntegrationTests {
+        private final Localizacao locBomba = new Localizacao(0, 0);
+        private final Localizacao locCascata = new Localizacao(4, 4);
+
+        // Tabuleiro 5x5 com uma única bomba no canto: abrir o canto oposto abre os outros 24
+        @BeforeEach
+        void setupBoard() throws ForaDoTabuleiroException {
+            tabuleiro.inicializaTabuleiroVazio(5, 5);
+            for (int i = 0; i < 5; i++) {
+                for (int j = 0; j < 5; j++) {
+                    Quadrado q = new Quadrado(i == 0 && j == 0, false, false);
+                    q.setLocalizacao(new Localizacao(i, j));
+                    tabuleiro.adicionaQuadrado(q);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Desfazer uma cascata deve fechar todos os quadrados que ela abriu")
+        void desfazer_cascata_fechaQuadrados() throws ForaDoTabuleiroException {
+            ArrayList<QuadradoFront> abertos = controller.clicarBotaoEsquerdo(locCascata);
+            assertEquals(24, abertos.size());
+            assertTrue(controller.ganhou());
+
+            ArrayList<QuadradoFront> fechados = controller.desfazer();
+
+            assertEquals(24, fechados.size());
+            assertFalse(controller.ganhou());
+            for (QuadradoFront quadrado : fechados) {
+                assertFalse(quadrado.isAberto());
+                assertFalse(tabuleiro.isAberto(quadrado.getLocalizacao()));
+            }
+        }
+
+        @Test
+        @DisplayName("Refazer deve abrir de novo exatamente os mesmos quadrados")
+        void refazer_reabreMesmosQuadrados() throws ForaDoTabuleiroException {
+            ArrayList<QuadradoFront> abertos = controller.clicarBotaoEsquerdo(locCascata);
+            controller.desfazer();
+
+            ArrayList<QuadradoFront> reabertos = controller.refazer();
+
+            assertEquals(abertos.size(), reabertos.size());
+            for (QuadradoFront quadrado : abertos)
+                assertTrue(tabuleiro.isAberto(quadrado.getLocalizacao()));
+            assertTrue(controller.ganhou());
+            assertNull(controller.refazer());
+        }
+
+        @Test
+        @DisplayName("Desfazer uma marcação deve desmarcar o quadrado")
+        void desfazer_marcacao_desmarca() throws ForaDoTabuleiroException {
+            controller.clicarBotaoDireito(locBomba);
+
+            ArrayList<QuadradoFront> resultado = controller.desfazer();
+
+            assertEquals(1, resultado.size());
+            assertFalse(resultado.get(0).isMarcado());
+            assertFalse(tabuleiro.isMarcado(locBomba));
+        }
+
+        @Test
+        @DisplayName("Sem jogadas, desfazer deve retornar null")
+        void desfazer_semJogadas_retornaNull() {
+            assertNull(controller.desfazer());
+        }
+
+        @Test
+        @DisplayName("A gravação deve perder a jogada desfeita e recuperá-la ao refazer")
+        void desfazerRefazer_acompanhaGravacao() {
+            controller.iniciarNovoJogo(6, 6, 3, 42L);
+            controller.clicarBotaoDireito(new Localizacao(0, 0));
+            controller.clicarBotaoDireito(new Localizacao(1, 1));
+            assertEquals(2, controller.getGravacao().getQuantidadeJogadas());
+
+            controller.desfazer();
+            assertEquals(1, controller.getGravacao().getQuantidadeJogadas());
+
+            controller.refazer();
+            assertEquals(2, controller.getGravacao().getQuantidadeJogadas());
+            assertEquals(new Localizacao(1, 1), controller.getGravacao().getJogada(1).getLocalizacao());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Integração para os listeners do controller")
+    class ListenersIntegrationTests {
+        @Test
+        @DisplayName("Cada ação que muda o tabuleiro deve entregar a foto nova aos inscritos")
+        void acoes_publicamFotoAosInscritos() {
+            ArrayList<FotoTabuleiro> recebidas = new ArrayList<>();
+            ControllerTabuleiroListener listener = recebidas::add;
+            controller.subscribe(listener);
+            controller.subscribe(listener);
+
+            controller.iniciarNovoJogo(6, 6, 3, 42L);
+            controller.clicarBotaoDireito(new Localizacao(0, 0));
+            controller.desfazer();
+
+            assertEquals(3, recebidas.size());
+            assertSame(controller.getFoto(), recebidas.get(2));
+
+            controller.unsubscribe(listener);
+            controller.clicarBotaoDireito(new Localizacao(0, 0));
+            assertEquals(3, recebidas.size());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.minesweeper.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.solver.Jogada;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoricoJogadasTest {
+
+    private HistoricoJogadas historico;
+
+    @BeforeEach
+    void setUp() {
+        historico = new HistoricoJogadas();
+    }
+
+    private static HistoricoJogadas.Alteracao abertura(int quadrados) {
+        return new HistoricoJogadas.Alteracao(Jogada.Tipo.ABRIR, new Localizacao(0, 0), new int[quadrados * 2]);
+    }
+
+    private static HistoricoJogadas.Alteracao marcacao() {
+        return new HistoricoJogadas.Alteracao(Jogada.Tipo.MARCAR, new Localizacao(0, 0), null);
+    }
+
+    @Nested
+    @DisplayName("Testes de desfazer e refazer")
+    class PilhasTests {
+        @Test
+        @DisplayName("Deve desfazer e refazer na ordem inversa")
+        void desfazRefaz_ordemDePilha() {
+            HistoricoJogadas.Alteracao primeira = abertura(3);
+            HistoricoJogadas.Alteracao segunda = marcacao();
+            historico.registra(primeira);
+            historico.registra(segunda);
+
+            assertSame(segunda, historico.desfaz());
+            assertSame(primeira, historico.desfaz());
+            assertNull(historico.desfaz());
+            assertFalse(historico.podeDesfazer());
+
+            assertSame(primeira, historico.refaz());
+            assertSame(segunda, historico.refaz());
+            assertNull(historico.refaz());
+            assertFalse(historico.podeRefazer());
+        }
+
+        @Test
+        @DisplayName("Uma jogada nova deve descartar o que estava para refazer")
+        void registra_descartaRefazer() {
+            historico.registra(abertura(5));
+            historico.desfaz();
+            assertTrue(historico.podeRefazer());
+
+            historico.registra(marcacao());
+
+            assertFalse(historico.podeRefazer());
+            assertEquals(1, historico.getQuadradosGuardados());
+        }
+
+        @Test
+        @DisplayName("Limpar deve esvaziar as duas pilhas")
+        void limpa_esvaziaTudo() {
+            historico.registra(abertura(4));
+            historico.registra(abertura(2));
+            historico.desfaz();
+
+            historico.limpa();
+
+            assertFalse(historico.podeDesfazer());
+            assertFalse(historico.podeRefazer());
+            assertEquals(0, historico.getQuadradosGuardados());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do limite de memória")
+    class LimiteTests {
+        @Test
+        @DisplayName("O histórico deve contar os quadrados guardados, não as jogadas")
+        void quadradosGuardados_somaDasAlteracoes() {
+            historico.registra(abertura(100));
+            historico.registra(marcacao());
+            historico.registra(abertura(7));
+
+            assertEquals(108, historico.getQuadradosGuardados());
+            assertEquals(3, historico.getQuantidadeDesfazer());
+        }
+
+        @Test
+        @DisplayName("Passando do limite, as jogadas mais antigas devem ser descartadas")
+        void registra_passaDoLimite_descartaAntigas() {
+            historico.setLimite(10);
+            historico.registra(abertura(4));
+            historico.registra(abertura(4));
+            historico.registra(abertura(4));
+
+            assertEquals(2, historico.getQuantidadeDesfazer());
+            assertEquals(8, historico.getQuadradosGuardados());
+        }
+
+        @Test
+        @DisplayName("A última jogada deve ser mantida mesmo que sozinha passe do limite")
+        void registra_jogadaMaiorQueLimite_mantida() {
+            historico.setLimite(10);
+            historico.registra(abertura(3));
+            HistoricoJogadas.Alteracao grande = abertura(50);
+            historico.registra(grande);
+
+            assertEquals(1, historico.getQuantidadeDesfazer());
+            assertSame(grande, historico.desfaz());
+        }
+
+        @Test
+        @DisplayName("Reduzir o limite deve descartar primeiro o que está para refazer")
+        void setLimite_descartaRefazerAntes() {
+            historico.registra(abertura(5));
+            historico.registra(abertura(5));
+            historico.desfaz();
+
+            historico.setLimite(5);
+
+            assertFalse(historico.podeRefazer());
+            assertTrue(historico.podeDesfazer());
+            assertEquals(5, historico.getQuadradosGuardados());
+        }
+
+        @Test
+        @DisplayName("Limite não positivo deve lançar exceção")
+        void setLimite_invalido_lancaExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> historico.setLimite(0));
+            assertEquals(HistoricoJogadas.LIMITE_PADRAO, historico.getLimite());
+        }
+    }
+}
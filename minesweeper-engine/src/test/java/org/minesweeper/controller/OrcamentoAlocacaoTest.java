@@ -0,0 +1,141 @@
+package org.minesweeper.controller;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Orçamentos de alocação do caminho do clique, do ControllerTabuleiro até
+ * o tabuleiro, medidos em bytes alocados pela thread do teste.
+ *
+ * O que cabe no orçamento hoje: o QuadradoFront e a Localizacao de cada
+ * quadrado aberto, a Localizacao de cada vizinho visitado na cascata, a
+ * entrada do histórico, a foto publicada e o pedaço do espelho copiado por
+ * ela. Os limites têm folga de uns 25% sobre o medido; voltar a criar uma
+ * ação por vizinho ou listas por nível da cascata estoura o orçamento.
+ *
+ * Cada medida é a menor de várias repetições depois de aquecer o JIT, para
+ * que carga de classes e compilação não entrem na conta. A classe roda
+ * sozinha numa JVM própria (execução orcamento-alocacao do surefire): depois
+ * dos outros testes, os mesmos cliques chegavam a alocar 60% a mais.
+ */
+class OrcamentoAlocacaoTest {
+    private static final long ORCAMENTO_ABRIR = 1_700;
+    private static final long ORCAMENTO_MARCAR = 1_500;
+    private static final long ORCAMENTO_CASCATA_POR_QUADRADO = 320;
+
+    private static final int LADO_CASCATA = 100;
+    private static final int AQUECIMENTO = 15;
+    private static final int REPETICOES = 5;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void verificaSuporte() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "A JVM não mede alocação por thread");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "A JVM não mede alocação por thread");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long alocados() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Tabuleiro 30x30 com bombas em todos os quadrados menos um: abrir o
+     * quadrado livre abre só ele, sem cascata.
+     */
+    private static final class JogoSemCascata {
+        final ControllerTabuleiro controller;
+        final Localizacao livre;
+        final Localizacao bomba;
+
+        JogoSemCascata() throws ForaDoTabuleiroException {
+            Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+            controller = new ControllerTabuleiro(tabuleiro);
+            controller.iniciarNovoJogo(30, 30, 30 * 30 - 1, 1L);
+
+            Localizacao encontrado = null;
+            for (int i = 0; i < 30 && encontrado == null; ++i)
+                for (int j = 0; j < 30 && encontrado == null; ++j)
+                    if (!tabuleiro.isBomba(new Localizacao(i, j))) encontrado = new Localizacao(i, j);
+            livre = encontrado;
+            bomba = livre.equals(new Localizacao(0, 0)) ? new Localizacao(0, 1) : new Localizacao(0, 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Abrir um quadrado sem cascata deve caber no orçamento")
+    void abrir_semCascata_dentroDoOrcamento() throws ForaDoTabuleiroException {
+        long menor = Long.MAX_VALUE;
+        for (int k = 0; k < AQUECIMENTO + REPETICOES; ++k) {
+            JogoSemCascata jogo = new JogoSemCascata();
+
+            long antes = alocados();
+            ArrayList<QuadradoFront> abertos = jogo.controller.clicarBotaoEsquerdo(jogo.livre);
+            long bytes = alocados() - antes;
+
+            assertEquals(1, abertos.size());
+            if (k >= AQUECIMENTO) menor = Math.min(menor, bytes);
+        }
+
+        assertTrue(menor <= ORCAMENTO_ABRIR,
+                "Abrir um quadrado alocou " + menor + " bytes; orçamento de " + ORCAMENTO_ABRIR);
+    }
+
+    @Test
+    @DisplayName("Alternar a marcação deve caber no orçamento")
+    void marcar_dentroDoOrcamento() throws ForaDoTabuleiroException {
+        JogoSemCascata jogo = new JogoSemCascata();
+        // Muitas alternâncias aquecem o caminho; o histórico fica bem abaixo do limite
+        for (int k = 0; k < 2_000; ++k)
+            jogo.controller.clicarBotaoDireito(jogo.bomba);
+
+        long menor = Long.MAX_VALUE;
+        for (int k = 0; k < REPETICOES * 4; ++k) {
+            long antes = alocados();
+            QuadradoFront marcado = jogo.controller.clicarBotaoDireito(jogo.bomba);
+            menor = Math.min(menor, alocados() - antes);
+
+            assertNotNull(marcado);
+        }
+
+        assertTrue(menor <= ORCAMENTO_MARCAR,
+                "Alternar a marcação alocou " + menor + " bytes; orçamento de " + ORCAMENTO_MARCAR);
+    }
+
+    @Test
+    @DisplayName("Uma cascata de 10 mil quadrados deve caber no orçamento por quadrado")
+    void cascata_dezMilQuadrados_dentroDoOrcamento() {
+        int quadrados = LADO_CASCATA * LADO_CASCATA;
+
+        long menor = Long.MAX_VALUE;
+        for (int k = 0; k < AQUECIMENTO + REPETICOES; ++k) {
+            ControllerTabuleiro controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+            controller.iniciarNovoJogo(LADO_CASCATA, LADO_CASCATA, 0, 1L);
+
+            long antes = alocados();
+            ArrayList<QuadradoFront> abertos = controller.clicarBotaoEsquerdo(new Localizacao(50, 50));
+            long bytes = alocados() - antes;
+
+            assertEquals(quadrados, abertos.size());
+            if (k >= AQUECIMENTO) menor = Math.min(menor, bytes);
+        }
+
+        assertTrue(menor <= ORCAMENTO_CASCATA_POR_QUADRADO * quadrados,
+                "A cascata alocou " + menor / quadrados + " bytes por quadrado; orçamento de "
+                        + ORCAMENTO_CASCATA_POR_QUADRADO);
+    }
+}
@@ -0,0 +1,132 @@
+package org.minesweeper.gerador;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.model.MetricasTabuleiro;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.service.MontarTabuleiro;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeradorDificuldadeTest {
+
+    private GeradorDificuldade gerador;
+
+    @AfterEach
+    void tearDown() {
+        if (gerador != null) gerador.parar();
+    }
+
+    @Nested
+    @DisplayName("Testes para a geração por faixa")
+    class GeracaoTests {
+
+        @Test
+        @DisplayName("Tabuleiros entregues devem estar dentro da faixa de 3BV e ser recriáveis pela semente")
+        void proximo_entregaTabuleirosDaFaixa() throws InterruptedException {
+            FaixaDificuldade faixa = new FaixaDificuldade("facil", 9, 9, 10, 0.0, 30 / 81.0);
+            gerador = new GeradorDificuldade(2, 1L);
+            gerador.adicionaFaixa(faixa, 4);
+            gerador.iniciar();
+
+            for (int i = 0; i < 3; ++i) {
+                TabuleiroGerado gerado = gerador.proximo(faixa, 30, TimeUnit.SECONDS);
+                assertNotNull(gerado, "O gerador não entregou a tempo.");
+                assertTrue(gerado.getMetricas().getBv3() <= 30);
+
+                ControllerTabuleiro controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+                TabuleiroFront recriado = controller.iniciarNovoJogo(9, 9, 10, gerado.getSemente());
+                assertEquals(gerado.getMetricas().getBv3(), recriado.getMetricas().getBv3());
+            }
+
+            EstatisticasFaixa estatisticas = gerador.getEstatisticas(faixa);
+            assertTrue(estatisticas.getAceitos() >= 3);
+            assertTrue(estatisticas.getCandidatos() >= estatisticas.getAceitos());
+            assertTrue(gerador.getResumo().startsWith("facil: "));
+        }
+
+        @Test
+        @DisplayName("Faixa com resolvedor deve respeitar o limite de chutes")
+        void proximo_faixaComResolvedor_respeitaChutes() throws InterruptedException {
+            FaixaDificuldade faixa = new FaixaDificuldade("semChute", 9, 9, 10, 0.0, 1.0, 1, 1);
+            gerador = new GeradorDificuldade(1, 2L);
+            gerador.adicionaFaixa(faixa, 2);
+            gerador.iniciar();
+
+            TabuleiroGerado gerado = gerador.proximo(faixa, 60, TimeUnit.SECONDS);
+
+            assertNotNull(gerado, "O gerador não entregou a tempo.");
+            assertEquals(1, gerado.getChutes());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para avalia(FaixaDificuldade, long)")
+    class AvaliaTests {
+
+        @Test
+        @DisplayName("Candidato fora do 3BV deve ser descartado sem rodar o resolvedor")
+        void avalia_foraDaFaixa_descarta() {
+            FaixaDificuldade faixa = new FaixaDificuldade("impossivel", 9, 9, 10, 2.0, 3.0, 1, 1);
+            gerador = new GeradorDificuldade(1, 3L);
+            gerador.adicionaFaixa(faixa);
+
+            assertNull(gerador.avalia(faixa, 5L));
+
+            EstatisticasFaixa estatisticas = gerador.getEstatisticas(faixa);
+            assertEquals(1, estatisticas.getCandidatos());
+            assertEquals(0, estatisticas.getAprovadosMetricas());
+            assertEquals(0.0, estatisticas.getTaxaAceitacao());
+        }
+
+        @Test
+        @DisplayName("Faixa vazia deve lançar exceção")
+        void faixaVazia_lancaExcecao() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new FaixaDificuldade("x", 9, 9, 10, 0.5, 0.1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para MedidorChutes")
+    class MedidorChutesTests {
+
+        @Test
+        @DisplayName("Sem bombas, o primeiro clique resolve o tabuleiro")
+        void semBombas_umChute() {
+            Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+            TabuleiroFront front = tabuleiro.accept(new MontarTabuleiro(6, 6, 0, 1L));
+
+            assertEquals(1, new MedidorChutes().mede(tabuleiro, front, 10));
+            assertTrue(tabuleiro.ganhou());
+        }
+
+        @Test
+        @DisplayName("Deve terminar o tabuleiro mesmo quando um chute cairia numa bomba")
+        void chuteEmBomba_continua() {
+            Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+            TabuleiroFront front = tabuleiro.accept(new MontarTabuleiro(16, 30, 99, 4L));
+
+            int chutes = new MedidorChutes().mede(tabuleiro, front, Integer.MAX_VALUE);
+
+            assertTrue(chutes >= 1);
+            assertTrue(tabuleiro.ganhou());
+        }
+
+        @Test
+        @DisplayName("Deve parar ao passar do limite")
+        void passaDoLimite_para() {
+            Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+            TabuleiroFront front = tabuleiro.accept(new MontarTabuleiro(16, 30, 99, 4L));
+
+            assertEquals(1, new MedidorChutes().mede(tabuleiro, front, 0));
+            assertFalse(tabuleiro.ganhou());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.minesweeper.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.service.AbrirQuadrado;
+import org.minesweeper.service.MarcarQuadrado;
+import org.minesweeper.service.MontarTabuleiro;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventosJfrTest {
+
+    @TempDir
+    Path pasta;
+
+    private Tabuleiro tabuleiro;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instanceField = Tabuleiro.class.getDeclaredField("instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+        tabuleiro = Tabuleiro.getInstance();
+    }
+
+    private List<RecordedEvent> grava(Runnable acoes) throws Exception {
+        Path arquivo = pasta.resolve("jogo.jfr");
+        try (Recording gravacao = new Recording()) {
+            gravacao.enable(EventoInicioJogo.class).withThreshold(Duration.ZERO);
+            gravacao.enable(EventoAbrirQuadrado.class).withThreshold(Duration.ZERO);
+            gravacao.enable(EventoMarcarQuadrado.class).withThreshold(Duration.ZERO);
+            gravacao.start();
+            acoes.run();
+            gravacao.stop();
+            gravacao.dump(arquivo);
+        }
+
+        return RecordingFile.readAllEvents(arquivo).stream()
+                .filter(e -> e.getEventType().getName().startsWith("org.minesweeper."))
+                .collect(Collectors.toList());
+    }
+
+    private RecordedEvent unico(List<RecordedEvent> eventos, String nome) {
+        List<RecordedEvent> filtrados = eventos.stream()
+                .filter(e -> e.getEventType().getName().equals(nome))
+                .collect(Collectors.toList());
+        assertEquals(1, filtrados.size(), "Esperado um único evento " + nome);
+        return filtrados.get(0);
+    }
+
+    @Test
+    @DisplayName("Deve emitir o início do jogo com dimensões, bombas e semente")
+    void montarTabuleiro_emiteInicioJogo() throws Exception {
+        List<RecordedEvent> eventos = grava(() -> new MontarTabuleiro(4, 6, 3, 1234L).visitTabuleiro(tabuleiro));
+
+        RecordedEvent inicio = unico(eventos, "org.minesweeper.InicioJogo");
+        assertEquals(4, inicio.getInt("linhas"));
+        assertEquals(6, inicio.getInt("colunas"));
+        assertEquals(3, inicio.getInt("bombas"));
+        assertEquals(1234L, inicio.getLong("semente"));
+    }
+
+    @Test
+    @DisplayName("Deve emitir um único evento por abertura, com o tamanho da cascata")
+    void abrirQuadrado_emiteUmEventoPorCascata() throws Exception {
+        new MontarTabuleiro(5, 5, 0, 1L).visitTabuleiro(tabuleiro);
+
+        List<RecordedEvent> eventos = grava(() -> new AbrirQuadrado(new Localizacao(2, 3)).visitTabuleiro(tabuleiro));
+
+        RecordedEvent abrir = unico(eventos, "org.minesweeper.AbrirQuadrado");
+        assertEquals(2, abrir.getInt("linha"));
+        assertEquals(3, abrir.getInt("coluna"));
+        assertEquals(25, abrir.getInt("tamanhoCascata"));
+        assertFalse(abrir.getBoolean("bomba"));
+    }
+
+    @Test
+    @DisplayName("Deve emitir a marcação e a desmarcação de um quadrado")
+    void marcarQuadrado_emiteMarcacao() throws Exception {
+        new MontarTabuleiro(3, 3, 0, 1L).visitTabuleiro(tabuleiro);
+        Localizacao loc = new Localizacao(1, 1);
+
+        List<RecordedEvent> eventos = grava(() -> {
+            new MarcarQuadrado(loc).visitTabuleiro(tabuleiro);
+            new MarcarQuadrado(loc).visitTabuleiro(tabuleiro);
+        });
+
+        assertEquals(2, eventos.size());
+        assertTrue(eventos.stream().anyMatch(e -> e.getBoolean("marcado")));
+        assertTrue(eventos.stream().anyMatch(e -> !e.getBoolean("marcado")));
+    }
+
+    @Test
+    @DisplayName("A mesma semente deve gerar o mesmo tabuleiro")
+    void mesmaSemente_mesmoTabuleiro() throws Exception {
+        new MontarTabuleiro(8, 8, 10, 42L).visitTabuleiro(tabuleiro);
+        boolean[][] primeiro = bombas(tabuleiro);
+
+        new MontarTabuleiro(8, 8, 10, 42L).visitTabuleiro(tabuleiro);
+
+        assertArrayEquals(primeiro, bombas(tabuleiro));
+    }
+
+    private boolean[][] bombas(Tabuleiro tabuleiro) throws Exception {
+        boolean[][] bombas = new boolean[tabuleiro.getLinha_size()][tabuleiro.getColuna_size()];
+        for (int i = 0; i < bombas.length; ++i)
+            for (int j = 0; j < bombas[i].length; ++j)
+                bombas[i][j] = tabuleiro.isBomba(new Localizacao(i, j));
+        return bombas;
+    }
+}
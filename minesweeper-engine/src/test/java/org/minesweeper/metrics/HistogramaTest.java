@@ -0,0 +1,116 @@
+package org.minesweeper.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramaTest {
+
+    private Histograma histograma;
+
+    @BeforeEach
+    void setUp() {
+        histograma = new Histograma("teste");
+    }
+
+    @Nested
+    @DisplayName("Testes para as faixas do histograma")
+    class FaixasTests {
+        @Test
+        @DisplayName("Valores pequenos devem ter faixas exatas")
+        void valoresPequenos_faixasExatas() {
+            for (int v = 0; v < 16; v++) {
+                assertEquals(v, Histograma.indice(v));
+                assertEquals(v, Histograma.limiteSuperior(v));
+            }
+        }
+
+        @Test
+        @DisplayName("Todo valor deve cair numa faixa cujo limite superior é >= ao valor, com erro de até ~6%")
+        void faixas_erroRelativoLimitado() {
+            long[] valores = {16, 17, 31, 32, 1000, 123_456, 9_999_999_999L, Long.MAX_VALUE / 3};
+            for (long v : valores) {
+                long limite = Histograma.limiteSuperior(Histograma.indice(v));
+                assertTrue(limite >= v, "Limite " + limite + " menor que o valor " + v);
+                assertTrue((limite - v) / (double) v <= 1.0 / 16, "Erro relativo grande demais para " + v);
+            }
+        }
+
+        @Test
+        @DisplayName("Long.MAX_VALUE deve ser aceito sem estourar")
+        void valorMaximo_naoEstoura() {
+            histograma.registra(Long.MAX_VALUE);
+
+            assertEquals(Long.MAX_VALUE, histograma.getPercentil(100));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para registra(long)")
+    class RegistraTests {
+        @Test
+        @DisplayName("Deve calcular quantidade, média, máximo e percentis")
+        void registra_calculaEstatisticas() {
+            for (int v = 1; v <= 100; v++)
+                histograma.registra(v);
+
+            assertEquals(100, histograma.getQuantidade());
+            assertEquals(50.5, histograma.getMedia(), 0.001);
+            assertEquals(100, histograma.getMaximo());
+            assertEquals(50, histograma.getPercentil(50), 50 / 16.0);
+            assertEquals(99, histograma.getPercentil(99), 99 / 16.0);
+        }
+
+        @Test
+        @DisplayName("Valores negativos devem ser tratados como zero")
+        void registra_negativo_viraZero() {
+            histograma.registra(-5);
+
+            assertEquals(1, histograma.getQuantidade());
+            assertEquals(0, histograma.getMaximo());
+        }
+
+        @Test
+        @DisplayName("Histograma vazio deve retornar zero nos percentis")
+        void vazio_percentilZero() {
+            assertEquals(0, histograma.getPercentil(99));
+        }
+
+        @Test
+        @DisplayName("Registros concorrentes não devem se perder")
+        void registra_concorrente_naoPerdeRegistros() throws InterruptedException {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++)
+                        histograma.registra(i);
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads)
+                thread.join();
+
+            assertEquals(80_000, histograma.getQuantidade());
+            assertEquals(9_999, histograma.getMaximo());
+        }
+
+        @Test
+        @DisplayName("zera() deve limpar todas as estatísticas")
+        void zera_limpaTudo() {
+            histograma.registra(10);
+            histograma.zera();
+
+            assertEquals(0, histograma.getQuantidade());
+            assertEquals(0, histograma.getSoma());
+            assertEquals(0, histograma.getMaximo());
+            assertEquals(0, histograma.getPercentil(50));
+        }
+    }
+}
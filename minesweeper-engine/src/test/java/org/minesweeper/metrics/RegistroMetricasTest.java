@@ -0,0 +1,74 @@
+package org.minesweeper.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistroMetricasTest {
+
+    private RegistroMetricas registro;
+
+    @BeforeEach
+    void setUp() {
+        registro = new RegistroMetricas();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância de métrica para o mesmo nome")
+    void mesmoNome_mesmaMetrica() {
+        assertSame(registro.contador("a"), registro.contador("a"));
+        assertSame(registro.histograma("b"), registro.histograma("b"));
+    }
+
+    @Test
+    @DisplayName("O resumo em texto deve listar contadores e histogramas")
+    void getResumo_listaMetricas() {
+        registro.contador("jogadas").soma(3);
+        registro.histograma("latencia").registra(42);
+
+        String resumo = registro.getResumo();
+
+        assertTrue(resumo.contains("jogadas"));
+        assertTrue(resumo.contains("latencia"));
+        assertTrue(resumo.contains("n=1"));
+    }
+
+    @Test
+    @DisplayName("Os mapas do MXBean devem refletir os valores atuais")
+    void mapas_refletemValores() {
+        registro.contador("c").incrementa();
+        registro.histograma("h").registra(7);
+
+        assertEquals(Map.of("c", 1L), registro.getContadores());
+        assertEquals(Map.of("h", 1L), registro.getQuantidades());
+        assertEquals(Map.of("h", 7L), registro.getMaximos());
+
+        registro.zera();
+        assertEquals(Map.of("c", 0L), registro.getContadores());
+    }
+
+    @Test
+    @DisplayName("Deve ser publicado no JMX, ignorando registros repetidos")
+    void registraJmx_publicaNoMBeanServer() throws Exception {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nome = new ObjectName(RegistroMetricas.NOME_JMX);
+        if (servidor.isRegistered(nome)) servidor.unregisterMBean(nome);
+
+        try {
+            registro.registraJmx();
+            assertDoesNotThrow(() -> registro.registraJmx());
+
+            assertTrue(servidor.isRegistered(nome));
+            assertNotNull(servidor.getAttribute(nome, "Resumo"));
+        } finally {
+            servidor.unregisterMBean(nome);
+        }
+    }
+}
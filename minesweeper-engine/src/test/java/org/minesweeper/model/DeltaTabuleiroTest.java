@@ -0,0 +1,179 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.exceptions.ForaDoTabuleiroException;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaTabuleiroTest {
+
+    private Tabuleiro tabuleiro;
+    private ControllerTabuleiro controller;
+    private TabuleiroFront front;
+
+    @BeforeEach
+    void setUp() {
+        tabuleiro = Tabuleiro.novoTabuleiro();
+        controller = new ControllerTabuleiro(tabuleiro);
+        front = controller.iniciarNovoJogo(40, 40, 200, 5L);
+    }
+
+    // Uma projeção montada do zero com o delta completo, para comparar
+    private TabuleiroFront referencia() {
+        TabuleiroFront referencia = new TabuleiroFront(40, 40, 200);
+        referencia.aplica(controller.alteracoesDesde(0));
+        return referencia;
+    }
+
+    private static void assertMesmaProjecao(TabuleiroFront esperado, TabuleiroFront atual) {
+        for (int i = 0; i < esperado.getLinha_size(); ++i)
+            for (int j = 0; j < esperado.getColuna_size(); ++j) {
+                String quadrado = "(" + i + "," + j + ")";
+                assertEquals(esperado.isAberto(i, j), atual.isAberto(i, j), quadrado);
+                assertEquals(esperado.isMarcado(i, j), atual.isMarcado(i, j), quadrado);
+                assertEquals(esperado.isBomba(i, j), atual.isBomba(i, j), quadrado);
+                assertEquals(esperado.getNumero(i, j), atual.getNumero(i, j), quadrado);
+            }
+    }
+
+    private Localizacao procuraFechadoSeguro() throws ForaDoTabuleiroException {
+        for (int i = 0; i < 40; ++i)
+            for (int j = 0; j < 40; ++j) {
+                Localizacao localizacao = new Localizacao(i, j);
+                if (!front.isAberto(i, j) && !tabuleiro.isBomba(localizacao) && !front.isMarcado(i, j))
+                    return localizacao;
+            }
+        throw new IllegalStateException("Nenhum quadrado fechado seguro");
+    }
+
+    @Nested
+    @DisplayName("Testes de sincronização")
+    class SincronizacaoTests {
+        @Test
+        @DisplayName("A projeção de um jogo novo deve estar na versão atual do tabuleiro")
+        void iniciarNovoJogo_frontNaVersaoAtual() {
+            assertEquals(tabuleiro.getVersao(), front.getVersao());
+
+            DeltaTabuleiro delta = controller.alteracoesDesde(front.getVersao());
+            assertFalse(delta.isCompleto());
+            assertEquals(0, delta.getQuantidade());
+        }
+
+        @Test
+        @DisplayName("Aplicar os deltas das jogadas deve reproduzir o tabuleiro sem cópia completa")
+        void aplicaDeltas_reproduzTabuleiro() throws ForaDoTabuleiroException {
+            for (int k = 0; k < 5; ++k) {
+                controller.clicarBotaoEsquerdo(procuraFechadoSeguro());
+                controller.clicarBotaoDireito(new Localizacao(k, 39));
+
+                DeltaTabuleiro delta = controller.alteracoesDesde(front.getVersao());
+                assertFalse(delta.isCompleto());
+                assertTrue(front.aplica(delta));
+            }
+
+            assertEquals(tabuleiro.getVersao(), front.getVersao());
+            assertMesmaProjecao(referencia(), front);
+        }
+
+        @Test
+        @DisplayName("Os números e estados do delta devem ser os devolvidos pela própria jogada")
+        void delta_igualAoResultadoDaJogada() throws ForaDoTabuleiroException {
+            long versao = front.getVersao();
+            ArrayList<QuadradoFront> abertos = controller.clicarBotaoEsquerdo(procuraFechadoSeguro());
+
+            DeltaTabuleiro delta = controller.alteracoesDesde(versao);
+
+            assertEquals(abertos.size(), delta.getQuantidade());
+            TabuleiroFront projecao = new TabuleiroFront(40, 40, 200);
+            projecao.setVersao(versao);
+            projecao.aplica(delta);
+            for (QuadradoFront quadrado : abertos) {
+                Localizacao localizacao = quadrado.getLocalizacao();
+                assertTrue(projecao.isAberto(localizacao.getLinha(), localizacao.getColuna()));
+                assertEquals(quadrado.getNumero(), projecao.getNumero(localizacao.getLinha(), localizacao.getColuna()));
+            }
+        }
+
+        @Test
+        @DisplayName("Desfazer deve gerar alterações que fecham de novo os quadrados na projeção")
+        void desfazer_geraAlteracoes() throws ForaDoTabuleiroException {
+            controller.clicarBotaoEsquerdo(procuraFechadoSeguro());
+            front.aplica(controller.alteracoesDesde(front.getVersao()));
+
+            controller.desfazer();
+            assertTrue(front.aplica(controller.alteracoesDesde(front.getVersao())));
+
+            assertMesmaProjecao(new TabuleiroFront(40, 40, 200), front);
+        }
+
+        @Test
+        @DisplayName("A bomba só deve aparecer na projeção depois de aberta")
+        void delta_naoRevelaBombasFechadas() throws ForaDoTabuleiroException {
+            DeltaTabuleiro completo = controller.alteracoesDesde(0);
+            assertEquals(0, completo.getQuantidade());
+
+            Localizacao bomba = null;
+            for (int i = 0; i < 40 && bomba == null; ++i)
+                for (int j = 0; j < 40 && bomba == null; ++j)
+                    if (tabuleiro.isBomba(new Localizacao(i, j))) bomba = new Localizacao(i, j);
+
+            controller.clicarBotaoEsquerdo(bomba);
+            front.aplica(controller.alteracoesDesde(front.getVersao()));
+            assertTrue(front.isBomba(bomba.getLinha(), bomba.getColuna()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de ressincronização")
+    class RessincronizacaoTests {
+        @Test
+        @DisplayName("Uma versão que já saiu do registro deve receber o delta completo")
+        void versaoAntiga_recebeCompleto() {
+            long versao = front.getVersao();
+            // O registro guarda uma alteração por quadrado (1600 aqui); marcar e desmarcar gera duas
+            for (int k = 0; k < 1000; ++k) {
+                controller.clicarBotaoDireito(new Localizacao(0, 0));
+                controller.clicarBotaoDireito(new Localizacao(0, 0));
+            }
+            controller.clicarBotaoDireito(new Localizacao(1, 1));
+
+            DeltaTabuleiro delta = controller.alteracoesDesde(versao);
+
+            assertTrue(delta.isCompleto());
+            assertEquals(1, delta.getQuantidade());
+            assertEquals(new Localizacao(1, 1), delta.getLocalizacao(0));
+            assertTrue(front.aplica(delta));
+            assertMesmaProjecao(referencia(), front);
+        }
+
+        @Test
+        @DisplayName("A projeção de um jogo anterior deve receber o delta completo do jogo novo")
+        void jogoNovo_invalidaVersoesAnteriores() {
+            long versaoAntiga = front.getVersao();
+            controller.iniciarNovoJogo(40, 40, 200, 6L);
+
+            assertTrue(controller.alteracoesDesde(versaoAntiga).isCompleto());
+            assertTrue(tabuleiro.getVersao() > versaoAntiga);
+        }
+
+        @Test
+        @DisplayName("A versão da foto deve permitir seguir com os deltas a partir dela")
+        void foto_versaoSegueComDeltas() {
+            controller.clicarBotaoDireito(new Localizacao(3, 3));
+            FotoTabuleiro foto = controller.getFoto();
+
+            controller.clicarBotaoDireito(new Localizacao(4, 4));
+            DeltaTabuleiro delta = controller.alteracoesDesde(foto.getVersao());
+
+            assertFalse(delta.isCompleto());
+            assertEquals(1, delta.getQuantidade());
+            assertEquals(new Localizacao(4, 4), delta.getLocalizacao(0));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.controller.ControllerTabuleiro;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EstadoTabuleiroTest {
+
+    private ControllerTabuleiro controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+        controller.iniciarNovoJogo(20, 30, 60);
+    }
+
+    @Test
+    @DisplayName("O estado gravado e lido deve ser igual ao original")
+    void escreveLe_idaEVolta() throws IOException {
+        controller.clicarBotaoDireito(new Localizacao(0, 0));
+        EstadoTabuleiro estado = controller.capturarEstado();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        estado.escreve(saida);
+        EstadoTabuleiro lido = EstadoTabuleiro.le(new ByteArrayInputStream(saida.toByteArray()));
+
+        assertEquals(estado, lido);
+        assertTrue(saida.size() < 20 * 30, "O estado comprimido deveria ocupar menos de um byte por quadrado.");
+    }
+
+    @Test
+    @DisplayName("Restaurar deve recriar bombas, marcações e abertos, e o front correspondente")
+    void restaurarEstado_recriaTabuleiro() {
+        Localizacao marcada = new Localizacao(5, 5);
+        controller.clicarBotaoDireito(marcada);
+        EstadoTabuleiro estado = controller.capturarEstado();
+
+        ControllerTabuleiro outro = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+        TabuleiroFront front = outro.restaurarEstado(estado);
+
+        assertEquals(estado, outro.capturarEstado());
+        assertEquals(60, front.getBombas());
+        assertTrue(front.getQuadrado(5, 5).isMarcado());
+    }
+
+    @Test
+    @DisplayName("A topologia deve ser gravada e restaurada com o estado")
+    void topologia_idaEVolta() throws IOException {
+        ControllerTabuleiro hexagonal = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+        hexagonal.setTopologia(Topologia.HEXAGONAL);
+        hexagonal.iniciarNovoJogo(10, 12, 20);
+        EstadoTabuleiro estado = hexagonal.capturarEstado();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        estado.escreve(saida);
+        EstadoTabuleiro lido = EstadoTabuleiro.le(new ByteArrayInputStream(saida.toByteArray()));
+        TabuleiroFront front = new ControllerTabuleiro(Tabuleiro.novoTabuleiro()).restaurarEstado(lido);
+
+        assertEquals(estado, lido);
+        assertSame(Topologia.HEXAGONAL, lido.getTopologia());
+        assertSame(Topologia.HEXAGONAL, front.getTopologia());
+    }
+
+    @Test
+    @DisplayName("Quadrados abertos restaurados devem contar para a vitória")
+    void restaurarEstado_contaAbertos() {
+        byte[] quadrados = {EstadoTabuleiro.BOMBA, EstadoTabuleiro.ABERTO};
+        ControllerTabuleiro outro = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+
+        TabuleiroFront front = outro.restaurarEstado(new EstadoTabuleiro(1, 2, quadrados));
+
+        assertTrue(outro.ganhou());
+        assertEquals(1, front.getQuadrado(0, 1).getNumero());
+    }
+
+    @Test
+    @DisplayName("Estados iguais em topologias diferentes não devem ser iguais")
+    void topologiaDiferente_naoEIgual() {
+        byte[] quadrados = {EstadoTabuleiro.BOMBA, 0, 0, 0, 0, 0, 0, 0, 0};
+
+        assertNotEquals(new EstadoTabuleiro(3, 3, quadrados, Topologia.QUADRADA),
+                new EstadoTabuleiro(3, 3, quadrados, Topologia.TOROIDAL));
+    }
+}
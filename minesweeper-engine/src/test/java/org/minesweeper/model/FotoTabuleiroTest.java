@@ -0,0 +1,156 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.controller.ControllerTabuleiro;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FotoTabuleiroTest {
+
+    private Tabuleiro tabuleiro;
+    private ControllerTabuleiro controller;
+
+    @BeforeEach
+    void setUp() {
+        tabuleiro = Tabuleiro.novoTabuleiro();
+        controller = new ControllerTabuleiro(tabuleiro);
+        controller.iniciarNovoJogo(100, 100, 1500, 3L);
+    }
+
+    private Localizacao procuraFechadoSeguro(FotoTabuleiro foto) {
+        for (int i = 0; i < foto.getLinha_size(); ++i)
+            for (int j = 0; j < foto.getColuna_size(); ++j)
+                if (!foto.isAberto(i, j) && !foto.isBomba(i, j) && !foto.isMarcado(i, j))
+                    return new Localizacao(i, j);
+        throw new IllegalStateException("Nenhum quadrado fechado seguro");
+    }
+
+    @Nested
+    @DisplayName("Testes de consistência")
+    class ConsistenciaTests {
+        @Test
+        @DisplayName("A foto deve ter o mesmo conteúdo do estado capturado do tabuleiro")
+        void foto_igualAoEstadoCapturado() {
+            controller.clicarBotaoDireito(new Localizacao(0, 0));
+            controller.clicarBotaoEsquerdo(procuraFechadoSeguro(controller.getFoto()));
+
+            FotoTabuleiro foto = controller.getFoto();
+
+            assertEquals(controller.capturarEstado(), foto.paraEstado());
+            assertEquals(1500, foto.getBombas());
+        }
+
+        @Test
+        @DisplayName("Os números da foto devem ser os do tabuleiro, em qualquer topologia")
+        void getNumero_igualAoTabuleiro() {
+            for (Topologia topologia : new Topologia[]{Topologia.QUADRADA, Topologia.HEXAGONAL, Topologia.TRIANGULAR}) {
+                controller.setTopologia(topologia);
+                controller.iniciarNovoJogo(30, 40, 200, 9L);
+                FotoTabuleiro foto = controller.getFoto();
+
+                for (int i = 0; i < 30; ++i)
+                    for (int j = 0; j < 40; ++j)
+                        assertEquals(tabuleiro.quantVizinhosPerigosos(new Localizacao(i, j)), foto.getNumero(i, j),
+                                topologia + " (" + i + "," + j + ")");
+            }
+        }
+
+        @Test
+        @DisplayName("Jogadas depois da foto não devem alterá-la")
+        void foto_naoMudaComJogadasSeguintes() {
+            FotoTabuleiro antes = controller.getFoto();
+            Localizacao alvo = procuraFechadoSeguro(antes);
+
+            controller.clicarBotaoEsquerdo(alvo);
+            controller.clicarBotaoDireito(new Localizacao(99, 99));
+
+            assertFalse(antes.isAberto(alvo.getLinha(), alvo.getColuna()));
+            assertFalse(antes.isMarcado(99, 99));
+            assertEquals(0, antes.getQuadradosAbertos());
+
+            FotoTabuleiro depois = controller.getFoto();
+            assertTrue(depois.isAberto(alvo.getLinha(), alvo.getColuna()));
+            assertTrue(depois.getVersao() > antes.getVersao());
+        }
+
+        @Test
+        @DisplayName("Desfazer deve publicar uma foto com os quadrados fechados de novo")
+        void desfazer_publicaFoto() {
+            Localizacao alvo = procuraFechadoSeguro(controller.getFoto());
+            controller.clicarBotaoEsquerdo(alvo);
+
+            controller.desfazer();
+
+            assertFalse(controller.getFoto().isAberto(alvo.getLinha(), alvo.getColuna()));
+            assertEquals(0, controller.getFoto().getQuadradosAbertos());
+        }
+
+        @Test
+        @DisplayName("explodiu deve ser verdadeiro só depois de abrir uma bomba")
+        void explodiu_soComBombaAberta() throws Exception {
+            controller.clicarBotaoEsquerdo(procuraFechadoSeguro(controller.getFoto()));
+            assertFalse(controller.getFoto().explodiu());
+
+            Localizacao bomba = null;
+            for (int i = 0; i < 100 && bomba == null; ++i)
+                for (int j = 0; j < 100 && bomba == null; ++j)
+                    if (tabuleiro.isBomba(new Localizacao(i, j))) bomba = new Localizacao(i, j);
+            controller.clicarBotaoEsquerdo(bomba);
+
+            assertTrue(controller.getFoto().explodiu());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de compartilhamento")
+    class CompartilhamentoTests {
+        @Test
+        @DisplayName("Uma marcação entre duas fotos deve copiar um único pedaço")
+        void marcacao_copiaUmPedaco() {
+            long copiados = tabuleiro.getPedacosCopiados();
+
+            controller.clicarBotaoDireito(new Localizacao(50, 50));
+
+            assertEquals(copiados + 1, tabuleiro.getPedacosCopiados());
+        }
+
+        @Test
+        @DisplayName("Leitores em outras threads devem ver sempre a foto estável enquanto o jogo segue")
+        void leitoresConcorrentes_vemFotoEstavel() throws Exception {
+            FotoTabuleiro foto = controller.getFoto();
+            EstadoTabuleiro esperado = foto.paraEstado();
+            AtomicBoolean jogando = new AtomicBoolean(true);
+            AtomicBoolean divergiu = new AtomicBoolean(false);
+            CountDownLatch prontos = new CountDownLatch(4);
+
+            List<Thread> leitores = new ArrayList<>();
+            for (int t = 0; t < 4; ++t) {
+                Thread leitor = new Thread(() -> {
+                    prontos.countDown();
+                    while (jogando.get())
+                        if (!esperado.equals(foto.paraEstado())) divergiu.set(true);
+                });
+                leitor.start();
+                leitores.add(leitor);
+            }
+
+            prontos.await();
+            for (int i = 0; i < 100; ++i)
+                for (int j = 0; j < 100; j += 7)
+                    controller.clicarBotaoDireito(new Localizacao(i, j));
+            jogando.set(false);
+            for (Thread leitor : leitores) leitor.join();
+
+            assertFalse(divergiu.get());
+            assertNotEquals(esperado, controller.getFoto().paraEstado());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasTabuleiroTest {
+
+    /**
+     * Converte um desenho com '*' para bomba e '.' para seguro.
+     */
+    private static boolean[] desenho(String... linhas) {
+        boolean[] bombas = new boolean[linhas.length * linhas[0].length()];
+        for (int i = 0; i < linhas.length; ++i)
+            for (int j = 0; j < linhas[i].length(); ++j)
+                bombas[i * linhas[0].length() + j] = linhas[i].charAt(j) == '*';
+        return bombas;
+    }
+
+    /**
+     * Referência lenta: simula o jogador que clica em cada abertura ainda
+     * fechada (abrindo-a por busca em largura) e depois em cada número que
+     * sobrou.
+     */
+    private static int bv3PorSimulacao(boolean[] bombas, int linhas, int colunas) {
+        int[] numeros = new int[bombas.length];
+        for (int i = 0; i < linhas; ++i)
+            for (int j = 0; j < colunas; ++j)
+                for (int di = -1; di <= 1; ++di)
+                    for (int dj = -1; dj <= 1; ++dj) {
+                        int l = i + di, c = j + dj;
+                        if (l >= 0 && l < linhas && c >= 0 && c < colunas && bombas[l * colunas + c])
+                            numeros[i * colunas + j]++;
+                    }
+
+        boolean[] aberto = new boolean[bombas.length];
+        int cliques = 0;
+        for (int indice = 0; indice < bombas.length; ++indice) {
+            if (bombas[indice] || numeros[indice] != 0 || aberto[indice]) continue;
+
+            cliques++;
+            ArrayDeque<Integer> fila = new ArrayDeque<>();
+            fila.add(indice);
+            aberto[indice] = true;
+            while (!fila.isEmpty()) {
+                int atual = fila.poll();
+                if (numeros[atual] != 0) continue;
+
+                int i = atual / colunas, j = atual % colunas;
+                for (int di = -1; di <= 1; ++di)
+                    for (int dj = -1; dj <= 1; ++dj) {
+                        int l = i + di, c = j + dj;
+                        if (l < 0 || l >= linhas || c < 0 || c >= colunas) continue;
+                        int vizinho = l * colunas + c;
+                        if (!aberto[vizinho] && !bombas[vizinho]) {
+                            aberto[vizinho] = true;
+                            fila.add(vizinho);
+                        }
+                    }
+            }
+        }
+
+        for (int indice = 0; indice < bombas.length; ++indice)
+            if (!bombas[indice] && !aberto[indice]) cliques++;
+
+        return cliques;
+    }
+
+    @Nested
+    @DisplayName("Testes para calcula(boolean[], int, int)")
+    class CalculaTests {
+
+        @Test
+        @DisplayName("Tabuleiro sem bombas deve ser uma única abertura")
+        void semBombas_umaAbertura() {
+            MetricasTabuleiro metricas = MetricasTabuleiro.calcula(new boolean[12], 3, 4);
+
+            assertEquals(1, metricas.getAberturas());
+            assertEquals(0, metricas.getNumerosIsolados());
+            assertEquals(1, metricas.getBv3());
+        }
+
+        @Test
+        @DisplayName("Deve contar aberturas separadas e números fora das bordas")
+        void desenhoConhecido() {
+            boolean[] bombas = desenho(
+                    "...*...",
+                    "...*...",
+                    "*******",
+                    ".*.*.*.",
+                    "*******");
+
+            MetricasTabuleiro metricas = MetricasTabuleiro.calcula(bombas, 5, 7);
+
+            // Duas aberturas em cima (colunas 0-1 e 5-6, linha 0); na linha 3
+            // os quatro seguros são números isolados
+            assertEquals(2, metricas.getAberturas());
+            assertEquals(4, metricas.getNumerosIsolados());
+            assertEquals(6, metricas.getBv3());
+        }
+
+        @Test
+        @DisplayName("Zeros ligados só pela diagonal devem formar uma abertura só")
+        void zerosNaDiagonal_mesmaAbertura() {
+            // (1,1) e (2,2) são zeros, mas (1,2) e (2,1) são números por
+            // causa das bombas em (0,3) e (3,0): só a diagonal liga as regiões
+            boolean[] bombas = desenho(
+                    "...*.",
+                    ".....",
+                    ".....",
+                    "*....",
+                    ".....");
+
+            MetricasTabuleiro metricas = MetricasTabuleiro.calcula(bombas, 5, 5);
+
+            assertEquals(1, metricas.getAberturas());
+            assertEquals(bv3PorSimulacao(bombas, 5, 5), metricas.getBv3());
+        }
+
+        @Test
+        @DisplayName("3BV deve bater com a simulação de cliques em tabuleiros aleatórios")
+        void aleatorios_batemComSimulacao() {
+            Random rand = new Random(9);
+            for (int caso = 0; caso < 200; ++caso) {
+                int linhas = 1 + rand.nextInt(30);
+                int colunas = 1 + rand.nextInt(30);
+                double densidade = rand.nextDouble() * 0.4;
+                boolean[] bombas = new boolean[linhas * colunas];
+                for (int i = 0; i < bombas.length; ++i) bombas[i] = rand.nextDouble() < densidade;
+
+                MetricasTabuleiro metricas = MetricasTabuleiro.calcula(bombas, linhas, colunas);
+
+                assertEquals(bv3PorSimulacao(bombas, linhas, colunas), metricas.getBv3(),
+                        "caso " + caso + " (" + linhas + "x" + colunas + ")");
+            }
+        }
+
+        @Test
+        @DisplayName("Dimensões que não batem com o vetor devem lançar exceção")
+        void dimensoesErradas_lancaExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> MetricasTabuleiro.calcula(new boolean[5], 2, 3));
+        }
+    }
+
+    /**
+     * Mesma simulação, com os vizinhos dados pela topologia.
+     */
+    private static int bv3PorSimulacao(boolean[] bombas, int linhas, int colunas, Topologia topologia) {
+        int[] vizinhos = new int[Topologia.MAXIMO_VIZINHOS];
+        int[] numeros = new int[bombas.length];
+        for (int indice = 0; indice < bombas.length; ++indice) {
+            int quantidade = topologia.vizinhos(indice / colunas, indice % colunas, linhas, colunas, vizinhos);
+            for (int k = 0; k < quantidade; ++k)
+                if (bombas[vizinhos[k]]) numeros[indice]++;
+        }
+
+        boolean[] aberto = new boolean[bombas.length];
+        int cliques = 0;
+        for (int indice = 0; indice < bombas.length; ++indice) {
+            if (bombas[indice] || numeros[indice] != 0 || aberto[indice]) continue;
+
+            cliques++;
+            ArrayDeque<Integer> fila = new ArrayDeque<>();
+            fila.add(indice);
+            aberto[indice] = true;
+            while (!fila.isEmpty()) {
+                int atual = fila.poll();
+                if (numeros[atual] != 0) continue;
+
+                int quantidade = topologia.vizinhos(atual / colunas, atual % colunas, linhas, colunas, vizinhos);
+                for (int k = 0; k < quantidade; ++k) {
+                    int vizinho = vizinhos[k];
+                    if (!aberto[vizinho] && !bombas[vizinho]) {
+                        aberto[vizinho] = true;
+                        fila.add(vizinho);
+                    }
+                }
+            }
+        }
+
+        for (int indice = 0; indice < bombas.length; ++indice)
+            if (!bombas[indice] && !aberto[indice]) cliques++;
+
+        return cliques;
+    }
+
+    @Nested
+    @DisplayName("Testes para calcula(boolean[], int, int, Topologia)")
+    class CalculaTopologiaTests {
+
+        @Test
+        @DisplayName("Na topologia toroidal as aberturas devem se ligar pelas bordas")
+        void toroidal_aberturasLigadasPelaBorda() {
+            // A coluna de bombas no meio separa as duas metades na grade
+            // quadrada, mas pela borda as colunas 0 e 6 são vizinhas
+            boolean[] bombas = desenho(
+                    "...*...",
+                    "...*...",
+                    "...*...",
+                    "...*...",
+                    "...*...");
+
+            assertEquals(2, MetricasTabuleiro.calcula(bombas, 5, 7, Topologia.QUADRADA).getAberturas());
+            assertEquals(1, MetricasTabuleiro.calcula(bombas, 5, 7, Topologia.TOROIDAL).getAberturas());
+        }
+
+        @Test
+        @DisplayName("3BV deve bater com a simulação de cliques em todas as topologias")
+        void aleatorios_batemComSimulacao() {
+            Random rand = new Random(17);
+            for (Topologia topologia : new Topologia[]{Topologia.QUADRADA, Topologia.TOROIDAL, Topologia.HEXAGONAL, Topologia.TRIANGULAR})
+                for (int caso = 0; caso < 100; ++caso) {
+                    int linhas = 3 + rand.nextInt(25);
+                    int colunas = 3 + rand.nextInt(25);
+                    double densidade = rand.nextDouble() * 0.3;
+                    boolean[] bombas = new boolean[linhas * colunas];
+                    for (int i = 0; i < bombas.length; ++i) bombas[i] = rand.nextDouble() < densidade;
+
+                    MetricasTabuleiro metricas = MetricasTabuleiro.calcula(bombas, linhas, colunas, topologia);
+
+                    assertEquals(bv3PorSimulacao(bombas, linhas, colunas, topologia), metricas.getBv3(),
+                            topologia + " caso " + caso + " (" + linhas + "x" + colunas + ")");
+                }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistroAlteracoesTest {
+
+    @Test
+    @DisplayName("Deve devolver os índices em ordem a partir da versão pedida")
+    void desde_devolveEmOrdem() {
+        RegistroAlteracoes registro = new RegistroAlteracoes(8, 10);
+        for (int i = 0; i < 5; ++i) registro.registra(100 + i);
+
+        assertEquals(15, registro.getVersao());
+        assertArrayEquals(new int[]{102, 103, 104}, registro.desde(12));
+        assertArrayEquals(new int[0], registro.desde(15));
+    }
+
+    @Test
+    @DisplayName("Depois de dar a volta, só as últimas alterações devem estar disponíveis")
+    void desde_depoisDaVolta_descartaAntigas() {
+        RegistroAlteracoes registro = new RegistroAlteracoes(4, 0);
+        for (int i = 0; i < 10; ++i) registro.registra(i);
+
+        assertArrayEquals(new int[]{6, 7, 8, 9}, registro.desde(6));
+        assertNull(registro.desde(5));
+    }
+
+    @Test
+    @DisplayName("Versões anteriores ao início ou futuras devem devolver null")
+    void desde_foraDoRegistro_null() {
+        RegistroAlteracoes registro = new RegistroAlteracoes(4, 10);
+        registro.registra(1);
+
+        assertNull(registro.desde(9));
+        assertNull(registro.desde(12));
+    }
+}
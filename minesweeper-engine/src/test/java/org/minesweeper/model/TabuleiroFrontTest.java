@@ -6,9 +6,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.minesweeper.exceptions.ForaDoTabuleiroException;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,40 +21,26 @@ class TabuleiroFrontTest {
         tabuleiroFront = new TabuleiroFront(LINHAS, COLUNAS);
     }
 
-    /**
-     * Método auxiliar para acessar a matriz interna do tabuleiro via reflexão.
-     */
-    private ArrayList<ArrayList<QuadradoFront>> getGridInterno(TabuleiroFront tab) throws Exception {
-        Field tabuleiroField = TabuleiroFront.class.getDeclaredField("tabuleiro");
-        tabuleiroField.setAccessible(true);
-        // Suprimimos o warning pois sabemos que o tipo está correto
-        @SuppressWarnings("unchecked")
-        ArrayList<ArrayList<QuadradoFront>> grid = (ArrayList<ArrayList<QuadradoFront>>) tabuleiroField.get(tab);
-        return grid;
-    }
-
     @Nested
     @DisplayName("Testes para o Construtor TabuleiroFront(int, int)")
     class ConstrutorTests {
         @Test
         @DisplayName("Verifica se cria tabuleiro com as dimensões corretas e inicializa campos")
-        void testDimensoesCorretas() throws Exception {
+        void testDimensoesCorretas() {
             assertEquals(LINHAS, tabuleiroFront.getLinha_size());
             assertEquals(COLUNAS, tabuleiroFront.getColuna_size());
 
-            ArrayList<ArrayList<QuadradoFront>> grid = getGridInterno(tabuleiroFront);
-            assertNotNull(grid);
-            assertEquals(LINHAS, grid.size(), "O número de linhas na matriz interna deve ser correto.");
-            assertEquals(COLUNAS, grid.get(0).size(), "O número de colunas na matriz interna deve ser correto.");
+            assertNotNull(tabuleiroFront.getQuadrado(LINHAS - 1, COLUNAS - 1), "O último quadrado deve existir.");
+            assertNull(tabuleiroFront.getQuadrado(LINHAS, 0), "Não deve haver quadrados além das linhas.");
+            assertNull(tabuleiroFront.getQuadrado(0, COLUNAS), "Não deve haver quadrados além das colunas.");
         }
 
         @Test
         @DisplayName("Verifica se a localização dos quadrados corresponde à sua posição na matriz")
-        void testLocalizacaoCorretaDosQuadrados() throws Exception {
-            ArrayList<ArrayList<QuadradoFront>> grid = getGridInterno(tabuleiroFront);
+        void testLocalizacaoCorretaDosQuadrados() {
             for (int i = 0; i < LINHAS; i++) {
                 for (int j = 0; j < COLUNAS; j++) {
-                    Localizacao loc = grid.get(i).get(j).getLocalizacao();
+                    Localizacao loc = tabuleiroFront.getQuadrado(i, j).getLocalizacao();
                     assertNotNull(loc, "A Localizacao do quadrado em [" + i + "][" + j + "] não pode ser nula.");
                     assertEquals(i, loc.getLinha(), "A linha armazenada no quadrado [" + i + "][" + j + "] deve ser " + i);
                     assertEquals(j, loc.getColuna(), "A coluna armazenada no quadrado [" + i + "][" + j + "] deve ser " + j);
@@ -105,16 +89,98 @@ class TabuleiroFrontTest {
     class AtualizaQuadradoTests {
         @Test
         @DisplayName("Novo quadrado deve ser igual ao quadrado informado e ser substituído na posição correta")
-        void testAtualizaQuadrado() throws Exception {
+        void testAtualizaQuadrado() {
             Localizacao loc = new Localizacao(2, 2);
             QuadradoFront novoQuadrado = new QuadradoFront(true, 5, true, loc, true);
 
             tabuleiroFront.atualizaQuadrado(novoQuadrado);
 
-            ArrayList<ArrayList<QuadradoFront>> grid = getGridInterno(tabuleiroFront);
-            QuadradoFront quadradoNoTabuleiro = grid.get(2).get(2);
+            QuadradoFront quadradoNoTabuleiro = tabuleiroFront.getQuadrado(2, 2);
+            assertEquals(loc, quadradoNoTabuleiro.getLocalizacao());
+            assertTrue(quadradoNoTabuleiro.isAberto());
+            assertEquals(5, quadradoNoTabuleiro.getNumero());
+            assertTrue(quadradoNoTabuleiro.isMarcado());
+            assertTrue(quadradoNoTabuleiro.isBomba());
+            assertFalse(tabuleiroFront.getQuadrado(2, 3).isAberto(), "Os vizinhos não devem mudar.");
+        }
+
+        @Test
+        @DisplayName("Um quadrado novo deve estar fechado, sem marcação e sem número")
+        void testQuadradoNovoFechado() {
+            QuadradoFront quadrado = tabuleiroFront.getQuadrado(4, 4);
+
+            assertFalse(quadrado.isAberto());
+            assertFalse(quadrado.isMarcado());
+            assertFalse(quadrado.isBomba());
+            assertEquals(-1, quadrado.getNumero());
+        }
+
+        @Test
+        @DisplayName("A cópia deve ter o mesmo estado e não mudar quando o original muda")
+        void copia_independenteDoOriginal() {
+            tabuleiroFront.atualizaQuadrado(new QuadradoFront(true, 3, false, new Localizacao(2, 2), false));
+            tabuleiroFront.setVersao(5);
+            tabuleiroFront.setTopologia(Topologia.HEXAGONAL);
+
+            TabuleiroFront copia = tabuleiroFront.copia();
+            tabuleiroFront.atualizaQuadrado(new QuadradoFront(false, -1, true, new Localizacao(3, 3), false));
+
+            assertEquals(3, copia.getNumero(2, 2));
+            assertFalse(copia.isMarcado(3, 3));
+            assertEquals(5, copia.getVersao());
+            assertEquals(Topologia.HEXAGONAL, copia.getTopologia());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para aplica(DeltaTabuleiro)")
+    class AplicaTests {
+        private DeltaTabuleiro delta(long inicial, long fim, boolean completo, int indice, byte estado) {
+            return new DeltaTabuleiro(inicial, fim, completo, LINHAS, COLUNAS, new int[]{indice}, new byte[]{estado});
+        }
+
+        @Test
+        @DisplayName("Um delta incremental a partir da versão da projeção deve ser aplicado e avançar a versão")
+        void aplica_incremental_atualizaVersao() {
+            tabuleiroFront.setVersao(4);
+
+            assertTrue(tabuleiroFront.aplica(delta(4, 6, false, 2 * COLUNAS + 3, TabuleiroFront.codifica(true, 2, false, false))));
+
+            assertEquals(6, tabuleiroFront.getVersao());
+            assertTrue(tabuleiroFront.isAberto(2, 3));
+            assertEquals(2, tabuleiroFront.getNumero(2, 3));
+        }
+
+        @Test
+        @DisplayName("Um delta que começa depois da versão da projeção não deve ser aplicado")
+        void aplica_comBuraco_recusa() {
+            tabuleiroFront.setVersao(4);
+
+            assertFalse(tabuleiroFront.aplica(delta(5, 6, false, 0, TabuleiroFront.codifica(true, 0, false, false))));
+
+            assertEquals(4, tabuleiroFront.getVersao());
+            assertFalse(tabuleiroFront.isAberto(0, 0));
+        }
+
+        @Test
+        @DisplayName("Um delta completo deve substituir a projeção inteira, em qualquer versão")
+        void aplica_completo_substituiTudo() {
+            tabuleiroFront.setVersao(99);
+            tabuleiroFront.atualizaQuadrado(new QuadradoFront(false, -1, true, new Localizacao(1, 1), false));
+
+            assertTrue(tabuleiroFront.aplica(delta(0, 7, true, 5, TabuleiroFront.codifica(false, -1, true, false))));
+
+            assertFalse(tabuleiroFront.isMarcado(1, 1));
+            assertTrue(tabuleiroFront.isMarcado(0, 5));
+            assertEquals(7, tabuleiroFront.getVersao());
+        }
+
+        @Test
+        @DisplayName("Um delta completo de outras dimensões deve lançar exceção")
+        void aplica_completoOutrasDimensoes_lancaExcecao() {
+            DeltaTabuleiro outro = new DeltaTabuleiro(0, 1, true, LINHAS + 1, COLUNAS, new int[0], new byte[0]);
 
-            assertSame(novoQuadrado, quadradoNoTabuleiro, "O objeto no tabuleiro deve ser o mesmo que foi passado para atualização.");
+            assertThrows(IllegalArgumentException.class, () -> tabuleiroFront.aplica(outro));
         }
     }
 
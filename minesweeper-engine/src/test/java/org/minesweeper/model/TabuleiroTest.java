@@ -9,7 +9,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,27 +31,22 @@ class TabuleiroTest {
     }
 
     /**
-     * Método auxiliar para injetar um tabuleiro customizado para testes previsíveis.
+     * Método auxiliar para montar um tabuleiro customizado para testes previsíveis.
      */
     private void setCustomTabuleiro(ArrayList<ArrayList<Quadrado>> boardState) {
-        try {
-            int linhas = boardState.size();
-            int colunas = boardState.isEmpty() ? 0 : boardState.get(0).size();
-
-            Field tabuleiroField = Tabuleiro.class.getDeclaredField("tabuleiro");
-            tabuleiroField.setAccessible(true);
-            tabuleiroField.set(tabuleiro, boardState);
-
-            Field linhaSizeField = Tabuleiro.class.getDeclaredField("linha_size");
-            linhaSizeField.setAccessible(true);
-            linhaSizeField.set(tabuleiro, linhas);
-
-            Field colunaSizeField = Tabuleiro.class.getDeclaredField("coluna_size");
-            colunaSizeField.setAccessible(true);
-            colunaSizeField.set(tabuleiro, colunas);
+        int linhas = boardState.size();
+        int colunas = boardState.isEmpty() ? 0 : boardState.get(0).size();
 
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            fail("Falha ao configurar o tabuleiro para o teste via reflection: " + e.getMessage());
+        tabuleiro.inicializaTabuleiroVazio(linhas, colunas);
+        try {
+            for (int i = 0; i < linhas; ++i)
+                for (int j = 0; j < colunas; ++j) {
+                    Quadrado quadrado = boardState.get(i).get(j);
+                    quadrado.setLocalizacao(new Localizacao(i, j));
+                    tabuleiro.adicionaQuadrado(quadrado);
+                }
+        } catch (ForaDoTabuleiroException e) {
+            fail("Falha ao montar o tabuleiro para o teste: " + e.getMessage());
         }
     }
 
@@ -216,6 +215,77 @@ class TabuleiroTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes para quantVizinhosPerigosos(Localizacao) em outras topologias")
+    class QuantVizinhosPerigososTopologiaTests {
+
+        private void adicionaBombas(int... linhaColuna) throws ForaDoTabuleiroException {
+            for (int k = 0; k < linhaColuna.length; k += 2) {
+                Quadrado quadrado = new Quadrado(new Localizacao(linhaColuna[k], linhaColuna[k + 1]));
+                quadrado.setBomba(true);
+                tabuleiro.adicionaQuadrado(quadrado);
+            }
+        }
+
+        @Test
+        @DisplayName("Na topologia toroidal o canto deve ver as bombas do outro lado")
+        void toroidal_cantoVeOutroLado() throws ForaDoTabuleiroException {
+            tabuleiro.inicializaTabuleiroVazio(4, 4, Topologia.TOROIDAL);
+            adicionaBombas(3, 3, 0, 3, 3, 0);
+
+            assertEquals(3, tabuleiro.quantVizinhosPerigosos(new Localizacao(0, 0)));
+            assertSame(Topologia.TOROIDAL, tabuleiro.getTopologia());
+        }
+
+        @Test
+        @DisplayName("Na topologia hexagonal só os 6 vizinhos do hexágono devem contar")
+        void hexagonal_contaSeisVizinhos() throws ForaDoTabuleiroException {
+            tabuleiro.inicializaTabuleiroVazio(3, 3, Topologia.HEXAGONAL);
+            // Todas as bombas em volta de (1,1); numa linha ímpar, (0,0) e
+            // (2,0) não são vizinhos
+            adicionaBombas(0, 0, 0, 1, 0, 2, 1, 0, 1, 2, 2, 0, 2, 1, 2, 2);
+
+            assertEquals(6, tabuleiro.quantVizinhosPerigosos(new Localizacao(1, 1)));
+        }
+
+        @Test
+        @DisplayName("Contagens em várias threads ao mesmo tempo devem bater com a contagem sequencial")
+        void contagemConcorrente_igualSequencial() throws Exception {
+            int lado = 60;
+            tabuleiro.inicializaTabuleiroVazio(lado, lado, Topologia.HEXAGONAL);
+            for (int i = 0; i < lado; ++i)
+                for (int j = 0; j < lado; ++j)
+                    if ((i * 7 + j * 3) % 5 == 0) adicionaBombas(i, j);
+
+            int[] esperado = contaTodos(lado);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<int[]>> contagens = new ArrayList<>();
+                for (int t = 0; t < 8; ++t)
+                    contagens.add(executor.submit(() -> contaTodos(lado)));
+                for (Future<int[]> contagem : contagens)
+                    assertArrayEquals(esperado, contagem.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private int[] contaTodos(int lado) {
+            int[] contagem = new int[lado * lado];
+            for (int repeticao = 0; repeticao < 20; ++repeticao)
+                for (int i = 0; i < lado; ++i)
+                    for (int j = 0; j < lado; ++j)
+                        contagem[i * lado + j] = tabuleiro.quantVizinhosPerigosos(new Localizacao(i, j));
+            return contagem;
+        }
+
+        @Test
+        @DisplayName("A topologia toroidal deve recusar tabuleiros com menos de 3 linhas")
+        void toroidal_dimensoesPequenas_lancaExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> tabuleiro.inicializaTabuleiroVazio(2, 5, Topologia.TOROIDAL));
+        }
+    }
+
     @Nested
     @DisplayName("Testes para inicializaTabuleiroVazio(int, int)")
     class TestesParaInicializaTabuleiroVazio {
@@ -236,8 +306,8 @@ class TabuleiroTest {
         }
 
         @Test
-        @DisplayName("Garante que o grid é preenchido com quadrados e localizações corretas")
-        void testInicializaTabuleiroVazio_PreencheGridComQuadradosCorretos() throws Exception {
+        @DisplayName("Garante que todos os quadrados começam fechados, sem marcação e sem bomba")
+        void testInicializaTabuleiroVazio_TodosOsQuadradosVazios() throws Exception {
             // Arrange
             int linhas = 10;
             int colunas = 15;
@@ -245,38 +315,16 @@ class TabuleiroTest {
             // Act
             tabuleiro.inicializaTabuleiroVazio(linhas, colunas);
 
-            // Assert
-            // Usa reflexão para verificar o estado interno do tabuleiro
-            Field tabuleiroField = Tabuleiro.class.getDeclaredField("tabuleiro");
-            tabuleiroField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            ArrayList<ArrayList<Quadrado>> grid = (ArrayList<ArrayList<Quadrado>>) tabuleiroField.get(tabuleiro);
-
-            assertNotNull(grid);
-            assertEquals(linhas, grid.size(), "Deve haver 10 listas de linha no tabuleiro.");
-
-            // Itera para verificar cada linha e cada quadrado
-            for (int i = 0; i < linhas; i++) {
-                ArrayList<Quadrado> linhaAtual = grid.get(i);
-                assertNotNull(linhaAtual);
-                assertEquals(colunas, linhaAtual.size(), "A linha " + i + " deve conter 15 quadrados.");
-
+            // Assert: cada posição existe e está no estado padrão
+            for (int i = 0; i < linhas; i++)
                 for (int j = 0; j < colunas; j++) {
-                    Quadrado quadradoAtual = linhaAtual.get(j);
-                    assertNotNull(quadradoAtual, "A posição [" + i + "][" + j + "] não deve ser nula.");
-
-                    // Verifica a localização de cada quadrado
-                    Localizacao loc = quadradoAtual.getLocalizacao();
-                    assertNotNull(loc);
-                    assertEquals(i, loc.getLinha(), "A linha do quadrado em [" + i + "][" + j + "] deve ser " + i);
-                    assertEquals(j, loc.getColuna(), "A coluna do quadrado em [" + i + "][" + j + "] deve ser " + j);
-
-                    // Verifica o estado padrão do quadrado
-                    assertFalse(quadradoAtual.isAberto());
-                    assertFalse(quadradoAtual.isMarcado());
-                    assertFalse(quadradoAtual.isBomba());
+                    Localizacao loc = new Localizacao(i, j);
+                    assertFalse(tabuleiro.isAberto(loc), "[" + i + "][" + j + "] não deve estar aberto.");
+                    assertFalse(tabuleiro.isMarcado(loc), "[" + i + "][" + j + "] não deve estar marcado.");
+                    assertFalse(tabuleiro.isBomba(loc), "[" + i + "][" + j + "] não deve ser bomba.");
                 }
-            }
+            assertThrows(ForaDoTabuleiroException.class, () -> tabuleiro.isAberto(new Localizacao(linhas, 0)));
+            assertThrows(ForaDoTabuleiroException.class, () -> tabuleiro.isAberto(new Localizacao(0, colunas)));
         }
 
         @Test
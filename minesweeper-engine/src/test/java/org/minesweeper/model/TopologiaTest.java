@@ -0,0 +1,125 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopologiaTest {
+
+    private static final Topologia[] TODAS = {Topologia.QUADRADA, Topologia.TOROIDAL, Topologia.HEXAGONAL, Topologia.TRIANGULAR};
+
+    private static Set<Integer> vizinhos(Topologia topologia, int linha, int coluna, int linhas, int colunas) {
+        int[] destino = new int[Topologia.MAXIMO_VIZINHOS];
+        int quantidade = topologia.vizinhos(linha, coluna, linhas, colunas, destino);
+        Set<Integer> conjunto = new HashSet<>();
+        for (int k = 0; k < quantidade; ++k) conjunto.add(destino[k]);
+
+        assertEquals(quantidade, conjunto.size(), "vizinho repetido em " + topologia);
+        return conjunto;
+    }
+
+    @Nested
+    @DisplayName("Testes para vizinhos(int, int, int, int, int[])")
+    class VizinhosTests {
+
+        @Test
+        @DisplayName("Longe das bordas cada topologia deve ter o seu número de vizinhos")
+        void interior_quantidadeDeVizinhos() {
+            assertEquals(8, vizinhos(Topologia.QUADRADA, 5, 5, 10, 10).size());
+            assertEquals(8, vizinhos(Topologia.TOROIDAL, 5, 5, 10, 10).size());
+            assertEquals(6, vizinhos(Topologia.HEXAGONAL, 5, 5, 10, 10).size());
+            assertEquals(6, vizinhos(Topologia.HEXAGONAL, 4, 5, 10, 10).size());
+            assertEquals(12, vizinhos(Topologia.TRIANGULAR, 5, 5, 10, 10).size());
+            assertEquals(12, vizinhos(Topologia.TRIANGULAR, 4, 5, 10, 10).size());
+        }
+
+        @Test
+        @DisplayName("Na grade quadrada os vizinhos devem ser o anel 3x3")
+        void quadrada_anel3x3() {
+            assertEquals(Set.of(0, 1, 2, 10, 12, 20, 21, 22), vizinhos(Topologia.QUADRADA, 1, 1, 10, 10));
+            assertEquals(Set.of(1, 10, 11), vizinhos(Topologia.QUADRADA, 0, 0, 10, 10));
+        }
+
+        @Test
+        @DisplayName("Na topologia toroidal o canto deve ter 8 vizinhos, dando a volta")
+        void toroidal_cantoDaAVolta() {
+            assertEquals(Set.of(15, 12, 13, 3, 1, 7, 4, 5), vizinhos(Topologia.TOROIDAL, 0, 0, 4, 4));
+        }
+
+        @Test
+        @DisplayName("Linhas pares e ímpares do hexágono devem olhar para lados diferentes")
+        void hexagonal_deslocamentoPorLinha() {
+            // Linha par: vizinhos de cima e de baixo nas colunas j-1 e j
+            assertEquals(Set.of(11, 12, 21, 23, 31, 32), vizinhos(Topologia.HEXAGONAL, 2, 2, 10, 10));
+            // Linha ímpar: colunas j e j+1
+            assertEquals(Set.of(2, 3, 11, 13, 22, 23), vizinhos(Topologia.HEXAGONAL, 1, 2, 10, 10));
+        }
+
+        @Test
+        @DisplayName("A relação de vizinhança deve ser simétrica em todas as topologias")
+        void simetria() {
+            for (Topologia topologia : TODAS) {
+                int linhas = 7, colunas = 9;
+                for (int indice = 0; indice < linhas * colunas; ++indice)
+                    for (int vizinho : vizinhos(topologia, indice / colunas, indice % colunas, linhas, colunas)) {
+                        assertNotEquals(indice, vizinho, topologia + ": quadrado vizinho de si mesmo");
+                        assertTrue(vizinhos(topologia, vizinho / colunas, vizinho % colunas, linhas, colunas).contains(indice),
+                                topologia + ": " + indice + " e " + vizinho);
+                    }
+            }
+        }
+
+        @Test
+        @DisplayName("O caminho do interior deve dar o mesmo resultado que o recorte nas bordas")
+        void interior_igualAoRecorte() {
+            for (Topologia topologia : TODAS) {
+                int linhas = 8, colunas = 8;
+                for (int l = 0; l < linhas; ++l)
+                    for (int c = 0; c < colunas; ++c) {
+                        int[] dLinha = topologia.deslocamentosLinha(l, c);
+                        int[] dColuna = topologia.deslocamentosColuna(l, c);
+                        Set<Integer> esperado = new HashSet<>();
+                        for (int k = 0; k < dLinha.length; ++k) {
+                            int vl = l + dLinha[k], vc = c + dColuna[k];
+                            if (topologia.isToroidal()) {
+                                vl = Math.floorMod(vl, linhas);
+                                vc = Math.floorMod(vc, colunas);
+                            } else if (vl < 0 || vl >= linhas || vc < 0 || vc >= colunas) {
+                                continue;
+                            }
+                            esperado.add(vl * colunas + vc);
+                        }
+
+                        assertEquals(esperado, vizinhos(topologia, l, c, linhas, colunas), topologia + " (" + l + "," + c + ")");
+                    }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para porNome e porCodigo")
+    class BuscaTests {
+
+        @Test
+        @DisplayName("Nome e código devem levar de volta à mesma topologia")
+        void idaEVolta() {
+            for (Topologia topologia : TODAS) {
+                assertSame(topologia, Topologia.porNome(topologia.getNome().toUpperCase()));
+                assertSame(topologia, Topologia.porCodigo(topologia.getCodigo()));
+            }
+        }
+
+        @Test
+        @DisplayName("Nome ou código desconhecido deve lançar exceção")
+        void desconhecida_lancaExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> Topologia.porNome("esferica"));
+            assertThrows(IllegalArgumentException.class, () -> Topologia.porCodigo(Arrays.asList(TODAS).size()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.minesweeper.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VetorPersistenteTest {
+
+    @Test
+    @DisplayName("Escritas antes do primeiro congelamento não devem copiar pedaços")
+    void escreve_semCongelar_naoCopia() {
+        VetorPersistente vetor = new VetorPersistente(5000);
+
+        for (int i = 0; i < 5000; ++i) vetor.escreve(i, (byte) i);
+
+        assertEquals(0, vetor.getPedacosCopiados());
+        assertEquals((byte) 4321, vetor.le(4321));
+    }
+
+    @Test
+    @DisplayName("Depois de congelar, só o pedaço escrito deve ser copiado, uma única vez")
+    void escreve_depoisDeCongelar_copiaSoPedacoEscrito() {
+        VetorPersistente vetor = new VetorPersistente(10 * VetorPersistente.TAMANHO_PEDACO);
+        byte[][] congelado = vetor.congela();
+
+        vetor.escreve(3, (byte) 1);
+        vetor.escreve(4, (byte) 2);
+        vetor.escreve(VetorPersistente.TAMANHO_PEDACO * 7, (byte) 3);
+
+        assertEquals(2, vetor.getPedacosCopiados());
+        assertEquals(0, VetorPersistente.le(congelado, 3));
+        assertEquals(0, VetorPersistente.le(congelado, VetorPersistente.TAMANHO_PEDACO * 7));
+        assertEquals(2, vetor.le(4));
+
+        // Pedaços não escritos continuam compartilhados
+        byte[][] seguinte = vetor.congela();
+        assertSame(congelado[1], seguinte[1]);
+        assertNotSame(congelado[0], seguinte[0]);
+    }
+
+    @Test
+    @DisplayName("Escrever o valor que já está no quadrado não deve copiar o pedaço")
+    void escreve_mesmoValor_naoCopia() {
+        VetorPersistente vetor = new VetorPersistente(100);
+        vetor.escreve(10, (byte) 5);
+        vetor.congela();
+
+        vetor.escreve(10, (byte) 5);
+
+        assertEquals(0, vetor.getPedacosCopiados());
+    }
+
+    @Test
+    @DisplayName("O último pedaço deve ter só o que sobra do tamanho")
+    void construtor_ultimoPedacoParcial() {
+        VetorPersistente vetor = new VetorPersistente(VetorPersistente.TAMANHO_PEDACO + 7);
+        byte[][] pedacos = vetor.congela();
+
+        assertEquals(2, pedacos.length);
+        assertEquals(7, pedacos[1].length);
+        assertEquals(0, new VetorPersistente(0).congela().length);
+    }
+}
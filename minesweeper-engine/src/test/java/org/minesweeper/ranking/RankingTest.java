@@ -0,0 +1,207 @@
+package org.minesweeper.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankingTest {
+
+    @TempDir
+    Path pasta;
+
+    private static RegistroPartida vitoria(Dificuldade dificuldade, long tempoMs, int cliques) {
+        return new RegistroPartida(dificuldade, true, tempoMs, cliques, 0, tempoMs * 31, 0);
+    }
+
+    private static RegistroPartida derrota(Dificuldade dificuldade, long tempoMs) {
+        return new RegistroPartida(dificuldade, false, tempoMs, 1, 0, 0, 0);
+    }
+
+    @Nested
+    @DisplayName("Testes de consulta")
+    class ConsultaTests {
+
+        @Test
+        @DisplayName("melhores deve trazer as vitórias mais rápidas da dificuldade, em ordem")
+        void melhores_ordenaPorTempoECliques() throws IOException {
+            try (Ranking ranking = new Ranking(pasta)) {
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 5000, 20));
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 3000, 30));
+                ranking.registra(derrota(Dificuldade.INICIANTE, 100));
+                ranking.registra(vitoria(Dificuldade.ESPECIALISTA, 1000, 10));
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 3000, 25));
+
+                List<RegistroPartida> melhores = ranking.melhores(Dificuldade.INICIANTE, 10);
+
+                assertEquals(3, melhores.size());
+                assertEquals(25, melhores.get(0).getCliques());
+                assertEquals(30, melhores.get(1).getCliques());
+                assertEquals(5000, melhores.get(2).getTempoMs());
+                assertEquals(5, ranking.getQuantidadePartidas());
+            }
+        }
+
+        @Test
+        @DisplayName("posicao deve contar as vitórias à frente, com empates dividindo a posição")
+        void posicao_contaVitoriasAFrente() throws IOException {
+            try (Ranking ranking = new Ranking(pasta)) {
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 1000, 10));
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 2000, 10));
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 2000, 10));
+
+                assertEquals(1, ranking.posicao(Dificuldade.INICIANTE, 500, 10));
+                assertEquals(2, ranking.posicao(Dificuldade.INICIANTE, 2000, 10));
+                assertEquals(4, ranking.posicao(Dificuldade.INICIANTE, 9000, 10));
+                assertEquals(1, ranking.posicao(Dificuldade.INTERMEDIARIO, 9000, 10));
+            }
+        }
+
+        @Test
+        @DisplayName("Consultas devem bater com a ordenação completa mesmo depois de várias compactações")
+        void consultas_comVariasCompactacoes_batemComOrdenacao() throws IOException {
+            Random rand = new Random(1);
+            ArrayList<RegistroPartida> vitorias = new ArrayList<>();
+
+            try (Ranking ranking = new Ranking(pasta, 1000)) {
+                for (int i = 0; i < 3 * IndiceRanking.LIMITE_DELTA; ++i) {
+                    RegistroPartida partida = vitoria(Dificuldade.INICIANTE, rand.nextInt(100_000), rand.nextInt(50));
+                    ranking.registra(partida);
+                    vitorias.add(partida);
+                }
+
+                vitorias.sort(Comparator.comparingLong(RegistroPartida::getTempoMs)
+                        .thenComparingInt(RegistroPartida::getCliques));
+
+                List<RegistroPartida> melhores = ranking.melhores(Dificuldade.INICIANTE, 100);
+                for (int i = 0; i < 100; ++i) {
+                    assertEquals(vitorias.get(i).getTempoMs(), melhores.get(i).getTempoMs());
+                    assertEquals(vitorias.get(i).getCliques(), melhores.get(i).getCliques());
+                }
+
+                RegistroPartida meio = vitorias.get(vitorias.size() / 2);
+                long antes = vitorias.stream().filter(v -> v.getTempoMs() < meio.getTempoMs()
+                        || (v.getTempoMs() == meio.getTempoMs() && v.getCliques() < meio.getCliques())).count();
+                assertEquals(antes + 1, ranking.posicao(Dificuldade.INICIANTE, meio.getTempoMs(), meio.getCliques()));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de persistência")
+    class PersistenciaTests {
+
+        @Test
+        @DisplayName("Registros só devem ir para o disco quando o lote enche")
+        void registra_gravaEmLotes() throws IOException {
+            Path log = pasta.resolve(Ranking.ARQUIVO_LOG);
+            try (Ranking ranking = new Ranking(pasta, 3)) {
+                long vazio = Files.size(log);
+
+                ranking.registra(derrota(Dificuldade.INICIANTE, 1));
+                ranking.registra(derrota(Dificuldade.INICIANTE, 2));
+                assertEquals(vazio, Files.size(log));
+
+                ranking.registra(derrota(Dificuldade.INICIANTE, 3));
+                assertEquals(vazio + 3L * RegistroPartida.TAMANHO, Files.size(log));
+                assertEquals(2, ranking.le(1).getTempoMs());
+            }
+        }
+
+        @Test
+        @DisplayName("Ao reabrir deve carregar o índice gravado e ler só o final do log")
+        void reabrir_carregaIndiceELeSoOFinal() throws IOException {
+            try (Ranking ranking = new Ranking(pasta, 10)) {
+                for (int i = 0; i < 100; ++i)
+                    ranking.registra(vitoria(Dificuldade.INICIANTE, 1000 + i, 10));
+                ranking.compacta();
+                for (int i = 0; i < 20; ++i)
+                    ranking.registra(vitoria(Dificuldade.INICIANTE, 10 + i, 10));
+                ranking.descarrega();
+
+                // Abre antes do close, que compactaria de novo
+                try (Ranking reaberto = new Ranking(pasta)) {
+                    assertEquals(20, reaberto.getLidosDoLogNaAbertura());
+                    assertEquals(120, reaberto.getQuantidadeVitorias(Dificuldade.INICIANTE));
+                    assertEquals(10, reaberto.melhores(Dificuldade.INICIANTE, 1).get(0).getTempoMs());
+                    assertEquals(21, reaberto.posicao(Dificuldade.INICIANTE, 1000, 10));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Índice ausente deve ser reconstruído a partir do log")
+        void indiceAusente_reconstroiDoLog() throws IOException {
+            try (Ranking ranking = new Ranking(pasta, 10)) {
+                for (int i = 0; i < 50; ++i)
+                    ranking.registra(vitoria(Dificuldade.INICIANTE, 100 - i, 10));
+            }
+            Files.delete(pasta.resolve(Ranking.ARQUIVO_INDICE));
+
+            try (Ranking ranking = new Ranking(pasta)) {
+                assertEquals(50, ranking.getLidosDoLogNaAbertura());
+                assertEquals(50, ranking.getQuantidadeVitorias(Dificuldade.INICIANTE));
+                assertEquals(51, ranking.melhores(Dificuldade.INICIANTE, 1).get(0).getTempoMs());
+            }
+        }
+
+        @Test
+        @DisplayName("Índice truncado deve ser contado como ilegível e reconstruído a partir do log")
+        void indiceTruncado_contaEReconstroi() throws IOException {
+            try (Ranking ranking = new Ranking(pasta, 10)) {
+                for (int i = 0; i < 20; ++i)
+                    ranking.registra(vitoria(Dificuldade.INICIANTE, 100 - i, 10));
+            }
+            Path indice = pasta.resolve(Ranking.ARQUIVO_INDICE);
+            Files.write(indice, Arrays.copyOf(Files.readAllBytes(indice), 10));
+            Contador ilegiveis = RegistroMetricas.getInstance().contador("ranking.indicesIlegiveis");
+            long antes = ilegiveis.getValor();
+
+            try (Ranking ranking = new Ranking(pasta)) {
+                assertEquals(antes + 1, ilegiveis.getValor());
+                assertEquals(20, ranking.getLidosDoLogNaAbertura());
+                assertEquals(20, ranking.getQuantidadeVitorias(Dificuldade.INICIANTE));
+            }
+        }
+
+        @Test
+        @DisplayName("Registro incompleto no fim do log deve ser descartado")
+        void registroIncompleto_descartado() throws IOException {
+            try (Ranking ranking = new Ranking(pasta)) {
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 100, 10));
+            }
+            try (FileChannel log = FileChannel.open(pasta.resolve(Ranking.ARQUIVO_LOG), StandardOpenOption.APPEND)) {
+                log.write(java.nio.ByteBuffer.wrap(new byte[RegistroPartida.TAMANHO / 2]));
+            }
+
+            try (Ranking ranking = new Ranking(pasta)) {
+                assertEquals(1, ranking.getQuantidadePartidas());
+                ranking.registra(vitoria(Dificuldade.INICIANTE, 50, 10));
+                assertEquals(50, ranking.le(1).getTempoMs());
+            }
+        }
+
+        @Test
+        @DisplayName("Arquivo que não é um log de ranking deve lançar IOException")
+        void arquivoDesconhecido_lancaExcecao() throws IOException {
+            Files.write(pasta.resolve(Ranking.ARQUIVO_LOG), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+            assertThrows(IOException.class, () -> new Ranking(pasta));
+        }
+    }
+}
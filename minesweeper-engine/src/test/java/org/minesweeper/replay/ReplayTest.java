@@ -0,0 +1,243 @@
+package org.minesweeper.replay;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.model.Topologia;
+import org.minesweeper.solver.Jogada;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    private static final int LINHAS = 60;
+    private static final int COLUNAS = 60;
+    private static final int BOMBAS = 300;
+    private static final long SEMENTE = 42L;
+
+    /**
+     * Gravação com jogadas aleatórias, abrindo e marcando quadrados
+     * quaisquer, inclusive bombas e quadrados já abertos.
+     */
+    private static GravacaoJogo gravacaoAleatoria(int quantidade) {
+        GravacaoJogo gravacao = new GravacaoJogo(LINHAS, COLUNAS, BOMBAS, SEMENTE);
+        Random rand = new Random(7);
+        for (int i = 0; i < quantidade; ++i) {
+            Jogada.Tipo tipo = rand.nextInt(4) == 0 ? Jogada.Tipo.ABRIR : Jogada.Tipo.MARCAR;
+            gravacao.adiciona(tipo, new Localizacao(rand.nextInt(LINHAS), rand.nextInt(COLUNAS)));
+        }
+        return gravacao;
+    }
+
+    private static void assertMesmoTabuleiro(TabuleiroFront esperado, TabuleiroFront atual) {
+        for (int l = 0; l < esperado.getLinha_size(); ++l) {
+            for (int c = 0; c < esperado.getColuna_size(); ++c) {
+                QuadradoFront e = esperado.getQuadrado(l, c);
+                QuadradoFront a = atual.getQuadrado(l, c);
+                String onde = "(" + l + "," + c + ")";
+                assertEquals(e.isAberto(), a.isAberto(), "aberto " + onde);
+                assertEquals(e.isMarcado(), a.isMarcado(), "marcado " + onde);
+                if (e.isAberto()) {
+                    assertEquals(e.isBomba(), a.isBomba(), "bomba " + onde);
+                    assertEquals(e.getNumero(), a.getNumero(), "número " + onde);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para avanca()")
+    class AvancaTests {
+
+        @Test
+        @DisplayName("Deve reproduzir o mesmo tabuleiro que o jogo gravado pelo controller")
+        void avanca_reproduzJogoDoController() {
+            ControllerTabuleiro controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+            TabuleiroFront jogo = controller.iniciarNovoJogo(LINHAS, COLUNAS, BOMBAS, SEMENTE);
+
+            Random rand = new Random(3);
+            for (int i = 0; i < 500; ++i) {
+                Localizacao localizacao = new Localizacao(rand.nextInt(LINHAS), rand.nextInt(COLUNAS));
+                if (rand.nextBoolean()) {
+                    List<QuadradoFront> abertos = controller.clicarBotaoEsquerdo(localizacao);
+                    if (abertos != null) abertos.forEach(jogo::atualizaQuadrado);
+                } else {
+                    QuadradoFront marcado = controller.clicarBotaoDireito(localizacao);
+                    if (marcado != null) jogo.atualizaQuadrado(marcado);
+                }
+            }
+
+            Replay replay = new Replay(controller.getGravacao());
+            while (!replay.isFim()) replay.avanca();
+
+            assertMesmoTabuleiro(jogo, replay.getTabuleiro());
+        }
+
+        @Test
+        @DisplayName("Deve reproduzir um jogo hexagonal com a mesma topologia")
+        void avanca_reproduzJogoHexagonal() {
+            ControllerTabuleiro controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+            controller.setTopologia(Topologia.HEXAGONAL);
+            TabuleiroFront jogo = controller.iniciarNovoJogo(LINHAS, COLUNAS, BOMBAS, SEMENTE);
+
+            Random rand = new Random(5);
+            for (int i = 0; i < 200; ++i) {
+                List<QuadradoFront> abertos = controller.clicarBotaoEsquerdo(
+                        new Localizacao(rand.nextInt(LINHAS), rand.nextInt(COLUNAS)));
+                if (abertos != null) abertos.forEach(jogo::atualizaQuadrado);
+            }
+
+            Replay replay = new Replay(controller.getGravacao());
+            while (!replay.isFim()) replay.avanca();
+
+            assertSame(Topologia.HEXAGONAL, replay.getTabuleiro().getTopologia());
+            assertMesmoTabuleiro(jogo, replay.getTabuleiro());
+        }
+
+        @Test
+        @DisplayName("No fim da gravação deve retornar uma lista vazia")
+        void avanca_noFim_retornaListaVazia() {
+            Replay replay = new Replay(gravacaoAleatoria(3));
+            replay.avanca();
+            replay.avanca();
+            replay.avanca();
+
+            assertTrue(replay.isFim());
+            assertTrue(replay.avanca().isEmpty());
+            assertEquals(3, replay.getPosicao());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para vaiPara(int)")
+    class VaiParaTests {
+
+        private GravacaoJogo gravacao;
+
+        @BeforeEach
+        void setUp() {
+            gravacao = gravacaoAleatoria(10_000);
+        }
+
+        @Test
+        @DisplayName("Buscar qualquer jogada deve dar o mesmo tabuleiro que reproduzir até ela")
+        void vaiPara_igualAReproducaoDireta() {
+            Replay busca = new Replay(gravacao, 100);
+            busca.vaiPara(gravacao.getQuantidadeJogadas());
+
+            for (int destino : new int[]{9_999, 5_050, 100, 0, 7_321, 7_400, 3}) {
+                Replay direto = new Replay(gravacao, 100);
+                while (direto.getPosicao() < destino) direto.avanca();
+
+                busca.vaiPara(destino);
+
+                assertEquals(destino, busca.getPosicao());
+                assertMesmoTabuleiro(direto.getTabuleiro(), busca.getTabuleiro());
+            }
+        }
+
+        @Test
+        @DisplayName("Depois dos keyframes criados, uma busca reaplica menos jogadas que o intervalo")
+        void vaiPara_reaplicaMenosQueIntervalo() {
+            Replay replay = new Replay(gravacao, 100);
+            replay.vaiPara(gravacao.getQuantidadeJogadas());
+            assertEquals(101, replay.getQuantidadeKeyframes());
+
+            Random rand = new Random(11);
+            for (int i = 0; i < 50; ++i) {
+                replay.vaiPara(rand.nextInt(gravacao.getQuantidadeJogadas() + 1));
+                assertTrue(replay.getReaplicadasUltimaBusca() < 100,
+                        "Reaplicou " + replay.getReaplicadasUltimaBusca() + " jogadas");
+            }
+        }
+
+        @Test
+        @DisplayName("Deve limitar o destino ao intervalo da gravação")
+        void vaiPara_foraDoIntervalo_limita() {
+            Replay replay = new Replay(gravacao);
+
+            replay.vaiPara(20_000);
+            assertTrue(replay.isFim());
+
+            replay.vaiPara(-5);
+            assertEquals(0, replay.getPosicao());
+        }
+
+        @Test
+        @DisplayName("Intervalo de keyframes não positivo deve lançar exceção")
+        void construtor_intervaloInvalido_lancaExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> new Replay(gravacao, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para GravacaoJogo")
+    class GravacaoJogoTests {
+
+        @Test
+        @DisplayName("Gravação escrita e lida deve manter cabeçalho e jogadas")
+        void escreveLe_idaEVolta() throws IOException {
+            GravacaoJogo original = gravacaoAleatoria(200);
+            StringWriter saida = new StringWriter();
+            original.escreve(saida);
+
+            GravacaoJogo lida = GravacaoJogo.le(new StringReader(saida.toString()));
+
+            assertEquals(original.getLinha_size(), lida.getLinha_size());
+            assertEquals(original.getColuna_size(), lida.getColuna_size());
+            assertEquals(original.getBombas(), lida.getBombas());
+            assertEquals(original.getSemente(), lida.getSemente());
+            assertEquals(original.getJogadas(), lida.getJogadas());
+        }
+
+        @Test
+        @DisplayName("A topologia deve ir no cabeçalho e cabeçalhos antigos devem ser lidos como quadrados")
+        void topologia_noCabecalho() throws IOException {
+            GravacaoJogo original = new GravacaoJogo(5, 6, 4, 3L, Topologia.TRIANGULAR);
+            StringWriter saida = new StringWriter();
+            original.escreve(saida);
+
+            assertSame(Topologia.TRIANGULAR, GravacaoJogo.le(new StringReader(saida.toString())).getTopologia());
+            assertSame(Topologia.QUADRADA, GravacaoJogo.le(new StringReader("3 3 1 5\nA 0 0\n")).getTopologia());
+        }
+
+        @Test
+        @DisplayName("Topologia desconhecida deve lançar IOException")
+        void le_topologiaDesconhecida_lancaExcecao() {
+            assertThrows(IOException.class, () -> GravacaoJogo.le(new StringReader("3 3 1 5 esferica\n")));
+        }
+
+        @Test
+        @DisplayName("Jogada desconhecida deve lançar IOException")
+        void le_jogadaDesconhecida_lancaExcecao() {
+            assertThrows(IOException.class, () -> GravacaoJogo.le(new StringReader("3 3 1 5\nX 0 0\n")));
+        }
+
+        @Test
+        @DisplayName("Controller deve gravar só as jogadas que tiveram efeito")
+        void controller_gravaJogadasComEfeito() {
+            ControllerTabuleiro controller = new ControllerTabuleiro(Tabuleiro.novoTabuleiro());
+            controller.iniciarNovoJogo(5, 5, 3, 99L);
+
+            controller.clicarBotaoDireito(new Localizacao(0, 0));
+            controller.clicarBotaoDireito(new Localizacao(10, 10));
+
+            GravacaoJogo gravacao = controller.getGravacao();
+            assertEquals(99L, gravacao.getSemente());
+            assertEquals(1, gravacao.getQuantidadeJogadas());
+            assertEquals(Jogada.Tipo.MARCAR, gravacao.getJogada(0).getTipo());
+        }
+    }
+}
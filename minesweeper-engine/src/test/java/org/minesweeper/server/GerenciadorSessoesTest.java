@@ -0,0 +1,200 @@
+package org.minesweeper.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.minesweeper.exceptions.SessaoInexistenteException;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.Localizacao;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GerenciadorSessoesTest {
+
+    private static final long UM_SEGUNDO = 1_000_000_000L;
+
+    @TempDir
+    Path pasta;
+
+    private final AtomicLong agora = new AtomicLong();
+
+    private GerenciadorSessoes gerenciador(long orcamentoBytes, Path pastaDespejo) {
+        return new GerenciadorSessoes(Duration.ofSeconds(60), orcamentoBytes, pastaDespejo, agora::get);
+    }
+
+    @Nested
+    @DisplayName("Testes de expiração por TTL")
+    class TtlTests {
+        @Test
+        @DisplayName("Sessões sem acesso além do TTL devem ser despejadas")
+        void expiraOciosas_despejaApenasAsAntigas() throws SessaoInexistenteException {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, pasta);
+            String antiga = gerenciador.criaSessao(5, 5, 3);
+            agora.addAndGet(50 * UM_SEGUNDO);
+            String recente = gerenciador.criaSessao(5, 5, 3);
+            agora.addAndGet(20 * UM_SEGUNDO);
+
+            assertEquals(1, gerenciador.expiraOciosas());
+
+            assertFalse(gerenciador.isResidente(antiga));
+            assertTrue(gerenciador.isResidente(recente));
+            assertTrue(Files.exists(pasta.resolve(antiga + ".estado")));
+        }
+
+        @Test
+        @DisplayName("Um acesso deve renovar o prazo da sessão")
+        void executa_renovaTtl() throws SessaoInexistenteException {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, pasta);
+            String id = gerenciador.criaSessao(5, 5, 3);
+            agora.addAndGet(50 * UM_SEGUNDO);
+
+            gerenciador.executa(id, c -> c.ganhou());
+            agora.addAndGet(50 * UM_SEGUNDO);
+
+            assertEquals(0, gerenciador.expiraOciosas());
+        }
+
+        @Test
+        @DisplayName("Sem pasta de despejo, a sessão expirada deve ser encerrada")
+        void expiraOciosas_semPasta_encerraSessao() {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, null);
+            String id = gerenciador.criaSessao(5, 5, 3);
+            agora.addAndGet(61 * UM_SEGUNDO);
+
+            gerenciador.expiraOciosas();
+
+            assertFalse(gerenciador.existeSessao(id));
+            assertThrows(SessaoInexistenteException.class, () -> gerenciador.executa(id, c -> c.ganhou()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do orçamento de memória")
+    class OrcamentoTests {
+        @Test
+        @DisplayName("Deve despejar a sessão menos usada recentemente ao passar do orçamento")
+        void criaSessao_acimaDoOrcamento_despejaLru() throws SessaoInexistenteException {
+            long porSessao = GerenciadorSessoes.estimaBytes(10, 10);
+            // A sessão despejada ainda conta o controller que fica em memória
+            long orcamento = 2 * porSessao + GerenciadorSessoes.estimaBytesDespejada(0, 0);
+            GerenciadorSessoes gerenciador = gerenciador(orcamento, pasta);
+
+            String primeira = gerenciador.criaSessao(10, 10, 5);
+            String segunda = gerenciador.criaSessao(10, 10, 5);
+            // Usar a primeira torna a segunda a menos recente
+            gerenciador.executa(primeira, c -> c.ganhou());
+            String terceira = gerenciador.criaSessao(10, 10, 5);
+
+            assertTrue(gerenciador.isResidente(primeira));
+            assertFalse(gerenciador.isResidente(segunda));
+            assertTrue(gerenciador.isResidente(terceira));
+            assertEquals(orcamento, gerenciador.getBytesEmUso());
+            assertEquals(3, gerenciador.getQuantidadeSessoes());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de recarga do disco")
+    class RecargaTests {
+        @Test
+        @DisplayName("A próxima ação deve recarregar a sessão despejada com o mesmo estado")
+        void executa_sessaoDespejada_recarregaTransparente() throws SessaoInexistenteException {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, pasta);
+            String id = gerenciador.criaSessao(6, 6, 4);
+            gerenciador.executa(id, c -> c.clicarBotaoDireito(new Localizacao(2, 2)));
+            EstadoTabuleiro antes = gerenciador.executa(id, c -> c.capturarEstado());
+
+            agora.addAndGet(61 * UM_SEGUNDO);
+            gerenciador.expiraOciosas();
+            // Só o controller, com a jogada na gravação e no histórico, continua em memória
+            assertEquals(GerenciadorSessoes.estimaBytesDespejada(1, 1), gerenciador.getBytesEmUso());
+
+            EstadoTabuleiro depois = gerenciador.executa(id, c -> c.capturarEstado());
+
+            assertEquals(antes, depois);
+            assertTrue(depois.isMarcado(2, 2));
+            assertTrue(gerenciador.isResidente(id));
+            assertFalse(Files.exists(pasta.resolve(id + ".estado")));
+        }
+
+        @Test
+        @DisplayName("Depois da recarga, as jogadas anteriores devem continuar no histórico e na gravação")
+        void executa_sessaoDespejada_mantemHistoricoEGravacao() throws SessaoInexistenteException {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, pasta);
+            String id = gerenciador.criaSessao(6, 6, 4);
+            gerenciador.executa(id, c -> c.clicarBotaoDireito(new Localizacao(2, 2)));
+
+            agora.addAndGet(61 * UM_SEGUNDO);
+            gerenciador.expiraOciosas();
+
+            assertEquals(1, (int) gerenciador.executa(id, c -> c.getGravacao().getQuantidadeJogadas()));
+            assertNotNull(gerenciador.executa(id, c -> c.desfazer()));
+            assertFalse(gerenciador.executa(id, c -> c.capturarEstado()).isMarcado(2, 2));
+        }
+
+        @Test
+        @DisplayName("Encerrar uma sessão despejada deve apagar o arquivo")
+        void encerraSessao_apagaArquivo() {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, pasta);
+            String id = gerenciador.criaSessao(5, 5, 3);
+            agora.addAndGet(61 * UM_SEGUNDO);
+            gerenciador.expiraOciosas();
+
+            gerenciador.encerraSessao(id);
+
+            assertFalse(gerenciador.existeSessao(id));
+            assertFalse(Files.exists(pasta.resolve(id + ".estado")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de falhas")
+    class FalhasTests {
+        @Test
+        @DisplayName("Se o despejo não puder gravar, a sessão deve continuar residente e jogável")
+        void expiraOciosas_falhaNaGravacao_mantemSessao() throws SessaoInexistenteException {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, pasta.resolve("inexistente"));
+            String id = gerenciador.criaSessao(5, 5, 3);
+            long bytes = gerenciador.getBytesEmUso();
+            agora.addAndGet(61 * UM_SEGUNDO);
+
+            gerenciador.expiraOciosas();
+
+            assertTrue(gerenciador.isResidente(id));
+            assertEquals(bytes, gerenciador.getBytesEmUso());
+            assertNotNull(gerenciador.executa(id, c -> c.capturarEstado()));
+        }
+
+        @Test
+        @DisplayName("Se a recarga não puder ler o arquivo, a ação deve falhar e a sessão continuar existindo")
+        void executa_falhaNaRecarga_lancaExcecao() throws Exception {
+            GerenciadorSessoes gerenciador = gerenciador(Long.MAX_VALUE, pasta);
+            String id = gerenciador.criaSessao(5, 5, 3);
+            agora.addAndGet(61 * UM_SEGUNDO);
+            gerenciador.expiraOciosas();
+            Files.delete(pasta.resolve(id + ".estado"));
+
+            assertThrows(UncheckedIOException.class, () -> gerenciador.executa(id, c -> c.ganhou()));
+            assertTrue(gerenciador.existeSessao(id));
+            assertFalse(gerenciador.isResidente(id));
+        }
+
+        @Test
+        @DisplayName("Sem pasta de despejo, uma sessão que não cabe no orçamento deve ser recusada sem encerrar as outras")
+        void criaSessao_semPasta_acimaDoOrcamento_recusa() {
+            GerenciadorSessoes gerenciador = gerenciador(GerenciadorSessoes.estimaBytes(10, 10), null);
+            String primeira = gerenciador.criaSessao(10, 10, 5);
+
+            assertThrows(IllegalStateException.class, () -> gerenciador.criaSessao(10, 10, 5));
+            assertTrue(gerenciador.isResidente(primeira));
+            assertEquals(1, gerenciador.getQuantidadeSessoes());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package org.minesweeper.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabuleiroCompartilhadoTest {
+
+    @Nested
+    @DisplayName("Testes de geração")
+    class GeracaoTests {
+        @Test
+        @DisplayName("Deve sortear exatamente a quantidade de bombas pedida")
+        void construtor_quantidadeExataDeBombas() {
+            for (int bombas : new int[]{0, 10, 180, 399, 400}) {
+                TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(20, 20, bombas, 7L);
+
+                int cont = 0;
+                for (int i = 0; i < 20; ++i)
+                    for (int j = 0; j < 20; ++j)
+                        if (tabuleiro.isBomba(i, j)) cont++;
+
+                assertEquals(bombas, cont);
+            }
+        }
+
+        @Test
+        @DisplayName("A mesma semente deve gerar as mesmas bombas")
+        void construtor_mesmaSemente_mesmasBombas() {
+            TabuleiroCompartilhado a = new TabuleiroCompartilhado(30, 30, 100, 99L);
+            TabuleiroCompartilhado b = new TabuleiroCompartilhado(30, 30, 100, 99L, 4);
+
+            for (int i = 0; i < 30; ++i)
+                for (int j = 0; j < 30; ++j)
+                    assertEquals(a.isBomba(i, j), b.isBomba(i, j));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de abertura e marcação")
+    class AcoesTests {
+        @Test
+        @DisplayName("A cascata deve atravessar regiões e abrir o tabuleiro todo")
+        void abrir_cascataAtravessaRegioes() {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(50, 50, 0, 1L, 4);
+
+            ArrayList<QuadradoFront> abertos = tabuleiro.abrir(new Localizacao(25, 25));
+
+            assertEquals(2500, abertos.size());
+            assertTrue(tabuleiro.ganhou());
+        }
+
+        @Test
+        @DisplayName("Os números devem corresponder às bombas vizinhas")
+        void abrir_numeroCorreto() {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(10, 10, 30, 5L);
+
+            for (int i = 0; i < 10; ++i)
+                for (int j = 0; j < 10; ++j) {
+                    if (tabuleiro.isBomba(i, j)) continue;
+
+                    int esperado = 0;
+                    for (int di = -1; di <= 1; ++di)
+                        for (int dj = -1; dj <= 1; ++dj) {
+                            int l = i + di, c = j + dj;
+                            if ((di != 0 || dj != 0) && l >= 0 && l < 10 && c >= 0 && c < 10 && tabuleiro.isBomba(l, c))
+                                esperado++;
+                        }
+
+                    tabuleiro.abrir(new Localizacao(i, j));
+                    assertEquals(esperado, tabuleiro.getQuadrado(i, j).getNumero());
+                }
+        }
+
+        @Test
+        @DisplayName("Abrir uma bomba deve encerrar o jogo para todos")
+        void abrir_bomba_encerraJogo() {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(3, 3, 9, 1L);
+
+            ArrayList<QuadradoFront> abertos = tabuleiro.abrir(new Localizacao(1, 1));
+
+            assertEquals(1, abertos.size());
+            assertTrue(abertos.get(0).isBomba());
+            assertTrue(tabuleiro.explodiu());
+            assertTrue(tabuleiro.abrir(new Localizacao(0, 0)).isEmpty());
+            assertNull(tabuleiro.marcar(new Localizacao(0, 0)));
+        }
+
+        @Test
+        @DisplayName("Marcar deve alternar a marcação e impedir a abertura")
+        void marcar_alternaEBloqueiaAbertura() {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(3, 3, 0, 1L);
+            Localizacao loc = new Localizacao(0, 0);
+
+            assertTrue(tabuleiro.marcar(loc).isMarcado());
+            assertTrue(tabuleiro.abrir(loc).isEmpty());
+            assertFalse(tabuleiro.marcar(loc).isMarcado());
+        }
+
+        @Test
+        @DisplayName("Os listeners devem receber os quadrados alterados")
+        void listeners_recebemDeltas() {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(5, 5, 0, 1L);
+            List<QuadradoFront> recebidos = new ArrayList<>();
+            tabuleiro.subscribe(recebidos::addAll);
+
+            tabuleiro.marcar(new Localizacao(0, 0));
+            tabuleiro.abrir(new Localizacao(4, 4));
+
+            assertEquals(1 + 24, recebidos.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de cascata paralela")
+    class CascataParalelaTests {
+        @Test
+        @DisplayName("A cascata paralela deve abrir os mesmos quadrados que a sequencial")
+        void abrir_paralelo_igualAoSequencial() {
+            TabuleiroCompartilhado sequencial = new TabuleiroCompartilhado(300, 300, 400, 11L, 8);
+            TabuleiroCompartilhado paralelo = new TabuleiroCompartilhado(300, 300, 400, 11L, 8);
+            sequencial.setLimiteParalelo(Integer.MAX_VALUE);
+            paralelo.setLimiteParalelo(1);
+            Localizacao inicio = primeiroZero(sequencial);
+
+            ArrayList<QuadradoFront> esperados = sequencial.abrir(inicio);
+            ArrayList<QuadradoFront> obtidos = paralelo.abrir(inicio);
+
+            assertTrue(esperados.size() > 1000, "A cascata do teste deveria ser grande.");
+            assertEquals(esperados.size(), obtidos.size());
+            assertEquals(inicio, obtidos.get(0).getLocalizacao());
+            for (int i = 0; i < 300; ++i)
+                for (int j = 0; j < 300; ++j)
+                    assertEquals(sequencial.getQuadrado(i, j).isAberto(), paralelo.getQuadrado(i, j).isAberto());
+        }
+
+        @Test
+        @DisplayName("Cada quadrado deve aparecer uma única vez no delta da cascata paralela")
+        void abrir_paralelo_semDuplicatas() {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(200, 200, 0, 1L, 4);
+            tabuleiro.setLimiteParalelo(1);
+
+            ArrayList<QuadradoFront> abertos = tabuleiro.abrir(new Localizacao(0, 0));
+
+            assertEquals(40000, abertos.stream().map(QuadradoFront::getLocalizacao).distinct().count());
+            assertEquals(40000, tabuleiro.getQuadradosAbertos());
+            assertTrue(tabuleiro.ganhou());
+        }
+
+        private Localizacao primeiroZero(TabuleiroCompartilhado tabuleiro) {
+            for (int i = 150; i < 300; ++i)
+                for (int j = 150; j < 300; ++j) {
+                    boolean zero = true;
+                    for (int di = -1; di <= 1 && zero; ++di)
+                        for (int dj = -1; dj <= 1 && zero; ++dj)
+                            zero = !tabuleiro.isBomba(Math.max(0, Math.min(299, i + di)), Math.max(0, Math.min(299, j + dj)));
+                    if (zero) return new Localizacao(i, j);
+                }
+            throw new AssertionError("Sem quadrado zero no tabuleiro de teste");
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de concorrência")
+    class ConcorrenciaTests {
+        @Test
+        @DisplayName("Cliques simultâneos devem abrir cada quadrado uma única vez")
+        void abrir_concorrente_semDuplicatas() throws Exception {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(200, 200, 4000, 3L, 16);
+            Map<Localizacao, Integer> vezesAberto = new ConcurrentHashMap<>();
+            tabuleiro.subscribe(alterados -> {
+                for (QuadradoFront q : alterados)
+                    if (q.isAberto()) vezesAberto.merge(q.getLocalizacao(), 1, Integer::sum);
+            });
+
+            int threads = 8;
+            AtomicInteger abertosRetornados = new AtomicInteger();
+            CountDownLatch largada = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> tarefas = new ArrayList<>();
+
+            for (int t = 0; t < threads; ++t) {
+                long semente = t;
+                tarefas.add(executor.submit(() -> {
+                    Random rand = new Random(semente);
+                    largada.await();
+                    for (int k = 0; k < 5000; ++k) {
+                        int linha = rand.nextInt(200), coluna = rand.nextInt(200);
+                        if (!tabuleiro.isBomba(linha, coluna))
+                            abertosRetornados.addAndGet(tabuleiro.abrir(new Localizacao(linha, coluna)).size());
+                    }
+                    return null;
+                }));
+            }
+
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) tarefa.get();
+            executor.shutdown();
+
+            assertFalse(tabuleiro.explodiu());
+            assertTrue(vezesAberto.values().stream().allMatch(v -> v == 1));
+            assertEquals(tabuleiro.getQuadradosAbertos(), vezesAberto.size());
+            assertEquals(tabuleiro.getQuadradosAbertos(), abertosRetornados.get());
+        }
+
+        @Test
+        @DisplayName("Marcações simultâneas devem chegar aos listeners na ordem em que aconteceram")
+        void marcar_concorrente_ultimoDeltaIgualAoTabuleiro() throws Exception {
+            TabuleiroCompartilhado tabuleiro = new TabuleiroCompartilhado(4, 4, 0, 1L);
+            Localizacao alvo = new Localizacao(1, 1);
+            CountDownLatch dentro = new CountDownLatch(1);
+            CountDownLatch solta = new CountDownLatch(1);
+            AtomicInteger chamadas = new AtomicInteger();
+
+            // Como a transmissão: fica o último estado recebido de cada
+            // quadrado. O primeiro aviso fica parado até a segunda marcação
+            // ter tido a chance de passar na frente
+            Map<Localizacao, QuadradoFront> transmitido = new ConcurrentHashMap<>();
+            tabuleiro.subscribe(alterados -> {
+                if (chamadas.getAndIncrement() == 0) {
+                    dentro.countDown();
+                    try {
+                        solta.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                for (QuadradoFront q : alterados)
+                    transmitido.put(q.getLocalizacao(), q);
+            });
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            Future<?> marca = executor.submit(() -> tabuleiro.marcar(alvo));
+            dentro.await();
+            Future<?> desmarca = executor.submit(() -> tabuleiro.marcar(alvo));
+            try {
+                desmarca.get(200, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Esperando a trava da região: é o que se quer
+            }
+            solta.countDown();
+            marca.get();
+            desmarca.get();
+            executor.shutdown();
+
+            assertFalse(tabuleiro.getQuadrado(1, 1).isMarcado());
+            assertEquals(tabuleiro.getQuadrado(1, 1).isMarcado(), transmitido.get(alvo).isMarcado());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.minesweeper.server;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransmissaoJogoTest {
+
+    // Entregas ficam paradas até o teste mandar rodar, como um espectador lento
+    private final ArrayDeque<Runnable> entregasPendentes = new ArrayDeque<>();
+    private TransmissaoJogo transmissao;
+    private List<Quadro> recebidos;
+
+    @BeforeEach
+    void setUp() {
+        transmissao = new TransmissaoJogo(10, 10, 4, entregasPendentes::add);
+        recebidos = new ArrayList<>();
+        transmissao.subscribe(recebidos::add);
+    }
+
+    private void entrega() {
+        while (!entregasPendentes.isEmpty())
+            entregasPendentes.poll().run();
+    }
+
+    private QuadradoFront aberto(int linha, int coluna, int numero) {
+        return new QuadradoFront(true, numero, false, new Localizacao(linha, coluna), false);
+    }
+
+    private QuadradoFront marcado(int linha, int coluna, boolean marcado) {
+        return new QuadradoFront(false, -1, marcado, new Localizacao(linha, coluna), false);
+    }
+
+    @Nested
+    @DisplayName("Testes de agrupamento por tick")
+    class CoalescenciaTests {
+        @Test
+        @DisplayName("Um espectador novo deve receber primeiro um quadro completo")
+        void subscribe_recebeCompleto() {
+            entrega();
+
+            assertEquals(1, recebidos.size());
+            assertTrue(recebidos.get(0).isCompleto());
+            assertEquals(100, recebidos.get(0).getTamanho());
+        }
+
+        @Test
+        @DisplayName("Várias publicações no mesmo tick devem virar um único quadro")
+        void publica_mesmoTick_umQuadro() {
+            entrega();
+            transmissao.publica(List.of(aberto(0, 0, 1)));
+            transmissao.publica(List.of(aberto(0, 1, 2), aberto(0, 2, 0)));
+
+            transmissao.emiteQuadro();
+            entrega();
+
+            assertEquals(2, recebidos.size());
+            Quadro delta = recebidos.get(1);
+            assertFalse(delta.isCompleto());
+            assertEquals(3, delta.getTamanho());
+        }
+
+        @Test
+        @DisplayName("Cada quadrado deve aparecer só com o estado final do tick")
+        void publica_mesmoQuadro_ficaOUltimo() {
+            entrega();
+            transmissao.publica(List.of(marcado(1, 1, true)));
+            transmissao.publica(List.of(marcado(1, 1, false)));
+            transmissao.publica(List.of(marcado(2, 2, true)));
+            transmissao.publica(List.of(aberto(3, 3, 4)));
+            transmissao.publica(List.of(marcado(2, 2, false), marcado(2, 2, true)));
+
+            transmissao.emiteQuadro();
+            entrega();
+
+            Quadro delta = recebidos.get(1);
+            Map<Integer, Byte> estados = new HashMap<>();
+            for (int i = 0; i < delta.getTamanho(); ++i)
+                estados.put(delta.getIndice(i), delta.getEstado(i));
+
+            assertEquals(Map.of(33, (byte) 4, 22, Quadro.MARCADO), estados);
+        }
+
+        @Test
+        @DisplayName("O tick deve virar quadro completo só quando ele é menor que o delta")
+        void muitasMudancas_viramCompleto() {
+            entrega();
+            // 10x10: 20 quadrados no delta ocupam o mesmo que o tabuleiro inteiro
+            for (int i = 0; i < 20; ++i)
+                transmissao.publica(List.of(aberto(i / 10, i % 10, 1)));
+            transmissao.emiteQuadro();
+            for (int i = 20; i < 41; ++i)
+                transmissao.publica(List.of(aberto(i / 10, i % 10, 1)));
+            transmissao.emiteQuadro();
+            entrega();
+
+            assertFalse(recebidos.get(1).isCompleto());
+            assertEquals(20, recebidos.get(1).getTamanho());
+            assertTrue(recebidos.get(2).isCompleto());
+        }
+
+        @Test
+        @DisplayName("Um tick sem mudanças efetivas não deve gerar quadro")
+        void emiteQuadro_semMudancas_naoEnvia() {
+            entrega();
+            transmissao.emiteQuadro();
+            transmissao.publica(List.of(marcado(1, 1, true), marcado(1, 1, false)));
+            transmissao.emiteQuadro();
+            entrega();
+
+            assertEquals(1, recebidos.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de espectadores lentos")
+    class EspectadorLentoTests {
+        @Test
+        @DisplayName("Com a fila cheia, o espectador deve receber um quadro completo em vez do acúmulo")
+        void filaCheia_recebeCompleto() {
+            entrega();
+            for (int i = 0; i < 10; ++i) {
+                transmissao.publica(List.of(aberto(i, 0, 1)));
+                transmissao.emiteQuadro();
+            }
+
+            entrega();
+
+            assertEquals(2, recebidos.size());
+            Quadro completo = recebidos.get(1);
+            assertTrue(completo.isCompleto());
+            assertEquals(10, completo.getSequencia());
+            for (int i = 0; i < 10; ++i)
+                assertEquals(1, completo.getEstado(i * 10));
+        }
+
+        @Test
+        @DisplayName("Os deltas devem chegar em ordem e sem repetir o que o completo já cobre")
+        void sequencias_crescentes() {
+            for (int i = 0; i < 3; ++i) {
+                transmissao.publica(List.of(aberto(i, 0, 1)));
+                transmissao.emiteQuadro();
+            }
+            entrega();
+            transmissao.publica(List.of(aberto(9, 9, 1)));
+            transmissao.emiteQuadro();
+            entrega();
+
+            long anterior = -1;
+            for (Quadro quadro : recebidos) {
+                assertTrue(quadro.getSequencia() > anterior);
+                anterior = quadro.getSequencia();
+            }
+            assertEquals(4, anterior);
+        }
+
+        @Test
+        @DisplayName("Um espectador removido não deve receber mais quadros")
+        void unsubscribe_paraEntrega() {
+            entrega();
+            List<Quadro> outro = new ArrayList<>();
+            Espectador espectador = outro::add;
+            transmissao.subscribe(espectador);
+            assertEquals(2, transmissao.getQuantidadeEspectadores());
+            transmissao.unsubscribe(espectador);
+            transmissao.publica(List.of(aberto(0, 0, 1)));
+            transmissao.emiteQuadro();
+            entrega();
+
+            assertTrue(outro.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Um espectador que lança exceção deve ser removido e contado como falha")
+        void espectadorFalha_removidoEContado() {
+            entrega();
+            Contador falhas = RegistroMetricas.getInstance().contador("transmissao.espectadoresComFalha");
+            long antes = falhas.getValor();
+            transmissao.subscribe(quadro -> {
+                throw new IllegalStateException("teste");
+            });
+
+            entrega();
+
+            assertEquals(1, transmissao.getQuantidadeEspectadores());
+            assertEquals(antes + 1, falhas.getValor());
+        }
+    }
+}
@@ -8,9 +8,13 @@ import org.minesweeper.model.Localizacao;
 import org.minesweeper.model.Quadrado;
 import org.minesweeper.model.QuadradoFront;
 import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.Topologia;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -145,4 +149,65 @@ class AbrirQuadradoIntegrationTest {
         assertTrue(tabuleiro.isAberto(new Localizacao(2,2)));
         assertFalse(tabuleiro.isAberto(new Localizacao(0,1))); // A bomba não deve ser aberta
     }
-}
\ No newline at end of file
+
+    /**
+     * Tabuleiro grande com poucas bombas sorteadas pela semente, para que um
+     * clique abra uma cascata que passa do limite paralelo.
+     */
+    private Tabuleiro tabuleiroEsparso(int lado, Topologia topologia, long semente) throws ForaDoTabuleiroException {
+        Tabuleiro esparso = Tabuleiro.novoTabuleiro();
+        esparso.inicializaTabuleiroVazio(lado, lado, topologia);
+        Random rand = new Random(semente);
+        for (int k = 0; k < lado * lado / 500; ++k) {
+            Quadrado bomba = new Quadrado(true, false, false);
+            bomba.setLocalizacao(new Localizacao(rand.nextInt(lado), rand.nextInt(lado)));
+            esparso.adicionaQuadrado(bomba);
+        }
+        // Uma marcação no meio da cascata não pode ser aberta por nenhuma tarefa
+        Localizacao marcada = new Localizacao(lado / 3, lado / 3);
+        if (!esparso.isBomba(marcada)) esparso.setMarcado(marcada);
+        return esparso;
+    }
+
+    private void assertCascataParalelaIgualSequencial(Topologia topologia) throws ForaDoTabuleiroException {
+        int lado = 600;
+        Tabuleiro sequencial = tabuleiroEsparso(lado, topologia, 5L);
+        Tabuleiro paralelo = tabuleiroEsparso(lado, topologia, 5L);
+        Localizacao inicio = new Localizacao(lado / 2, lado / 2);
+        assertEquals(0, sequencial.quantVizinhosPerigosos(inicio), "Pré-condição: o clique deve cair num zero.");
+
+        ArrayList<QuadradoFront> esperado = new AbrirQuadrado(inicio, Integer.MAX_VALUE).visitTabuleiro(sequencial);
+        ArrayList<QuadradoFront> resultado = new AbrirQuadrado(inicio, 100).visitTabuleiro(paralelo);
+
+        assertTrue(esperado.size() > 100, "A cascata deveria passar do limite.");
+        assertEquals(inicio, resultado.get(0).getLocalizacao(), "O quadrado clicado deve vir primeiro.");
+        assertEquals(esperado.size(), resultado.size());
+        assertEquals(esperado.size(), numeros(resultado).size(), "Nenhum quadrado pode aparecer duas vezes.");
+        assertEquals(numeros(esperado), numeros(resultado));
+        assertEquals(sequencial.tirarFoto().getQuadradosAbertos(), paralelo.tirarFoto().getQuadradosAbertos());
+        for (int i = 0; i < lado; ++i)
+            for (int j = 0; j < lado; ++j) {
+                Localizacao loc = new Localizacao(i, j);
+                assertEquals(sequencial.isAberto(loc), paralelo.isAberto(loc), loc.toString());
+            }
+    }
+
+    private Map<Localizacao, Integer> numeros(ArrayList<QuadradoFront> quadrados) {
+        Map<Localizacao, Integer> numeros = new HashMap<>();
+        for (QuadradoFront quadrado : quadrados)
+            numeros.put(quadrado.getLocalizacao(), quadrado.getNumero());
+        return numeros;
+    }
+
+    @Test
+    @DisplayName("A cascata paralela deve abrir os mesmos quadrados que a sequencial, sem repetir nenhum")
+    void visitTabuleiro_cascataParalela_igualSequencial() throws ForaDoTabuleiroException {
+        assertCascataParalelaIgualSequencial(Topologia.QUADRADA);
+    }
+
+    @Test
+    @DisplayName("A cascata paralela deve dar a volta nas bordas do tabuleiro toroidal")
+    void visitTabuleiro_cascataParalelaToroidal_igualSequencial() throws ForaDoTabuleiroException {
+        assertCascataParalelaIgualSequencial(Topologia.TOROIDAL);
+    }
+}
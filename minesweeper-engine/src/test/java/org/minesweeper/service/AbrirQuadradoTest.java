@@ -10,6 +10,7 @@ import org.minesweeper.exceptions.ForaDoTabuleiroException;
 import org.minesweeper.model.Localizacao;
 import org.minesweeper.model.QuadradoFront;
 import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.Topologia;
 
 import java.util.*;
 
@@ -96,7 +97,7 @@ class AbrirQuadradoTest {
     }
 
     @Nested
-    @DisplayName("Testes para abreVizinhos (Lógica Recursiva)")
+    @DisplayName("Testes para abreCascata (abertura em cascata)")
     class CasosRecursivos {
         @Test
         @DisplayName("Deve abrir todos os vizinhos recursivamente quando não há bombas ao redor")
@@ -110,6 +111,10 @@ class AbrirQuadradoTest {
             Localizacao locVizinho1 = new Localizacao(0, 1);
             Localizacao locVizinhoJaAberto = new Localizacao(2, 2);
 
+            when(mockTabuleiro.getTopologia()).thenReturn(Topologia.QUADRADA);
+            when(mockTabuleiro.getLinha_size()).thenReturn(3);
+            when(mockTabuleiro.getColuna_size()).thenReturn(3);
+
             // Comportamento do quadrado inicial (1,1)
             when(mockTabuleiro.isAberto(locInicial)).thenReturn(false);
             when(mockTabuleiro.isMarcado(locInicial)).thenReturn(false);
@@ -184,13 +189,17 @@ class AbrirQuadradoTest {
                 }
             }
 
-            // --- Define as localizações que devem lançar exceção ---
+            // --- Define as localizações que devem lançar exceção, caso sejam consultadas ---
             Set<Localizacao> locsForaDoTabuleiro = Set.of(
                     new Localizacao(-1, 0),
                     new Localizacao(-1, 1),
                     new Localizacao(-1, 2)
             );
 
+            when(mockTabuleiro.getTopologia()).thenReturn(Topologia.QUADRADA);
+            when(mockTabuleiro.getLinha_size()).thenReturn(3);
+            when(mockTabuleiro.getColuna_size()).thenReturn(3);
+
             // --- Configura o Mock para usar o Tabuleiro Virtual com a nova lógica ---
             when(mockTabuleiro.isAberto(any(Localizacao.class))).thenAnswer(invocation -> {
                 Localizacao loc = invocation.getArgument(0);
@@ -231,8 +240,9 @@ class AbrirQuadradoTest {
             ArrayList<QuadradoFront> resultado = acao.visitTabuleiro(mockTabuleiro);
 
             // ASSERT
-            // O resultado esperado não muda, pois a exceção deve ser tratada e não adicionar quadrados à lista.
+            // Os vizinhos fora do tabuleiro 3x3 são descartados antes de consultar o tabuleiro.
             assertNotNull(resultado);
+            verify(mockTabuleiro, never()).isAberto(new Localizacao(-1, 0));
             assertEquals(4, resultado.size());
 
             assertQuadradoNaLista(resultado, locInicial, 0);
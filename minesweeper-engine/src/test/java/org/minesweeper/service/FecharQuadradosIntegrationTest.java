@@ -0,0 +1,90 @@
+package org.minesweeper.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Quadrado;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.Tabuleiro;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FecharQuadradosIntegrationTest {
+
+    private Tabuleiro tabuleiro;
+
+    // Tabuleiro 5x5 com uma bomba em (0,0)
+    @BeforeEach
+    void setUp() throws Exception {
+        Field instanceField = Tabuleiro.class.getDeclaredField("instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+        tabuleiro = Tabuleiro.getInstance();
+        tabuleiro.inicializaTabuleiroVazio(5, 5);
+        for (int i=0; i<5; i++) {
+            for(int j=0; j<5; j++) {
+                Quadrado q = new Quadrado(i == 0 && j == 0, false, false);
+                q.setLocalizacao(new Localizacao(i,j));
+                tabuleiro.adicionaQuadrado(q);
+            }
+        }
+    }
+
+    private int quadradosAbertos() throws Exception {
+        Field quadradosAbertos = Tabuleiro.class.getDeclaredField("quadradosAbertos");
+        quadradosAbertos.setAccessible(true);
+        return (int) quadradosAbertos.get(tabuleiro);
+    }
+
+    @Test
+    @DisplayName("Deve fechar os quadrados dados e descontar dos abertos")
+    void visitTabuleiro_fechaQuadrados() throws Exception {
+        tabuleiro.setAberto(new Localizacao(3, 3));
+        tabuleiro.setAberto(new Localizacao(4, 1));
+
+        ArrayList<QuadradoFront> resultado = new FecharQuadrados(new int[]{3, 3, 4, 1}).visitTabuleiro(tabuleiro);
+
+        assertEquals(2, resultado.size());
+        assertEquals(new Localizacao(3, 3), resultado.get(0).getLocalizacao());
+        assertFalse(resultado.get(1).isAberto());
+        assertFalse(tabuleiro.isAberto(new Localizacao(3, 3)));
+        assertFalse(tabuleiro.isAberto(new Localizacao(4, 1)));
+        assertEquals(0, quadradosAbertos());
+    }
+
+    @Test
+    @DisplayName("Fechar e reabrir deve voltar ao mesmo estado, com os números e a bomba")
+    void fecharReabrir_voltaAoMesmoEstado() throws Exception {
+        ArrayList<QuadradoFront> abertos = new AbrirQuadrado(new Localizacao(4, 4)).visitTabuleiro(tabuleiro);
+        int[] posicoes = new int[abertos.size() * 2];
+        for (int i = 0; i < abertos.size(); ++i) {
+            posicoes[2 * i] = abertos.get(i).getLocalizacao().getLinha();
+            posicoes[2 * i + 1] = abertos.get(i).getLocalizacao().getColuna();
+        }
+
+        new FecharQuadrados(posicoes).visitTabuleiro(tabuleiro);
+        assertEquals(0, quadradosAbertos());
+
+        ArrayList<QuadradoFront> reabertos = new ReabrirQuadrados(posicoes).visitTabuleiro(tabuleiro);
+        assertEquals(abertos.size(), reabertos.size());
+        for (int i = 0; i < abertos.size(); ++i) {
+            assertEquals(abertos.get(i).getLocalizacao(), reabertos.get(i).getLocalizacao());
+            assertEquals(abertos.get(i).getNumero(), reabertos.get(i).getNumero());
+        }
+        assertTrue(tabuleiro.ganhou());
+
+        ArrayList<QuadradoFront> bomba = new ReabrirQuadrados(new int[]{0, 0}).visitTabuleiro(tabuleiro);
+        assertTrue(bomba.get(0).isBomba());
+    }
+
+    @Test
+    @DisplayName("Posição fora do tabuleiro deve retornar null")
+    void visitTabuleiro_foraDoTabuleiro_retornaNull() {
+        assertNull(new FecharQuadrados(new int[]{9, 9}).visitTabuleiro(tabuleiro));
+        assertNull(new ReabrirQuadrados(new int[]{-1, 0}).visitTabuleiro(tabuleiro));
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.minesweeper.exceptions.ForaDoTabuleiroException;
 import org.minesweeper.model.Localizacao;
 import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
 
 import java.lang.reflect.Field;
 import java.util.HashSet;
@@ -90,4 +91,36 @@ class MontarTabuleiroIntegrationTest {
         // É estatisticamente muito improvável que os dois conjuntos de bombas sejam idênticos
         assertNotEquals(bombas1, bombas2, "Dois tabuleiros gerados não deveriam ter a mesma distribuição de bombas.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("A mesma semente deve gerar as mesmas bombas que o sorteio original por remoção da lista")
+    void visitTabuleiro_mesmaSemente_mesmoSorteioDaListaOriginal() throws Exception {
+        int linhas = 16, colunas = 30, bombas = 99;
+        long semente = 1234L;
+        new MontarTabuleiro(linhas, colunas, bombas, semente).visitTabuleiro(tabuleiro);
+
+        // Sorteio original: lista [seguros..., bombas...] com remove(indice)
+        java.util.Random rand = new java.util.Random(semente);
+        java.util.ArrayList<Boolean> lista = new java.util.ArrayList<>();
+        for (int i = 0; i < linhas * colunas; ++i) lista.add(i >= linhas * colunas - bombas);
+
+        for (int i = 0; i < linhas; i++) {
+            for (int j = 0; j < colunas; j++) {
+                boolean esperado = lista.remove(rand.nextInt(lista.size()));
+                assertEquals(esperado, tabuleiro.isBomba(new Localizacao(i, j)), "(" + i + "," + j + ")");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver as métricas de dificuldade do tabuleiro gerado")
+    void visitTabuleiro_devolveMetricas() {
+        MontarTabuleiro acao = new MontarTabuleiro(9, 9, 10, 77L);
+        TabuleiroFront front = acao.visitTabuleiro(tabuleiro);
+
+        assertNotNull(front.getMetricas());
+        assertTrue(front.getMetricas().getBv3() > 0);
+        assertEquals(front.getMetricas().getAberturas() + front.getMetricas().getNumerosIsolados(),
+                front.getMetricas().getBv3());
+    }
+}
@@ -0,0 +1,118 @@
+package org.minesweeper.solver;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.TabuleiroFront;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolvedorTest {
+
+    private Resolvedor resolvedor;
+
+    @BeforeEach
+    void setUp() {
+        resolvedor = new Resolvedor();
+    }
+
+    private void abre(TabuleiroFront tabuleiro, int linha, int coluna, int numero) {
+        tabuleiro.atualizaQuadrado(new QuadradoFront(true, numero, false, new Localizacao(linha, coluna), false));
+    }
+
+    private void marca(TabuleiroFront tabuleiro, int linha, int coluna) {
+        tabuleiro.atualizaQuadrado(new QuadradoFront(false, -1, true, new Localizacao(linha, coluna), false));
+    }
+
+    @Nested
+    @DisplayName("Testes para jogadas deduzidas")
+    class JogadasDeduzidas {
+        @Test
+        @DisplayName("Número igual à quantidade de fechados deve marcar todos eles")
+        void numeroIgualFechados_marcaTodos() {
+            // 1x2: (0,0) aberto com 1, (0,1) fechado
+            TabuleiroFront tabuleiro = new TabuleiroFront(1, 2, 1);
+            abre(tabuleiro, 0, 0, 1);
+
+            ArrayList<Jogada> jogadas = resolvedor.proximasJogadas(tabuleiro);
+
+            assertEquals(1, jogadas.size());
+            assertEquals(new Jogada(Jogada.Tipo.MARCAR, new Localizacao(0, 1), false), jogadas.get(0));
+        }
+
+        @Test
+        @DisplayName("Número já satisfeito pelas bandeiras deve abrir os demais vizinhos")
+        void numeroSatisfeito_abreRestantes() {
+            // 1x3: (0,0) marcado, (0,1) aberto com 1, (0,2) fechado
+            TabuleiroFront tabuleiro = new TabuleiroFront(1, 3, 1);
+            marca(tabuleiro, 0, 0);
+            abre(tabuleiro, 0, 1, 1);
+
+            ArrayList<Jogada> jogadas = resolvedor.proximasJogadas(tabuleiro);
+
+            assertEquals(1, jogadas.size());
+            assertEquals(new Jogada(Jogada.Tipo.ABRIR, new Localizacao(0, 2), false), jogadas.get(0));
+        }
+
+        @Test
+        @DisplayName("Um quadrado deduzido por vários números deve aparecer uma única vez")
+        void quadradoCompartilhado_naoDuplica() {
+            // 2x2: linha 0 aberta com 1 e 1, linha 1 com (1,0) marcado e (1,1) fechado
+            TabuleiroFront tabuleiro = new TabuleiroFront(2, 2, 1);
+            abre(tabuleiro, 0, 0, 1);
+            abre(tabuleiro, 0, 1, 1);
+            marca(tabuleiro, 1, 0);
+
+            ArrayList<Jogada> jogadas = resolvedor.proximasJogadas(tabuleiro);
+
+            assertEquals(1, jogadas.size());
+            assertEquals(Jogada.Tipo.ABRIR, jogadas.get(0).getTipo());
+            assertEquals(new Localizacao(1, 1), jogadas.get(0).getLocalizacao());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para chutes")
+    class Chutes {
+        @Test
+        @DisplayName("Sem deduções possíveis, deve devolver um único chute")
+        void semDeducao_devolveChute() {
+            TabuleiroFront tabuleiro = new TabuleiroFront(3, 3, 2);
+
+            ArrayList<Jogada> jogadas = resolvedor.proximasJogadas(tabuleiro);
+
+            assertEquals(1, jogadas.size());
+            assertTrue(jogadas.get(0).isChute());
+            assertEquals(Jogada.Tipo.ABRIR, jogadas.get(0).getTipo());
+        }
+
+        @Test
+        @DisplayName("O chute deve preferir a densidade global quando a fronteira é mais arriscada")
+        void chute_evitaFronteiraArriscada() {
+            // 1x5 com 1 bomba: (0,0) aberto com 1 -> (0,1) tem risco 1/1,
+            // os demais fechados têm risco global 1/4.
+            TabuleiroFront tabuleiro = new TabuleiroFront(1, 5, 1);
+            abre(tabuleiro, 0, 0, 1);
+
+            Localizacao chute = resolvedor.menorRisco(tabuleiro);
+
+            assertNotNull(chute);
+            assertNotEquals(new Localizacao(0, 1), chute);
+        }
+
+        @Test
+        @DisplayName("Sem quadrados fechados, não deve haver jogadas")
+        void tabuleiroTodoAberto_semJogadas() {
+            TabuleiroFront tabuleiro = new TabuleiroFront(1, 2, 0);
+            abre(tabuleiro, 0, 0, 0);
+            abre(tabuleiro, 0, 1, 0);
+
+            assertTrue(resolvedor.proximasJogadas(tabuleiro).isEmpty());
+        }
+    }
+}
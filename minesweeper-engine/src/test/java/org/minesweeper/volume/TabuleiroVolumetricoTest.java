@@ -0,0 +1,162 @@
+package org.minesweeper.volume;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabuleiroVolumetricoTest {
+
+    private static int contaBombasVizinhas(TabuleiroVolumetrico tabuleiro, int camada, int linha, int coluna) {
+        int cont = 0;
+        for (int dc = -1; dc <= 1; ++dc)
+            for (int dl = -1; dl <= 1; ++dl)
+                for (int dj = -1; dj <= 1; ++dj) {
+                    if (dc == 0 && dl == 0 && dj == 0) continue;
+                    if (tabuleiro.quadradoExiste(camada + dc, linha + dl, coluna + dj)
+                            && tabuleiro.isBomba(camada + dc, linha + dl, coluna + dj))
+                        cont++;
+                }
+        return cont;
+    }
+
+    @Nested
+    @DisplayName("Testes de geração")
+    class GeracaoTests {
+        @Test
+        @DisplayName("Deve sortear exatamente a quantidade de bombas pedida")
+        void construtor_quantidadeExataDeBombas() {
+            for (int bombas : new int[]{0, 10, 200, 499, 500}) {
+                TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(10, 10, 5, bombas, 7L);
+
+                int cont = 0;
+                for (int c = 0; c < 5; ++c)
+                    for (int i = 0; i < 10; ++i)
+                        for (int j = 0; j < 10; ++j)
+                            if (tabuleiro.isBomba(c, i, j)) cont++;
+
+                assertEquals(bombas, cont);
+            }
+        }
+
+        @Test
+        @DisplayName("Os números devem contar as bombas entre os 26 vizinhos")
+        void construtor_numerosCorretos() {
+            TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(7, 9, 6, 80, 3L);
+
+            for (int c = 0; c < 6; ++c)
+                for (int i = 0; i < 7; ++i)
+                    for (int j = 0; j < 9; ++j)
+                        assertEquals(contaBombasVizinhas(tabuleiro, c, i, j), tabuleiro.getNumero(c, i, j),
+                                "(" + c + "," + i + "," + j + ")");
+        }
+
+        @Test
+        @DisplayName("Dimensões ou bombas inválidas devem lançar exceção")
+        void construtor_invalido_lancaExcecao() {
+            assertThrows(IllegalArgumentException.class, () -> new TabuleiroVolumetrico(0, 5, 5, 0, 1L));
+            assertThrows(IllegalArgumentException.class, () -> new TabuleiroVolumetrico(2, 2, 2, 9, 1L));
+            assertThrows(IllegalArgumentException.class, () -> new TabuleiroVolumetrico(2000, 2000, 2000, 0, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de abertura e marcação")
+    class AcoesTests {
+        @Test
+        @DisplayName("A cascata deve abrir o mesmo que uma busca em largura de referência")
+        void abrir_cascataIgualReferencia() {
+            TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(12, 12, 12, 40, 11L);
+
+            // Referência: a partir de um zero, busca em largura pelos 26 vizinhos
+            int[] inicio = null;
+            for (int c = 0; c < 12 && inicio == null; ++c)
+                for (int i = 0; i < 12 && inicio == null; ++i)
+                    for (int j = 0; j < 12 && inicio == null; ++j)
+                        if (!tabuleiro.isBomba(c, i, j) && tabuleiro.getNumero(c, i, j) == 0)
+                            inicio = new int[]{c, i, j};
+            assertNotNull(inicio);
+
+            boolean[][][] visitado = new boolean[12][12][12];
+            ArrayDeque<int[]> fila = new ArrayDeque<>();
+            fila.add(inicio);
+            visitado[inicio[0]][inicio[1]][inicio[2]] = true;
+            int esperado = 0;
+            while (!fila.isEmpty()) {
+                int[] atual = fila.poll();
+                esperado++;
+                if (tabuleiro.getNumero(atual[0], atual[1], atual[2]) != 0) continue;
+
+                for (int dc = -1; dc <= 1; ++dc)
+                    for (int dl = -1; dl <= 1; ++dl)
+                        for (int dj = -1; dj <= 1; ++dj) {
+                            int c = atual[0] + dc, i = atual[1] + dl, j = atual[2] + dj;
+                            if (!tabuleiro.quadradoExiste(c, i, j) || visitado[c][i][j]) continue;
+                            visitado[c][i][j] = true;
+                            fila.add(new int[]{c, i, j});
+                        }
+            }
+
+            assertEquals(esperado, tabuleiro.abrir(inicio[0], inicio[1], inicio[2]));
+            for (int c = 0; c < 12; ++c)
+                for (int i = 0; i < 12; ++i)
+                    for (int j = 0; j < 12; ++j)
+                        assertEquals(visitado[c][i][j], tabuleiro.getVisivel(c, i, j) != TabuleiroVolumetrico.VISIVEL_FECHADO);
+        }
+
+        @Test
+        @DisplayName("Um tabuleiro 200x200x200 sem bombas deve abrir inteiro num clique, sem estourar a pilha")
+        void abrir_volumeGrande_semRecursao() {
+            TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(200, 200, 200, 0, 1L);
+
+            assertEquals(200 * 200 * 200, tabuleiro.abrir(100, 100, 100));
+            assertTrue(tabuleiro.ganhou());
+            assertEquals(0, tabuleiro.getVisivel(0, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Quadrado marcado não deve ser aberto nem pela cascata")
+        void abrir_respeitaMarcacao() {
+            TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(5, 5, 5, 0, 1L);
+
+            assertTrue(tabuleiro.marcar(4, 4, 4));
+            assertEquals(0, tabuleiro.abrir(4, 4, 4));
+            assertEquals(124, tabuleiro.abrir(0, 0, 0));
+            assertEquals(TabuleiroVolumetrico.VISIVEL_MARCADO, tabuleiro.getVisivel(4, 4, 4));
+            assertFalse(tabuleiro.ganhou());
+
+            assertTrue(tabuleiro.marcar(4, 4, 4));
+            assertEquals(1, tabuleiro.abrir(4, 4, 4));
+            assertTrue(tabuleiro.ganhou());
+        }
+
+        @Test
+        @DisplayName("Abrir uma bomba deve encerrar o jogo")
+        void abrir_bomba_explode() {
+            TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(3, 3, 3, 27, 1L);
+
+            assertEquals(1, tabuleiro.abrir(1, 1, 1));
+            assertTrue(tabuleiro.explodiu());
+            assertEquals(TabuleiroVolumetrico.VISIVEL_BOMBA, tabuleiro.getVisivel(1, 1, 1));
+            assertEquals(0, tabuleiro.abrir(0, 0, 0));
+            assertFalse(tabuleiro.marcar(0, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Fora do volume ou em quadrado aberto nada deve mudar")
+        void acoes_foraDoVolume_ignoradas() {
+            TabuleiroVolumetrico tabuleiro = new TabuleiroVolumetrico(4, 4, 4, 0, 1L);
+
+            assertEquals(0, tabuleiro.abrir(-1, 0, 0));
+            assertEquals(0, tabuleiro.abrir(0, 0, 4));
+            assertFalse(tabuleiro.marcar(4, 0, 0));
+
+            tabuleiro.abrir(0, 0, 0);
+            assertEquals(0, tabuleiro.abrir(0, 0, 0));
+            assertFalse(tabuleiro.marcar(3, 3, 3));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.minesweeper;
+
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.coordinator.Coordenador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.Topologia;
+import org.minesweeper.navigator.TreinoInicializacao;
+import org.minesweeper.view.MedidorInicializacao;
+
+public class Minesweeper {
+    public static void main(String[] args) {
+        MedidorInicializacao.getInstance().marcaInicio();
+        iniciaMetricas();
+
+        // -Dminesweeper.topologia=quadrada|toroidal|hexagonal|triangular
+        String topologia = System.getProperty("minesweeper.topologia");
+        if (topologia != null)
+            ControllerTabuleiro.getInstance().setTopologia(Topologia.porNome(topologia));
+
+        int jogadasTreino = Integer.getInteger("minesweeper.treino", 0);
+        if (jogadasTreino > 0) {
+            treina(jogadasTreino);
+            return;
+        }
+
+        Coordenador coordenador = new Coordenador();
+        String volume = System.getProperty("minesweeper.volume");
+        if (volume != null) {
+            iniciaVolume(coordenador, volume);
+            return;
+        }
+        coordenador.iniciaAplicacao();
+    }
+
+    /**
+     * -Dminesweeper.volume=LINHASxCOLUNASxCAMADAS abre o modo volumétrico;
+     * -Dminesweeper.volume.bombas=N escolhe as bombas (padrão: 5% do volume).
+     */
+    private static void iniciaVolume(Coordenador coordenador, String volume) {
+        String[] dimensoes = volume.toLowerCase().split("x");
+        if (dimensoes.length != 3)
+            throw new IllegalArgumentException("Use -Dminesweeper.volume=LINHASxCOLUNASxCAMADAS");
+
+        int linhas = Integer.parseInt(dimensoes[0].trim());
+        int colunas = Integer.parseInt(dimensoes[1].trim());
+        int camadas = Integer.parseInt(dimensoes[2].trim());
+        int bombas = Integer.getInteger("minesweeper.volume.bombas", (int) ((long) linhas * colunas * camadas / 20));
+        coordenador.iniciaModoVolume(linhas, colunas, camadas, bombas);
+    }
+
+    /**
+     * -Dminesweeper.metricas.jmx=true publica as métricas no JMX e
+     * -Dminesweeper.metricas.despejo=N escreve um resumo a cada N segundos.
+     */
+    private static void iniciaMetricas() {
+        if (Boolean.getBoolean("minesweeper.metricas.jmx"))
+            RegistroMetricas.getInstance().registraJmx();
+
+        long periodo = Long.getLong("minesweeper.metricas.despejo", 0L);
+        if (periodo > 0)
+            RegistroMetricas.getInstance().iniciaDespejoPeriodico(periodo, System.out);
+    }
+
+    /**
+     * -Dminesweeper.treino=N joga N jogadas e encerra. É a execução que o
+     * build roda no Xvfb para gerar a lista de classes do CDS.
+     */
+    private static void treina(int jogadas) {
+        try {
+            int feitas = new TreinoInicializacao(jogadas).executa();
+            System.out.println("treino concluído com " + feitas + " jogadas");
+            System.exit(0);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+}
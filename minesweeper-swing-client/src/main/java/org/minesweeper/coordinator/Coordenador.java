@@ -0,0 +1,368 @@
+package org.minesweeper.coordinator;
+
+import org.minesweeper.autosave.PontoRecuperacao;
+import org.minesweeper.autosave.SalvamentoAutomatico;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.MetricasTabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.navigator.NavegadorTelaFimJogo;
+import org.minesweeper.navigator.NavegadorTelaJogo;
+import org.minesweeper.navigator.NavegadorTelaReplay;
+import org.minesweeper.navigator.NavegadorTelaVolume;
+import org.minesweeper.ranking.Dificuldade;
+import org.minesweeper.ranking.Ranking;
+import org.minesweeper.ranking.RegistroPartida;
+import org.minesweeper.replay.GravacaoJogo;
+import org.minesweeper.view.AtlasQuadrados;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class Coordenador implements CoordenadorListener {
+    private static final Contador FALHAS_RANKING = RegistroMetricas.getInstance().contador("ranking.falhasRegistro");
+    private static final Contador FALHAS_SALVAMENTO = RegistroMetricas.getInstance().contador("autosave.falhasInicio");
+
+    private NavegadorTelaJogo navegadorTelaJogo;
+    private NavegadorTelaFimJogo navegadorTelaFimJogo;
+    private NavegadorTelaReplay navegadorTelaReplay;
+    private NavegadorTelaVolume navegadorTelaVolume;
+    private JFrame frame;
+    private JPanel cartoes;
+    private CardLayout layoutCartoes;
+    private Dimension tamanhoTelaJogo = new Dimension(1000, 1000);
+    private boolean ultimoGanhou;
+    private long inicioJogo;
+    // Aberto em segundo plano; só é usado pela thread do ranking
+    private volatile CompletableFuture<Ranking> ranking;
+    // Abrir e gravar o ranking mexe em disco e fica fora da EDT. Uma única
+    // thread mantém as partidas na ordem em que terminaram.
+    private final ExecutorService executorRanking = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "ranking");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Criado numa thread de inicialização e usado na EDT
+    private volatile SalvamentoAutomatico salvamento;
+
+    public Coordenador() {
+    }
+
+    /**
+     * Primeira abertura do jogo, chamada do main. O tabuleiro é gerado e os
+     * recursos do atlas (bandeira e fontes) são carregados em threads de
+     * fundo enquanto a EDT cria a janela com uma grade vazia; o tabuleiro
+     * aparece assim que fica pronto.
+     *
+     * Um jogo não terminado da execução anterior, gravado pelo salvamento
+     * automático, é lido em paralelo; com o tabuleiro novo na tela, o
+     * jogador escolhe se quer retomá-lo. O ranking também é aberto nessas
+     * threads, para a primeira partida não esperar pelo disco.
+     */
+    public void iniciaAplicacao() {
+        ExecutorService inicializacao = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "inicializacao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<TabuleiroFront> tabuleiro = NavegadorTelaJogo.criaJogoEmSegundoPlano(inicializacao);
+        inicializacao.execute(AtlasQuadrados::aquece);
+        CompletableFuture<PontoRecuperacao> anterior = CompletableFuture.supplyAsync(this::iniciaSalvamento, inicializacao);
+        ranking = CompletableFuture.supplyAsync(Coordenador::abreRanking, inicializacao);
+        inicializacao.shutdown();
+
+        SwingUtilities.invokeLater(() -> {
+            preparaJogo();
+            navegadorTelaJogo.iniciar(cartoes, tabuleiro);
+            mostraJogo();
+        });
+
+        // Só depois do tabuleiro novo, para a restauração não disputar o controller com a geração
+        tabuleiro.thenCombine(anterior, (criado, ponto) -> ponto).thenAccept(ponto -> {
+            if (ponto != null) SwingUtilities.invokeLater(() -> ofereceRetomada(ponto));
+        });
+    }
+
+    /**
+     * Liga o salvamento automático ao controller.
+     *
+     * @return O jogo não terminado que estava gravado, ou null.
+     */
+    private PontoRecuperacao iniciaSalvamento() {
+        Path pasta = pastaDados();
+        PontoRecuperacao anterior = null;
+        try {
+            anterior = SalvamentoAutomatico.carregaPonto(pasta);
+        } catch (IOException e) {
+            // Um ponto de recuperação ilegível não impede o jogo de abrir
+            FALHAS_SALVAMENTO.incrementa();
+            SwingUtilities.invokeLater(() -> avisa("O jogo não terminado da última vez não pôde ser lido."));
+        }
+
+        try {
+            salvamento = new SalvamentoAutomatico(pasta);
+            ControllerTabuleiro.getInstance().subscribe(salvamento);
+        } catch (IOException e) {
+            FALHAS_SALVAMENTO.incrementa();
+            SwingUtilities.invokeLater(() -> avisa("O salvamento automático não pôde ser ligado."));
+        }
+        return anterior;
+    }
+
+    private void ofereceRetomada(PontoRecuperacao ponto) {
+        int resposta = JOptionPane.showConfirmDialog(frame,
+                "Há um jogo não terminado. Deseja continuar de onde parou?",
+                "Continuar jogo", JOptionPane.YES_NO_OPTION);
+
+        if (resposta == JOptionPane.YES_OPTION) {
+            navegadorTelaJogo.retomar(ponto);
+            // O relógio continua de onde parou, para o ranking e o próximo ponto
+            iniciaRelogio(System.nanoTime() - ponto.getTempoMs() * 1_000_000);
+        } else if (salvamento != null) {
+            salvamento.descarta();
+        }
+    }
+
+    /**
+     * Abre o jogo no modo volumétrico, em vez do tabuleiro plano. Esse modo
+     * não passa pelo ranking nem pelo replay.
+     */
+    public void iniciaModoVolume(int linhas, int colunas, int camadas, int bombas) {
+        SwingUtilities.invokeLater(() -> {
+            if (frame == null) {
+                criaJanela();
+            }
+            if (navegadorTelaVolume == null) {
+                navegadorTelaVolume = new NavegadorTelaVolume();
+            }
+            navegadorTelaVolume.iniciar(cartoes, linhas, colunas, camadas, bombas);
+            mostraCartao(NavegadorTelaVolume.CARTAO, tamanhoTelaJogo);
+        });
+    }
+
+    public void IniciaJogo() {
+        preparaJogo();
+        navegadorTelaJogo.iniciar(cartoes);
+        mostraJogo();
+    }
+
+    private void preparaJogo() {
+        // A janela e os navegadores são criados uma única vez e
+        // reaproveitados a cada novo jogo.
+        if (frame == null) {
+            criaJanela();
+        }
+        if (navegadorTelaJogo == null) {
+            navegadorTelaJogo = new NavegadorTelaJogo();
+        }
+        if (navegadorTelaFimJogo == null) {
+            navegadorTelaFimJogo = new NavegadorTelaFimJogo();
+        }
+
+        navegadorTelaFimJogo.unsubscribe(this);
+        navegadorTelaJogo.subscribe(this);
+    }
+
+    private void mostraJogo() {
+        iniciaRelogio(System.nanoTime());
+        mostraCartao(NavegadorTelaJogo.CARTAO, tamanhoTelaJogo);
+    }
+
+    private void iniciaRelogio(long inicio) {
+        inicioJogo = inicio;
+        if (salvamento != null) {
+            salvamento.iniciaRelogio(inicio);
+        }
+    }
+
+    public void fimJogo(boolean ganhou) {
+        if (salvamento != null) {
+            salvamento.descarta();
+        }
+        registraPartida(ganhou);
+        mostraFimJogo(ganhou);
+    }
+
+    private void mostraFimJogo(boolean ganhou) {
+        navegadorTelaJogo.unsubscribe(this);
+        navegadorTelaFimJogo.subscribe(this);
+        if (navegadorTelaReplay != null) {
+            navegadorTelaReplay.unsubscribe(this);
+        }
+        // O replay usa o mesmo tamanho de janela do jogo
+        tamanhoTelaJogo = frame.getSize();
+        ultimoGanhou = ganhou;
+        navegadorTelaFimJogo.iniciar(cartoes, ganhou);
+        mostraCartao(NavegadorTelaFimJogo.CARTAO, new Dimension(1000, 200));
+    }
+
+    public void mostraReplay() {
+        GravacaoJogo gravacao = ControllerTabuleiro.getInstance().getGravacao();
+        if (gravacao == null) {
+            mostraFimJogo(ultimoGanhou);
+            return;
+        }
+
+        if (navegadorTelaReplay == null) {
+            navegadorTelaReplay = new NavegadorTelaReplay();
+        }
+
+        navegadorTelaFimJogo.unsubscribe(this);
+        navegadorTelaReplay.subscribe(this);
+        navegadorTelaReplay.iniciar(cartoes, gravacao);
+        mostraCartao(NavegadorTelaReplay.CARTAO, tamanhoTelaJogo);
+    }
+
+    public void fechaReplay() {
+        mostraFimJogo(ultimoGanhou);
+    }
+
+    public void reiniciaJogo() {
+        IniciaJogo();
+    }
+
+    public void encerraAplicacao() {
+        fechaSalvamento();
+        fechaRanking();
+        descartaJanela();
+        System.exit(0);
+    }
+
+    public void encerraAplicacaoErroNaoCriouJogo() {
+        fechaSalvamento();
+        fechaRanking();
+        descartaJanela();
+        System.exit(1);
+    }
+
+    /**
+     * Guarda a partida no ranking. A partida é montada na EDT, com o estado
+     * do controller, e a gravação vai para a thread do ranking. Uma falha no
+     * ranking não deve impedir o jogo de continuar: ela é contada nas
+     * métricas e o jogador é avisado de que a partida ficou de fora.
+     */
+    private void registraPartida(boolean ganhou) {
+        GravacaoJogo gravacao = ControllerTabuleiro.getInstance().getGravacao();
+        if (gravacao == null) return;
+
+        long tempoMs = (System.nanoTime() - inicioJogo) / 1_000_000;
+        Dificuldade dificuldade = new Dificuldade(gravacao.getLinha_size(), gravacao.getColuna_size(), gravacao.getBombas());
+        MetricasTabuleiro metricas = ControllerTabuleiro.getInstance().getMetricas();
+        int bv3 = metricas != null ? metricas.getBv3() : 0;
+        RegistroPartida partida = new RegistroPartida(dificuldade, ganhou, tempoMs, gravacao.getQuantidadeJogadas(), bv3,
+                gravacao.getSemente(), System.currentTimeMillis());
+
+        // Se a abertura falhou, tenta de novo a cada partida
+        if (ranking == null || ranking.isCompletedExceptionally())
+            ranking = CompletableFuture.supplyAsync(Coordenador::abreRanking, executorRanking);
+
+        CompletableFuture<Ranking> aberto = ranking;
+        executorRanking.execute(() -> {
+            try {
+                aberto.join().registra(partida);
+            } catch (IOException | CompletionException e) {
+                FALHAS_RANKING.incrementa();
+                // Depois da tela de fim de jogo, para o aviso não ficar atrás dela
+                SwingUtilities.invokeLater(() -> avisa("Não foi possível guardar a partida no ranking."));
+            }
+        });
+    }
+
+    private static Ranking abreRanking() {
+        try {
+            Ranking ranking = new Ranking(pastaDados());
+            // Sem isso um lote só encheria depois de centenas de partidas
+            ranking.iniciaManutencaoPeriodica(5_000);
+            return ranking;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void fechaRanking() {
+        if (ranking == null) return;
+
+        CompletableFuture<Ranking> aberto = ranking;
+        executorRanking.execute(() -> {
+            try {
+                aberto.join().close();
+            } catch (IOException e) {
+                // A aplicação está fechando: não há mais tela para avisar
+                FALHAS_RANKING.incrementa();
+            } catch (CompletionException e) {
+                // Não chegou a abrir: não há o que fechar
+            }
+        });
+        executorRanking.shutdown();
+        try {
+            // As partidas pendentes precisam ir para o disco antes do System.exit
+            executorRanking.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ranking = null;
+    }
+
+    private void avisa(String mensagem) {
+        JOptionPane.showMessageDialog(frame, mensagem, "Aviso", JOptionPane.WARNING_MESSAGE);
+    }
+
+    private void fechaSalvamento() {
+        if (salvamento == null) return;
+
+        ControllerTabuleiro.getInstance().unsubscribe(salvamento);
+        salvamento.close();
+        salvamento = null;
+    }
+
+    private static Path pastaDados() {
+        return Path.of(System.getProperty("user.home"), ".minesweeper");
+    }
+
+    private void criaJanela() {
+        layoutCartoes = new CardLayout();
+        cartoes = new JPanel(layoutCartoes);
+
+        frame = new JFrame("Minesweeper");
+        frame.setContentPane(cartoes);
+        frame.setSize(tamanhoTelaJogo);
+        // Fechar a janela passa pelo encerramento normal, que grava o ranking e o salvamento
+        frame.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                encerraAplicacao();
+            }
+        });
+        frame.setResizable(true);
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+    }
+
+    private void mostraCartao(String cartao, Dimension tamanho) {
+        layoutCartoes.show(cartoes, cartao);
+        if (!frame.getSize().equals(tamanho)) {
+            frame.setSize(tamanho);
+        }
+        cartoes.revalidate();
+        cartoes.repaint();
+    }
+
+    private void descartaJanela() {
+        if (frame != null) {
+            frame.dispose();
+            frame = null;
+        }
+    }
+}
@@ -5,4 +5,6 @@ public interface CoordenadorListener {
     void reiniciaJogo();
     void encerraAplicacao();
     void encerraAplicacaoErroNaoCriouJogo();
+    void mostraReplay();
+    void fechaReplay();
 }
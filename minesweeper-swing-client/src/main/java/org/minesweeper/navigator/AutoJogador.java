@@ -0,0 +1,151 @@
+package org.minesweeper.navigator;
+
+import org.minesweeper.metrics.Contador;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.solver.Jogada;
+import org.minesweeper.solver.Resolvedor;
+
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Modo automático: pede jogadas ao resolvedor numa thread de trabalho e as
+ * aplica em lotes na EDT através do NavegadorTelaJogo, de forma que cada lote
+ * gere uma única rodada de repintura.
+ */
+public class AutoJogador {
+    private static final int QUADROS_POR_SEGUNDO = 60;
+    private static final long INTERVALO_ESTATISTICAS_NS = 250_000_000L;
+    private static final Contador FALHAS = RegistroMetricas.getInstance().contador("autojogo.falhas");
+
+    private final NavegadorTelaJogo navegador;
+    private final Resolvedor resolvedor;
+    private final int jogadasPorSegundo;
+    private volatile boolean ativo;
+    private Thread trabalhador;
+
+    /**
+     * @param jogadasPorSegundo Limite de jogadas por segundo. Zero ou negativo
+     *                          significa o mais rápido possível.
+     */
+    public AutoJogador(NavegadorTelaJogo navegador, Resolvedor resolvedor, int jogadasPorSegundo) {
+        this.navegador = navegador;
+        this.resolvedor = resolvedor;
+        this.jogadasPorSegundo = jogadasPorSegundo;
+    }
+
+    public void iniciar() {
+        if (ativo) return;
+
+        ativo = true;
+        trabalhador = new Thread(this::executa, "auto-jogador");
+        trabalhador.setDaemon(true);
+        trabalhador.start();
+    }
+
+    public void parar() {
+        ativo = false;
+        if (trabalhador != null && trabalhador != Thread.currentThread())
+            trabalhador.interrupt();
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    private void executa() {
+        long inicioJanela = System.nanoTime();
+        int jogadasNaJanela = 0;
+        long tempoQuadroNaJanela = 0;
+        int quadrosNaJanela = 0;
+        boolean falhou = false;
+
+        try {
+            while (ativo) {
+                TabuleiroFront tabuleiro = fotoNaEdt();
+                if (tabuleiro == null) break;
+
+                // Resolve fora da EDT, sobre uma cópia: a projeção do
+                // navegador só é escrita na EDT
+                ArrayList<Jogada> jogadas = resolvedor.proximasJogadas(tabuleiro);
+                if (jogadas.isEmpty()) break;
+
+                List<Jogada> lote = jogadas.subList(0, Math.min(jogadas.size(), tamanhoLote()));
+                long tempoQuadro = aplicaNaEdt(lote);
+
+                jogadasNaJanela += lote.size();
+                tempoQuadroNaJanela += tempoQuadro;
+                quadrosNaJanela++;
+
+                long agora = System.nanoTime();
+                if (agora - inicioJanela >= INTERVALO_ESTATISTICAS_NS) {
+                    double porSegundo = jogadasNaJanela * 1e9 / (agora - inicioJanela);
+                    double quadroMs = tempoQuadroNaJanela / 1e6 / quadrosNaJanela;
+                    SwingUtilities.invokeLater(() -> navegador.mostraEstatisticasAutoJogo(porSegundo, quadroMs));
+
+                    inicioJanela = agora;
+                    jogadasNaJanela = 0;
+                    tempoQuadroNaJanela = 0;
+                    quadrosNaJanela = 0;
+                }
+
+                if (jogadasPorSegundo > 0)
+                    Thread.sleep(lote.size() * 1000L / jogadasPorSegundo);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            // Uma jogada falhou na EDT: o modo automático para e a tela avisa
+            FALHAS.incrementa();
+            falhou = true;
+        } finally {
+            if (ativo) {
+                ativo = false;
+                SwingUtilities.invokeLater(falhou ? navegador::autoJogoFalhou : navegador::autoJogoTerminou);
+            }
+        }
+    }
+
+    /**
+     * Sem limite, aplica tudo o que o resolvedor deduziu de uma vez. Com
+     * limite, divide as jogadas de um segundo entre os quadros.
+     */
+    private int tamanhoLote() {
+        if (jogadasPorSegundo <= 0) return Integer.MAX_VALUE;
+
+        return Math.max(1, jogadasPorSegundo / QUADROS_POR_SEGUNDO);
+    }
+
+    private TabuleiroFront fotoNaEdt() throws InterruptedException, InvocationTargetException {
+        TabuleiroFront[] foto = new TabuleiroFront[1];
+
+        SwingUtilities.invokeAndWait(() -> {
+            TabuleiroFront tabuleiro = navegador.getTabuleiro();
+            if (tabuleiro != null) foto[0] = tabuleiro.copia();
+        });
+
+        return foto[0];
+    }
+
+    private long aplicaNaEdt(List<Jogada> lote) throws InterruptedException, InvocationTargetException {
+        long[] duracao = new long[1];
+
+        SwingUtilities.invokeAndWait(() -> {
+            long inicio = System.nanoTime();
+            for (Jogada jogada : lote) {
+                if (!ativo || !navegador.isJogoAtivo()) break;
+
+                if (jogada.getTipo() == Jogada.Tipo.MARCAR)
+                    navegador.marca(jogada.getLocalizacao());
+                else
+                    navegador.abre(jogada.getLocalizacao());
+            }
+            duracao[0] = System.nanoTime() - inicio;
+        });
+
+        return duracao[0];
+    }
+}
@@ -3,13 +3,15 @@ package org.minesweeper.navigator;
 import org.minesweeper.coordinator.CoordenadorListener;
 import org.minesweeper.view.ViewTelaFimJogo;
 
-import javax.swing.*;
+import java.awt.*;
 import java.util.ArrayList;
 
 public class NavegadorTelaFimJogo implements NavegadorTelaFimJogoListener {
+    public static final String CARTAO = "fimJogo";
+
     private ViewTelaFimJogo view;
     private ArrayList<CoordenadorListener> listeners;
-    private JFrame tela;
+    private Container tela;
 
     public NavegadorTelaFimJogo() {
         listeners = new ArrayList<>();
@@ -32,11 +34,20 @@ public class NavegadorTelaFimJogo implements NavegadorTelaFimJogoListener {
         }
     }
 
-    public void iniciar(JFrame tela, boolean ganhou){
+    @Override
+    public void verReplay() {
+        destruir();
+        for (CoordenadorListener listener : new ArrayList<>(listeners)) {
+            listener.mostraReplay();
+        }
+    }
+
+    public void iniciar(Container tela, boolean ganhou){
         this.tela = tela;
-        this.view = new ViewTelaFimJogo();
         this.view.subscribe(this);
-        tela.add(view);
+        if (view.getParent() != tela) {
+            tela.add(view, CARTAO);
+        }
 
         if (ganhou) {
             view.mostraTelaGanhouJogo();
@@ -46,14 +57,8 @@ public class NavegadorTelaFimJogo implements NavegadorTelaFimJogoListener {
     }
 
     private void destruir(){
-        if (view != null) {
-            view.unsubscribe(this);
-            view.limparRecursos();
-            if (tela != null) {
-                tela.remove(view);
-            }
-            view = null;
-        }
+        view.unsubscribe(this);
+        view.limparRecursos();
     }
 
     public void subscribe(CoordenadorListener coordenadorListener){
@@ -3,5 +3,6 @@ package org.minesweeper.navigator;
 public interface NavegadorTelaFimJogoListener {
     void reiniciarJogo();
     void finalizarJogo();
+    void verReplay();
 
 }
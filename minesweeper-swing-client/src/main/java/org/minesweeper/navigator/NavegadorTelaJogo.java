@@ -0,0 +1,290 @@
+package org.minesweeper.navigator;
+
+import org.minesweeper.autosave.PontoRecuperacao;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.coordinator.CoordenadorListener;
+import org.minesweeper.model.DeltaTabuleiro;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.solver.Resolvedor;
+import org.minesweeper.view.ViewTelaJogo;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class NavegadorTelaJogo implements NavegadorTelaJogoListener{
+    public static final String CARTAO = "jogo";
+    public static final int LINHAS = 20;
+    public static final int COLUNAS = 20;
+    public static final int BOMBAS = 99;
+
+    private ViewTelaJogo view;
+    private ControllerTabuleiro controller;
+    private TabuleiroFront tabuleiro;
+    private ArrayList<CoordenadorListener> listeners;
+    private Container tela;
+    private AutoJogador autoJogador;
+    private boolean jogoAtivo;
+
+    public NavegadorTelaJogo(){
+        listeners = new ArrayList<>();
+        view = new ViewTelaJogo();
+        controller = ControllerTabuleiro.getInstance();
+    }
+
+    @Override
+    public void confirmouErro() {
+        destruir();
+        for (CoordenadorListener l : new ArrayList<>(listeners)) {
+            l.encerraAplicacaoErroNaoCriouJogo();
+        }
+    }
+
+    /**
+     * Cliques do jogador. Durante o jogo automático são ignorados, como o
+     * desfazer e o refazer: só o AutoJogador joga.
+     */
+    @Override
+    public void onBotaoDireito(Localizacao localizacao) {
+        if (autoJogador != null) return;
+
+        marca(localizacao);
+    }
+
+    @Override
+    public void onBotaoEsquerdo(Localizacao localizacao) {
+        if (autoJogador != null) return;
+
+        abre(localizacao);
+    }
+
+    void marca(Localizacao localizacao) {
+        if (controller.clicarBotaoDireito(localizacao) == null) {
+            return;
+        }
+
+        sincroniza();
+    }
+
+    void abre(Localizacao localizacao) {
+        mostraAbertura(controller.clicarBotaoEsquerdo(localizacao));
+    }
+
+    /**
+     * Desfaz a última jogada. Sem jogo criado, ou durante o jogo automático,
+     * não faz nada, para não mexer no tabuleiro que o resolvedor está lendo.
+     */
+    @Override
+    public void onDesfazer() {
+        if (tabuleiro == null || autoJogador != null) return;
+
+        if (controller.desfazer() == null) return;
+
+        sincroniza();
+    }
+
+    /**
+     * Refaz a última jogada desfeita, que pode encerrar o jogo como a
+     * jogada original.
+     */
+    @Override
+    public void onRefazer() {
+        if (tabuleiro == null || autoJogador != null) return;
+
+        ArrayList<QuadradoFront> resultado = controller.refazer();
+        if (resultado == null || resultado.isEmpty()) return;
+
+        if (resultado.get(0).isAberto()) {
+            mostraAbertura(resultado);
+        } else {
+            sincroniza();
+        }
+    }
+
+    /**
+     * Traz o TabuleiroFront para a versão atual do tabuleiro, aplicando as
+     * alterações pedidas ao controller, e repinta os quadrados alterados.
+     * As jogadas não mexem na projeção: o tabuleiro é a única fonte.
+     */
+    private void sincroniza() {
+        if (tabuleiro == null) {
+            return;
+        }
+
+        DeltaTabuleiro delta = controller.alteracoesDesde(tabuleiro.getVersao());
+        tabuleiro.aplica(delta);
+
+        // Um delta completo fecha todos os quadrados que não traz
+        if (delta.isCompleto()) {
+            view.mostraTabuleiroAtualizado();
+            return;
+        }
+
+        for (int k = 0; k < delta.getQuantidade(); ++k) {
+            Localizacao localizacao = delta.getLocalizacao(k);
+            int linha = localizacao.getLinha();
+            int coluna = localizacao.getColuna();
+
+            if (tabuleiro.isBomba(linha, coluna)) {
+                view.mostraQuadradoBomba(localizacao);
+            } else if (tabuleiro.isAberto(linha, coluna)) {
+                view.mostraQuadradoAberto(localizacao);
+            } else if (tabuleiro.isMarcado(linha, coluna)) {
+                view.mostraQuadradoMarcado(localizacao);
+            } else {
+                view.mostraQuadradoDesmarcado(localizacao);
+            }
+        }
+    }
+
+    private void mostraAbertura(ArrayList<QuadradoFront> resultado) {
+        if (resultado == null || resultado.isEmpty()) {
+            return;
+        }
+
+        sincroniza();
+
+        if (resultado.get(0).isBomba()) {
+            destruir();
+            for (CoordenadorListener l : new ArrayList<>(listeners)) {
+                l.fimJogo(false); // derrota
+            }
+        } else if (controller.ganhou()) {
+            destruir();
+            for (CoordenadorListener l : new ArrayList<>(listeners)) {
+                l.fimJogo(true);
+            }
+        }
+    }
+
+    @Override
+    public void onAutoJogo(boolean ativo, int jogadasPorSegundo) {
+        pararAutoJogo();
+
+        if (ativo && tabuleiro != null) {
+            autoJogador = new AutoJogador(this, new Resolvedor(), jogadasPorSegundo);
+            autoJogador.iniciar();
+        }
+    }
+
+    void autoJogoTerminou() {
+        autoJogador = null;
+        view.mostraAutoJogoParado();
+    }
+
+    void autoJogoFalhou() {
+        autoJogoTerminou();
+        view.mostraErroAutoJogo();
+    }
+
+    void mostraEstatisticasAutoJogo(double jogadasPorSegundo, double tempoQuadroMs) {
+        if (jogoAtivo) {
+            view.mostraEstatisticasAutoJogo(jogadasPorSegundo, tempoQuadroMs);
+        }
+    }
+
+    TabuleiroFront getTabuleiro() {
+        return tabuleiro;
+    }
+
+    boolean isJogoAtivo() {
+        return jogoAtivo;
+    }
+
+    private void pararAutoJogo() {
+        if (autoJogador != null) {
+            autoJogador.parar();
+            autoJogador = null;
+        }
+    }
+
+    /**
+     * Mostra o jogo no container de cartões. A view é adicionada apenas na
+     * primeira vez; nos reinícios ela é reaproveitada.
+     */
+    public void iniciar(Container tela){
+        preparaView(tela);
+        criaJogo();
+    }
+
+    /**
+     * Como iniciar(Container), mas com o tabuleiro gerado fora da EDT. A
+     * view mostra uma grade vazia até o tabuleiro ficar pronto.
+     */
+    public void iniciar(Container tela, CompletableFuture<TabuleiroFront> tabuleiroPronto){
+        preparaView(tela);
+        view.mostraCarregando(LINHAS, COLUNAS);
+
+        // Uma falha na geração cai no mesmo diálogo de erro de um tabuleiro nulo
+        tabuleiroPronto.whenComplete((criado, erro) -> {
+            SwingUtilities.invokeLater(() -> {
+                if (jogoAtivo) mostraTabuleiroCriado(erro == null ? criado : null);
+            });
+        });
+    }
+
+    /**
+     * Gera o tabuleiro de um novo jogo no executor informado, para ser
+     * passado ao iniciar(Container, CompletableFuture).
+     */
+    public static CompletableFuture<TabuleiroFront> criaJogoEmSegundoPlano(Executor executor){
+        return CompletableFuture.supplyAsync(
+                () -> ControllerTabuleiro.getInstance().iniciarNovoJogo(LINHAS, COLUNAS, BOMBAS), executor);
+    }
+
+    /**
+     * Troca o jogo em andamento por um jogo não terminado que foi gravado
+     * pelo salvamento automático. A gravação do ponto, quando existe, segue
+     * com o jogo, que então ainda vai para o ranking e o replay.
+     */
+    public void retomar(PontoRecuperacao ponto){
+        pararAutoJogo();
+        mostraTabuleiroCriado(controller.restaurarEstado(ponto.getEstado(), ponto.getGravacao()));
+    }
+
+    private void preparaView(Container tela){
+        this.tela = tela;
+        view.subscribe(this);
+        if (view.getParent() != tela) {
+            tela.add(view, CARTAO);
+        }
+        jogoAtivo = true;
+    }
+
+    private void destruir(){
+        pararAutoJogo();
+        jogoAtivo = false;
+        view.unsubscribe(this);
+        view.limparRecursos();
+    }
+
+    private void criaJogo(){
+        mostraTabuleiroCriado(controller.iniciarNovoJogo(LINHAS, COLUNAS, BOMBAS));
+    }
+
+    private void mostraTabuleiroCriado(TabuleiroFront criado){
+        tabuleiro = criado;
+
+        if (tabuleiro == null) {
+            view.mostraErroCriacaoJogo();
+            return;
+        }
+
+        view.mostraJogo(tabuleiro);
+    }
+
+    public void subscribe(CoordenadorListener coordenadorListener){
+        if (!listeners.contains(coordenadorListener)) {
+            listeners.add(coordenadorListener);
+        }
+    }
+
+    public void unsubscribe(CoordenadorListener coordenadorListener){
+        listeners.remove(coordenadorListener);
+    }
+
+}
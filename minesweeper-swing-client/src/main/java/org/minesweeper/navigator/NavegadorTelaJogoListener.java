@@ -6,4 +6,7 @@ public interface NavegadorTelaJogoListener {
     void onBotaoDireito(Localizacao localizacao);
     void onBotaoEsquerdo(Localizacao localizacao);
     void confirmouErro();
+    void onAutoJogo(boolean ativo, int jogadasPorSegundo);
+    void onDesfazer();
+    void onRefazer();
 }
@@ -0,0 +1,122 @@
+package org.minesweeper.navigator;
+
+import org.minesweeper.coordinator.CoordenadorListener;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.replay.GravacaoJogo;
+import org.minesweeper.replay.Replay;
+import org.minesweeper.view.ViewTelaReplay;
+
+import javax.swing.Timer;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NavegadorTelaReplay implements NavegadorTelaReplayListener {
+    public static final String CARTAO = "replay";
+    // Acima de ~60 jogadas/s o timer não acompanha, então cada tick aplica várias
+    private static final int INTERVALO_MINIMO_MS = 16;
+
+    private ViewTelaReplay view;
+    private ArrayList<CoordenadorListener> listeners;
+    private Container tela;
+    private Replay replay;
+    private Timer timer;
+    private int jogadasPorTick = 1;
+
+    public NavegadorTelaReplay() {
+        listeners = new ArrayList<>();
+        view = new ViewTelaReplay();
+        timer = new Timer(100, e -> passo());
+    }
+
+    public void iniciar(Container tela, GravacaoJogo gravacao) {
+        this.tela = tela;
+        view.subscribe(this);
+        if (view.getParent() != tela) {
+            tela.add(view, CARTAO);
+        }
+
+        replay = new Replay(gravacao);
+        onVelocidade(view.getVelocidade());
+        view.mostraReplay(replay.getTabuleiro(), replay.getQuantidadeJogadas());
+    }
+
+    @Override
+    public void onReproduzir(boolean reproduzindo) {
+        if (reproduzindo && replay != null && !replay.isFim()) {
+            timer.start();
+        } else {
+            pararReproducao();
+        }
+    }
+
+    @Override
+    public void onVelocidade(int jogadasPorSegundo) {
+        int intervalo = Math.max(INTERVALO_MINIMO_MS, 1000 / Math.max(1, jogadasPorSegundo));
+        jogadasPorTick = Math.max(1, jogadasPorSegundo * intervalo / 1000);
+        timer.setDelay(intervalo);
+    }
+
+    @Override
+    public void onBuscar(int jogada) {
+        if (replay == null) return;
+
+        replay.vaiPara(jogada);
+        // Uma busca para trás restaura um keyframe num TabuleiroFront novo
+        view.mostraTabuleiro(replay.getTabuleiro());
+        view.mostraPosicao(replay.getPosicao(), replay.getQuantidadeJogadas());
+    }
+
+    @Override
+    public void onVoltar() {
+        destruir();
+        for (CoordenadorListener l : new ArrayList<>(listeners)) {
+            l.fechaReplay();
+        }
+    }
+
+    /**
+     * Um tick da reprodução; chamado pelo timer.
+     */
+    void passo() {
+        if (replay == null) return;
+
+        for (int i = 0; i < jogadasPorTick && !replay.isFim(); ++i) {
+            List<QuadradoFront> alterados = replay.avanca();
+            for (QuadradoFront quadrado : alterados) {
+                view.mostraQuadradoAlterado(quadrado.getLocalizacao());
+            }
+        }
+        view.mostraPosicao(replay.getPosicao(), replay.getQuantidadeJogadas());
+
+        if (replay.isFim()) {
+            pararReproducao();
+        }
+    }
+
+    Replay getReplay() {
+        return replay;
+    }
+
+    private void pararReproducao() {
+        timer.stop();
+        view.mostraReproducaoParada();
+    }
+
+    private void destruir() {
+        timer.stop();
+        replay = null;
+        view.unsubscribe(this);
+        view.limparRecursos();
+    }
+
+    public void subscribe(CoordenadorListener coordenadorListener) {
+        if (!listeners.contains(coordenadorListener)) {
+            listeners.add(coordenadorListener);
+        }
+    }
+
+    public void unsubscribe(CoordenadorListener coordenadorListener) {
+        listeners.remove(coordenadorListener);
+    }
+}
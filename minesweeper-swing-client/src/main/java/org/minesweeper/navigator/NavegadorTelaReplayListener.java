@@ -0,0 +1,8 @@
+package org.minesweeper.navigator;
+
+public interface NavegadorTelaReplayListener {
+    void onReproduzir(boolean reproduzindo);
+    void onVelocidade(int jogadasPorSegundo);
+    void onBuscar(int jogada);
+    void onVoltar();
+}
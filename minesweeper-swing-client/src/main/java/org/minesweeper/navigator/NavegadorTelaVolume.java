@@ -0,0 +1,83 @@
+package org.minesweeper.navigator;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.view.ViewTelaVolume;
+import org.minesweeper.volume.TabuleiroVolumetrico;
+
+import java.awt.*;
+
+/**
+ * Jogo no tabuleiro volumétrico. Os cliques valem para a camada exibida.
+ */
+public class NavegadorTelaVolume implements NavegadorTelaVolumeListener {
+    public static final String CARTAO = "volume";
+
+    private ViewTelaVolume view;
+    private TabuleiroVolumetrico tabuleiro;
+    private int linhas;
+    private int colunas;
+    private int camadas;
+    private int bombas;
+    private int camada;
+
+    public NavegadorTelaVolume() {
+        view = new ViewTelaVolume();
+    }
+
+    public void iniciar(Container tela, int linhas, int colunas, int camadas, int bombas) {
+        this.linhas = linhas;
+        this.colunas = colunas;
+        this.camadas = camadas;
+        this.bombas = bombas;
+
+        view.subscribe(this);
+        if (view.getParent() != tela) {
+            tela.add(view, CARTAO);
+        }
+        novoJogo();
+    }
+
+    private void novoJogo() {
+        tabuleiro = new TabuleiroVolumetrico(linhas, colunas, camadas, bombas, System.nanoTime());
+        camada = 0;
+        view.mostraJogo(tabuleiro);
+    }
+
+    @Override
+    public void onBotaoEsquerdo(Localizacao localizacao) {
+        if (tabuleiro.abrir(camada, localizacao.getLinha(), localizacao.getColuna()) == 0) return;
+
+        view.mostraAlteracao();
+        verificaFimJogo();
+    }
+
+    @Override
+    public void onBotaoDireito(Localizacao localizacao) {
+        if (tabuleiro.marcar(camada, localizacao.getLinha(), localizacao.getColuna()))
+            view.mostraAlteracao();
+    }
+
+    @Override
+    public void onCamada(int camada) {
+        this.camada = Math.max(0, Math.min(camadas - 1, camada));
+        view.mostraCamada(this.camada);
+    }
+
+    @Override
+    public void onNovoJogo() {
+        novoJogo();
+    }
+
+    private void verificaFimJogo() {
+        if (tabuleiro.explodiu() || tabuleiro.ganhou())
+            view.mostraFimJogo(tabuleiro.ganhou());
+    }
+
+    TabuleiroVolumetrico getTabuleiro() {
+        return tabuleiro;
+    }
+
+    int getCamada() {
+        return camada;
+    }
+}
@@ -0,0 +1,10 @@
+package org.minesweeper.navigator;
+
+import org.minesweeper.model.Localizacao;
+
+public interface NavegadorTelaVolumeListener {
+    void onBotaoDireito(Localizacao localizacao);
+    void onBotaoEsquerdo(Localizacao localizacao);
+    void onCamada(int camada);
+    void onNovoJogo();
+}
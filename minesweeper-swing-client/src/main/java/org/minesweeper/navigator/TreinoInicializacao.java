@@ -0,0 +1,119 @@
+package org.minesweeper.navigator;
+
+import org.minesweeper.solver.Jogada;
+import org.minesweeper.solver.Resolvedor;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+
+/**
+ * Execução de treino para a lista de classes do CDS: cria um jogo como a
+ * inicialização normal, pinta o tabuleiro e faz algumas jogadas do
+ * resolvedor, de forma que as classes desse caminho fiquem carregadas
+ * quando a JVM gravar a lista na saída.
+ *
+ * Com um display (o build usa o Xvfb) o jogo é mostrado numa janela de
+ * verdade, para que as classes do toolkit nativo também entrem na lista.
+ * Em modo headless a tela é pintada numa imagem fora da tela.
+ */
+public class TreinoInicializacao {
+    private static final Dimension TAMANHO_TELA = new Dimension(1000, 1000);
+
+    private final int jogadas;
+
+    public TreinoInicializacao(int jogadas) {
+        this.jogadas = jogadas;
+    }
+
+    /**
+     * @return Quantas jogadas foram feitas. Pode ser menos que o pedido se o
+     * resolvedor ficar sem jogadas.
+     */
+    public int executa() throws InterruptedException, InvocationTargetException {
+        int[] feitas = new int[1];
+        SwingUtilities.invokeAndWait(() -> feitas[0] = joga());
+        return feitas[0];
+    }
+
+    private int joga() {
+        JPanel cartoes = new JPanel(new CardLayout());
+        cartoes.setSize(TAMANHO_TELA);
+        JFrame janela = GraphicsEnvironment.isHeadless() ? null : abreJanela(cartoes);
+        try {
+            return joga(cartoes);
+        } finally {
+            if (janela != null)
+                janela.dispose();
+        }
+    }
+
+    private int joga(JPanel cartoes) {
+        BufferedImage imagem = new BufferedImage(TAMANHO_TELA.width, TAMANHO_TELA.height, BufferedImage.TYPE_INT_RGB);
+
+        NavegadorTelaJogo navegador = new NavegadorTelaJogo();
+        navegador.iniciar(cartoes);
+        pinta(cartoes, imagem);
+
+        Resolvedor resolvedor = new Resolvedor();
+        int feitas = 0;
+        while (feitas < jogadas) {
+            // Com 99 bombas o primeiro chute perde com frequência; um novo
+            // jogo também passa pelo caminho de reinício
+            if (!navegador.isJogoAtivo())
+                navegador.iniciar(cartoes);
+
+            ArrayList<Jogada> proximas = resolvedor.proximasJogadas(navegador.getTabuleiro());
+            if (proximas.isEmpty()) break;
+
+            for (Jogada jogada : proximas) {
+                if (feitas >= jogadas || !navegador.isJogoAtivo()) break;
+
+                if (jogada.getTipo() == Jogada.Tipo.MARCAR)
+                    navegador.onBotaoDireito(jogada.getLocalizacao());
+                else
+                    navegador.onBotaoEsquerdo(jogada.getLocalizacao());
+                feitas++;
+            }
+            pinta(cartoes, imagem);
+        }
+
+        return feitas;
+    }
+
+    private static JFrame abreJanela(JPanel cartoes) {
+        cartoes.setPreferredSize(TAMANHO_TELA);
+        JFrame janela = new JFrame("Minesweeper");
+        janela.setContentPane(cartoes);
+        janela.pack();
+        janela.setVisible(true);
+        return janela;
+    }
+
+    private static void pinta(JComponent tela, BufferedImage imagem) {
+        if (tela.isShowing()) {
+            tela.validate();
+            tela.paintImmediately(0, 0, tela.getWidth(), tela.getHeight());
+            return;
+        }
+
+        organiza(tela);
+        Graphics2D g = imagem.createGraphics();
+        try {
+            tela.paint(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    // validate() não faz nada sem peer, então o layout é feito à mão
+    private static void organiza(Container container) {
+        container.doLayout();
+        for (Component filho : container.getComponents()) {
+            if (filho instanceof Container c)
+                organiza(c);
+        }
+    }
+}
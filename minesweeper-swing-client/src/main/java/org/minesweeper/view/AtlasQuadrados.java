@@ -0,0 +1,204 @@
+package org.minesweeper.view;
+
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.TabuleiroFront;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Cache de renderização do tabuleiro: cada estado possível de um quadrado é
+ * desenhado uma única vez numa faixa horizontal de imagens (atlas) para o
+ * tamanho de quadrado e a escala de tela atuais. A pintura do tabuleiro passa
+ * a ser apenas cópias de retângulos do atlas, sem criar fontes, cores ou
+ * textos por quadrado.
+ *
+ * O atlas só é refeito quando o zoom ou a escala (DPI) mudam.
+ *
+ * O tabuleiro volumétrico tem números até 26; o atlas criado para ele
+ * acrescenta os estados NUMERO_ALTO em diante.
+ */
+public class AtlasQuadrados {
+    public static final int FECHADO = 0;
+    public static final int MARCADO = 1;
+    // ABERTO + n, para n de 0 a 8
+    public static final int ABERTO = 2;
+    public static final int BOMBA = 11;
+    public static final int QUANTIDADE_ESTADOS = 12;
+    // NUMERO_ALTO + n - 9, para n de 9 ao maior número do atlas
+    public static final int NUMERO_ALTO = 12;
+
+    static final Color COR_FECHADO = new Color(190, 190, 190);
+    static final Color COR_ABERTO = Color.WHITE;
+    static final Color COR_BORDA = Color.GRAY;
+    private static final Color[] CORES_NUMEROS = {
+            Color.BLACK,
+            Color.BLUE,
+            new Color(0, 128, 0),   // green
+            Color.RED,
+            new Color(0, 0, 128),   // dark blue
+            new Color(128, 0, 0),   // dark red
+            Color.BLACK,
+            Color.BLACK,
+            Color.BLACK
+    };
+
+    private final int maiorNumero;
+    private final int quantidadeEstados;
+    private BufferedImage atlas;
+    private int tamanho;
+    private double escala;
+    private int tamanhoPixels;
+    private int reconstrucoes;
+
+    public AtlasQuadrados() {
+        this(8);
+    }
+
+    /**
+     * @param maiorNumero O maior número que um quadrado aberto pode ter.
+     */
+    public AtlasQuadrados(int maiorNumero) {
+        this.maiorNumero = Math.max(8, maiorNumero);
+        this.quantidadeEstados = QUANTIDADE_ESTADOS + Math.max(0, maiorNumero - 8);
+    }
+
+    /**
+     * Carrega numa thread de fundo o que a primeira construção do atlas
+     * precisa (decodificação da bandeira, fontes e rasterização do texto),
+     * para que ela não pese na EDT quando o primeiro tabuleiro for pintado.
+     */
+    public static void aquece() {
+        Icons.getFlagIcon();
+        new AtlasQuadrados().prepara(PainelTabuleiro.TAMANHO_PADRAO, 1.0, null);
+    }
+
+    /**
+     * Índice do quadrado dentro do atlas.
+     */
+    public static int estadoDe(QuadradoFront quadrado) {
+        return estadoDe(quadrado.isAberto(), quadrado.isMarcado(), quadrado.isBomba(), quadrado.getNumero());
+    }
+
+    /**
+     * Índice do quadrado na posição, lido direto do TabuleiroFront, sem
+     * criar o QuadradoFront.
+     */
+    public static int estadoDe(TabuleiroFront tabuleiro, int linha, int coluna) {
+        return estadoDe(tabuleiro.isAberto(linha, coluna), tabuleiro.isMarcado(linha, coluna),
+                tabuleiro.isBomba(linha, coluna), tabuleiro.getNumero(linha, coluna));
+    }
+
+    private static int estadoDe(boolean aberto, boolean marcado, boolean bomba, int numero) {
+        if (aberto) {
+            if (bomba) return BOMBA;
+            return estadoDoNumero(numero);
+        }
+
+        return marcado ? MARCADO : FECHADO;
+    }
+
+    /**
+     * Índice de um quadrado aberto com esse número dentro do atlas.
+     */
+    public static int estadoDoNumero(int numero) {
+        return numero <= 8 ? ABERTO + Math.max(0, numero) : NUMERO_ALTO + numero - 9;
+    }
+
+    /**
+     * Garante que o atlas corresponde ao tamanho e escala pedidos,
+     * reconstruindo-o apenas se algum deles mudou.
+     *
+     * @param configuracao Configuração gráfica da tela, usada para criar uma
+     *                     imagem compatível. Pode ser null (ex.: testes headless).
+     */
+    public void prepara(int tamanho, double escala, GraphicsConfiguration configuracao) {
+        if (atlas != null && this.tamanho == tamanho && this.escala == escala) return;
+
+        this.tamanho = tamanho;
+        this.escala = escala;
+        this.tamanhoPixels = Math.max(1, (int) Math.ceil(tamanho * escala));
+        this.atlas = criaImagem(configuracao, tamanhoPixels * quantidadeEstados, tamanhoPixels);
+        reconstrucoes++;
+
+        Graphics2D g = atlas.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setFont(new Font("Arial", Font.BOLD, Math.max(8, tamanhoPixels / 2)));
+
+            for (int estado = 0; estado < quantidadeEstados; ++estado)
+                desenhaEstado(g, estado, estado * tamanhoPixels);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Copia o quadrado do atlas para a posição (x, y), em coordenadas
+     * lógicas do componente.
+     */
+    public void desenha(Graphics g, int estado, int x, int y) {
+        int origem = estado * tamanhoPixels;
+        g.drawImage(atlas, x, y, x + tamanho, y + tamanho, origem, 0, origem + tamanhoPixels, tamanhoPixels, null);
+    }
+
+    public int getMaiorNumero() {
+        return maiorNumero;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public double getEscala() {
+        return escala;
+    }
+
+    BufferedImage getImagem() {
+        return atlas;
+    }
+
+    int getReconstrucoes() {
+        return reconstrucoes;
+    }
+
+    private static BufferedImage criaImagem(GraphicsConfiguration configuracao, int largura, int altura) {
+        if (configuracao != null)
+            return configuracao.createCompatibleImage(largura, altura, Transparency.OPAQUE);
+
+        return new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private void desenhaEstado(Graphics2D g, int estado, int x) {
+        int t = tamanhoPixels;
+        boolean aberto = estado >= ABERTO;
+
+        g.setColor(aberto ? COR_ABERTO : COR_FECHADO);
+        g.fillRect(x, 0, t, t);
+
+        if (estado == MARCADO) {
+            Image bandeira = Icons.getFlagIcon().getImage();
+            int lado = Math.max(1, t * 2 / 3);
+            g.drawImage(bandeira, x + (t - lado) / 2, (t - lado) / 2, lado, lado, null);
+        } else if (estado == BOMBA) {
+            desenhaTexto(g, "B", Color.BLACK, x);
+        } else if (estado >= NUMERO_ALTO) {
+            desenhaTexto(g, String.valueOf(estado - NUMERO_ALTO + 9), Color.DARK_GRAY, x);
+        } else if (estado > ABERTO) {
+            int numero = estado - ABERTO;
+            desenhaTexto(g, String.valueOf(numero), CORES_NUMEROS[numero], x);
+        }
+
+        g.setColor(COR_BORDA);
+        g.drawRect(x, 0, t - 1, t - 1);
+    }
+
+    private void desenhaTexto(Graphics2D g, String texto, Color cor, int x) {
+        FontMetrics metricas = g.getFontMetrics();
+        g.setColor(cor);
+        int largura = metricas.stringWidth(texto);
+        int base = (tamanhoPixels - metricas.getHeight()) / 2 + metricas.getAscent();
+        g.drawString(texto, x + (tamanhoPixels - largura) / 2, base);
+    }
+}
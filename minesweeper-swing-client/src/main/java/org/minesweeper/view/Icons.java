@@ -0,0 +1,20 @@
+package org.minesweeper.view;
+
+import javax.swing.*;
+import java.util.Objects;
+
+public class Icons {
+    /**
+     * A imagem só é decodificada no primeiro uso (idiom do holder), e não
+     * quando a classe é carregada.
+     */
+    public static ImageIcon getFlagIcon() {
+        return FlagHolder.FLAG_ICON;
+    }
+
+    private static class FlagHolder {
+        private static final ImageIcon FLAG_ICON = new ImageIcon(
+                Objects.requireNonNull(Icons.class.getResource("/images/flag.png"))
+        );
+    }
+}
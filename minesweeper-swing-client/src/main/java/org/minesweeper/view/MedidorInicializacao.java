@@ -0,0 +1,107 @@
+package org.minesweeper.view;
+
+import org.minesweeper.metrics.Histograma;
+import org.minesweeper.metrics.RegistroMetricas;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mede o tempo de inicialização: do início do main até a primeira pintura
+ * da janela (com o tabuleiro ainda vazio) e até a primeira pintura de um
+ * tabuleiro. Os valores vão para os histogramas "inicializacao.janela.ns" e
+ * "inicializacao.primeiraPintura.ns" e, com
+ * -Dminesweeper.inicializacao.log=true, também é escrito na saída padrão,
+ * o que permite acompanhar regressões a partir do treino do CDS.
+ */
+public class MedidorInicializacao {
+    private static final Histograma JANELA = RegistroMetricas.getInstance().histograma("inicializacao.janela.ns");
+    private static final Histograma PRIMEIRA_PINTURA = RegistroMetricas.getInstance().histograma("inicializacao.primeiraPintura.ns");
+
+    private static MedidorInicializacao instance;
+
+    private final PrintStream saida;
+    private long inicio;
+    private volatile long nsAteJanela = -1;
+    private volatile long nsAtePrimeiraPintura = -1;
+
+    MedidorInicializacao(PrintStream saida) {
+        this.saida = saida;
+        this.inicio = System.nanoTime();
+    }
+
+    public static synchronized MedidorInicializacao getInstance() {
+        if (instance == null)
+            instance = new MedidorInicializacao(Boolean.getBoolean("minesweeper.inicializacao.log") ? System.out : null);
+
+        return instance;
+    }
+
+    /**
+     * Deve ser a primeira coisa feita no main. Sem essa chamada o início é o
+     * momento em que o medidor foi criado.
+     */
+    public synchronized void marcaInicio() {
+        inicio = System.nanoTime();
+    }
+
+    /**
+     * Chamado a cada pintura do tabuleiro vazio exibido enquanto o jogo é
+     * gerado; só a primeira é registrada.
+     */
+    public void marcaJanelaPintada() {
+        if (nsAteJanela >= 0) return;
+
+        synchronized (this) {
+            if (nsAteJanela >= 0) return;
+
+            nsAteJanela = desdeInicio();
+        }
+
+        JANELA.registra(nsAteJanela);
+        escreve("janela pintada", nsAteJanela);
+    }
+
+    /**
+     * Chamado a cada pintura de tabuleiro; só a primeira é registrada.
+     */
+    public void marcaPrimeiraPintura() {
+        if (nsAtePrimeiraPintura >= 0) return;
+
+        synchronized (this) {
+            if (nsAtePrimeiraPintura >= 0) return;
+
+            nsAtePrimeiraPintura = desdeInicio();
+        }
+
+        PRIMEIRA_PINTURA.registra(nsAtePrimeiraPintura);
+        escreve("primeira pintura do tabuleiro", nsAtePrimeiraPintura);
+    }
+
+    /**
+     * @return Nanossegundos do início até a primeira pintura do tabuleiro
+     * vazio, ou -1 se ele ainda não foi pintado.
+     */
+    public long getNsAteJanela() {
+        return nsAteJanela;
+    }
+
+    /**
+     * @return Nanossegundos do início até a primeira pintura, ou -1 se o
+     * tabuleiro ainda não foi pintado.
+     */
+    public long getNsAtePrimeiraPintura() {
+        return nsAtePrimeiraPintura;
+    }
+
+    private long desdeInicio() {
+        return Math.max(0, System.nanoTime() - inicio);
+    }
+
+    private void escreve(String marco, long ns) {
+        if (saida != null) {
+            saida.printf("%s: %d ms desde o main, %d ms desde o início da JVM%n",
+                    marco, ns / 1_000_000, ManagementFactory.getRuntimeMXBean().getUptime());
+        }
+    }
+}
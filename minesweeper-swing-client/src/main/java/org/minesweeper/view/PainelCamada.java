@@ -0,0 +1,174 @@
+package org.minesweeper.view;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.volume.TabuleiroVolumetrico;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/**
+ * Desenha uma camada do tabuleiro volumétrico, lendo os estados direto do
+ * TabuleiroVolumetrico. Como no PainelTabuleiro, só a área de recorte é
+ * pintada e cada quadrado é uma cópia do atlas, que aqui inclui os números
+ * de 9 a 26.
+ */
+public class PainelCamada extends JComponent implements Scrollable {
+    public static final int TAMANHO_PADRAO = 24;
+
+    private final ViewTelaVolume view;
+    private TabuleiroVolumetrico tabuleiro;
+    private int camada;
+    private int tamanhoQuadrado = TAMANHO_PADRAO;
+    private int quadradosPintados;
+    private final AtlasQuadrados atlas = new AtlasQuadrados(TabuleiroVolumetrico.MAXIMO_VIZINHOS);
+
+    /**
+     * @param view Quem recebe os cliques, ou null para um painel que só
+     *             exibe a camada.
+     */
+    public PainelCamada(ViewTelaVolume view) {
+        this.view = view;
+        setOpaque(true);
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (view == null) return;
+
+                Localizacao localizacao = localizacaoEm(e.getX(), e.getY());
+                if (localizacao == null) return;
+
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    view.notificaBotaoDireito(localizacao);
+                } else if (SwingUtilities.isLeftMouseButton(e)) {
+                    view.notificaBotaoEsquerdo(localizacao);
+                }
+            }
+        });
+    }
+
+    public void setTabuleiro(TabuleiroVolumetrico tabuleiro) {
+        this.tabuleiro = tabuleiro;
+        camada = 0;
+        revalidate();
+        repaint();
+    }
+
+    public TabuleiroVolumetrico getTabuleiro() {
+        return tabuleiro;
+    }
+
+    /**
+     * Troca a camada exibida. As camadas têm o mesmo tamanho, então basta
+     * repintar.
+     */
+    public void setCamada(int camada) {
+        if (camada == this.camada) return;
+
+        this.camada = camada;
+        repaint();
+    }
+
+    public int getCamada() {
+        return camada;
+    }
+
+    public int getTamanhoQuadrado() {
+        return tamanhoQuadrado;
+    }
+
+    /**
+     * @return A linha e a coluna do quadrado sob o ponto, na camada
+     * exibida, ou null se o ponto está fora do tabuleiro.
+     */
+    public Localizacao localizacaoEm(int x, int y) {
+        if (tabuleiro == null || x < 0 || y < 0) return null;
+
+        int linha = y / tamanhoQuadrado;
+        int coluna = x / tamanhoQuadrado;
+
+        if (linha >= tabuleiro.getLinha_size() || coluna >= tabuleiro.getColuna_size()) return null;
+
+        return new Localizacao(linha, coluna);
+    }
+
+    /**
+     * @return Quantos quadrados foram desenhados na última pintura.
+     */
+    public int getQuadradosPintados() {
+        return quadradosPintados;
+    }
+
+    /**
+     * Índice do estado visível do tabuleiro volumétrico dentro do atlas.
+     */
+    public static int estadoDe(byte visivel) {
+        return switch (visivel) {
+            case TabuleiroVolumetrico.VISIVEL_FECHADO -> AtlasQuadrados.FECHADO;
+            case TabuleiroVolumetrico.VISIVEL_MARCADO -> AtlasQuadrados.MARCADO;
+            case TabuleiroVolumetrico.VISIVEL_BOMBA -> AtlasQuadrados.BOMBA;
+            default -> AtlasQuadrados.estadoDoNumero(visivel);
+        };
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle recorte = g.getClipBounds();
+        if (recorte == null) recorte = new Rectangle(0, 0, getWidth(), getHeight());
+
+        g.setColor(getBackground() != null ? getBackground() : Color.LIGHT_GRAY);
+        g.fillRect(recorte.x, recorte.y, recorte.width, recorte.height);
+
+        quadradosPintados = 0;
+        if (tabuleiro == null) return;
+
+        double escala = g instanceof Graphics2D g2 ? g2.getTransform().getScaleX() : 1.0;
+        atlas.prepara(tamanhoQuadrado, escala, getGraphicsConfiguration());
+
+        int primeiraLinha = Math.max(0, recorte.y / tamanhoQuadrado);
+        int ultimaLinha = Math.min(tabuleiro.getLinha_size() - 1, (recorte.y + recorte.height - 1) / tamanhoQuadrado);
+        int primeiraColuna = Math.max(0, recorte.x / tamanhoQuadrado);
+        int ultimaColuna = Math.min(tabuleiro.getColuna_size() - 1, (recorte.x + recorte.width - 1) / tamanhoQuadrado);
+
+        for (int i = primeiraLinha; i <= ultimaLinha; ++i)
+            for (int j = primeiraColuna; j <= ultimaColuna; ++j) {
+                atlas.desenha(g, estadoDe(tabuleiro.getVisivel(camada, i, j)), j * tamanhoQuadrado, i * tamanhoQuadrado);
+                quadradosPintados++;
+            }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (tabuleiro == null) return new Dimension(0, 0);
+
+        return new Dimension(tabuleiro.getColuna_size() * tamanhoQuadrado, tabuleiro.getLinha_size() * tamanhoQuadrado);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visivel, int orientacao, int direcao) {
+        return tamanhoQuadrado;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visivel, int orientacao, int direcao) {
+        int bloco = orientacao == SwingConstants.VERTICAL ? visivel.height : visivel.width;
+        return Math.max(tamanhoQuadrado, bloco - tamanhoQuadrado);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
@@ -0,0 +1,423 @@
+package org.minesweeper.view;
+
+import org.minesweeper.metrics.EventoPinturaTabuleiro;
+import org.minesweeper.metrics.Histograma;
+import org.minesweeper.metrics.RegistroMetricas;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.model.Topologia;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+
+/**
+ * Componente que desenha o tabuleiro diretamente, sem um componente por
+ * quadrado. Apenas os quadrados dentro da área de recorte (o que está visível
+ * no JScrollPane) são pintados, e o clique é convertido em Localizacao pela
+ * posição do mouse. O estado de cada quadrado é lido do TabuleiroFront no
+ * momento da pintura.
+ *
+ * Nas topologias hexagonal e triangular cada célula ocupa uma caixa de
+ * tamanhoQuadrado x tamanhoQuadrado, mas as caixas se sobrepõem: no hexágono
+ * as linhas avançam 3/4 da caixa e as ímpares são deslocadas meia caixa; no
+ * triângulo as colunas avançam meia caixa. A imagem do atlas é recortada
+ * pelo contorno da célula. A topologia toroidal é desenhada como a quadrada.
+ */
+public class PainelTabuleiro extends JComponent implements Scrollable {
+    public static final int TAMANHO_MINIMO = 8;
+    public static final int TAMANHO_PADRAO = 40;
+    public static final int TAMANHO_MAXIMO = 96;
+
+    private static final Histograma DURACAO_PINTURA = RegistroMetricas.getInstance().histograma("view.pintura.ns");
+    private static final Histograma QUADRADOS_POR_PINTURA = RegistroMetricas.getInstance().histograma("view.pintura.quadrados");
+
+    private final ViewTelaJogo view;
+    private TabuleiroFront tabuleiro;
+    private int linhasReservadas;
+    private int colunasReservadas;
+    private int tamanhoQuadrado = TAMANHO_PADRAO;
+    private int quadradosPintados;
+    private AtlasQuadrados atlas = new AtlasQuadrados();
+
+    /**
+     * @param view Quem recebe os cliques, ou null para um painel que só
+     *             exibe o tabuleiro.
+     */
+    public PainelTabuleiro(ViewTelaJogo view) {
+        this.view = view;
+        setOpaque(true);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                // Sem view o painel é só de exibição (ex.: replay)
+                if (view == null) return;
+
+                Localizacao localizacao = localizacaoEm(e.getX(), e.getY());
+                if (localizacao == null) return;
+
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    view.notificaBotaoDireito(localizacao);
+                } else if (SwingUtilities.isLeftMouseButton(e)) {
+                    view.notificaBotaoEsquerdo(localizacao);
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if ((e.getModifiersEx() & InputEvent.CTRL_DOWN_MASK) != 0) {
+                    zoom(e.getWheelRotation() < 0 ? 1.25 : 0.8, e.getPoint());
+                } else if (getParent() != null) {
+                    // Sem Ctrl, a roda continua rolando o JScrollPane
+                    getParent().dispatchEvent(SwingUtilities.convertMouseEvent(PainelTabuleiro.this, e, getParent()));
+                }
+            }
+        };
+        addMouseListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    /**
+     * Troca o tabuleiro exibido. Se as dimensões não mudaram, o componente
+     * é reaproveitado como está e só é repintado.
+     */
+    public void setTabuleiro(TabuleiroFront tabuleiro) {
+        boolean mesmasDimensoes = this.tabuleiro != null && tabuleiro != null
+                && this.tabuleiro.getLinha_size() == tabuleiro.getLinha_size()
+                && this.tabuleiro.getColuna_size() == tabuleiro.getColuna_size()
+                && this.tabuleiro.getTopologia() == tabuleiro.getTopologia();
+
+        this.tabuleiro = tabuleiro;
+        // Um triângulo tem até 12 vizinhos: o atlas precisa dos números acima de 8
+        int maiorNumero = topologia().getMaximoVizinhos();
+        if (atlas.getMaiorNumero() != Math.max(8, maiorNumero)) {
+            atlas = new AtlasQuadrados(maiorNumero);
+        }
+        linhasReservadas = 0;
+        colunasReservadas = 0;
+        if (!mesmasDimensoes) {
+            revalidate();
+        }
+        repaint();
+    }
+
+    /**
+     * Mostra uma grade vazia do tamanho do tabuleiro que ainda está sendo
+     * gerado, para que a janela não apareça em branco. Cliques são
+     * ignorados até o setTabuleiro.
+     */
+    public void reservaTabuleiro(int linhas, int colunas) {
+        tabuleiro = null;
+        linhasReservadas = linhas;
+        colunasReservadas = colunas;
+        revalidate();
+        repaint();
+    }
+
+    public TabuleiroFront getTabuleiro() {
+        return tabuleiro;
+    }
+
+    public int getTamanhoQuadrado() {
+        return tamanhoQuadrado;
+    }
+
+    public void setTamanhoQuadrado(int tamanho) {
+        tamanho = Math.max(TAMANHO_MINIMO, Math.min(TAMANHO_MAXIMO, tamanho));
+        if (tamanho == tamanhoQuadrado) return;
+
+        tamanhoQuadrado = tamanho;
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Muda o tamanho dos quadrados mantendo o quadrado sob o ponteiro no
+     * mesmo lugar da tela.
+     */
+    private void zoom(double fator, Point ancora) {
+        int antigo = tamanhoQuadrado;
+        setTamanhoQuadrado((int) Math.round(antigo * fator));
+        if (antigo == tamanhoQuadrado) return;
+
+        if (getParent() instanceof JViewport viewport) {
+            Point posicao = viewport.getViewPosition();
+            double escala = tamanhoQuadrado / (double) antigo;
+            int x = (int) Math.round(ancora.x * escala) - (ancora.x - posicao.x);
+            int y = (int) Math.round(ancora.y * escala) - (ancora.y - posicao.y);
+
+            // O tamanho novo precisa ser aplicado antes de mover a viewport
+            viewport.setViewSize(getPreferredSize());
+            viewport.setViewPosition(new Point(Math.max(0, x), Math.max(0, y)));
+        }
+    }
+
+    /**
+     * @return A localização do quadrado sob o ponto, ou null se o ponto está
+     * fora do tabuleiro.
+     */
+    public Localizacao localizacaoEm(int x, int y) {
+        if (tabuleiro == null || x < 0 || y < 0) return null;
+
+        if (!isGradeQuadrada())
+            return localizacaoNoContorno(x, y);
+
+        int linha = y / tamanhoQuadrado;
+        int coluna = x / tamanhoQuadrado;
+
+        if (linha >= tabuleiro.getLinha_size() || coluna >= tabuleiro.getColuna_size()) return null;
+
+        return new Localizacao(linha, coluna);
+    }
+
+    private Localizacao localizacaoNoContorno(int x, int y) {
+        Rectangle ponto = new Rectangle(x, y, 1, 1);
+        int[] linhas = linhasEm(ponto);
+        int[] colunas = colunasEm(ponto);
+
+        for (int i = linhas[0]; i <= linhas[1]; ++i)
+            for (int j = colunas[0]; j <= colunas[1]; ++j)
+                if (contornoDoQuadrado(i, j).contains(x, y))
+                    return new Localizacao(i, j);
+
+        return null;
+    }
+
+    /**
+     * @return A caixa ocupada pelo quadrado. Fora da grade quadrada, caixas
+     * vizinhas se sobrepõem e o quadrado é só a parte dentro do contorno.
+     */
+    public Rectangle retanguloDoQuadrado(int linha, int coluna) {
+        Topologia topologia = topologia();
+        int t = tamanhoQuadrado;
+
+        if (topologia == Topologia.HEXAGONAL)
+            return new Rectangle(coluna * t + (linha & 1) * (t / 2), linha * passoLinhaHexagonal(), t, t);
+        if (topologia == Topologia.TRIANGULAR)
+            return new Rectangle(coluna * (t / 2), linha * t, t, t);
+
+        return new Rectangle(coluna * t, linha * t, t, t);
+    }
+
+    /**
+     * Contorno da célula: o próprio quadrado, um hexágono com a ponta para
+     * cima ou um triângulo para cima ou para baixo.
+     */
+    public Polygon contornoDoQuadrado(int linha, int coluna) {
+        Rectangle r = retanguloDoQuadrado(linha, coluna);
+        Topologia topologia = topologia();
+
+        if (topologia == Topologia.HEXAGONAL) {
+            int quarto = r.height / 4;
+            return new Polygon(
+                    new int[]{r.x + r.width / 2, r.x + r.width, r.x + r.width, r.x + r.width / 2, r.x, r.x},
+                    new int[]{r.y, r.y + quarto, r.y + r.height - quarto, r.y + r.height, r.y + r.height - quarto, r.y + quarto},
+                    6);
+        }
+        if (topologia == Topologia.TRIANGULAR) {
+            if (((linha + coluna) & 1) == 0)
+                return new Polygon(new int[]{r.x + r.width / 2, r.x + r.width, r.x},
+                        new int[]{r.y, r.y + r.height, r.y + r.height}, 3);
+            return new Polygon(new int[]{r.x, r.x + r.width, r.x + r.width / 2},
+                    new int[]{r.y, r.y, r.y + r.height}, 3);
+        }
+
+        return new Polygon(new int[]{r.x, r.x + r.width, r.x + r.width, r.x},
+                new int[]{r.y, r.y, r.y + r.height, r.y + r.height}, 4);
+    }
+
+    private Topologia topologia() {
+        return tabuleiro != null ? tabuleiro.getTopologia() : Topologia.QUADRADA;
+    }
+
+    private boolean isGradeQuadrada() {
+        Topologia topologia = topologia();
+        return topologia != Topologia.HEXAGONAL && topologia != Topologia.TRIANGULAR;
+    }
+
+    private int passoLinhaHexagonal() {
+        return tamanhoQuadrado - tamanhoQuadrado / 4;
+    }
+
+    // Linhas e colunas cujas caixas podem tocar a área, limitadas ao tabuleiro
+    private int[] linhasEm(Rectangle area) {
+        int passo = topologia() == Topologia.HEXAGONAL ? passoLinhaHexagonal() : tamanhoQuadrado;
+        int primeira = Math.max(0, (area.y - tamanhoQuadrado) / passo);
+        int ultima = Math.min(tabuleiro.getLinha_size() - 1, (area.y + area.height - 1) / passo);
+        return new int[]{primeira, ultima};
+    }
+
+    private int[] colunasEm(Rectangle area) {
+        int passo = topologia() == Topologia.TRIANGULAR ? tamanhoQuadrado / 2 : tamanhoQuadrado;
+        int primeira = Math.max(0, (area.x - tamanhoQuadrado) / passo);
+        int ultima = Math.min(tabuleiro.getColuna_size() - 1, (area.x + area.width - 1) / passo);
+        return new int[]{primeira, ultima};
+    }
+
+    /**
+     * Marca apenas o retângulo do quadrado como sujo. O RepaintManager junta
+     * as áreas de várias chamadas numa única pintura.
+     */
+    public void repintaQuadrado(Localizacao localizacao) {
+        Rectangle r = retanguloDoQuadrado(localizacao.getLinha(), localizacao.getColuna());
+        // A borda do contorno passa um pixel da caixa
+        if (!isGradeQuadrada()) r.grow(1, 1);
+        repaint(r);
+    }
+
+    /**
+     * @return Quantos quadrados foram desenhados na última pintura.
+     */
+    public int getQuadradosPintados() {
+        return quadradosPintados;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long inicio = System.nanoTime();
+        EventoPinturaTabuleiro evento = new EventoPinturaTabuleiro();
+        evento.begin();
+
+        Rectangle recorte = g.getClipBounds();
+        if (recorte == null) recorte = new Rectangle(0, 0, getWidth(), getHeight());
+
+        g.setColor(getBackground() != null ? getBackground() : Color.LIGHT_GRAY);
+        g.fillRect(recorte.x, recorte.y, recorte.width, recorte.height);
+
+        quadradosPintados = 0;
+        if (tabuleiro == null) {
+            pintaReserva(g, recorte);
+            return;
+        }
+
+        double escala = g instanceof Graphics2D g2 ? g2.getTransform().getScaleX() : 1.0;
+        atlas.prepara(tamanhoQuadrado, escala, getGraphicsConfiguration());
+
+        if (isGradeQuadrada())
+            pintaGradeQuadrada(g, recorte);
+        else
+            pintaContornos(g, recorte);
+
+        DURACAO_PINTURA.registraDesde(inicio);
+        QUADRADOS_POR_PINTURA.registra(quadradosPintados);
+        MedidorInicializacao.getInstance().marcaPrimeiraPintura();
+        if (evento.shouldCommit()) {
+            evento.quadradosPintados = quadradosPintados;
+            evento.commit();
+        }
+    }
+
+    private void pintaGradeQuadrada(Graphics g, Rectangle recorte) {
+        int primeiraLinha = Math.max(0, recorte.y / tamanhoQuadrado);
+        int ultimaLinha = Math.min(tabuleiro.getLinha_size() - 1, (recorte.y + recorte.height - 1) / tamanhoQuadrado);
+        int primeiraColuna = Math.max(0, recorte.x / tamanhoQuadrado);
+        int ultimaColuna = Math.min(tabuleiro.getColuna_size() - 1, (recorte.x + recorte.width - 1) / tamanhoQuadrado);
+
+        for (int i = primeiraLinha; i <= ultimaLinha; ++i)
+            for (int j = primeiraColuna; j <= ultimaColuna; ++j) {
+                int estado = AtlasQuadrados.estadoDe(tabuleiro, i, j);
+                atlas.desenha(g, estado, j * tamanhoQuadrado, i * tamanhoQuadrado);
+                quadradosPintados++;
+            }
+    }
+
+    /**
+     * Cada célula é pintada com a imagem do atlas recortada pelo seu
+     * contorno, que depois recebe a borda. É mais lento que a grade
+     * quadrada, que continua só copiando retângulos.
+     */
+    private void pintaContornos(Graphics g, Rectangle recorte) {
+        int[] linhas = linhasEm(recorte);
+        int[] colunas = colunasEm(recorte);
+        Shape recorteOriginal = g.getClip();
+
+        for (int i = linhas[0]; i <= linhas[1]; ++i)
+            for (int j = colunas[0]; j <= colunas[1]; ++j) {
+                Polygon contorno = contornoDoQuadrado(i, j);
+                if (!contorno.intersects(recorte)) continue;
+
+                Rectangle caixa = contorno.getBounds();
+                Rectangle r = retanguloDoQuadrado(i, j);
+                g.setClip(recorteOriginal);
+                g.clipRect(caixa.x, caixa.y, caixa.width, caixa.height);
+                ((Graphics2D) g).clip(contorno);
+                atlas.desenha(g, AtlasQuadrados.estadoDe(tabuleiro, i, j), r.x, r.y);
+
+                g.setClip(recorteOriginal);
+                g.setColor(AtlasQuadrados.COR_BORDA);
+                g.drawPolygon(contorno);
+                quadradosPintados++;
+            }
+    }
+
+    /**
+     * A grade vazia é desenhada com retângulos simples, sem o atlas, para
+     * não esperar as fontes e a imagem da bandeira na primeira pintura.
+     */
+    private void pintaReserva(Graphics g, Rectangle recorte) {
+        if (linhasReservadas == 0 || colunasReservadas == 0) return;
+
+        Rectangle grade = recorte.intersection(new Rectangle(0, 0,
+                colunasReservadas * tamanhoQuadrado, linhasReservadas * tamanhoQuadrado));
+        if (grade.isEmpty()) return;
+
+        g.setColor(AtlasQuadrados.COR_FECHADO);
+        g.fillRect(grade.x, grade.y, grade.width, grade.height);
+
+        g.setColor(AtlasQuadrados.COR_BORDA);
+        for (int x = grade.x / tamanhoQuadrado * tamanhoQuadrado; x < grade.x + grade.width; x += tamanhoQuadrado)
+            g.drawLine(x, grade.y, x, grade.y + grade.height - 1);
+        for (int y = grade.y / tamanhoQuadrado * tamanhoQuadrado; y < grade.y + grade.height; y += tamanhoQuadrado)
+            g.drawLine(grade.x, y, grade.x + grade.width - 1, y);
+
+        MedidorInicializacao.getInstance().marcaJanelaPintada();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (tabuleiro == null)
+            return new Dimension(colunasReservadas * tamanhoQuadrado, linhasReservadas * tamanhoQuadrado);
+
+        int linhas = tabuleiro.getLinha_size();
+        int colunas = tabuleiro.getColuna_size();
+        Topologia topologia = topologia();
+
+        if (topologia == Topologia.HEXAGONAL)
+            return new Dimension(colunas * tamanhoQuadrado + tamanhoQuadrado / 2 + 1,
+                    (linhas - 1) * passoLinhaHexagonal() + tamanhoQuadrado + 1);
+        if (topologia == Topologia.TRIANGULAR)
+            return new Dimension((colunas - 1) * (tamanhoQuadrado / 2) + tamanhoQuadrado + 1, linhas * tamanhoQuadrado + 1);
+
+        return new Dimension(colunas * tamanhoQuadrado, linhas * tamanhoQuadrado);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visivel, int orientacao, int direcao) {
+        return tamanhoQuadrado;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visivel, int orientacao, int direcao) {
+        int bloco = orientacao == SwingConstants.VERTICAL ? visivel.height : visivel.width;
+        return Math.max(tamanhoQuadrado, bloco - tamanhoQuadrado);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
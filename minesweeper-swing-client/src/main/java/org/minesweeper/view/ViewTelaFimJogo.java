@@ -7,6 +7,8 @@ import java.awt.*;
 import java.util.ArrayList;
 
 public class ViewTelaFimJogo extends JPanel {
+    private static final Font FONTE_MENSAGEM = new Font("Arial", Font.BOLD, 36);
+
     private ArrayList<NavegadorTelaFimJogoListener> listeners = new ArrayList<>();
     private JPanel painelGrid;
 
@@ -21,12 +23,6 @@ public class ViewTelaFimJogo extends JPanel {
         painelGrid.removeAll();
         painelGrid.revalidate();
         painelGrid.repaint();
-
-        Window janela = SwingUtilities.getWindowAncestor(this);
-        if (janela != null) {
-            janela.setVisible(false);
-            janela.dispose();
-        }
     }
 
     public void mostraTelaPerdeuJogo(){
@@ -44,7 +40,7 @@ public class ViewTelaFimJogo extends JPanel {
 
         JLabel lblMensagem = new JLabel(mensagem);
         lblMensagem.setName("lblMensagem");
-        lblMensagem.setFont(new Font("Arial", Font.BOLD, 36));
+        lblMensagem.setFont(FONTE_MENSAGEM);
 
         JButton btnNovoJogo = new JButton("Novo Jogo");
         btnNovoJogo.setName("btnNovoJogo");
@@ -52,11 +48,16 @@ public class ViewTelaFimJogo extends JPanel {
         JButton btnFinalizarJogo = new JButton("Finalizar Jogo");
         btnFinalizarJogo.setName("btnFinalizarJogo");
 
+        JButton btnReplay = new JButton("Ver Replay");
+        btnReplay.setName("btnReplay");
+
         btnNovoJogo.addActionListener(e -> notificaReiniciarJogo());
+        btnReplay.addActionListener(e -> notificaVerReplay());
         btnFinalizarJogo.addActionListener(e -> notificaFinalizarJogo());
 
         JPanel painelBotoes = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 0));
         painelBotoes.add(btnNovoJogo);
+        painelBotoes.add(btnReplay);
         painelBotoes.add(btnFinalizarJogo);
 
         gbc.gridy = 0;
@@ -78,6 +79,13 @@ public class ViewTelaFimJogo extends JPanel {
         }
     }
 
+    public void notificaVerReplay(){
+        limparRecursos();
+        for (NavegadorTelaFimJogoListener listener : new ArrayList<>(listeners)) {
+            listener.verReplay();
+        }
+    }
+
     public void notificaFinalizarJogo(){
         limparRecursos();
         for (NavegadorTelaFimJogoListener listener : new ArrayList<>(listeners)) {
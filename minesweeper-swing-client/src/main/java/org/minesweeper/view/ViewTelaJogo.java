@@ -0,0 +1,185 @@
+package org.minesweeper.view;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.navigator.NavegadorTelaJogoListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+
+public class ViewTelaJogo extends JPanel {
+    private ArrayList<NavegadorTelaJogoListener> listeners = new ArrayList<>();
+    private PainelTabuleiro painelTabuleiro;
+    private JScrollPane scrollTabuleiro;
+    private JToggleButton btnAutoJogo;
+    private JSpinner spnJogadasPorSegundo;
+    private JLabel lblEstatisticas;
+
+    public ViewTelaJogo() {
+        setLayout(new BorderLayout());
+        painelTabuleiro = new PainelTabuleiro(this);
+        painelTabuleiro.setName("painelTabuleiro"); // for FEST-Swing lookup
+        scrollTabuleiro = new JScrollPane(painelTabuleiro);
+        scrollTabuleiro.setName("scrollTabuleiro");
+        add(scrollTabuleiro, BorderLayout.CENTER);
+        add(criaPainelAutoJogo(), BorderLayout.NORTH);
+        criaAtalhos();
+    }
+
+    private void criaAtalhos() {
+        InputMap entradas = getInputMap(WHEN_IN_FOCUSED_WINDOW);
+        entradas.put(KeyStroke.getKeyStroke("ctrl Z"), "desfazer");
+        entradas.put(KeyStroke.getKeyStroke("ctrl Y"), "refazer");
+        getActionMap().put("desfazer", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                notificaDesfazer();
+            }
+        });
+        getActionMap().put("refazer", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                notificaRefazer();
+            }
+        });
+    }
+
+    private JPanel criaPainelAutoJogo() {
+        btnAutoJogo = new JToggleButton("Auto");
+        btnAutoJogo.setName("btnAutoJogo");
+        btnAutoJogo.addActionListener(e -> notificaAutoJogo(
+                btnAutoJogo.isSelected(), (Integer) spnJogadasPorSegundo.getValue()));
+
+        // 0 = o mais rápido possível
+        spnJogadasPorSegundo = new JSpinner(new SpinnerNumberModel(0, 0, 100000, 10));
+        spnJogadasPorSegundo.setName("spnJogadasPorSegundo");
+
+        lblEstatisticas = new JLabel(" ");
+        lblEstatisticas.setName("lblEstatisticas");
+
+        JPanel painel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 2));
+        painel.add(btnAutoJogo);
+        painel.add(new JLabel("Jogadas/s (0 = máximo):"));
+        painel.add(spnJogadasPorSegundo);
+        painel.add(lblEstatisticas);
+        return painel;
+    }
+
+    public void mostraCarregando(int linhas, int colunas){
+        painelTabuleiro.reservaTabuleiro(linhas, colunas);
+        scrollTabuleiro.getViewport().setViewPosition(new Point(0, 0));
+    }
+
+    public void mostraJogo(TabuleiroFront tabuleiroFront){
+        painelTabuleiro.setTabuleiro(tabuleiroFront);
+        scrollTabuleiro.getViewport().setViewPosition(new Point(0, 0));
+    }
+
+    // A janela é do Coordenador e sobrevive entre os jogos; aqui só
+    // voltamos os controles ao estado inicial.
+    public void limparRecursos(){
+        btnAutoJogo.setSelected(false);
+        lblEstatisticas.setText(" ");
+    }
+
+    public void notificaBotaoDireito(Localizacao localizacao){
+        for (NavegadorTelaJogoListener l : new ArrayList<>(listeners)) {
+            l.onBotaoDireito(localizacao);
+        }
+    }
+    
+    public void notificaBotaoEsquerdo(Localizacao localizacao){
+        for (NavegadorTelaJogoListener l : new ArrayList<>(listeners)) {
+            l.onBotaoEsquerdo(localizacao);
+        }
+    }
+
+    // O estado de cada quadrado é lido do TabuleiroFront durante a pintura,
+    // então basta invalidar a área do quadrado alterado.
+    public void mostraQuadradoAberto(Localizacao localizacao){
+        painelTabuleiro.repintaQuadrado(localizacao);
+    }
+
+    public void mostraQuadradoBomba(Localizacao localizacao){
+        painelTabuleiro.repintaQuadrado(localizacao);
+    }
+
+    public void mostraQuadradoMarcado(Localizacao localizacao){
+        painelTabuleiro.repintaQuadrado(localizacao);
+    }
+
+    public void mostraQuadradoDesmarcado(Localizacao localizacao){
+        painelTabuleiro.repintaQuadrado(localizacao);
+    }
+
+    public void mostraTabuleiroAtualizado(){
+        painelTabuleiro.repaint();
+    }
+
+    PainelTabuleiro getPainelTabuleiro(){
+        return painelTabuleiro;
+    }
+
+    public void mostraEstatisticasAutoJogo(double jogadasPorSegundo, double tempoQuadroMs){
+        lblEstatisticas.setText(String.format("%.0f jogadas/s | quadro %.2f ms", jogadasPorSegundo, tempoQuadroMs));
+    }
+
+    public void mostraAutoJogoParado(){
+        btnAutoJogo.setSelected(false);
+    }
+
+    public void notificaAutoJogo(boolean ativo, int jogadasPorSegundo){
+        for (NavegadorTelaJogoListener l : new ArrayList<>(listeners)) {
+            l.onAutoJogo(ativo, jogadasPorSegundo);
+        }
+    }
+
+    public void notificaDesfazer(){
+        for (NavegadorTelaJogoListener l : new ArrayList<>(listeners)) {
+            l.onDesfazer();
+        }
+    }
+
+    public void notificaRefazer(){
+        for (NavegadorTelaJogoListener l : new ArrayList<>(listeners)) {
+            l.onRefazer();
+        }
+    }
+
+    public void mostraErroCriacaoJogo(){
+        SwingUtilities.invokeLater(() -> {
+            JOptionPane.showMessageDialog(
+                    this,
+                    "Problemas na criação do jogo.",
+                    "Erro",
+                    JOptionPane.ERROR_MESSAGE
+            );
+            notificaOkErroCriacaoJogo();
+        });
+    }
+
+    public void mostraErroAutoJogo(){
+        SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(
+                this,
+                "O jogo automático parou por um erro.",
+                "Erro",
+                JOptionPane.ERROR_MESSAGE
+        ));
+    }
+
+    public void notificaOkErroCriacaoJogo(){
+        for (NavegadorTelaJogoListener l : new ArrayList<>(listeners)) {
+            l.confirmouErro();
+        }
+    }
+    public void subscribe(NavegadorTelaJogoListener navegadorTelaJogoListener){
+        if (!listeners.contains(navegadorTelaJogoListener)) {
+            listeners.add(navegadorTelaJogoListener);
+        }
+    }
+    public void unsubscribe(NavegadorTelaJogoListener navegadorTelaJogoListener){
+        listeners.remove(navegadorTelaJogoListener);
+    }
+}
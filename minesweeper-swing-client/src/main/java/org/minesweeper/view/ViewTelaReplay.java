@@ -0,0 +1,136 @@
+package org.minesweeper.view;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.navigator.NavegadorTelaReplayListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+
+public class ViewTelaReplay extends JPanel {
+    private ArrayList<NavegadorTelaReplayListener> listeners = new ArrayList<>();
+    private PainelTabuleiro painelTabuleiro;
+    private JScrollPane scrollTabuleiro;
+    private JToggleButton btnReproduzir;
+    private JSpinner spnVelocidade;
+    private JSlider sldPosicao;
+    private JLabel lblPosicao;
+    // Evita que a atualização do slider pelo código vire uma busca
+    private boolean atualizandoPosicao;
+
+    public ViewTelaReplay() {
+        setLayout(new BorderLayout());
+        painelTabuleiro = new PainelTabuleiro(null);
+        painelTabuleiro.setName("painelTabuleiroReplay");
+        scrollTabuleiro = new JScrollPane(painelTabuleiro);
+        add(scrollTabuleiro, BorderLayout.CENTER);
+        add(criaPainelControles(), BorderLayout.NORTH);
+    }
+
+    private JPanel criaPainelControles() {
+        btnReproduzir = new JToggleButton("Reproduzir");
+        btnReproduzir.setName("btnReproduzir");
+        btnReproduzir.addActionListener(e -> notificaReproduzir(btnReproduzir.isSelected()));
+
+        spnVelocidade = new JSpinner(new SpinnerNumberModel(10, 1, 10000, 5));
+        spnVelocidade.setName("spnVelocidade");
+        spnVelocidade.addChangeListener(e -> notificaVelocidade((Integer) spnVelocidade.getValue()));
+
+        sldPosicao = new JSlider(0, 0, 0);
+        sldPosicao.setName("sldPosicao");
+        sldPosicao.addChangeListener(e -> {
+            if (!atualizandoPosicao) notificaBuscar(sldPosicao.getValue());
+        });
+
+        lblPosicao = new JLabel(" ");
+        lblPosicao.setName("lblPosicao");
+
+        JButton btnVoltar = new JButton("Voltar");
+        btnVoltar.setName("btnVoltar");
+        btnVoltar.addActionListener(e -> notificaVoltar());
+
+        JPanel painel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 2));
+        painel.add(btnVoltar);
+        painel.add(btnReproduzir);
+        painel.add(new JLabel("Jogadas/s:"));
+        painel.add(spnVelocidade);
+        painel.add(sldPosicao);
+        painel.add(lblPosicao);
+        return painel;
+    }
+
+    public void mostraReplay(TabuleiroFront tabuleiroFront, int quantidadeJogadas) {
+        btnReproduzir.setSelected(false);
+        painelTabuleiro.setTabuleiro(tabuleiroFront);
+        scrollTabuleiro.getViewport().setViewPosition(new Point(0, 0));
+        sldPosicao.setMaximum(quantidadeJogadas);
+        mostraPosicao(0, quantidadeJogadas);
+    }
+
+    /**
+     * Troca o tabuleiro exibido, necessário depois de uma busca para trás,
+     * que restaura um keyframe num TabuleiroFront novo.
+     */
+    public void mostraTabuleiro(TabuleiroFront tabuleiroFront) {
+        painelTabuleiro.setTabuleiro(tabuleiroFront);
+    }
+
+    public void mostraQuadradoAlterado(Localizacao localizacao) {
+        painelTabuleiro.repintaQuadrado(localizacao);
+    }
+
+    public void mostraPosicao(int posicao, int quantidadeJogadas) {
+        atualizandoPosicao = true;
+        sldPosicao.setValue(posicao);
+        atualizandoPosicao = false;
+        lblPosicao.setText("Jogada " + posicao + " de " + quantidadeJogadas);
+    }
+
+    public void mostraReproducaoParada() {
+        btnReproduzir.setSelected(false);
+    }
+
+    public int getVelocidade() {
+        return (Integer) spnVelocidade.getValue();
+    }
+
+    public void limparRecursos() {
+        btnReproduzir.setSelected(false);
+        painelTabuleiro.setTabuleiro(null);
+    }
+
+    public void notificaReproduzir(boolean reproduzindo) {
+        for (NavegadorTelaReplayListener l : new ArrayList<>(listeners)) {
+            l.onReproduzir(reproduzindo);
+        }
+    }
+
+    public void notificaVelocidade(int jogadasPorSegundo) {
+        for (NavegadorTelaReplayListener l : new ArrayList<>(listeners)) {
+            l.onVelocidade(jogadasPorSegundo);
+        }
+    }
+
+    public void notificaBuscar(int jogada) {
+        for (NavegadorTelaReplayListener l : new ArrayList<>(listeners)) {
+            l.onBuscar(jogada);
+        }
+    }
+
+    public void notificaVoltar() {
+        for (NavegadorTelaReplayListener l : new ArrayList<>(listeners)) {
+            l.onVoltar();
+        }
+    }
+
+    public void subscribe(NavegadorTelaReplayListener navegadorTelaReplayListener) {
+        if (!listeners.contains(navegadorTelaReplayListener)) {
+            listeners.add(navegadorTelaReplayListener);
+        }
+    }
+
+    public void unsubscribe(NavegadorTelaReplayListener navegadorTelaReplayListener) {
+        listeners.remove(navegadorTelaReplayListener);
+    }
+}
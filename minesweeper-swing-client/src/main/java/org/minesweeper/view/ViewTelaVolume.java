@@ -0,0 +1,150 @@
+package org.minesweeper.view;
+
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.navigator.NavegadorTelaVolumeListener;
+import org.minesweeper.volume.TabuleiroVolumetrico;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+
+/**
+ * Tela do modo volumétrico: uma camada por vez, escolhida no slider ou com
+ * Page Up / Page Down.
+ */
+public class ViewTelaVolume extends JPanel {
+    private ArrayList<NavegadorTelaVolumeListener> listeners = new ArrayList<>();
+    private PainelCamada painelCamada;
+    private JScrollPane scrollCamada;
+    private JSlider sldCamada;
+    private JLabel lblCamada;
+    private JLabel lblSituacao;
+    // Evita que a atualização do slider pelo código vire uma troca de camada
+    private boolean atualizandoCamada;
+
+    public ViewTelaVolume() {
+        setLayout(new BorderLayout());
+        painelCamada = new PainelCamada(this);
+        painelCamada.setName("painelCamada");
+        scrollCamada = new JScrollPane(painelCamada);
+        add(scrollCamada, BorderLayout.CENTER);
+        add(criaPainelControles(), BorderLayout.NORTH);
+        criaAtalhos();
+    }
+
+    private JPanel criaPainelControles() {
+        sldCamada = new JSlider(0, 0, 0);
+        sldCamada.setName("sldCamada");
+        sldCamada.addChangeListener(e -> {
+            if (!atualizandoCamada) notificaCamada(sldCamada.getValue());
+        });
+
+        lblCamada = new JLabel(" ");
+        lblCamada.setName("lblCamada");
+
+        lblSituacao = new JLabel(" ");
+        lblSituacao.setName("lblSituacao");
+
+        JButton btnNovoJogo = new JButton("Novo jogo");
+        btnNovoJogo.setName("btnNovoJogo");
+        btnNovoJogo.addActionListener(e -> notificaNovoJogo());
+
+        JPanel painel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 2));
+        painel.add(btnNovoJogo);
+        painel.add(new JLabel("Camada:"));
+        painel.add(sldCamada);
+        painel.add(lblCamada);
+        painel.add(lblSituacao);
+        return painel;
+    }
+
+    private void criaAtalhos() {
+        InputMap entradas = getInputMap(WHEN_IN_FOCUSED_WINDOW);
+        entradas.put(KeyStroke.getKeyStroke("PAGE_UP"), "camadaAnterior");
+        entradas.put(KeyStroke.getKeyStroke("PAGE_DOWN"), "proximaCamada");
+        getActionMap().put("camadaAnterior", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                sldCamada.setValue(sldCamada.getValue() - 1);
+            }
+        });
+        getActionMap().put("proximaCamada", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                sldCamada.setValue(sldCamada.getValue() + 1);
+            }
+        });
+    }
+
+    public void mostraJogo(TabuleiroVolumetrico tabuleiro) {
+        painelCamada.setTabuleiro(tabuleiro);
+        scrollCamada.getViewport().setViewPosition(new Point(0, 0));
+        sldCamada.setMaximum(tabuleiro.getCamada_size() - 1);
+        mostraCamada(0);
+        lblSituacao.setText(" ");
+    }
+
+    public void mostraCamada(int camada) {
+        atualizandoCamada = true;
+        sldCamada.setValue(camada);
+        atualizandoCamada = false;
+        painelCamada.setCamada(camada);
+        lblCamada.setText((camada + 1) + " de " + (sldCamada.getMaximum() + 1));
+    }
+
+    /**
+     * Uma abertura pode mudar quadrados de muitas camadas, mas só a exibida
+     * está na tela; ela é repintada inteira.
+     */
+    public void mostraAlteracao() {
+        painelCamada.repaint();
+    }
+
+    public void mostraFimJogo(boolean ganhou) {
+        lblSituacao.setText(ganhou ? "Você ganhou!" : "Você perdeu.");
+    }
+
+    public void limparRecursos() {
+        painelCamada.setTabuleiro(null);
+        lblSituacao.setText(" ");
+    }
+
+    PainelCamada getPainelCamada() {
+        return painelCamada;
+    }
+
+    public void notificaBotaoDireito(Localizacao localizacao) {
+        for (NavegadorTelaVolumeListener l : new ArrayList<>(listeners)) {
+            l.onBotaoDireito(localizacao);
+        }
+    }
+
+    public void notificaBotaoEsquerdo(Localizacao localizacao) {
+        for (NavegadorTelaVolumeListener l : new ArrayList<>(listeners)) {
+            l.onBotaoEsquerdo(localizacao);
+        }
+    }
+
+    public void notificaCamada(int camada) {
+        for (NavegadorTelaVolumeListener l : new ArrayList<>(listeners)) {
+            l.onCamada(camada);
+        }
+    }
+
+    public void notificaNovoJogo() {
+        for (NavegadorTelaVolumeListener l : new ArrayList<>(listeners)) {
+            l.onNovoJogo();
+        }
+    }
+
+    public void subscribe(NavegadorTelaVolumeListener navegadorTelaVolumeListener) {
+        if (!listeners.contains(navegadorTelaVolumeListener)) {
+            listeners.add(navegadorTelaVolumeListener);
+        }
+    }
+
+    public void unsubscribe(NavegadorTelaVolumeListener navegadorTelaVolumeListener) {
+        listeners.remove(navegadorTelaVolumeListener);
+    }
+}
@@ -0,0 +1,112 @@
+package org.minesweeper.navigator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.solver.Jogada;
+import org.minesweeper.solver.Resolvedor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoJogadorTest {
+
+    @Mock
+    private NavegadorTelaJogo mockNavegador;
+    @Mock
+    private Resolvedor mockResolvedor;
+
+    private AutoJogador autoJogador;
+
+    @AfterEach
+    void tearDown() {
+        if (autoJogador != null) autoJogador.parar();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as jogadas do resolvedor pelo navegador e avisar quando acabar")
+    void aplicaJogadasETermina() {
+        TabuleiroFront tabuleiro = new TabuleiroFront(2, 2, 1);
+        Localizacao locAbrir = new Localizacao(0, 0);
+        Localizacao locMarcar = new Localizacao(1, 1);
+
+        when(mockNavegador.getTabuleiro()).thenReturn(tabuleiro);
+        when(mockNavegador.isJogoAtivo()).thenReturn(true);
+        when(mockResolvedor.proximasJogadas(any(TabuleiroFront.class)))
+                .thenReturn(new ArrayList<>(List.of(
+                        new Jogada(Jogada.Tipo.ABRIR, locAbrir, false),
+                        new Jogada(Jogada.Tipo.MARCAR, locMarcar, false))))
+                .thenReturn(new ArrayList<>());
+
+        autoJogador = new AutoJogador(mockNavegador, mockResolvedor, 0);
+        autoJogador.iniciar();
+
+        verify(mockNavegador, timeout(2000)).autoJogoTerminou();
+        verify(mockNavegador).abre(locAbrir);
+        verify(mockNavegador).marca(locMarcar);
+        assertFalse(autoJogador.isAtivo());
+    }
+
+    @Test
+    @DisplayName("O resolvedor deve receber uma cópia do tabuleiro, não a projeção que a EDT escreve")
+    void resolveSobreCopia() {
+        TabuleiroFront tabuleiro = new TabuleiroFront(2, 2, 1);
+        tabuleiro.setVersao(3);
+
+        when(mockNavegador.getTabuleiro()).thenReturn(tabuleiro);
+        when(mockResolvedor.proximasJogadas(any(TabuleiroFront.class))).thenReturn(new ArrayList<>());
+
+        autoJogador = new AutoJogador(mockNavegador, mockResolvedor, 0);
+        autoJogador.iniciar();
+
+        verify(mockNavegador, timeout(2000)).autoJogoTerminou();
+        verify(mockResolvedor).proximasJogadas(argThat(foto -> foto != tabuleiro && foto.getVersao() == 3));
+    }
+
+    @Test
+    @DisplayName("Não deve aplicar jogadas depois que o jogo terminou")
+    void jogoInativo_naoAplicaJogadas() {
+        TabuleiroFront tabuleiro = new TabuleiroFront(2, 2, 1);
+
+        when(mockNavegador.getTabuleiro()).thenReturn(tabuleiro);
+        when(mockNavegador.isJogoAtivo()).thenReturn(false);
+        when(mockResolvedor.proximasJogadas(any(TabuleiroFront.class)))
+                .thenReturn(new ArrayList<>(List.of(new Jogada(Jogada.Tipo.ABRIR, new Localizacao(0, 0), true))))
+                .thenReturn(new ArrayList<>());
+
+        autoJogador = new AutoJogador(mockNavegador, mockResolvedor, 0);
+        autoJogador.iniciar();
+
+        verify(mockNavegador, timeout(2000)).autoJogoTerminou();
+        verify(mockNavegador, never()).abre(any(Localizacao.class));
+    }
+
+    @Test
+    @DisplayName("Se uma jogada falhar na EDT, deve parar e avisar a falha")
+    void jogadaFalha_paraEAvisa() {
+        TabuleiroFront tabuleiro = new TabuleiroFront(2, 2, 1);
+        Localizacao loc = new Localizacao(0, 0);
+
+        when(mockNavegador.getTabuleiro()).thenReturn(tabuleiro);
+        when(mockNavegador.isJogoAtivo()).thenReturn(true);
+        when(mockResolvedor.proximasJogadas(any(TabuleiroFront.class)))
+                .thenReturn(new ArrayList<>(List.of(new Jogada(Jogada.Tipo.ABRIR, loc, false))));
+        doThrow(new IllegalStateException("teste")).when(mockNavegador).abre(loc);
+
+        autoJogador = new AutoJogador(mockNavegador, mockResolvedor, 0);
+        autoJogador.iniciar();
+
+        verify(mockNavegador, timeout(2000)).autoJogoFalhou();
+        verify(mockNavegador, never()).autoJogoTerminou();
+        assertFalse(autoJogador.isAtivo());
+    }
+}
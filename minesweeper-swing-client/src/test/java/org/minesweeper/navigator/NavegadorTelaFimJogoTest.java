@@ -38,10 +38,9 @@ class NavegadorTelaFimJogoTest {
         @DisplayName("Caso boolean seja true, deve mostrar a tela de vitória")
         void iniciar_comTrue_mostraTelaDeVitoria() {
             // Arrange
-            NavegadorTelaFimJogo navegador = new NavegadorTelaFimJogo();
-
             // Intercepta a criação de QUALQUER 'new ViewTelaFimJogo()' dentro deste bloco try
             try (MockedConstruction<ViewTelaFimJogo> mockedViewConstruction = Mockito.mockConstruction(ViewTelaFimJogo.class)) {
+                NavegadorTelaFimJogo navegador = new NavegadorTelaFimJogo();
 
                 // Act
                 navegador.iniciar(mockFrame, true); // Passa 'true' para ganhou
@@ -51,7 +50,7 @@ class NavegadorTelaFimJogoTest {
                 ViewTelaFimJogo mockView = mockedViewConstruction.constructed().get(0);
 
                 verify(mockView).subscribe(navegador);
-                verify(mockFrame).add(mockView);
+                verify(mockFrame).add(mockView, NavegadorTelaFimJogo.CARTAO);
                 verify(mockView).mostraTelaGanhouJogo(); // Verifica se o caminho de vitória foi chamado
                 verify(mockView, never()).mostraTelaPerdeuJogo(); // Garante que o de derrota NÃO foi
             }
@@ -61,8 +60,8 @@ class NavegadorTelaFimJogoTest {
         @DisplayName("Caso boolean seja false, deve mostrar a tela de derrota")
         void iniciar_comFalse_mostraTelaDeDerrota() {
             // Arrange
-            NavegadorTelaFimJogo navegador = new NavegadorTelaFimJogo();
             try (MockedConstruction<ViewTelaFimJogo> mockedViewConstruction = Mockito.mockConstruction(ViewTelaFimJogo.class)) {
+                NavegadorTelaFimJogo navegador = new NavegadorTelaFimJogo();
 
                 // Act
                 navegador.iniciar(mockFrame, false); // Passa 'false' para ganhou
@@ -71,7 +70,7 @@ class NavegadorTelaFimJogoTest {
                 ViewTelaFimJogo mockView = mockedViewConstruction.constructed().get(0);
 
                 verify(mockView).subscribe(navegador);
-                verify(mockFrame).add(mockView);
+                verify(mockFrame).add(mockView, NavegadorTelaFimJogo.CARTAO);
                 verify(mockView).mostraTelaPerdeuJogo(); // Verifica se o caminho de derrota foi chamado
                 verify(mockView, never()).mostraTelaGanhouJogo(); // Garante que o de vitória NÃO foi
             }
@@ -106,7 +105,7 @@ class NavegadorTelaFimJogoTest {
             // Verifica os efeitos do método privado 'destruir'
             verify(mockView).unsubscribe(navegador);
             verify(mockView).limparRecursos();
-            verify(mockFrame).remove(mockView);
+            verify(mockFrame, never()).remove(mockView);
 
             // Verifica a notificação ao listener "pai"
             verify(mockCoordenadorListener).reiniciaJogo();
@@ -124,7 +123,7 @@ class NavegadorTelaFimJogoTest {
             // Assert
             verify(mockView).unsubscribe(navegador);
             verify(mockView).limparRecursos();
-            verify(mockFrame).remove(mockView);
+            verify(mockFrame, never()).remove(mockView);
 
             verify(mockCoordenadorListener).encerraAplicacao();
         }
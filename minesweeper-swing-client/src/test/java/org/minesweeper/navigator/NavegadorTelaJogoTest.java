@@ -0,0 +1,648 @@
+package org.minesweeper.navigator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.minesweeper.autosave.PontoRecuperacao;
+import org.minesweeper.coordinator.CoordenadorListener;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.minesweeper.controller.ControllerTabuleiro;
+import org.minesweeper.model.DeltaTabuleiro;
+import org.minesweeper.model.EstadoTabuleiro;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.Quadrado;
+import org.minesweeper.model.Tabuleiro;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.replay.GravacaoJogo;
+import org.minesweeper.view.ViewTelaJogo;
+
+import javax.swing.*;
+import java.awt.Component;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NavegadorTelaJogoTest {
+
+    @Mock
+    private JFrame mockFrame;
+    @Mock
+    private ViewTelaJogo mockView;
+    @Mock
+    private ControllerTabuleiro mockController;
+    @Mock
+    private CoordenadorListener mockCoordenadorListener;
+
+    // A instância a ser testada. Será criada e configurada no setUp.
+    private NavegadorTelaJogo navegador;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Como o construtor é vazio, instanciamos o navegador...
+        navegador = new NavegadorTelaJogo();
+
+        // ...e então usamos REFLEXÃO para injetar nossas dependências mockadas.
+        // Isso nos dá controle total sobre a classe em teste.
+        setField(navegador, "view", mockView);
+        setField(navegador, "controller", mockController);
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    // Controller de verdade sobre um tabuleiro montado à mão, para que as
+    // jogadas cheguem ao navegador pelos deltas do tabuleiro
+    private ControllerTabuleiro montaControllerComBombas(int linhas, int colunas, Localizacao... bombas) throws Exception {
+        Tabuleiro tabuleiro = Tabuleiro.novoTabuleiro();
+        tabuleiro.inicializaTabuleiroVazio(linhas, colunas);
+        for (Localizacao localizacao : bombas) {
+            Quadrado bomba = new Quadrado(localizacao);
+            bomba.setBomba(true);
+            tabuleiro.adicionaQuadrado(bomba);
+        }
+        return new ControllerTabuleiro(tabuleiro);
+    }
+
+    // Tabuleiro 5x5 com a linha do meio toda de bombas
+    private ControllerTabuleiro montaControllerLinhaDeBombas() throws Exception {
+        Localizacao[] bombas = new Localizacao[5];
+        for (int j = 0; j < bombas.length; ++j)
+            bombas[j] = new Localizacao(2, j);
+        return montaControllerComBombas(5, 5, bombas);
+    }
+
+    // Injeta o controller e um TabuleiroFront na versão atual do tabuleiro
+    private TabuleiroFront usaController(ControllerTabuleiro controller) throws Exception {
+        DeltaTabuleiro inicial = controller.alteracoesDesde(0);
+        TabuleiroFront tabuleiroFront = new TabuleiroFront(inicial.getLinha_size(), inicial.getColuna_size());
+        tabuleiroFront.aplica(inicial);
+        setField(navegador, "controller", controller);
+        setField(navegador, "tabuleiro", tabuleiroFront);
+        return tabuleiroFront;
+    }
+
+    private TabuleiroFront montaJogo(int linhas, int colunas, Localizacao... bombas) throws Exception {
+        return usaController(montaControllerComBombas(linhas, colunas, bombas));
+    }
+
+    @Nested
+    @DisplayName("Testes para iniciar()")
+    class IniciarTests {
+        @Test
+        @DisplayName("Garante que a view é configurada corretamente antes de criar o jogo")
+        void iniciar_deveConfigurarView() {
+            // Act
+            navegador.iniciar(mockFrame);
+
+            // Assert
+            verify(mockView).subscribe(navegador);
+            verify(mockFrame).add(mockView, NavegadorTelaJogo.CARTAO);
+        }
+
+        @Test
+        @DisplayName("Num reinício, a view já presente no container não deve ser adicionada de novo")
+        void iniciar_viewJaAdicionada_reaproveita() {
+            // Arrange
+            when(mockView.getParent()).thenReturn(mockFrame);
+
+            // Act
+            navegador.iniciar(mockFrame);
+
+            // Assert
+            verify(mockFrame, never()).add(any(Component.class), any(Object.class));
+            verify(mockController).iniciarNovoJogo(anyInt(), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para a lógica de criaJogo() (verificada através de iniciar)")
+    class CriaJogoLogicTests {
+        @Test
+        @DisplayName("Garante que controller.iniciarNovoJogo() é chamado")
+        void criaJogo_deveChamarController() {
+            // Act: Chamamos o método público que aciona a lógica de criaJogo()
+            navegador.iniciar(mockFrame);
+
+            // Assert
+            verify(mockController).iniciarNovoJogo(anyInt(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Caso controller retorne null, a view deve mostrar erro")
+        void criaJogo_quandoControllerFalha_mostraErro() {
+            // Arrange
+            when(mockController.iniciarNovoJogo(anyInt(), anyInt(), anyInt())).thenReturn(null);
+
+            // Act: Chamamos o método público
+            navegador.iniciar(mockFrame);
+
+            // Assert
+            verify(mockView).mostraErroCriacaoJogo();
+            verify(mockView, never()).mostraJogo(any(TabuleiroFront.class));
+        }
+
+        @Test
+        @DisplayName("Caso controller retorne TabuleiroFront, a view deve mostrar o jogo")
+        void criaJogo_quandoControllerFunciona_mostraJogo() {
+            // Arrange
+            TabuleiroFront tabuleiroFrontValido = new TabuleiroFront(15, 20);
+            when(mockController.iniciarNovoJogo(anyInt(), anyInt(), anyInt())).thenReturn(tabuleiroFrontValido);
+
+            // Act: Chamamos o método público
+            navegador.iniciar(mockFrame);
+
+            // Assert
+            verify(mockView).mostraJogo(tabuleiroFrontValido);
+            verify(mockView, never()).mostraErroCriacaoJogo();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para retomar()")
+    class RetomarTests {
+        @Test
+        @DisplayName("Deve restaurar o estado gravado, com a gravação do ponto, e mostrar o tabuleiro restaurado")
+        void retomar_restauraEMostra() {
+            EstadoTabuleiro estado = new EstadoTabuleiro(2, 2, new byte[4]);
+            GravacaoJogo gravacao = new GravacaoJogo(2, 2, 1, 7L);
+            TabuleiroFront restaurado = new TabuleiroFront(2, 2);
+            when(mockController.restaurarEstado(estado, gravacao)).thenReturn(restaurado);
+
+            navegador.retomar(new PontoRecuperacao(estado, gravacao, 1_000));
+
+            verify(mockView).mostraJogo(restaurado);
+            assertSame(restaurado, navegador.getTabuleiro());
+        }
+
+        @Test
+        @DisplayName("Se a restauração falhar, a view deve mostrar erro")
+        void retomar_falha_mostraErro() {
+            EstadoTabuleiro estado = new EstadoTabuleiro(2, 2, new byte[4]);
+            when(mockController.restaurarEstado(estado, null)).thenReturn(null);
+
+            navegador.retomar(new PontoRecuperacao(estado, null, 0));
+
+            verify(mockView).mostraErroCriacaoJogo();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para iniciar() com o tabuleiro gerado em segundo plano")
+    class IniciarEmSegundoPlanoTests {
+        // O tabuleiro chega à view por invokeLater; espera a EDT processá-lo
+        private void esperaEdt() throws Exception {
+            SwingUtilities.invokeAndWait(() -> { });
+        }
+
+        @Test
+        @DisplayName("Deve mostrar a grade vazia e não chamar o controller na thread atual")
+        void iniciar_mostraCarregandoSemCriarJogo() {
+            navegador.iniciar(mockFrame, new CompletableFuture<>());
+
+            verify(mockView).subscribe(navegador);
+            verify(mockView).mostraCarregando(NavegadorTelaJogo.LINHAS, NavegadorTelaJogo.COLUNAS);
+            verify(mockView, never()).mostraJogo(any(TabuleiroFront.class));
+            verifyNoInteractions(mockController);
+        }
+
+        @Test
+        @DisplayName("Quando o tabuleiro fica pronto, a view deve mostrar o jogo")
+        void iniciar_tabuleiroPronto_mostraJogo() throws Exception {
+            CompletableFuture<TabuleiroFront> pronto = new CompletableFuture<>();
+            TabuleiroFront tabuleiroFront = new TabuleiroFront(20, 20);
+
+            navegador.iniciar(mockFrame, pronto);
+            pronto.complete(tabuleiroFront);
+            esperaEdt();
+
+            verify(mockView).mostraJogo(tabuleiroFront);
+            assertSame(tabuleiroFront, navegador.getTabuleiro());
+        }
+
+        @Test
+        @DisplayName("Se a geração falhar, a view deve mostrar erro")
+        void iniciar_geracaoFalha_mostraErro() throws Exception {
+            CompletableFuture<TabuleiroFront> pronto = new CompletableFuture<>();
+
+            navegador.iniciar(mockFrame, pronto);
+            pronto.completeExceptionally(new IllegalStateException("teste"));
+            esperaEdt();
+
+            verify(mockView).mostraErroCriacaoJogo();
+            verify(mockView, never()).mostraJogo(any(TabuleiroFront.class));
+        }
+
+        @Test
+        @DisplayName("Se o controller não criar o jogo, a view deve mostrar erro")
+        void iniciar_tabuleiroNulo_mostraErro() throws Exception {
+            navegador.iniciar(mockFrame, CompletableFuture.completedFuture(null));
+            esperaEdt();
+
+            verify(mockView).mostraErroCriacaoJogo();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para confirmouErro()")
+    class ConfirmouErroTests {
+        @Test
+        @DisplayName("Garante que os recursos da view são limpos e os listeners são notificados")
+        void confirmouErro_chamaDestruirENotificaListeners() {
+            // Start
+            navegador.iniciar(mockFrame);
+
+            // Arrange
+            navegador.subscribe(mockCoordenadorListener);
+
+            // Act
+            navegador.confirmouErro();
+
+            // Assert: Verificamos os efeitos públicos do método privado destruir()
+            verify(mockView).unsubscribe(navegador);
+            verify(mockView).limparRecursos();
+            // A janela é reaproveitada: a view continua no container de cartões
+            verify(mockFrame, never()).remove(mockView);
+
+            // Verificamos a notificação ao listener
+            verify(mockCoordenadorListener).encerraAplicacaoErroNaoCriouJogo();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para onBotaoDireito(Localizacao)")
+    class OnBotaoDireitoTests {
+
+        // O @BeforeEach da classe principal já cria o 'navegador' e injeta os mocks via reflexão.
+
+        @Test
+        @DisplayName("Garante que controller.clicarBotaoDireito é sempre chamado")
+        void onBotaoDireito_sempreChamaController() {
+            Localizacao loc = new Localizacao(1, 1);
+            // Act
+            navegador.onBotaoDireito(loc);
+            // Assert
+            verify(mockController).clicarBotaoDireito(loc);
+        }
+
+        @Test
+        @DisplayName("Caso controller retorne null, garante que nada aconteça na view")
+        void onBotaoDireito_comRetornoNull_naoFazNadaNaView() {
+            // Arrange
+            Localizacao loc = new Localizacao(1, 1);
+            when(mockController.clicarBotaoDireito(loc)).thenReturn(null);
+
+            // Act
+            navegador.onBotaoDireito(loc);
+
+            // Assert
+            // Garante que nenhum método de atualização da view foi chamado
+            verify(mockView, never()).mostraQuadradoMarcado(any(Localizacao.class));
+            verify(mockView, never()).mostraQuadradoDesmarcado(any(Localizacao.class));
+        }
+
+        @Test
+        @DisplayName("Marcar um quadrado deve atualizar o TabuleiroFront e chamar view.mostraQuadradoMarcado")
+        void onBotaoDireito_marca_chamaViewCorreta() throws Exception {
+            // Arrange
+            TabuleiroFront tabuleiroFront = montaJogo(5, 5, new Localizacao(0, 0));
+            Localizacao loc = new Localizacao(2, 2);
+
+            // Act
+            navegador.onBotaoDireito(loc);
+
+            // Assert
+            assertTrue(tabuleiroFront.isMarcado(loc));
+            verify(mockView).mostraQuadradoMarcado(loc);
+            verify(mockView, never()).mostraQuadradoDesmarcado(any(Localizacao.class));
+        }
+
+        @Test
+        @DisplayName("Desmarcar um quadrado deve atualizar o TabuleiroFront e chamar view.mostraQuadradoDesmarcado")
+        void onBotaoDireito_desmarca_chamaViewCorreta() throws Exception {
+            // Arrange
+            TabuleiroFront tabuleiroFront = montaJogo(5, 5, new Localizacao(0, 0));
+            Localizacao loc = new Localizacao(3, 3);
+            navegador.onBotaoDireito(loc);
+
+            // Act
+            navegador.onBotaoDireito(loc);
+
+            // Assert
+            assertFalse(tabuleiroFront.isMarcado(loc));
+            verify(mockView).mostraQuadradoDesmarcado(loc);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para onBotaoEsquerdo(Localizacao)")
+    class OnBotaoEsquerdoTests {
+
+        @Test
+        @DisplayName("Garante que controller.clicarBotaoEsquerdo é sempre chamado")
+        void onBotaoEsquerdo_sempreChamaController() {
+            Localizacao loc = new Localizacao(1, 1);
+            // Act
+            navegador.onBotaoEsquerdo(loc);
+            // Assert
+            verify(mockController).clicarBotaoEsquerdo(loc);
+        }
+
+        @Test
+        @DisplayName("Caso controller retorne null, garante que nada é feito na view")
+        void onBotaoEsquerdo_comRetornoNull_naoFazNadaNaView() {
+            // Arrange
+            Localizacao loc = new Localizacao(1, 1);
+            when(mockController.clicarBotaoEsquerdo(loc)).thenReturn(null);
+
+            // Act
+            navegador.onBotaoEsquerdo(loc);
+
+            // Assert
+            verifyNoInteractions(mockView); // Verifica que nenhuma interação ocorreu com a view
+        }
+
+        @Test
+        @DisplayName("Caso abra uma bomba, mostra a bomba, destrói e notifica derrota")
+        void onBotaoEsquerdo_comBomba_executaFluxoDeDerrota() throws Exception {
+            // Arrange
+            Localizacao locBomba = new Localizacao(2, 2);
+            montaJogo(5, 5, locBomba);
+            navegador.subscribe(mockCoordenadorListener);
+
+            // Act
+            navegador.onBotaoEsquerdo(locBomba);
+
+            // Assert
+            verify(mockView).mostraQuadradoBomba(locBomba);
+            // Verifica os efeitos do método privado destruir()
+            verify(mockView).limparRecursos();
+            verify(mockView).unsubscribe(navegador);
+            // Verifica a notificação de fim de jogo
+            verify(mockCoordenadorListener).fimJogo(false);
+        }
+
+        @Test
+        @DisplayName("Caso abra quadrados seguros sem vitória, apenas os abre no TabuleiroFront e na view")
+        void onBotaoEsquerdo_comQuadradosSegurosSemVitoria_apenasAbreQuadrados() throws Exception {
+            // Arrange: a linha de bombas segura a cascata nas duas linhas de baixo
+            ControllerTabuleiro controller = spy(montaControllerLinhaDeBombas());
+            TabuleiroFront tabuleiroFront = usaController(controller);
+            navegador.subscribe(mockCoordenadorListener);
+
+            // Act
+            navegador.onBotaoEsquerdo(new Localizacao(4, 4));
+
+            // Assert
+            // Verifica que o TabuleiroFront e a view foram atualizados para cada quadrado
+            assertTrue(tabuleiroFront.isAberto(new Localizacao(3, 0)));
+            assertEquals(2, tabuleiroFront.getVizinhosPerigosos(new Localizacao(3, 0)));
+            assertFalse(tabuleiroFront.isAberto(new Localizacao(1, 0)));
+            verify(mockView).mostraQuadradoAberto(new Localizacao(4, 4));
+            verify(mockView).mostraQuadradoAberto(new Localizacao(3, 0));
+            verify(mockView, never()).mostraQuadradoAberto(new Localizacao(1, 0));
+            // Garante que o estado de vitória foi verificado
+            verify(controller).ganhou();
+            // Garante que o fluxo de fim de jogo NÃO foi acionado
+            verify(mockCoordenadorListener, never()).fimJogo(anyBoolean());
+            verify(mockView, never()).limparRecursos();
+        }
+
+        @Test
+        @DisplayName("Caso abra todos os quadrados seguros, abre, destrói e notifica vitória")
+        void onBotaoEsquerdo_comQuadradosSegurosComVitoria_executaFluxoDeVitoria() throws Exception {
+            // Arrange: com bombas só nos cantos de cima, a cascata abre o resto
+            montaJogo(5, 5, new Localizacao(0, 0), new Localizacao(0, 4));
+            navegador.subscribe(mockCoordenadorListener);
+            Localizacao locClick = new Localizacao(4, 2);
+
+            // Act
+            navegador.onBotaoEsquerdo(locClick);
+
+            // Assert
+            verify(mockView).mostraQuadradoAberto(locClick);
+            verify(mockView).mostraQuadradoAberto(new Localizacao(0, 1));
+            // Verifica os efeitos do método privado destruir()
+            verify(mockView).limparRecursos();
+            verify(mockView).unsubscribe(navegador);
+            // Verifica a notificação de fim de jogo
+            verify(mockCoordenadorListener).fimJogo(true);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para onDesfazer() e onRefazer()")
+    class OnDesfazerRefazerTests {
+        @Test
+        @DisplayName("Desfazer deve fechar no TabuleiroFront e repintar cada quadrado fechado")
+        void onDesfazer_atualizaTabuleiroFrontERepinta() throws Exception {
+            // Arrange
+            TabuleiroFront tabuleiroFront = usaController(montaControllerLinhaDeBombas());
+            Localizacao loc1 = new Localizacao(4, 4);
+            Localizacao loc2 = new Localizacao(3, 0);
+            navegador.onBotaoEsquerdo(loc1);
+            assertTrue(tabuleiroFront.isAberto(loc2));
+
+            // Act
+            navegador.onDesfazer();
+
+            // Assert
+            assertFalse(tabuleiroFront.isAberto(loc1));
+            assertFalse(tabuleiroFront.isAberto(loc2));
+            verify(mockView).mostraQuadradoDesmarcado(loc1);
+            verify(mockView).mostraQuadradoDesmarcado(loc2);
+        }
+
+        @Test
+        @DisplayName("Sem nada a desfazer, a view não deve ser tocada")
+        void onDesfazer_semJogadas_naoFazNadaNaView() throws Exception {
+            // Arrange
+            montaJogo(5, 5, new Localizacao(0, 0));
+
+            // Act
+            navegador.onDesfazer();
+
+            // Assert
+            verifyNoInteractions(mockView);
+        }
+
+        @Test
+        @DisplayName("Sem jogo criado, desfazer e refazer não devem chamar o controller")
+        void onDesfazerRefazer_semTabuleiro_naoFazNada() {
+            // Act
+            navegador.onDesfazer();
+            navegador.onRefazer();
+
+            // Assert
+            verifyNoInteractions(mockController);
+            verifyNoInteractions(mockView);
+        }
+
+        @Test
+        @DisplayName("Refazer uma abertura que ganha o jogo deve seguir o fluxo de vitória")
+        void onRefazer_aberturaVencedora_executaFluxoDeVitoria() throws Exception {
+            // Arrange
+            ControllerTabuleiro controller = montaControllerComBombas(5, 5, new Localizacao(0, 0), new Localizacao(0, 4));
+            TabuleiroFront tabuleiroFront = usaController(controller);
+            navegador.subscribe(mockCoordenadorListener);
+            Localizacao loc = new Localizacao(2, 3);
+            controller.clicarBotaoEsquerdo(loc);
+            controller.desfazer();
+
+            // Act
+            navegador.onRefazer();
+
+            // Assert: o delta traz a abertura e o fechamento anteriores, então
+            // o quadrado pode ser repintado mais de uma vez
+            assertTrue(tabuleiroFront.isAberto(loc));
+            verify(mockView, atLeastOnce()).mostraQuadradoAberto(loc);
+            verify(mockCoordenadorListener).fimJogo(true);
+        }
+
+        @Test
+        @DisplayName("Refazer uma marcação deve mostrar o quadrado marcado")
+        void onRefazer_marcacao_mostraMarcado() throws Exception {
+            // Arrange
+            ControllerTabuleiro controller = spy(montaControllerComBombas(5, 5, new Localizacao(0, 0)));
+            TabuleiroFront tabuleiroFront = usaController(controller);
+            Localizacao loc = new Localizacao(0, 4);
+            controller.clicarBotaoDireito(loc);
+            controller.desfazer();
+
+            // Act
+            navegador.onRefazer();
+
+            // Assert
+            assertTrue(tabuleiroFront.isMarcado(loc));
+            verify(mockView, atLeastOnce()).mostraQuadradoMarcado(loc);
+            verify(controller, never()).ganhou();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para onAutoJogo(boolean, int)")
+    class OnAutoJogoTests {
+        @Test
+        @DisplayName("Sem jogo criado, não deve iniciar o modo automático")
+        void onAutoJogo_semTabuleiro_naoFazNada() {
+            // Act
+            navegador.onAutoJogo(true, 0);
+
+            // Assert
+            verifyNoInteractions(mockController);
+            verifyNoInteractions(mockView);
+        }
+
+        @Test
+        @DisplayName("Durante o jogo automático, os cliques do jogador devem ser ignorados, mas não os do AutoJogador")
+        void duranteAutoJogo_ignoraCliquesDoJogador() throws Exception {
+            // Arrange
+            setField(navegador, "tabuleiro", new TabuleiroFront(5, 5));
+            setField(navegador, "autoJogador", mock(AutoJogador.class));
+            Localizacao loc = new Localizacao(1, 1);
+
+            // Act
+            navegador.onBotaoEsquerdo(loc);
+            navegador.onBotaoDireito(loc);
+
+            // Assert
+            verifyNoInteractions(mockController);
+
+            // Act
+            navegador.abre(loc);
+            navegador.marca(loc);
+
+            // Assert
+            verify(mockController).clicarBotaoEsquerdo(loc);
+            verify(mockController).clicarBotaoDireito(loc);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para subscribe() e unsubscribe()")
+    class SubscribeUnsubscribeTests {
+
+        // O @BeforeEach da classe principal já cria a instância 'navegador'
+        // e os mocks necessários.
+
+        /**
+         * Método auxiliar que usa Reflexão para obter a lista privada de listeners
+         * de dentro da instância do navegador.
+         */
+        @SuppressWarnings("unchecked")
+        private List<CoordenadorListener> getListenersInternos() throws Exception {
+            Field listenersField = NavegadorTelaJogo.class.getDeclaredField("listeners");
+            listenersField.setAccessible(true);
+            return (List<CoordenadorListener>) listenersField.get(navegador);
+        }
+
+        @Test
+        @DisplayName("subscribe: Deve adicionar um listener que não está na lista")
+        void subscribe_deveAdicionarListenerSeNaoExistir() throws Exception {
+            // Arrange: Garante que a lista de listeners começa vazia
+            List<CoordenadorListener> listeners = getListenersInternos();
+            assertTrue(listeners.isEmpty(), "A lista de listeners deveria começar vazia.");
+
+            // Act: Inscreve o listener
+            navegador.subscribe(mockCoordenadorListener);
+
+            // Assert: A lista agora deve conter 1 listener
+            assertEquals(1, listeners.size(), "A lista deveria conter um listener após a inscrição.");
+            assertSame(mockCoordenadorListener, listeners.get(0), "O listener adicionado deve ser o mock.");
+        }
+
+        @Test
+        @DisplayName("subscribe: Não deve adicionar um listener que já está na lista")
+        void subscribe_naoDeveAdicionarListenerSeJaExistir() throws Exception {
+            // Arrange: Inscreve o listener uma vez
+            navegador.subscribe(mockCoordenadorListener);
+            List<CoordenadorListener> listeners = getListenersInternos();
+            assertEquals(1, listeners.size(), "Pré-condição: A lista deveria conter um listener.");
+
+            // Act: Tenta inscrever o mesmo listener novamente
+            navegador.subscribe(mockCoordenadorListener);
+
+            // Assert: O tamanho da lista não deve mudar
+            assertEquals(1, listeners.size(), "A lista não deveria permitir listeners duplicados.");
+        }
+
+        @Test
+        @DisplayName("unsubscribe: Deve remover um listener que está na lista")
+        void unsubscribe_deveRemoverListenerSeExistir() throws Exception {
+            // Arrange: Inscreve o listener para garantir que ele existe na lista
+            navegador.subscribe(mockCoordenadorListener);
+            List<CoordenadorListener> listeners = getListenersInternos();
+            assertFalse(listeners.isEmpty(), "Pré-condição: A lista não deveria estar vazia.");
+
+            // Act: Remove a inscrição do listener
+            navegador.unsubscribe(mockCoordenadorListener);
+
+            // Assert: A lista agora deve estar vazia
+            assertTrue(listeners.isEmpty(), "A lista deveria estar vazia após remover o listener.");
+        }
+
+        @Test
+        @DisplayName("unsubscribe: Não deve fazer nada (nem lançar erro) se o listener não estiver na lista")
+        void unsubscribe_naoDeveFazerNadaSeListenerNaoExistir() throws Exception {
+            // Arrange: A lista de listeners está vazia
+            List<CoordenadorListener> listeners = getListenersInternos();
+            assertTrue(listeners.isEmpty());
+
+            // Act & Assert: Tentar remover um listener inexistente não deve lançar uma exceção
+            assertDoesNotThrow(() -> navegador.unsubscribe(mockCoordenadorListener));
+
+            // Garante que a lista permaneceu vazia
+            assertTrue(listeners.isEmpty());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package org.minesweeper.navigator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.minesweeper.coordinator.CoordenadorListener;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.replay.GravacaoJogo;
+import org.minesweeper.solver.Jogada;
+import org.minesweeper.view.ViewTelaReplay;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.swing.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NavegadorTelaReplayTest {
+
+    @Mock
+    private JFrame mockFrame;
+    @Mock
+    private CoordenadorListener mockCoordenadorListener;
+
+    private static GravacaoJogo gravacao(int jogadas) {
+        GravacaoJogo gravacao = new GravacaoJogo(5, 5, 3, 1L);
+        for (int i = 0; i < jogadas; ++i) {
+            gravacao.adiciona(Jogada.Tipo.MARCAR, new Localizacao(i % 5, i / 5 % 5));
+        }
+        return gravacao;
+    }
+
+    @Nested
+    @DisplayName("Testes para iniciar(Container, GravacaoJogo)")
+    class IniciarTests {
+
+        @Test
+        @DisplayName("Deve adicionar a view e mostrar o tabuleiro inicial da gravação")
+        void iniciar_mostraTabuleiroInicial() {
+            try (MockedConstruction<ViewTelaReplay> mockedView = Mockito.mockConstruction(ViewTelaReplay.class,
+                    (mock, contexto) -> when(mock.getVelocidade()).thenReturn(10))) {
+                NavegadorTelaReplay navegador = new NavegadorTelaReplay();
+
+                navegador.iniciar(mockFrame, gravacao(7));
+
+                ViewTelaReplay mockView = mockedView.constructed().get(0);
+                verify(mockView).subscribe(navegador);
+                verify(mockFrame).add(mockView, NavegadorTelaReplay.CARTAO);
+                verify(mockView).mostraReplay(navegador.getReplay().getTabuleiro(), 7);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para os métodos de callback do listener da View")
+    class CallbackTests {
+
+        private MockedConstruction<ViewTelaReplay> mockedView;
+        private NavegadorTelaReplay navegador;
+        private ViewTelaReplay mockView;
+
+        @BeforeEach
+        void setUp() {
+            mockedView = Mockito.mockConstruction(ViewTelaReplay.class,
+                    (mock, contexto) -> when(mock.getVelocidade()).thenReturn(1000));
+            navegador = new NavegadorTelaReplay();
+            navegador.iniciar(mockFrame, gravacao(40));
+            mockView = mockedView.constructed().get(0);
+            mockedView.close();
+        }
+
+        @Test
+        @DisplayName("passo: Deve aplicar várias jogadas por tick em velocidade alta e repintar cada quadrado")
+        void passo_velocidadeAlta_aplicaVariasJogadas() {
+            navegador.onVelocidade(1000);
+
+            navegador.passo();
+
+            // 1000 jogadas/s com tick mínimo de 16ms
+            assertEquals(16, navegador.getReplay().getPosicao());
+            verify(mockView, times(16)).mostraQuadradoAlterado(any(Localizacao.class));
+            verify(mockView).mostraPosicao(16, 40);
+        }
+
+        @Test
+        @DisplayName("passo: Deve parar a reprodução ao chegar no fim")
+        void passo_noFim_paraReproducao() {
+            navegador.onVelocidade(1000);
+
+            navegador.passo();
+            navegador.passo();
+            navegador.passo();
+
+            assertTrue(navegador.getReplay().isFim());
+            verify(mockView).mostraReproducaoParada();
+        }
+
+        @Test
+        @DisplayName("onBuscar: Deve ir para a jogada e trocar o tabuleiro exibido")
+        void onBuscar_vaiParaJogada() {
+            navegador.onBuscar(25);
+
+            assertEquals(25, navegador.getReplay().getPosicao());
+            verify(mockView).mostraTabuleiro(navegador.getReplay().getTabuleiro());
+            verify(mockView).mostraPosicao(25, 40);
+        }
+
+        @Test
+        @DisplayName("onVoltar: Deve destruir a view e notificar o listener")
+        void onVoltar_deveDestruirENotificar() {
+            navegador.subscribe(mockCoordenadorListener);
+
+            navegador.onVoltar();
+
+            verify(mockView).unsubscribe(navegador);
+            verify(mockView).limparRecursos();
+            verify(mockCoordenadorListener).fechaReplay();
+            assertNull(navegador.getReplay());
+        }
+    }
+}
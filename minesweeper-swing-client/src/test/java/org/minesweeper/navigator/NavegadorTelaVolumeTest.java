@@ -0,0 +1,122 @@
+package org.minesweeper.navigator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.view.ViewTelaVolume;
+import org.minesweeper.volume.TabuleiroVolumetrico;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.swing.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NavegadorTelaVolumeTest {
+
+    @Mock
+    private JFrame mockFrame;
+
+    @Nested
+    @DisplayName("Testes para iniciar(Container, int, int, int, int)")
+    class IniciarTests {
+        @Test
+        @DisplayName("Deve adicionar a view e mostrar um tabuleiro com as dimensões pedidas")
+        void iniciar_mostraTabuleiro() {
+            try (MockedConstruction<ViewTelaVolume> mockedView = Mockito.mockConstruction(ViewTelaVolume.class)) {
+                NavegadorTelaVolume navegador = new NavegadorTelaVolume();
+
+                navegador.iniciar(mockFrame, 4, 5, 6, 10);
+
+                ViewTelaVolume mockView = mockedView.constructed().get(0);
+                TabuleiroVolumetrico tabuleiro = navegador.getTabuleiro();
+                verify(mockView).subscribe(navegador);
+                verify(mockFrame).add(mockView, NavegadorTelaVolume.CARTAO);
+                verify(mockView).mostraJogo(tabuleiro);
+                assertEquals(6, tabuleiro.getCamada_size());
+                assertEquals(10, tabuleiro.getBombas());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes das jogadas")
+    class JogadasTests {
+        private MockedConstruction<ViewTelaVolume> mockedView;
+        private NavegadorTelaVolume navegador;
+        private ViewTelaVolume mockView;
+
+        @BeforeEach
+        void setUp() {
+            mockedView = Mockito.mockConstruction(ViewTelaVolume.class);
+            navegador = new NavegadorTelaVolume();
+            navegador.iniciar(mockFrame, 5, 5, 5, 0);
+            mockView = mockedView.constructed().get(0);
+        }
+
+        @AfterEach
+        void tearDown() {
+            mockedView.close();
+        }
+
+        @Test
+        @DisplayName("O clique deve valer para a camada exibida")
+        void onBotaoDireito_usaCamadaExibida() {
+            navegador.onCamada(3);
+            navegador.onBotaoDireito(new Localizacao(1, 2));
+
+            assertEquals(TabuleiroVolumetrico.VISIVEL_MARCADO, navegador.getTabuleiro().getVisivel(3, 1, 2));
+            verify(mockView).mostraCamada(3);
+            verify(mockView).mostraAlteracao();
+        }
+
+        @Test
+        @DisplayName("A camada pedida deve ser limitada ao volume")
+        void onCamada_limitaAoVolume() {
+            navegador.onCamada(99);
+
+            assertEquals(4, navegador.getCamada());
+            verify(mockView).mostraCamada(4);
+        }
+
+        @Test
+        @DisplayName("Abrir o volume inteiro deve mostrar a vitória")
+        void onBotaoEsquerdo_ganha() {
+            navegador.onBotaoEsquerdo(new Localizacao(0, 0));
+
+            assertTrue(navegador.getTabuleiro().ganhou());
+            verify(mockView).mostraFimJogo(true);
+        }
+
+        @Test
+        @DisplayName("Clique sem efeito não deve repintar")
+        void onBotaoEsquerdo_semEfeito_naoRepinta() {
+            navegador.onBotaoEsquerdo(new Localizacao(0, 0));
+            clearInvocations(mockView);
+
+            navegador.onBotaoEsquerdo(new Localizacao(0, 0));
+
+            verify(mockView, never()).mostraAlteracao();
+        }
+
+        @Test
+        @DisplayName("Novo jogo deve trocar o tabuleiro")
+        void onNovoJogo_trocaTabuleiro() {
+            TabuleiroVolumetrico anterior = navegador.getTabuleiro();
+
+            navegador.onNovoJogo();
+
+            assertNotSame(anterior, navegador.getTabuleiro());
+            verify(mockView).mostraJogo(navegador.getTabuleiro());
+        }
+    }
+}
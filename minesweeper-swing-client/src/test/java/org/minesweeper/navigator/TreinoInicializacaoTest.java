@@ -0,0 +1,17 @@
+package org.minesweeper.navigator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreinoInicializacaoTest {
+
+    @Test
+    @DisplayName("Deve fazer as jogadas pedidas sem abrir janela, recomeçando o jogo quando ele termina")
+    void executa_fazJogadasPedidas() throws Exception {
+        TreinoInicializacao treino = new TreinoInicializacao(150);
+
+        assertEquals(150, treino.executa());
+    }
+}
@@ -0,0 +1,90 @@
+package org.minesweeper.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtlasQuadradosTest {
+
+    private AtlasQuadrados atlas;
+    private final Localizacao loc = new Localizacao(0, 0);
+
+    @BeforeEach
+    void setUp() {
+        atlas = new AtlasQuadrados();
+    }
+
+    @Nested
+    @DisplayName("Testes para estadoDe(QuadradoFront)")
+    class EstadoDeTests {
+        @Test
+        @DisplayName("Deve mapear cada estado do quadrado para sua posição no atlas")
+        void estadoDe_mapeiaEstados() {
+            assertEquals(AtlasQuadrados.FECHADO, AtlasQuadrados.estadoDe(new QuadradoFront(loc)));
+            assertEquals(AtlasQuadrados.MARCADO, AtlasQuadrados.estadoDe(new QuadradoFront(false, -1, true, loc, false)));
+            assertEquals(AtlasQuadrados.ABERTO, AtlasQuadrados.estadoDe(new QuadradoFront(true, 0, false, loc, false)));
+            assertEquals(AtlasQuadrados.ABERTO + 8, AtlasQuadrados.estadoDe(new QuadradoFront(true, 8, false, loc, false)));
+            assertEquals(AtlasQuadrados.BOMBA, AtlasQuadrados.estadoDe(new QuadradoFront(true, -1, false, loc, true)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para prepara(int, double, GraphicsConfiguration)")
+    class PreparaTests {
+        @Test
+        @DisplayName("Deve criar um atlas com todos os estados lado a lado")
+        void prepara_criaAtlasComTodosOsEstados() {
+            atlas.prepara(20, 1.0, null);
+
+            BufferedImage imagem = atlas.getImagem();
+            assertEquals(20 * AtlasQuadrados.QUANTIDADE_ESTADOS, imagem.getWidth());
+            assertEquals(20, imagem.getHeight());
+            assertEquals(AtlasQuadrados.COR_FECHADO.getRGB(), imagem.getRGB(10, 10));
+            assertEquals(AtlasQuadrados.COR_ABERTO.getRGB(), imagem.getRGB(AtlasQuadrados.ABERTO * 20 + 10, 10));
+        }
+
+        @Test
+        @DisplayName("O atlas do tabuleiro volumétrico deve incluir os números até 26")
+        void prepara_numerosAltos() {
+            AtlasQuadrados volume = new AtlasQuadrados(26);
+            volume.prepara(20, 1.0, null);
+
+            assertEquals(20 * (AtlasQuadrados.QUANTIDADE_ESTADOS + 18), volume.getImagem().getWidth());
+            assertEquals(AtlasQuadrados.ABERTO + 8, AtlasQuadrados.estadoDoNumero(8));
+            assertEquals(AtlasQuadrados.NUMERO_ALTO, AtlasQuadrados.estadoDoNumero(9));
+            assertEquals(AtlasQuadrados.NUMERO_ALTO + 17, AtlasQuadrados.estadoDoNumero(26));
+            assertEquals(AtlasQuadrados.COR_ABERTO.getRGB(),
+                    volume.getImagem().getRGB(AtlasQuadrados.estadoDoNumero(26) * 20 + 2, 2));
+        }
+
+        @Test
+        @DisplayName("Não deve reconstruir o atlas se o tamanho e a escala não mudaram")
+        void prepara_mesmoTamanho_naoReconstroi() {
+            atlas.prepara(20, 1.0, null);
+            BufferedImage primeira = atlas.getImagem();
+
+            atlas.prepara(20, 1.0, null);
+
+            assertSame(primeira, atlas.getImagem());
+            assertEquals(1, atlas.getReconstrucoes());
+        }
+
+        @Test
+        @DisplayName("Deve reconstruir o atlas quando o zoom ou a escala mudam")
+        void prepara_zoomOuEscalaDiferentes_reconstroi() {
+            atlas.prepara(20, 1.0, null);
+            atlas.prepara(30, 1.0, null);
+            atlas.prepara(30, 2.0, null);
+
+            assertEquals(3, atlas.getReconstrucoes());
+            assertEquals(60, atlas.getImagem().getHeight(), "Com escala 2, o atlas deve ter o dobro de pixels.");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.minesweeper.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MedidorInicializacaoTest {
+
+    private ByteArrayOutputStream saida;
+    private MedidorInicializacao medidor;
+
+    @BeforeEach
+    void setUp() {
+        saida = new ByteArrayOutputStream();
+        medidor = new MedidorInicializacao(new PrintStream(saida, true));
+    }
+
+    @Nested
+    @DisplayName("Testes de marcaPrimeiraPintura")
+    class MarcaPrimeiraPinturaTests {
+        @Test
+        @DisplayName("Antes da primeira pintura o tempo deve ser -1")
+        void semPintura_retornaMenosUm() {
+            assertEquals(-1, medidor.getNsAtePrimeiraPintura());
+            assertEquals(0, saida.size());
+        }
+
+        @Test
+        @DisplayName("Deve medir a partir do marcaInicio e escrever o tempo na saída")
+        void primeiraPintura_registraEEscreve() throws InterruptedException {
+            medidor.marcaInicio();
+            Thread.sleep(5);
+
+            medidor.marcaPrimeiraPintura();
+
+            assertTrue(medidor.getNsAtePrimeiraPintura() >= 5_000_000);
+            assertTrue(saida.toString().startsWith("primeira pintura do tabuleiro:"));
+        }
+
+        @Test
+        @DisplayName("Pinturas seguintes não devem alterar o tempo nem escrever de novo")
+        void pinturasSeguintes_saoIgnoradas() throws InterruptedException {
+            medidor.marcaPrimeiraPintura();
+            long primeira = medidor.getNsAtePrimeiraPintura();
+            int tamanhoSaida = saida.size();
+            Thread.sleep(2);
+
+            medidor.marcaPrimeiraPintura();
+
+            assertEquals(primeira, medidor.getNsAtePrimeiraPintura());
+            assertEquals(tamanhoSaida, saida.size());
+        }
+
+        @Test
+        @DisplayName("Sem saída configurada deve apenas registrar o tempo")
+        void semSaida_apenasRegistra() {
+            MedidorInicializacao silencioso = new MedidorInicializacao(null);
+
+            silencioso.marcaPrimeiraPintura();
+
+            assertTrue(silencioso.getNsAtePrimeiraPintura() >= 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de marcaJanelaPintada")
+    class MarcaJanelaPintadaTests {
+        @Test
+        @DisplayName("A janela e o tabuleiro devem ser medidos separadamente")
+        void janelaETabuleiro_saoIndependentes() {
+            medidor.marcaJanelaPintada();
+
+            assertTrue(medidor.getNsAteJanela() >= 0);
+            assertEquals(-1, medidor.getNsAtePrimeiraPintura());
+            assertTrue(saida.toString().startsWith("janela pintada:"));
+
+            medidor.marcaPrimeiraPintura();
+
+            assertTrue(medidor.getNsAtePrimeiraPintura() >= medidor.getNsAteJanela());
+        }
+    }
+}
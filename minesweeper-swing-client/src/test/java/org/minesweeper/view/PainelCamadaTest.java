@@ -0,0 +1,94 @@
+package org.minesweeper.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.volume.TabuleiroVolumetrico;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PainelCamadaTest {
+
+    private PainelCamada painel;
+    private TabuleiroVolumetrico tabuleiro;
+
+    @BeforeEach
+    void setUp() {
+        painel = new PainelCamada(new ViewTelaVolume());
+        tabuleiro = new TabuleiroVolumetrico(200, 200, 200, 0, 1L);
+        painel.setTabuleiro(tabuleiro);
+        painel.setSize(painel.getPreferredSize());
+    }
+
+    private BufferedImage pinta(Rectangle recorte) {
+        BufferedImage imagem = new BufferedImage(recorte.x + recorte.width, recorte.y + recorte.height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = imagem.createGraphics();
+        g.setClip(recorte);
+        painel.paintComponent(g);
+        g.dispose();
+        return imagem;
+    }
+
+    @Nested
+    @DisplayName("Testes de pintura")
+    class PinturaTests {
+        @Test
+        @DisplayName("Deve pintar apenas os quadrados da camada dentro do recorte")
+        void paint_pintaApenasAreaVisivel() {
+            int t = painel.getTamanhoQuadrado();
+
+            pinta(new Rectangle(0, 0, 10 * t, 5 * t));
+
+            assertEquals(50, painel.getQuadradosPintados());
+        }
+
+        @Test
+        @DisplayName("A camada exibida deve mostrar o estado daquela camada")
+        void paint_usaCamadaExibida() {
+            int t = painel.getTamanhoQuadrado();
+            TabuleiroVolumetrico pequeno = new TabuleiroVolumetrico(3, 3, 2, 0, 1L);
+            pequeno.marcar(0, 1, 1);
+            pequeno.abrir(1, 1, 1);
+            painel.setTabuleiro(pequeno);
+
+            painel.setCamada(1);
+            BufferedImage imagem = pinta(new Rectangle(0, 0, 3 * t, 3 * t));
+
+            assertEquals(AtlasQuadrados.COR_ABERTO.getRGB(), imagem.getRGB(t + 2, t + 2));
+            assertEquals(1, painel.getCamada());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para estadoDe(byte)")
+    class EstadoTests {
+        @Test
+        @DisplayName("Deve converter os estados visíveis nos índices do atlas")
+        void estadoDe_mapeiaEstados() {
+            assertEquals(AtlasQuadrados.FECHADO, PainelCamada.estadoDe(TabuleiroVolumetrico.VISIVEL_FECHADO));
+            assertEquals(AtlasQuadrados.MARCADO, PainelCamada.estadoDe(TabuleiroVolumetrico.VISIVEL_MARCADO));
+            assertEquals(AtlasQuadrados.BOMBA, PainelCamada.estadoDe(TabuleiroVolumetrico.VISIVEL_BOMBA));
+            assertEquals(AtlasQuadrados.ABERTO, PainelCamada.estadoDe((byte) 0));
+            assertEquals(AtlasQuadrados.NUMERO_ALTO + 17, PainelCamada.estadoDe((byte) 26));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de hit-test")
+    class HitTestTests {
+        @Test
+        @DisplayName("Deve converter a posição do mouse na linha e coluna da camada")
+        void localizacaoEm_converteCoordenadas() {
+            int t = painel.getTamanhoQuadrado();
+
+            assertEquals(new Localizacao(3, 7), painel.localizacaoEm(7 * t + 1, 3 * t + t - 1));
+            assertNull(painel.localizacaoEm(200 * t, 0));
+            assertNull(painel.localizacaoEm(-1, 0));
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package org.minesweeper.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.TabuleiroFront;
+import org.minesweeper.model.Topologia;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PainelTabuleiroTest {
+
+    private PainelTabuleiro painel;
+    private TabuleiroFront tabuleiroFront;
+
+    @BeforeEach
+    void setUp() {
+        painel = new PainelTabuleiro(new ViewTelaJogo());
+        tabuleiroFront = new TabuleiroFront(1000, 1000);
+        painel.setTabuleiro(tabuleiroFront);
+        painel.setSize(painel.getPreferredSize());
+    }
+
+    /**
+     * Pinta o painel numa imagem usando o recorte informado, como o
+     * RepaintManager faz com a área visível do JScrollPane.
+     */
+    private BufferedImage pinta(Rectangle recorte) {
+        BufferedImage imagem = new BufferedImage(recorte.x + recorte.width, recorte.y + recorte.height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = imagem.createGraphics();
+        g.setClip(recorte);
+        painel.paintComponent(g);
+        g.dispose();
+        return imagem;
+    }
+
+    @Nested
+    @DisplayName("Testes de virtualização")
+    class VirtualizacaoTests {
+        @Test
+        @DisplayName("Deve pintar apenas os quadrados dentro do recorte")
+        void paint_pintaApenasAreaVisivel() {
+            int t = painel.getTamanhoQuadrado();
+
+            pinta(new Rectangle(0, 0, 10 * t, 5 * t));
+
+            assertEquals(50, painel.getQuadradosPintados());
+        }
+
+        @Test
+        @DisplayName("Recorte parcial deve incluir os quadrados cortados nas bordas")
+        void paint_recorteParcial_incluiBordas() {
+            int t = painel.getTamanhoQuadrado();
+
+            pinta(new Rectangle(t / 2, t / 2, t, t));
+
+            assertEquals(4, painel.getQuadradosPintados());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de hit-test")
+    class HitTestTests {
+        @Test
+        @DisplayName("Deve converter a posição do mouse na localização do quadrado")
+        void localizacaoEm_converteCoordenadas() {
+            int t = painel.getTamanhoQuadrado();
+
+            assertEquals(new Localizacao(3, 7), painel.localizacaoEm(7 * t + 1, 3 * t + t - 1));
+        }
+
+        @Test
+        @DisplayName("Posições fora do tabuleiro devem retornar null")
+        void localizacaoEm_foraDoTabuleiro_retornaNull() {
+            int t = painel.getTamanhoQuadrado();
+
+            assertNull(painel.localizacaoEm(-1, 0));
+            assertNull(painel.localizacaoEm(1000 * t, 0));
+        }
+
+        @Test
+        @DisplayName("O zoom deve mudar o tamanho preferido e o hit-test")
+        void setTamanhoQuadrado_mudaEscala() {
+            painel.setTamanhoQuadrado(10);
+
+            assertEquals(new Dimension(10000, 10000), painel.getPreferredSize());
+            assertEquals(new Localizacao(2, 1), painel.localizacaoEm(15, 25));
+        }
+
+        @Test
+        @DisplayName("O zoom deve respeitar os limites mínimo e máximo")
+        void setTamanhoQuadrado_respeitaLimites() {
+            painel.setTamanhoQuadrado(1);
+            assertEquals(PainelTabuleiro.TAMANHO_MINIMO, painel.getTamanhoQuadrado());
+
+            painel.setTamanhoQuadrado(10000);
+            assertEquals(PainelTabuleiro.TAMANHO_MAXIMO, painel.getTamanhoQuadrado());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes das topologias hexagonal e triangular")
+    class TopologiaTests {
+        private PainelTabuleiro painelCom(Topologia topologia) {
+            TabuleiroFront front = new TabuleiroFront(10, 10);
+            front.setTopologia(topologia);
+            PainelTabuleiro outro = new PainelTabuleiro(new ViewTelaJogo());
+            outro.setTabuleiro(front);
+            outro.setSize(outro.getPreferredSize());
+            return outro;
+        }
+
+        @Test
+        @DisplayName("O centro de cada célula deve levar de volta à mesma localização")
+        void localizacaoEm_centroDoContorno() {
+            for (Topologia topologia : new Topologia[]{Topologia.HEXAGONAL, Topologia.TRIANGULAR}) {
+                PainelTabuleiro outro = painelCom(topologia);
+                for (int l = 0; l < 10; ++l)
+                    for (int c = 0; c < 10; ++c) {
+                        Polygon contorno = outro.contornoDoQuadrado(l, c);
+                        int x = 0, y = 0;
+                        for (int k = 0; k < contorno.npoints; ++k) {
+                            x += contorno.xpoints[k];
+                            y += contorno.ypoints[k];
+                        }
+
+                        assertEquals(new Localizacao(l, c), outro.localizacaoEm(x / contorno.npoints, y / contorno.npoints),
+                                topologia + " (" + l + "," + c + ")");
+                    }
+            }
+        }
+
+        @Test
+        @DisplayName("O tamanho preferido deve conter todas as células")
+        void preferredSize_contemTodasAsCelulas() {
+            for (Topologia topologia : new Topologia[]{Topologia.HEXAGONAL, Topologia.TRIANGULAR}) {
+                PainelTabuleiro outro = painelCom(topologia);
+                Rectangle area = new Rectangle(outro.getPreferredSize());
+
+                assertTrue(area.contains(outro.contornoDoQuadrado(9, 9).getBounds()), topologia.getNome());
+                assertTrue(area.contains(outro.contornoDoQuadrado(1, 9).getBounds()), topologia.getNome());
+            }
+        }
+
+        @Test
+        @DisplayName("Pintar o tabuleiro inteiro deve desenhar cada célula uma vez")
+        void paint_pintaTodasAsCelulas() {
+            painel = painelCom(Topologia.HEXAGONAL);
+            Dimension tamanho = painel.getPreferredSize();
+
+            pinta(new Rectangle(0, 0, tamanho.width, tamanho.height));
+
+            assertEquals(100, painel.getQuadradosPintados());
+        }
+
+        @Test
+        @DisplayName("Triângulo com mais de 8 vizinhos perigosos deve mostrar o próprio número, não 8")
+        void paint_trianguloComNumeroAlto() {
+            painel = painelCom(Topologia.TRIANGULAR);
+            Dimension tamanho = painel.getPreferredSize();
+            Rectangle area = new Rectangle(0, 0, tamanho.width, tamanho.height);
+            Rectangle caixa = painel.contornoDoQuadrado(0, 0).getBounds();
+            TabuleiroFront front = painel.getTabuleiro();
+
+            front.atualizaQuadrado(new QuadradoFront(true, 8, false, new Localizacao(0, 0), false));
+            BufferedImage oito = pinta(area);
+            front.atualizaQuadrado(new QuadradoFront(true, 10, false, new Localizacao(0, 0), false));
+            BufferedImage dez = pinta(area);
+
+            boolean fundoAberto = false;
+            boolean mudou = false;
+            for (int x = caixa.x; x < caixa.x + caixa.width; x++)
+                for (int y = caixa.y; y < caixa.y + caixa.height; y++) {
+                    fundoAberto |= dez.getRGB(x, y) == AtlasQuadrados.COR_ABERTO.getRGB();
+                    mudou |= oito.getRGB(x, y) != dez.getRGB(x, y);
+                }
+            assertTrue(fundoAberto, "O atlas deveria ter o quadrado do 10.");
+            assertTrue(mudou, "O 10 não deveria ser pintado como 8.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da grade reservada")
+    class ReservaTests {
+        @Test
+        @DisplayName("A grade reservada deve ter o tamanho do tabuleiro e ignorar cliques")
+        void reserva_tamanhoSemHitTest() {
+            int t = painel.getTamanhoQuadrado();
+
+            painel.reservaTabuleiro(20, 30);
+
+            assertNull(painel.getTabuleiro());
+            assertEquals(new Dimension(30 * t, 20 * t), painel.getPreferredSize());
+            assertNull(painel.localizacaoEm(t, t));
+        }
+
+        @Test
+        @DisplayName("A grade reservada deve ser pintada como quadrados fechados")
+        void reserva_pintaFechados() {
+            int t = painel.getTamanhoQuadrado();
+            painel.reservaTabuleiro(20, 20);
+            painel.setSize(painel.getPreferredSize());
+
+            BufferedImage imagem = pinta(new Rectangle(0, 0, 2 * t, 2 * t));
+
+            assertEquals(AtlasQuadrados.COR_FECHADO.getRGB(), imagem.getRGB(t / 2, t / 2));
+            assertEquals(AtlasQuadrados.COR_BORDA.getRGB(), imagem.getRGB(t, t / 2));
+            assertEquals(0, painel.getQuadradosPintados());
+        }
+
+        @Test
+        @DisplayName("Ao receber o tabuleiro a reserva deve ser descartada")
+        void setTabuleiro_descartaReserva() {
+            painel.reservaTabuleiro(5, 5);
+            painel.setTabuleiro(null);
+
+            assertEquals(new Dimension(0, 0), painel.getPreferredSize());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de pintura do estado")
+    class PinturaTests {
+        @Test
+        @DisplayName("Quadrado aberto deve ser pintado de branco, fechado de cinza")
+        void paint_usaEstadoDoTabuleiroFront() {
+            int t = painel.getTamanhoQuadrado();
+            tabuleiroFront.atualizaQuadrado(new QuadradoFront(true, 0, false, new Localizacao(0, 1), false));
+
+            BufferedImage imagem = pinta(new Rectangle(0, 0, 2 * t, t));
+
+            assertEquals(new Color(190, 190, 190).getRGB(), imagem.getRGB(t / 2, t / 2));
+            assertEquals(Color.WHITE.getRGB(), imagem.getRGB(t + t / 2, t / 2));
+        }
+
+        @Test
+        @DisplayName("Quadrado marcado deve desenhar a bandeira sobre o fundo")
+        void paint_quadradoMarcado_desenhaBandeira() {
+            int t = painel.getTamanhoQuadrado();
+            BufferedImage antes = pinta(new Rectangle(0, 0, t, t));
+
+            tabuleiroFront.atualizaQuadrado(new QuadradoFront(false, -1, true, new Localizacao(0, 0), false));
+            BufferedImage depois = pinta(new Rectangle(0, 0, t, t));
+
+            boolean mudou = false;
+            for (int x = 0; x < t && !mudou; x++)
+                for (int y = 0; y < t && !mudou; y++)
+                    mudou = antes.getRGB(x, y) != depois.getRGB(x, y);
+            assertTrue(mudou, "A bandeira deveria alterar a pintura do quadrado.");
+        }
+    }
+}
@@ -114,11 +114,11 @@ class ViewTelaFimJogoTest {
     }
 
     @Test
-    @DisplayName("limparRecursos(): Garante que a janela é fechada")
+    @DisplayName("limparRecursos(): Garante que a janela continua aberta para ser reaproveitada")
     void testLimparRecursos() {
         window.requireVisible();
         GuiActionRunner.execute(() -> view.limparRecursos());
-        window.requireNotVisible();
+        window.requireVisible();
     }
 
     @Nested
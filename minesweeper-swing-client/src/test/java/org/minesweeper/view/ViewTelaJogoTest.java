@@ -3,26 +3,25 @@ package org.minesweeper.view;
 import org.assertj.swing.core.MouseButton;
 import org.assertj.swing.edt.GuiActionRunner;
 import org.assertj.swing.fixture.FrameFixture;
-import org.assertj.swing.fixture.JButtonFixture;
 import org.assertj.swing.fixture.JOptionPaneFixture;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.minesweeper.model.Icons;
 import org.minesweeper.navigator.NavegadorTelaJogoListener;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.minesweeper.model.Localizacao;
+import org.minesweeper.model.QuadradoFront;
+import org.minesweeper.model.TabuleiroFront;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.lang.reflect.Field;
 import java.util.List;
-import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
-import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
 class ViewTelaJogoTest {
@@ -58,23 +57,22 @@ class ViewTelaJogoTest {
     }
 
     @Test
-    @DisplayName("mostraJogo: Garante que a quantidade correta de botões é criada")
-    void testMostraJogo_CriaQuantidadeCorretaDeQuadrados() {
-        GuiActionRunner.execute(() -> view.mostraJogo(8, 8));
-
-        assertEquals(64, window.panel("painelGrid").target().getComponentCount());
-
-        JButtonFixture botao = window.button("btn-3-3");
-        botao.requireEnabled();
-        botao.requireText("");
+    @DisplayName("mostraJogo: Garante que nenhum componente é criado por quadrado")
+    void testMostraJogo_NaoCriaComponentesPorQuadrado() {
+        GuiActionRunner.execute(() -> view.mostraJogo(new TabuleiroFront(8, 8)));
+
+        PainelTabuleiro painel = view.getPainelTabuleiro();
+        assertEquals(0, painel.getComponentCount());
+        int lado = 8 * painel.getTamanhoQuadrado();
+        assertEquals(new Dimension(lado, lado), painel.getPreferredSize());
     }
 
     @Test
     @DisplayName("mostraJogo: Garante que os eventos de mouse direito notificam os listeners")
     void testMostraJogo_EventosDeMouseDireito() {
-        GuiActionRunner.execute(() -> view.mostraJogo(5, 5));
+        GuiActionRunner.execute(() -> view.mostraJogo(new TabuleiroFront(5, 5)));
 
-        window.button("btn-2-2").click(MouseButton.RIGHT_BUTTON);
+        clicaNoQuadrado(2, 2, MouseButton.RIGHT_BUTTON);
 
         ArgumentCaptor<Localizacao> captorDireito = ArgumentCaptor.forClass(Localizacao.class);
         verify(mockListener).onBotaoDireito(captorDireito.capture());
@@ -85,9 +83,9 @@ class ViewTelaJogoTest {
     @Test
     @DisplayName("mostraJogo: Garante que os eventos de mouse esquerdo notificam os listeners")
     void testMostraJogo_EventosDeMouseEsquerdo() {
-        GuiActionRunner.execute(() -> view.mostraJogo(5, 5));
+        GuiActionRunner.execute(() -> view.mostraJogo(new TabuleiroFront(5, 5)));
 
-        window.button("btn-2-2").click(MouseButton.LEFT_BUTTON);
+        clicaNoQuadrado(2, 2, MouseButton.LEFT_BUTTON);
 
         ArgumentCaptor<Localizacao> captorEsquerdo = ArgumentCaptor.forClass(Localizacao.class);
         verify(mockListener).onBotaoEsquerdo(captorEsquerdo.capture());
@@ -95,59 +93,108 @@ class ViewTelaJogoTest {
         assertEquals(2, captorEsquerdo.getValue().getColuna());
     }
 
+    private void clicaNoQuadrado(int linha, int coluna, MouseButton botao) {
+        PainelTabuleiro painel = view.getPainelTabuleiro();
+        Rectangle retangulo = painel.retanguloDoQuadrado(linha, coluna);
+        Point centro = new Point((int) retangulo.getCenterX(), (int) retangulo.getCenterY());
+        window.robot().click(painel, centro, botao, 1);
+    }
+
     @Test
-    @DisplayName("limparRecursos: Garante que a janela é fechada")
+    @DisplayName("limparRecursos: Garante que a janela continua aberta para ser reaproveitada")
     void testLimparRecursos() {
         window.requireVisible();
         GuiActionRunner.execute(() -> view.limparRecursos());
-        window.requireNotVisible();
+        window.requireVisible();
+    }
+
+    /**
+     * Pinta o quadrado numa imagem, como o RepaintManager faz com a área
+     * suja, e devolve o estado do atlas cujo desenho mais se parece com ele.
+     * O atlas de referência é montado fora da tela, então a comparação
+     * aceita pequenas diferenças de formato de pixel.
+     */
+    private int estadoPintado(Localizacao loc) {
+        return GuiActionRunner.execute(() -> {
+            PainelTabuleiro painel = view.getPainelTabuleiro();
+            Rectangle r = painel.retanguloDoQuadrado(loc.getLinha(), loc.getColuna());
+            BufferedImage celula = new BufferedImage(r.width, r.height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = celula.createGraphics();
+            g.translate(-r.x, -r.y);
+            g.setClip(r);
+            painel.paintComponent(g);
+            g.dispose();
+
+            AtlasQuadrados referencia = new AtlasQuadrados();
+            referencia.prepara(r.width, 1.0, null);
+            BufferedImage tiles = referencia.getImagem();
+
+            int melhor = -1;
+            long menorDiferenca = Long.MAX_VALUE;
+            for (int estado = 0; estado < AtlasQuadrados.QUANTIDADE_ESTADOS; ++estado) {
+                long diferenca = 0;
+                for (int x = 0; x < r.width; ++x)
+                    for (int y = 0; y < r.height; ++y)
+                        diferenca += diferencaRgb(celula.getRGB(x, y), tiles.getRGB(estado * r.width + x, y));
+                if (diferenca < menorDiferenca) {
+                    menorDiferenca = diferenca;
+                    melhor = estado;
+                }
+            }
+            return melhor;
+        });
+    }
+
+    private static int diferencaRgb(int a, int b) {
+        return Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF))
+                + Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF))
+                + Math.abs((a & 0xFF) - (b & 0xFF));
     }
 
     @Test
-    @DisplayName("mostraQuadradoAberto: Deve mudar a cor do botão e mostrar o número")
+    @DisplayName("mostraQuadradoAberto: Deve pintar o quadrado aberto com o número")
     void testMostraQuadradoAberto() {
-        GuiActionRunner.execute(() -> view.mostraJogo(5, 5));
+        TabuleiroFront tabuleiroFront = new TabuleiroFront(5, 5);
+        GuiActionRunner.execute(() -> view.mostraJogo(tabuleiroFront));
         Localizacao loc = new Localizacao(2, 3);
+        assertEquals(AtlasQuadrados.FECHADO, estadoPintado(loc));
 
-        GuiActionRunner.execute(() -> view.mostraQuadradoAberto(loc, 3));
+        tabuleiroFront.atualizaQuadrado(new QuadradoFront(true, 3, false, loc, false));
+        GuiActionRunner.execute(() -> view.mostraQuadradoAberto(loc));
 
-        JButtonFixture botao = window.button("btn-2-3");
-        botao.requireEnabled();
-        botao.background().requireEqualTo(new Color(255, 255, 255));
-        botao.requireText("3");
+        assertEquals(AtlasQuadrados.estadoDoNumero(3), estadoPintado(loc));
+        assertEquals(AtlasQuadrados.FECHADO, estadoPintado(new Localizacao(2, 2)), "Os vizinhos não devem mudar.");
     }
 
     @Test
-    @DisplayName("mostraQuadradoBomba: Deve desabilitar o botão e mostrar 'B'")
+    @DisplayName("mostraQuadradoBomba: Deve pintar o quadrado com 'B'")
     void testMostraQuadradoBomba() {
-        GuiActionRunner.execute(() -> view.mostraJogo(5, 5));
+        TabuleiroFront tabuleiroFront = new TabuleiroFront(5, 5);
+        GuiActionRunner.execute(() -> view.mostraJogo(tabuleiroFront));
         Localizacao loc = new Localizacao(4, 0);
 
+        tabuleiroFront.atualizaQuadrado(new QuadradoFront(true, -1, false, loc, true));
         GuiActionRunner.execute(() -> view.mostraQuadradoBomba(loc));
 
-        JButtonFixture botao = window.button("btn-4-0");
-        botao.requireDisabled();
-        botao.requireText("B");
+        assertEquals(AtlasQuadrados.BOMBA, estadoPintado(loc));
     }
 
     @Test
     @DisplayName("mostraQuadradoMarcado/Desmarcado: Deve mostrar/remover a bandeira")
     void testMostraQuadradoMarcadoDesmarcado() {
-        GuiActionRunner.execute(() -> view.mostraJogo(5, 5));
+        TabuleiroFront tabuleiroFront = new TabuleiroFront(5, 5);
+        GuiActionRunner.execute(() -> view.mostraJogo(tabuleiroFront));
         Localizacao loc = new Localizacao(1, 1);
-        JButtonFixture botao = window.button("btn-1-1");
 
         // Marca
+        tabuleiroFront.atualizaQuadrado(new QuadradoFront(false, -1, true, loc, false));
         GuiActionRunner.execute(() -> view.mostraQuadradoMarcado(loc));
-        botao.requireEnabled();
-        botao.requireText("");
-        assertThat(botao.target().getIcon()).isSameAs(Icons.FLAG_ICON);
+        assertEquals(AtlasQuadrados.MARCADO, estadoPintado(loc));
 
         // Desmarca
+        tabuleiroFront.atualizaQuadrado(new QuadradoFront(false, -1, false, loc, false));
         GuiActionRunner.execute(() -> view.mostraQuadradoDesmarcado(loc));
-        botao.requireEnabled();
-        botao.requireText("");
-        assertThat(botao.target().getIcon()).isNull();
+        assertEquals(AtlasQuadrados.FECHADO, estadoPintado(loc));
     }
 
     @Test
@@ -1,11 +0,0 @@
-package org.minesweeper;
-
-import org.minesweeper.coordinator.Coordenador;
-
-public class Minesweeper {
-    public static void main(String[] args) {
-        Coordenador coordenador = new Coordenador();
-        coordenador.IniciaJogo();
-    }
-
-}